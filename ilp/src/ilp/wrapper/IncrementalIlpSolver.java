@@ -233,4 +233,6 @@ public interface IncrementalIlpSolver {
 
 	Statistics solve() throws IlpSolverException;
 
+	void terminate();
+
 }
@@ -68,6 +68,17 @@ public class IncrementalCplexSolver  extends IflyeLogger implements IncrementalI
 	 */
 	private double objectiveValue = -1;
 
+	/**
+	 * Aborter to terminate a running optimization from another thread. An aborted
+	 * aborter also aborts all following optimizations until it is cleared.
+	 */
+	private final IloCplex.Aborter aborter = new IloCplex.Aborter();
+
+	/**
+	 * True if the running (or the next) optimization must be terminated.
+	 */
+	private volatile boolean terminated = false;
+
 	/**
 	 * Creates a new object of this incremental CPLEX solver with the given
 	 * parameters.
@@ -87,6 +98,7 @@ public class IncrementalCplexSolver  extends IflyeLogger implements IncrementalI
 			}
 
 			obj = cplex.addMinimize(cplex.linearNumExpr());
+			cplex.use(aborter);
 		} catch (final IloException e) {
 			throw new RuntimeException(e);
 		}
@@ -454,7 +466,7 @@ public class IncrementalCplexSolver  extends IflyeLogger implements IncrementalI
 	public Statistics solve() throws IlpSolverException {
 		try {
 			final long start = System.nanoTime();
-			final boolean solve = cplex.solve();
+			final boolean solve = !terminated && cplex.solve();
 			if (solve) {
 				objectiveValue = cplex.getObjValue();
 			} else {
@@ -462,7 +474,12 @@ public class IncrementalCplexSolver  extends IflyeLogger implements IncrementalI
 			}
 
 			SolverStatus status;
-			if (cplex.getStatus() == IloCplex.Status.Unbounded) {
+			if (terminated) {
+				// The solver can be used again after a termination
+				terminated = false;
+				aborter.clear();
+				status = SolverStatus.TIME_OUT;
+			} else if (cplex.getStatus() == IloCplex.Status.Unbounded) {
 				status = SolverStatus.UNBOUNDED;
 			} else if (cplex.getStatus() == IloCplex.Status.InfeasibleOrUnbounded) {
 				status = SolverStatus.INF_OR_UNBD;
@@ -481,4 +498,11 @@ public class IncrementalCplexSolver  extends IflyeLogger implements IncrementalI
 		}
 	}
 
+	@Override
+	public void terminate() {
+		// May be called from another thread while the model is being optimized
+		terminated = true;
+		aborter.abort();
+	}
+
 }
@@ -15,6 +15,7 @@ import com.gurobi.gurobi.GRB.DoubleAttr;
 import com.gurobi.gurobi.GRB.DoubleParam;
 import com.gurobi.gurobi.GRB.IntParam;
 import com.gurobi.gurobi.GRB.StringAttr;
+import com.gurobi.gurobi.GRBCallback;
 import com.gurobi.gurobi.GRBConstr;
 import com.gurobi.gurobi.GRBEnv;
 import com.gurobi.gurobi.GRBException;
@@ -75,6 +76,19 @@ public class IncrementalGurobiSolver extends IflyeLogger implements IncrementalI
 	 */
 	private final Map<GRBConstr, Set<GRBVar>> constraintVars = new HashMap<>();
 
+	/**
+	 * Optimality tolerance to set for the solver.
+	 */
+	private final double optTol;
+
+	/**
+	 * True if the running (or the next) optimization must be terminated. A
+	 * termination request that arrives before the optimization started would be
+	 * ignored by {@link GRBModel#terminate()}, hence, the flag is checked before
+	 * and (via a callback) during the optimization.
+	 */
+	private volatile boolean terminated = false;
+
 	/**
 	 * Constructor that initializes a new Gurobi solver object for a given time
 	 * limit and random seed.
@@ -83,6 +97,19 @@ public class IncrementalGurobiSolver extends IflyeLogger implements IncrementalI
 	 * @param randomSeed Random seed to set for the solver.
 	 */
 	public IncrementalGurobiSolver(final int timelimit, final int randomSeed) {
+		this(timelimit, randomSeed, IlpSolverConfig.OPT_TOL);
+	}
+
+	/**
+	 * Constructor that initializes a new Gurobi solver object for a given time
+	 * limit, random seed and optimality tolerance.
+	 *
+	 * @param timelimit  Time limit to set for the solver.
+	 * @param randomSeed Random seed to set for the solver.
+	 * @param optTol     Optimality tolerance to set for the solver.
+	 */
+	public IncrementalGurobiSolver(final int timelimit, final int randomSeed, final double optTol) {
+		this.optTol = optTol;
 		try {
 			env = new GRBEnv("Gurobi_ILP.log");
 			env.set(DoubleParam.TimeLimit, timelimit);
@@ -534,11 +561,28 @@ public class IncrementalGurobiSolver extends IflyeLogger implements IncrementalI
 	public Statistics solve() throws IlpSolverException {
 		try {
 			model.update();
-			model.set(DoubleParam.OptimalityTol, IlpSolverConfig.OPT_TOL);
+			model.set(DoubleParam.OptimalityTol, optTol);
 			final long start = System.nanoTime();
+			if (terminated) {
+				terminated = false;
+				return new Statistics(SolverStatus.TIME_OUT, System.nanoTime() - start);
+			}
+
+			model.setCallback(new GRBCallback() {
+				@Override
+				protected void callback() {
+					if (terminated) {
+						abort();
+					}
+				}
+			});
 			model.optimize();
 			SolverStatus status;
-			if (model.get(GRB.IntAttr.Status) == GRB.UNBOUNDED) {
+			if (terminated || model.get(GRB.IntAttr.Status) == GRB.INTERRUPTED) {
+				// The solver can be used again after a termination
+				terminated = false;
+				status = SolverStatus.TIME_OUT;
+			} else if (model.get(GRB.IntAttr.Status) == GRB.UNBOUNDED) {
 				status = SolverStatus.UNBOUNDED;
 			} else if (model.get(GRB.IntAttr.Status) == GRB.INF_OR_UNBD) {
 				status = SolverStatus.INF_OR_UNBD;
@@ -560,4 +604,11 @@ public class IncrementalGurobiSolver extends IflyeLogger implements IncrementalI
 		}
 	}
 
+	@Override
+	public void terminate() {
+		// May be called from another thread while the model is being optimized
+		terminated = true;
+		model.terminate();
+	}
+
 }
@@ -1,7 +1,7 @@
 package generators;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 import facade.ModelFacade;
@@ -42,6 +42,11 @@ public class FatTreeNetworkGenerator implements INetworkGenerator {
 	 */
 	private final FatTreeConfig config;
 
+	/**
+	 * ModelFacade instance the networks are created in.
+	 */
+	private final ModelFacade facade;
+
 	/**
 	 * List of generated core switch IDs.
 	 */
@@ -69,25 +74,45 @@ public class FatTreeNetworkGenerator implements INetworkGenerator {
 	private int linkIdCounter = 0;
 
 	/**
-	 * Private constructor to avoid direct instantiation of this class.
+	 * Creates a new generator for the global model facade.
 	 *
 	 * @param config Configuration for this generator.
 	 */
 	public FatTreeNetworkGenerator(final IGeneratorConfig config) {
+		this(config, ModelFacade.getInstance());
+	}
+
+	/**
+	 * Creates a new generator for the given model facade.
+	 *
+	 * @param config      Configuration for this generator.
+	 * @param modelFacade Model facade the networks are created in.
+	 */
+	public FatTreeNetworkGenerator(final IGeneratorConfig config, final ModelFacade modelFacade) {
 		if (!(config instanceof FatTreeConfig)) {
 			throw new IllegalArgumentException("Configuration instance is not a GoogleFatTreeConfig.");
 		}
 
 		this.config = (FatTreeConfig) config;
-
-		this.coreSwitchIds = new LinkedList<>();
-		this.aggregationSwitchIds = new LinkedList<>();
-		this.edgeSwitchIds = new LinkedList<>();
-		this.serverIds = new LinkedList<>();
+		this.facade = modelFacade;
+
+		// Array-backed lists, because the links are created by index
+		final int pods = this.config.getPods();
+		this.coreSwitchIds = new ArrayList<>(this.config.getCoreSwitches());
+		this.aggregationSwitchIds = new ArrayList<>(pods * this.config.getAggregationSwitchesPerPod());
+		this.edgeSwitchIds = new ArrayList<>(pods * this.config.getEdgeSwitchesPerPod());
+		this.serverIds = new ArrayList<>(pods * this.config.getServersPerPod());
 	}
 
 	@Override
 	public void createNetwork(final String networkId, final boolean isVirtual) {
+		// Reset lists and counter
+		coreSwitchIds.clear();
+		aggregationSwitchIds.clear();
+		edgeSwitchIds.clear();
+		serverIds.clear();
+		linkIdCounter = 0;
+
 		// Network
 		if (!facade.networkExists(networkId)) {
 			facade.addNetworkToRoot(networkId, isVirtual);
@@ -130,7 +155,7 @@ public class FatTreeNetworkGenerator implements INetworkGenerator {
 
 		while (itAggrSw.hasNext()) {
 			final String aggregationSwitch = itAggrSw.next();
-			final List<String> coreSwitches = new LinkedList<>();
+			final List<String> coreSwitches = new ArrayList<>(config.getAggregationSwitchesPerPod());
 
 			// Reset the core-switch iterator after every pod
 			if (numberOfCoreSwitches >= config.getCoreSwitches()) {
@@ -186,7 +211,7 @@ public class FatTreeNetworkGenerator implements INetworkGenerator {
 
 		// Generate paths
 		if (!isVirtual) {
-			ModelFacade.getInstance().createAllPathsForNetwork(networkId);
+			facade.createAllPathsForNetwork(networkId);
 		} else {
 			final VirtualNetwork vnet = ((VirtualNetwork) facade.getNetworkById(networkId));
 			final OneTierConfig rack = config.getRack();
@@ -256,4 +281,9 @@ public class FatTreeNetworkGenerator implements INetworkGenerator {
 				+ GlobalGeneratorConfig.SEPARATOR + linkIdCounter++;
 	}
 
+	@Override
+	public ModelFacade getModelFacade() {
+		return facade;
+	}
+
 }
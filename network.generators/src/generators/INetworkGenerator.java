@@ -10,9 +10,11 @@ import facade.ModelFacade;
 public interface INetworkGenerator {
 
 	/**
-	 * ModelFacade instance.
+	 * Returns the model facade the networks are created in.
+	 *
+	 * @return Model facade of this generator.
 	 */
-	public static ModelFacade facade = ModelFacade.getInstance();
+	public ModelFacade getModelFacade();
 
 	/**
 	 * Creates the network with specified configuration and network ID. If isVirtual
@@ -1,6 +1,6 @@
 package generators;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import facade.ModelFacade;
@@ -21,15 +21,20 @@ public class OneTierNetworkGenerator implements INetworkGenerator {
 	 */
 	private final OneTierConfig config;
 
+	/**
+	 * ModelFacade instance the networks are created in.
+	 */
+	private final ModelFacade facade;
+
 	/**
 	 * List for the switch ID generation.
 	 */
-	private final List<String> switchIds = new LinkedList<>();
+	private final List<String> switchIds = new ArrayList<>();
 
 	/**
 	 * List for the server ID generation.
 	 */
-	private final List<String> serverIds = new LinkedList<>();
+	private final List<String> serverIds = new ArrayList<>();
 
 	/**
 	 * Counter for the link ID generation.
@@ -37,16 +42,27 @@ public class OneTierNetworkGenerator implements INetworkGenerator {
 	private int linkCounter = 0;
 
 	/**
-	 * Private constructor to avoid direct instantiation of this class.
+	 * Creates a new generator for the global model facade.
 	 *
 	 * @param config Configuration for this generator.
 	 */
 	public OneTierNetworkGenerator(final IGeneratorConfig config) {
+		this(config, ModelFacade.getInstance());
+	}
+
+	/**
+	 * Creates a new generator for the given model facade.
+	 *
+	 * @param config      Configuration for this generator.
+	 * @param modelFacade Model facade the networks are created in.
+	 */
+	public OneTierNetworkGenerator(final IGeneratorConfig config, final ModelFacade modelFacade) {
 		if (!(config instanceof OneTierConfig)) {
 			throw new IllegalArgumentException("Configuration instance is not an OneTierConfig.");
 		}
 
 		this.config = (OneTierConfig) config;
+		this.facade = modelFacade;
 	}
 
 	/**
@@ -101,7 +117,7 @@ public class OneTierNetworkGenerator implements INetworkGenerator {
 
 		// Generate paths
 		if (!isVirtual) {
-			ModelFacade.getInstance().createAllPathsForNetwork(networkId);
+			facade.createAllPathsForNetwork(networkId);
 		} else {
 			final VirtualNetwork vnet = ((VirtualNetwork) facade.getNetworkById(networkId));
 			vnet.setCpu(config.getNumberOfServers() * config.getCpuPerServer());
@@ -143,4 +159,9 @@ public class OneTierNetworkGenerator implements INetworkGenerator {
 				+ GlobalGeneratorConfig.SEPARATOR + linkCounter++;
 	}
 
+	@Override
+	public ModelFacade getModelFacade() {
+		return facade;
+	}
+
 }
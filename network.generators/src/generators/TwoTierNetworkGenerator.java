@@ -1,9 +1,10 @@
 package generators;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
+import facade.ModelFacade;
 import generators.config.GlobalGeneratorConfig;
 import generators.config.IGeneratorConfig;
 import generators.config.OneTierConfig;
@@ -32,20 +33,25 @@ public class TwoTierNetworkGenerator implements INetworkGenerator {
 	 */
 	private final TwoTierConfig config;
 
+	/**
+	 * ModelFacade instance the networks are created in.
+	 */
+	private final ModelFacade facade;
+
 	/**
 	 * List for the core switch ID generation.
 	 */
-	private final List<String> coreSwitchIds = new LinkedList<>();
+	private final List<String> coreSwitchIds = new ArrayList<>();
 
 	/**
 	 * List for the rack switch ID generation.
 	 */
-	private final List<String> rackSwitchIds = new LinkedList<>();
+	private final List<String> rackSwitchIds = new ArrayList<>();
 
 	/**
 	 * List for the server ID generation.
 	 */
-	private final List<String> serverIds = new LinkedList<>();
+	private final List<String> serverIds = new ArrayList<>();
 
 	/**
 	 * Counter for the link ID generation.
@@ -53,16 +59,27 @@ public class TwoTierNetworkGenerator implements INetworkGenerator {
 	private int linkCounter = 0;
 
 	/**
-	 * Private constructor to avoid direct instantiation of this class.
+	 * Creates a new generator for the global model facade.
 	 *
 	 * @param config Configuration for this generator.
 	 */
 	public TwoTierNetworkGenerator(final IGeneratorConfig config) {
+		this(config, ModelFacade.getInstance());
+	}
+
+	/**
+	 * Creates a new generator for the given model facade.
+	 *
+	 * @param config      Configuration for this generator.
+	 * @param modelFacade Model facade the networks are created in.
+	 */
+	public TwoTierNetworkGenerator(final IGeneratorConfig config, final ModelFacade modelFacade) {
 		if (!(config instanceof TwoTierConfig)) {
 			throw new IllegalArgumentException("Configuration instance is not an TwoTierConfig.");
 		}
 
 		this.config = (TwoTierConfig) config;
+		this.facade = modelFacade;
 	}
 
 	/**
@@ -203,4 +220,9 @@ public class TwoTierNetworkGenerator implements INetworkGenerator {
 				+ GlobalGeneratorConfig.SEPARATOR + linkCounter++;
 	}
 
+	@Override
+	public ModelFacade getModelFacade() {
+		return facade;
+	}
+
 }
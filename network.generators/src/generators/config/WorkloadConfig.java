@@ -0,0 +1,231 @@
+package generators.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration (container-)class for the synthetic virtual network request
+ * workload generator.
+ *
+ * The arrival process determines the arrival times of the requests (in
+ * abstract time units), the templates determine their topologies. Every
+ * template is a {@link OneTierConfig} or a {@link TwoTierConfig} that is drawn
+ * with a probability proportional to its weight. The number of servers (one
+ * tier) or racks and servers per rack (two tier) of a request is drawn
+ * uniformly between the template's value scaled by {@link #getMinScale()} and
+ * the template's value.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class WorkloadConfig {
+
+	/**
+	 * Arrival process of the requests.
+	 */
+	public enum ArrivalProcess {
+
+		/**
+		 * Exponentially distributed inter-arrival times with the arrival rate.
+		 */
+		POISSON,
+
+		/**
+		 * Markov-modulated Poisson process that alternates between a gap phase
+		 * (arrival rate) and a burst phase (arrival rate times the burst factor). The
+		 * durations of both phases are exponentially distributed.
+		 */
+		BURSTY,
+
+		/**
+		 * Poisson process with the time-dependent arrival rate rate * (1 + amplitude
+		 * * sin(2 * pi * t / period)).
+		 */
+		DIURNAL;
+
+	}
+
+	private ArrivalProcess arrivalProcess = ArrivalProcess.POISSON;
+	private double arrivalRate = 1;
+	private double burstFactor = 10;
+	private double meanBurstLength = 1;
+	private double meanGapLength = 10;
+	private double diurnalPeriod = 24;
+	private double diurnalAmplitude = 0.5;
+	private double minScale = 1;
+	private long maxRequests = -1;
+	private long seed = 0;
+	private String networkIdPrefix = "vnet" + GlobalGeneratorConfig.SEPARATOR;
+
+	/**
+	 * All templates of the requests.
+	 */
+	private final List<IGeneratorConfig> templates = new ArrayList<>();
+
+	/**
+	 * Weights of all templates (same order as {@link #templates}).
+	 */
+	private final List<Double> weights = new ArrayList<>();
+
+	/**
+	 * Default constructor that uses default values and no templates.
+	 */
+	public WorkloadConfig() {
+	}
+
+	public WorkloadConfig(final ArrivalProcess arrivalProcess, final double arrivalRate, final long seed) {
+		setArrivalProcess(arrivalProcess);
+		setArrivalRate(arrivalRate);
+		setSeed(seed);
+	}
+
+	/**
+	 * Adds a new template with the given weight.
+	 *
+	 * @param template Template (one tier or two tier configuration).
+	 * @param weight   Weight of the template (relative to the other templates).
+	 */
+	public void addTemplate(final IGeneratorConfig template, final double weight) {
+		if (!(template instanceof OneTierConfig) && !(template instanceof TwoTierConfig)) {
+			throw new IllegalArgumentException("Template is neither an OneTierConfig nor a TwoTierConfig.");
+		}
+		if (template instanceof OneTierConfig rack && rack.isSwitchesConnected()
+				|| template instanceof TwoTierConfig tt
+						&& (tt.isCoreSwitchesConnected() || tt.getRack().getNumberOfSwitches() != 1)) {
+			throw new IllegalArgumentException("Template is not supported by the network generators.");
+		}
+		if (!(weight > 0)) {
+			throw new IllegalArgumentException("The weight of a template must be positive.");
+		}
+
+		templates.add(template);
+		weights.add(weight);
+	}
+
+	public List<IGeneratorConfig> getTemplates() {
+		return Collections.unmodifiableList(templates);
+	}
+
+	public List<Double> getWeights() {
+		return Collections.unmodifiableList(weights);
+	}
+
+	public ArrivalProcess getArrivalProcess() {
+		return arrivalProcess;
+	}
+
+	public void setArrivalProcess(final ArrivalProcess arrivalProcess) {
+		if (arrivalProcess == null) {
+			throw new IllegalArgumentException("The arrival process must not be null.");
+		}
+		this.arrivalProcess = arrivalProcess;
+	}
+
+	public double getArrivalRate() {
+		return arrivalRate;
+	}
+
+	public void setArrivalRate(final double arrivalRate) {
+		if (!(arrivalRate > 0)) {
+			throw new IllegalArgumentException("The arrival rate must be positive.");
+		}
+		this.arrivalRate = arrivalRate;
+	}
+
+	public double getBurstFactor() {
+		return burstFactor;
+	}
+
+	public void setBurstFactor(final double burstFactor) {
+		if (!(burstFactor > 0)) {
+			throw new IllegalArgumentException("The burst factor must be positive.");
+		}
+		this.burstFactor = burstFactor;
+	}
+
+	public double getMeanBurstLength() {
+		return meanBurstLength;
+	}
+
+	public void setMeanBurstLength(final double meanBurstLength) {
+		if (!(meanBurstLength > 0)) {
+			throw new IllegalArgumentException("The mean burst length must be positive.");
+		}
+		this.meanBurstLength = meanBurstLength;
+	}
+
+	public double getMeanGapLength() {
+		return meanGapLength;
+	}
+
+	public void setMeanGapLength(final double meanGapLength) {
+		if (!(meanGapLength > 0)) {
+			throw new IllegalArgumentException("The mean gap length must be positive.");
+		}
+		this.meanGapLength = meanGapLength;
+	}
+
+	public double getDiurnalPeriod() {
+		return diurnalPeriod;
+	}
+
+	public void setDiurnalPeriod(final double diurnalPeriod) {
+		if (!(diurnalPeriod > 0)) {
+			throw new IllegalArgumentException("The diurnal period must be positive.");
+		}
+		this.diurnalPeriod = diurnalPeriod;
+	}
+
+	public double getDiurnalAmplitude() {
+		return diurnalAmplitude;
+	}
+
+	public void setDiurnalAmplitude(final double diurnalAmplitude) {
+		if (!(diurnalAmplitude >= 0 && diurnalAmplitude <= 1)) {
+			throw new IllegalArgumentException("The diurnal amplitude must be in [0, 1].");
+		}
+		this.diurnalAmplitude = diurnalAmplitude;
+	}
+
+	public double getMinScale() {
+		return minScale;
+	}
+
+	public void setMinScale(final double minScale) {
+		if (!(minScale > 0 && minScale <= 1)) {
+			throw new IllegalArgumentException("The minimum scale must be in (0, 1].");
+		}
+		this.minScale = minScale;
+	}
+
+	/**
+	 * Returns the maximum number of requests. A negative value denotes an
+	 * unbounded workload.
+	 *
+	 * @return Maximum number of requests.
+	 */
+	public long getMaxRequests() {
+		return maxRequests;
+	}
+
+	public void setMaxRequests(final long maxRequests) {
+		this.maxRequests = maxRequests;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public void setSeed(final long seed) {
+		this.seed = seed;
+	}
+
+	public String getNetworkIdPrefix() {
+		return networkIdPrefix;
+	}
+
+	public void setNetworkIdPrefix(final String networkIdPrefix) {
+		this.networkIdPrefix = networkIdPrefix;
+	}
+
+}
@@ -0,0 +1,191 @@
+package generators.workload;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import generators.TwoTierNetworkGenerator;
+import generators.config.GlobalGeneratorConfig;
+import generators.config.OneTierConfig;
+import generators.config.TwoTierConfig;
+import generators.workload.VnrWorkloadGenerator.Request;
+
+/**
+ * Writes virtual network requests incrementally as JSON lines, i.e., one JSON
+ * object per line and request. Every object has the format of one entry of the
+ * "networks" array of the virtual network JSON files (id, switches, servers,
+ * links) plus the arrival time of the request ("arrival"). The topologies and
+ * the IDs of all elements are the same as the ones of the virtual networks
+ * created by {@link VnrWorkloadGenerator#create(Request)}. Every line is
+ * flushed right away, i.e., the file can be read while it is still written.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class VnrJsonLinesWriter implements Closeable {
+
+	/**
+	 * Writer to write all lines to.
+	 */
+	private final Writer out;
+
+	/**
+	 * Creates a new JSON lines writer.
+	 *
+	 * @param out Writer to write all lines to.
+	 */
+	public VnrJsonLinesWriter(final Writer out) {
+		this.out = out;
+	}
+
+	/**
+	 * Writes the given request as one line.
+	 *
+	 * @param request Request to write.
+	 * @throws IOException If the line could not be written.
+	 */
+	public void write(final Request request) throws IOException {
+		out.write(toJson(request));
+		out.write('\n');
+		out.flush();
+	}
+
+	/**
+	 * Closes the underlying writer.
+	 */
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	/**
+	 * Converts the given request to one JSON object (without line break).
+	 *
+	 * @param request Request to convert.
+	 * @return JSON representation of the request.
+	 */
+	public static String toJson(final Request request) {
+		final String id = request.id();
+		final StringJoiner switches = new StringJoiner(",", "[", "]");
+		final StringJoiner servers = new StringJoiner(",", "[", "]");
+		final StringJoiner links = new StringJoiner(",", "[", "]");
+		final int[] linkCounter = {0};
+		final Linker linker = (bw, source, target) -> {
+			links.add(link(id + GlobalGeneratorConfig.SEPARATOR + GlobalGeneratorConfig.LINK
+					+ GlobalGeneratorConfig.SEPARATOR + linkCounter[0]++, bw, source, target));
+			links.add(link(id + GlobalGeneratorConfig.SEPARATOR + GlobalGeneratorConfig.LINK
+					+ GlobalGeneratorConfig.SEPARATOR + linkCounter[0]++, bw, target, source));
+		};
+
+		// Same order as in the one tier and two tier network generators
+		if (request.config() instanceof OneTierConfig config) {
+			final List<String> serverIds = addServers(servers, id, config, config.getNumberOfServers(), 1);
+			final List<String> switchIds = addSwitches(switches, id + GlobalGeneratorConfig.SEPARATOR
+					+ GlobalGeneratorConfig.SWITCH, config.getNumberOfSwitches(), 0);
+			for (final String serverId : serverIds) {
+				for (final String switchId : switchIds) {
+					linker.link(config.getBandwidthPerLink(), serverId, switchId);
+				}
+			}
+		} else {
+			final TwoTierConfig config = (TwoTierConfig) request.config();
+			final OneTierConfig rack = config.getRack();
+			final List<String> coreIds = addSwitches(switches, id + GlobalGeneratorConfig.SEPARATOR
+					+ TwoTierNetworkGenerator.CORE_SWITCH_PREFIX, config.getNumberOfCoreSwitches(), 0);
+			final List<String> rackIds = addSwitches(switches, id + GlobalGeneratorConfig.SEPARATOR
+					+ TwoTierNetworkGenerator.RACK_SWITCH_PREFIX, config.getNumberOfRacks(), 1);
+			final List<String> serverIds = addServers(servers, id, rack,
+					config.getNumberOfRacks() * rack.getNumberOfServers(), 2);
+			for (final String coreId : coreIds) {
+				for (final String rackId : rackIds) {
+					linker.link(config.getCoreBandwidth(), coreId, rackId);
+				}
+			}
+			for (int i = 0; i < serverIds.size(); i++) {
+				linker.link(rack.getBandwidthPerLink(), rackIds.get(i / rack.getNumberOfServers()), serverIds.get(i));
+			}
+		}
+
+		return "{\"id\":" + quote(id) + ",\"arrival\":" + request.arrivalTime() + ",\"switches\":" + switches
+				+ ",\"servers\":" + servers + ",\"links\":" + links + "}";
+	}
+
+	/**
+	 * Creates both directions of a link.
+	 */
+	@FunctionalInterface
+	private interface Linker {
+		void link(int bw, String source, String target);
+	}
+
+	/**
+	 * Adds the given number of switches to the given JSON array.
+	 *
+	 * @param switches JSON array to add the switches to.
+	 * @param prefix   ID prefix of the switches.
+	 * @param number   Number of switches.
+	 * @param depth    Depth of the switches.
+	 * @return IDs of the added switches.
+	 */
+	private static List<String> addSwitches(final StringJoiner switches, final String prefix, final int number,
+			final int depth) {
+		final List<String> ids = new ArrayList<>(number);
+		for (int i = 0; i < number; i++) {
+			final String switchId = prefix + GlobalGeneratorConfig.SEPARATOR + i;
+			ids.add(switchId);
+			switches.add("{\"id\":" + quote(switchId) + ",\"depth\":" + depth + "}");
+		}
+		return ids;
+	}
+
+	/**
+	 * Adds the given number of servers to the given JSON array.
+	 *
+	 * @param servers   JSON array to add the servers to.
+	 * @param networkId ID of the network.
+	 * @param config    Configuration that contains the resources per server.
+	 * @param number    Number of servers.
+	 * @param depth     Depth of the servers.
+	 * @return IDs of the added servers.
+	 */
+	private static List<String> addServers(final StringJoiner servers, final String networkId,
+			final OneTierConfig config, final int number, final int depth) {
+		final List<String> ids = new ArrayList<>(number);
+		for (int i = 0; i < number; i++) {
+			final String serverId = networkId + GlobalGeneratorConfig.SEPARATOR + GlobalGeneratorConfig.SERVER
+					+ GlobalGeneratorConfig.SEPARATOR + i;
+			ids.add(serverId);
+			servers.add("{\"id\":" + quote(serverId) + ",\"cpu\":" + config.getCpuPerServer() + ",\"memory\":"
+					+ config.getMemoryPerServer() + ",\"storage\":" + config.getStoragePerServer() + ",\"depth\":"
+					+ depth + "}");
+		}
+		return ids;
+	}
+
+	/**
+	 * Converts one link to a JSON object.
+	 *
+	 * @param id     ID of the link.
+	 * @param bw     Bandwidth of the link.
+	 * @param source ID of the source node.
+	 * @param target ID of the target node.
+	 * @return JSON representation of the link.
+	 */
+	private static String link(final String id, final int bw, final String source, final String target) {
+		return "{\"id\":" + quote(id) + ",\"bw\":" + bw + ",\"source\":" + quote(source) + ",\"target\":"
+				+ quote(target) + "}";
+	}
+
+	/**
+	 * Converts the given string to a JSON string literal.
+	 *
+	 * @param value String to convert.
+	 * @return JSON string literal.
+	 */
+	private static String quote(final String value) {
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
+}
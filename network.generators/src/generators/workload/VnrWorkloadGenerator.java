@@ -0,0 +1,311 @@
+package generators.workload;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import facade.ModelFacade;
+import generators.OneTierNetworkGenerator;
+import generators.TwoTierNetworkGenerator;
+import generators.config.IGeneratorConfig;
+import generators.config.OneTierConfig;
+import generators.config.TwoTierConfig;
+import generators.config.WorkloadConfig;
+
+/**
+ * Synthetic (possibly unbounded) stream of virtual network requests for load
+ * tests. The arrival times follow the arrival process of the
+ * {@link WorkloadConfig} and the topologies are drawn from its templates. All
+ * random values are drawn from one random number generator seeded with
+ * {@link WorkloadConfig#getSeed()}, i.e., two generators with the same
+ * configuration produce the same sequence of requests.
+ *
+ * The requests can either be created in the model one by one (see
+ * {@link #createNext()}, which behaves like the incremental JSON converter of
+ * the scenarios) or be written as JSON lines (see {@link VnrJsonLinesWriter}).
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class VnrWorkloadGenerator implements Iterator<VnrWorkloadGenerator.Request> {
+
+	/**
+	 * One virtual network request.
+	 *
+	 * @param id          ID of the virtual network.
+	 * @param arrivalTime Arrival time in abstract time units.
+	 * @param config      Topology of the virtual network (one tier or two tier
+	 *                    configuration).
+	 */
+	public record Request(String id, double arrivalTime, IGeneratorConfig config) {
+	}
+
+	/**
+	 * Configuration of this workload generator instance.
+	 */
+	private final WorkloadConfig config;
+
+	/**
+	 * ModelFacade instance the requests are created in.
+	 */
+	private final ModelFacade facade;
+
+	/**
+	 * Random number generator for all drawn values.
+	 */
+	private final Random rand;
+
+	/**
+	 * Sum of all template weights.
+	 */
+	private final double totalWeight;
+
+	/**
+	 * Arrival time of the last request.
+	 */
+	private double time = 0;
+
+	/**
+	 * Number of requests generated so far.
+	 */
+	private long counter = 0;
+
+	/**
+	 * True if the bursty arrival process is in its burst phase.
+	 */
+	private boolean burst = false;
+
+	/**
+	 * End of the current phase of the bursty arrival process.
+	 */
+	private double phaseEnd;
+
+	/**
+	 * Creates a new workload generator for the global model facade.
+	 *
+	 * @param config Configuration for this generator.
+	 */
+	public VnrWorkloadGenerator(final WorkloadConfig config) {
+		this(config, ModelFacade.getInstance());
+	}
+
+	/**
+	 * Creates a new workload generator for the given model facade.
+	 *
+	 * @param config      Configuration for this generator.
+	 * @param modelFacade Model facade the requests are created in.
+	 */
+	public VnrWorkloadGenerator(final WorkloadConfig config, final ModelFacade modelFacade) {
+		if (config == null || config.getTemplates().isEmpty()) {
+			throw new IllegalArgumentException("Workload configuration has no templates.");
+		}
+
+		this.config = config;
+		this.facade = modelFacade;
+		this.rand = new Random(config.getSeed());
+		this.totalWeight = config.getWeights().stream().mapToDouble(Double::doubleValue).sum();
+		this.phaseEnd = sampleExponential(rand, config.getMeanGapLength());
+	}
+
+	/**
+	 * Returns true if the workload has more requests, i.e., if it is unbounded or
+	 * the maximum number of requests was not reached yet.
+	 *
+	 * @return True if the workload has more requests.
+	 */
+	@Override
+	public boolean hasNext() {
+		return config.getMaxRequests() < 0 || counter < config.getMaxRequests();
+	}
+
+	/**
+	 * Draws the next request. The request is not created in the model.
+	 *
+	 * @return Next request.
+	 */
+	@Override
+	public Request next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("The workload has no more requests.");
+		}
+
+		time = nextArrival();
+		final IGeneratorConfig template = nextTemplate();
+		final IGeneratorConfig size;
+		if (template instanceof OneTierConfig rack) {
+			size = scale(rack);
+		} else {
+			final TwoTierConfig t = (TwoTierConfig) template;
+			size = new TwoTierConfig(scale(t.getRack()), t.getNumberOfCoreSwitches(),
+					drawBetween(t.getNumberOfRacks()), t.isCoreSwitchesConnected(), t.getCoreBandwidth());
+		}
+
+		return new Request(config.getNetworkIdPrefix() + counter++, time, size);
+	}
+
+	/**
+	 * Draws the next request and creates it as virtual network in the model.
+	 *
+	 * @return ID of the created virtual network or null if the workload has no more
+	 *         requests.
+	 */
+	public String createNext() {
+		if (!hasNext()) {
+			return null;
+		}
+
+		final Request request = next();
+		create(request);
+		return request.id();
+	}
+
+	/**
+	 * Creates the given request as virtual network in the model.
+	 *
+	 * @param request Request to create.
+	 */
+	public void create(final Request request) {
+		if (request.config() instanceof OneTierConfig) {
+			new OneTierNetworkGenerator(request.config(), facade).createNetwork(request.id(), true);
+		} else {
+			new TwoTierNetworkGenerator(request.config(), facade).createNetwork(request.id(), true);
+		}
+	}
+
+	/**
+	 * Returns the number of requests generated so far.
+	 *
+	 * @return Number of requests generated so far.
+	 */
+	public long getCounter() {
+		return counter;
+	}
+
+	/**
+	 * Returns the arrival time of the last request.
+	 *
+	 * @return Arrival time of the last request.
+	 */
+	public double getTime() {
+		return time;
+	}
+
+	public WorkloadConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * Draws the arrival time of the next request according to the arrival process.
+	 *
+	 * @return Arrival time of the next request.
+	 */
+	private double nextArrival() {
+		switch (config.getArrivalProcess()) {
+		case BURSTY:
+			return nextBurstyArrival();
+		case DIURNAL:
+			return nextDiurnalArrival();
+		case POISSON:
+		default:
+			return time + sampleExponential(rand, 1 / config.getArrivalRate());
+		}
+	}
+
+	/**
+	 * Draws the arrival time of the next request of the bursty (Markov-modulated)
+	 * arrival process. If the current phase ends before the drawn arrival, the
+	 * phase changes and the arrival is drawn again from the end of the phase (the
+	 * exponential distribution is memoryless).
+	 *
+	 * @return Arrival time of the next request.
+	 */
+	private double nextBurstyArrival() {
+		final double rate = config.getArrivalRate();
+		double t = time;
+		while (true) {
+			final double dt = sampleExponential(rand, 1 / (burst ? rate * config.getBurstFactor() : rate));
+			if (t + dt < phaseEnd) {
+				return t + dt;
+			}
+
+			t = phaseEnd;
+			burst = !burst;
+			phaseEnd = t + sampleExponential(rand, burst ? config.getMeanBurstLength() : config.getMeanGapLength());
+		}
+	}
+
+	/**
+	 * Draws the arrival time of the next request of the diurnal arrival process by
+	 * thinning a Poisson process with the maximum arrival rate.
+	 *
+	 * @return Arrival time of the next request.
+	 */
+	private double nextDiurnalArrival() {
+		final double rate = config.getArrivalRate();
+		final double amplitude = config.getDiurnalAmplitude();
+		final double max = rate * (1 + amplitude);
+		double t = time;
+		while (true) {
+			t += sampleExponential(rand, 1 / max);
+			final double current = rate * (1 + amplitude * Math.sin(2 * Math.PI * t / config.getDiurnalPeriod()));
+			if (rand.nextDouble() * max < current) {
+				return t;
+			}
+		}
+	}
+
+	/**
+	 * Draws a template with a probability proportional to its weight.
+	 *
+	 * @return Drawn template.
+	 */
+	private IGeneratorConfig nextTemplate() {
+		final List<IGeneratorConfig> templates = config.getTemplates();
+		final List<Double> weights = config.getWeights();
+		double r = rand.nextDouble() * totalWeight;
+		for (int i = 0; i < templates.size() - 1; i++) {
+			r -= weights.get(i);
+			if (r < 0) {
+				return templates.get(i);
+			}
+		}
+		return templates.get(templates.size() - 1);
+	}
+
+	/**
+	 * Creates a copy of the given one tier configuration with a drawn number of
+	 * servers.
+	 *
+	 * @param template One tier template.
+	 * @return Scaled copy of the template.
+	 */
+	private OneTierConfig scale(final OneTierConfig template) {
+		return new OneTierConfig(drawBetween(template.getNumberOfServers()), template.getNumberOfSwitches(),
+				template.isSwitchesConnected(), template.getCpuPerServer(), template.getMemoryPerServer(),
+				template.getStoragePerServer(), template.getBandwidthPerLink());
+	}
+
+	/**
+	 * Draws a number uniformly between the given maximum scaled by the minimum
+	 * scale (rounded up) and the given maximum.
+	 *
+	 * @param max Maximum.
+	 * @return Drawn number.
+	 */
+	private int drawBetween(final int max) {
+		final int min = Math.max(1, (int) Math.ceil(max * config.getMinScale()));
+		return min >= max ? max : min + rand.nextInt(max - min + 1);
+	}
+
+	/**
+	 * Samples an exponentially distributed duration with the given mean.
+	 *
+	 * @param rand Random number generator to use.
+	 * @param mean Mean of the distribution.
+	 * @return Sampled duration.
+	 */
+	public static double sampleExponential(final Random rand, final double mean) {
+		return -mean * Math.log(1 - rand.nextDouble());
+	}
+
+}
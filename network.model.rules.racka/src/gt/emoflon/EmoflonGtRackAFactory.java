@@ -2,12 +2,13 @@ package gt.emoflon;
 
 import facade.ModelFacade;
 import gt.IncrementalPatternMatcherFactory;
+import gt.PatternMatchingConfig.PatternMatcher;
 
 public class EmoflonGtRackAFactory extends IncrementalPatternMatcherFactory {
 
 	@Override
-	public gt.IncrementalPatternMatcher create() {
-		return new EmoflonGtRackA(ModelFacade.getInstance().getRoot());
+	public gt.IncrementalPatternMatcher create(final ModelFacade modelFacade, final PatternMatcher pm) {
+		return new EmoflonGtRackA(modelFacade.getRoot(), pm);
 	}
 
 }
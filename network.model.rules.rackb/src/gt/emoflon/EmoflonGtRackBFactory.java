@@ -2,12 +2,13 @@ package gt.emoflon;
 
 import facade.ModelFacade;
 import gt.IncrementalPatternMatcherFactory;
+import gt.PatternMatchingConfig.PatternMatcher;
 
 public class EmoflonGtRackBFactory extends IncrementalPatternMatcherFactory {
 
 	@Override
-	public gt.IncrementalPatternMatcher create() {
-		return new EmoflonGtRackB(ModelFacade.getInstance().getRoot());
+	public gt.IncrementalPatternMatcher create(final ModelFacade modelFacade, final PatternMatcher pm) {
+		return new EmoflonGtRackB(modelFacade.getRoot(), pm);
 	}
 
 }
@@ -10,6 +10,7 @@ import org.emoflon.ibex.gt.api.GraphTransformationMatch;
 
 import gt.IncrementalPatternMatcher;
 import gt.PatternMatchingConfig;
+import gt.PatternMatchingConfig.PatternMatcher;
 import gt.PatternMatchingDelta;
 import gt.emoflon.apps.EmoflonGtVnetHiPEApp;
 import model.Element;
@@ -59,7 +60,18 @@ public class EmoflonGtVnet implements IncrementalPatternMatcher {
 	 * @param root Root node to work with.
 	 */
 	public EmoflonGtVnet(final Root root) {
-		switch (PatternMatchingConfig.pm) {
+		this(root, PatternMatchingConfig.pm);
+	}
+
+	/**
+	 * Constructor that initializes the object for a given root node and pattern
+	 * matcher.
+	 *
+	 * @param root Root node to work with.
+	 * @param pm   Pattern matcher to use.
+	 */
+	public EmoflonGtVnet(final Root root, final PatternMatcher pm) {
+		switch (pm) {
 		case HIPE:
 			emoflonPatternMatcherApp = new EmoflonGtVnetHiPEApp(root);
 			break;
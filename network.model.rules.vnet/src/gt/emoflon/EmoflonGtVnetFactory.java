@@ -3,12 +3,13 @@ package gt.emoflon;
 import facade.ModelFacade;
 import gt.IncrementalPatternMatcher;
 import gt.IncrementalPatternMatcherFactory;
+import gt.PatternMatchingConfig.PatternMatcher;
 
 public class EmoflonGtVnetFactory extends IncrementalPatternMatcherFactory {
 
 	@Override
-	public IncrementalPatternMatcher create() {
-		return new EmoflonGtVnet(ModelFacade.getInstance().getRoot());
+	public IncrementalPatternMatcher create(final ModelFacade modelFacade, final PatternMatcher pm) {
+		return new EmoflonGtVnet(modelFacade.getRoot(), pm);
 	}
 
 }
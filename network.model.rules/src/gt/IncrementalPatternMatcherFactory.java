@@ -1,8 +1,38 @@
 package gt;
 
+import facade.ModelFacade;
+import gt.PatternMatchingConfig.PatternMatcher;
+
 public abstract class IncrementalPatternMatcherFactory {
 
-	public abstract IncrementalPatternMatcher create();
+	/**
+	 * Creates a new pattern matcher for the model of the global model facade.
+	 *
+	 * @return New pattern matcher.
+	 */
+	public IncrementalPatternMatcher create() {
+		return create(ModelFacade.getInstance());
+	}
+
+	/**
+	 * Creates a new pattern matcher for the model of the given model facade using
+	 * the globally configured pattern matcher ({@link PatternMatchingConfig#pm}).
+	 *
+	 * @param modelFacade Model facade whose model should be matched.
+	 * @return New pattern matcher.
+	 */
+	public IncrementalPatternMatcher create(final ModelFacade modelFacade) {
+		return create(modelFacade, PatternMatchingConfig.pm);
+	}
+
+	/**
+	 * Creates a new pattern matcher for the model of the given model facade.
+	 *
+	 * @param modelFacade Model facade whose model should be matched.
+	 * @param pm          Pattern matcher to use.
+	 * @return New pattern matcher.
+	 */
+	public abstract IncrementalPatternMatcher create(final ModelFacade modelFacade, final PatternMatcher pm);
 
 	@Override
 	public boolean equals(final Object obj) {
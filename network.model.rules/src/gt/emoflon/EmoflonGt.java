@@ -10,6 +10,7 @@ import org.emoflon.ibex.gt.api.GraphTransformationMatch;
 
 import gt.IncrementalPatternMatcher;
 import gt.PatternMatchingConfig;
+import gt.PatternMatchingConfig.PatternMatcher;
 import gt.PatternMatchingDelta;
 import gt.emoflon.apps.EmoflonGtDemoclesApp;
 import gt.emoflon.apps.EmoflonGtHiPEApp;
@@ -65,7 +66,18 @@ public class EmoflonGt implements IncrementalPatternMatcher {
 	 * @param root Root node to work with.
 	 */
 	public EmoflonGt(final Root root) {
-		switch (PatternMatchingConfig.pm) {
+		this(root, PatternMatchingConfig.pm);
+	}
+
+	/**
+	 * Constructor that initializes the object for a given root node and pattern
+	 * matcher.
+	 *
+	 * @param root Root node to work with.
+	 * @param pm   Pattern matcher to use.
+	 */
+	public EmoflonGt(final Root root, final PatternMatcher pm) {
+		switch (pm) {
 		case HIPE:
 			emoflonPatternMatcherApp = new EmoflonGtHiPEApp(root);
 			break;
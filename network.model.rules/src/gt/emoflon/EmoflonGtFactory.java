@@ -3,12 +3,13 @@ package gt.emoflon;
 import facade.ModelFacade;
 import gt.IncrementalPatternMatcher;
 import gt.IncrementalPatternMatcherFactory;
+import gt.PatternMatchingConfig.PatternMatcher;
 
 public class EmoflonGtFactory extends IncrementalPatternMatcherFactory {
 
 	@Override
-	public IncrementalPatternMatcher create() {
-		return new EmoflonGt(ModelFacade.getInstance().getRoot());
+	public IncrementalPatternMatcher create(final ModelFacade modelFacade, final PatternMatcher pm) {
+		return new EmoflonGt(modelFacade.getRoot(), pm);
 	}
 
 }
@@ -0,0 +1,160 @@
+package statistics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Thread-safe streaming aggregation of the metrics of multiple runs of the same
+ * experiment. Every line (= virtual network request) of every run is added as
+ * soon as it is available. The statistics of a line are the mean and the
+ * standard derivation of all runs that already produced this line.
+ *
+ * Additionally, the sums of all time metrics ("time_*") of every completed run
+ * are aggregated.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class RunStatistics {
+
+	/**
+	 * Prefix of all time metrics.
+	 */
+	public static final String TIME_PREFIX = "time_";
+
+	/**
+	 * Accumulators per line and metric.
+	 */
+	private final List<Map<String, Welford>> lines = new ArrayList<>();
+
+	/**
+	 * Accumulators of the time sums per metric.
+	 */
+	private final Map<String, Welford> timeSums = new LinkedHashMap<>();
+
+	/**
+	 * All metrics in the order of their first occurrence.
+	 */
+	private final Set<String> metrics = new LinkedHashSet<>();
+
+	/**
+	 * Number of completed runs.
+	 */
+	private int completedRuns = 0;
+
+	/**
+	 * Adds the values of one line of one run.
+	 *
+	 * @param line   Index of the line (0-based).
+	 * @param values Mapping of metric name to value.
+	 */
+	public synchronized void addLine(final int line, final Map<String, Double> values) {
+		while (lines.size() <= line) {
+			lines.add(new LinkedHashMap<>());
+		}
+
+		values.forEach((metric, value) -> {
+			metrics.add(metric);
+			lines.get(line).computeIfAbsent(metric, k -> new Welford()).add(value);
+		});
+	}
+
+	/**
+	 * Adds the time sums of one completed run.
+	 *
+	 * @param sums Mapping of time metric name to the sum of all lines of the run.
+	 */
+	public synchronized void addCompletedRun(final Map<String, Double> sums) {
+		sums.forEach((metric, sum) -> timeSums.computeIfAbsent(metric, k -> new Welford()).add(sum));
+		completedRuns++;
+	}
+
+	/**
+	 * Returns the number of completed runs.
+	 *
+	 * @return Number of completed runs.
+	 */
+	public synchronized int getCompletedRuns() {
+		return completedRuns;
+	}
+
+	/**
+	 * Returns the number of lines at least one run produced.
+	 *
+	 * @return Number of lines.
+	 */
+	public synchronized int getNumberOfLines() {
+		return lines.size();
+	}
+
+	/**
+	 * Writes the statistics of all lines to the given CSV file. Every metric
+	 * results in two columns (mean and standard derivation) and every line of the
+	 * runs results in one line of the file.
+	 *
+	 * @param csvPath Path of the CSV file to (over-)write.
+	 * @throws IOException If the file could not be written.
+	 */
+	public synchronized void writeStatsCsv(final String csvPath) throws IOException {
+		final List<String> output = new ArrayList<>();
+
+		final List<String> header = new ArrayList<>();
+		header.add("counter");
+		header.add("runs");
+		for (final String metric : metrics) {
+			header.add(metric);
+			header.add(metric + "_stddev");
+		}
+		output.add(String.join(",", header));
+
+		for (int v = 0; v < lines.size(); v++) {
+			final Map<String, Welford> line = lines.get(v);
+			final List<String> row = new ArrayList<>();
+			row.add(String.valueOf(StatisticConfig.VN_NAME_OFFSET ? v + 1 : v));
+			row.add(String.valueOf(line.values().stream().mapToLong(Welford::getCount).max().orElse(0)));
+			for (final String metric : metrics) {
+				final Welford acc = line.get(metric);
+				if (acc == null) {
+					row.add("");
+					row.add("");
+				} else if (metric.equals("time_total")) {
+					row.add(String.valueOf(StatisticUtils.roundTimetotal(acc.getMean())));
+					row.add(String.valueOf(StatisticUtils.roundTimetotalstddev(acc.getStdDev())));
+				} else {
+					row.add(String.valueOf(acc.getMean()));
+					row.add(String.valueOf(acc.getStdDev()));
+				}
+			}
+			output.add(String.join(",", row));
+		}
+
+		Files.write(Paths.get(csvPath), output);
+	}
+
+	/**
+	 * Writes the statistics of the time sums of all completed runs to the given CSV
+	 * file.
+	 *
+	 * @param csvPath Path of the CSV file to (over-)write.
+	 * @throws IOException If the file could not be written.
+	 */
+	public synchronized void writeTimeSumCsv(final String csvPath) throws IOException {
+		final List<String> header = new ArrayList<>();
+		final List<String> row = new ArrayList<>();
+		timeSums.forEach((metric, acc) -> {
+			header.add(metric);
+			header.add(metric + "_stddev");
+			row.add(String.valueOf(StatisticUtils.roundTimesums(acc.getMean())));
+			row.add(String.valueOf(StatisticUtils.roundTimesums(acc.getStdDev())));
+		});
+
+		Files.write(Paths.get(csvPath), List.of(String.join(",", header), String.join(",", row)));
+	}
+
+}
@@ -0,0 +1,386 @@
+package statistics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import iflye.dependencies.logging.IflyeLogger;
+
+/**
+ * Runner class that launches multiple seeded runs of an experiment and
+ * aggregates their metrics to one statistic CSV file containing the mean and
+ * the standard derivation. In contrast to the {@link Runner}, the number of
+ * runs is variable, the runs are started by this class (as forked JVMs with a
+ * configurable degree of parallelism), and the metric files of all runs are
+ * read while the runs are still in progress. Every new line is added to online
+ * accumulators ({@link Welford}) right away, i.e., no run has to be kept in
+ * memory and the statistics are updated after every completed run.
+ *
+ * Run i (1-based) gets the additional arguments '--csvpath
+ * &lt;name&gt;_run&lt;i&gt;.csv' and '--&lt;seed option&gt; &lt;base seed +
+ * i - 1&gt;', where the seed option and the base seed are arguments of this
+ * runner. Hence, the metric files are compatible with the {@link Runner}.
+ *
+ * The runs are not executed in-process, because the experiments use global
+ * singletons (metrics manager, model facade) and terminate the JVM after they
+ * finished.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class SeedSweepRunner extends IflyeLogger {
+
+	/**
+	 * Private constructor ensures no object instantiation.
+	 */
+	private SeedSweepRunner() {
+	}
+
+	/**
+	 * Main method to start the runner. Arguments must contain the base name of the
+	 * experiment to write the metric files to, the number of runs, the degree of
+	 * parallelism, the name of the CLI option (without leading dashes) that passes
+	 * the seed to the experiment, the seed of the first run, the main class of the
+	 * experiment and the arguments of the experiment, e.g.,
+	 * 'pm_fat-tree-4-pods_l3_k2 50 8 ilprandomseed 0
+	 * scenarios.load.DissScenarioLoad -a pm -o total-comm-a ...'.
+	 *
+	 * @param args Arguments to parse as described above.
+	 */
+	public static void main(final String[] args) throws IOException, InterruptedException {
+		if (args == null || args.length < 6) {
+			throw new IllegalArgumentException("Please specify the experiment name, the number of runs, "
+					+ "the degree of parallelism, the seed option, the base seed and the experiment class "
+					+ "(plus its arguments).");
+		}
+
+		final String expName = args[0];
+		final int runs = Integer.valueOf(args[1]);
+		final int parallelism = Integer.valueOf(args[2]);
+		final String seedOption = args[3];
+		final int baseSeed = Integer.valueOf(args[4]);
+		final String expClass = args[5];
+		final List<String> expArgs = Arrays.asList(args).subList(6, args.length);
+
+		if (runs < 1 || parallelism < 1) {
+			throw new IllegalArgumentException("The number of runs and the degree of parallelism must be positive.");
+		}
+
+		final RunStatistics stats = new RunStatistics();
+		final String statsName = expName + "_stats.csv";
+		final String timeSumsName = expName + "_timesums.csv";
+
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.min(runs, parallelism));
+		final List<Future<Integer>> futures = new ArrayList<>();
+		try {
+			for (int i = 1; i <= runs; i++) {
+				final int run = i;
+				futures.add(executor.submit(() -> {
+					final int exitCode = run(expName, run, expClass, expArgs, seedOption, baseSeed + run - 1,
+							stats);
+					stats.writeStatsCsv(statsName);
+					stats.writeTimeSumCsv(timeSumsName);
+					logger.info("=> Finished run " + run + " (" + stats.getCompletedRuns() + "/" + runs
+							+ " runs, " + stats.getNumberOfLines() + " lines)");
+					return exitCode;
+				}));
+			}
+
+			int failed = 0;
+			for (final Future<Integer> future : futures) {
+				try {
+					if (future.get() != 0) {
+						failed++;
+					}
+				} catch (final ExecutionException e) {
+					logger.warning("=> Run failed: " + e.getCause().getMessage());
+					failed++;
+				}
+			}
+
+			if (failed > 0) {
+				logger.warning("=> " + failed + " of " + runs + " runs terminated abnormally.");
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		logger.info("=> Finished statistics file: " + statsName);
+	}
+
+	/**
+	 * Starts one run of the experiment in a forked JVM and streams the lines of its
+	 * metric file into the given statistics until the run terminated.
+	 *
+	 * @param expName    Base name of the experiment.
+	 * @param run        Number of the run (1-based).
+	 * @param expClass   Main class of the experiment.
+	 * @param expArgs    Arguments of the experiment.
+	 * @param seedOption Name of the CLI option that passes the seed to the
+	 *                   experiment.
+	 * @param seed       Seed of the run.
+	 * @param stats      Statistics to add all lines of the run to.
+	 * @return Exit code of the forked JVM.
+	 */
+	private static int run(final String expName, final int run, final String expClass, final List<String> expArgs,
+			final String seedOption, final int seed, final RunStatistics stats)
+			throws IOException, InterruptedException {
+		final File csvFile = new File(expName + "_run" + run + ".csv");
+		Files.deleteIfExists(csvFile.toPath());
+
+		final List<String> command = new ArrayList<>();
+		command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(expClass);
+		command.addAll(expArgs);
+		command.add("--csvpath");
+		command.add(csvFile.getPath());
+		command.add("--" + seedOption);
+		command.add(String.valueOf(seed));
+
+		final Process process = new ProcessBuilder(command) //
+				.redirectErrorStream(true) //
+				.redirectOutput(new File(expName + "_run" + run + ".log")) //
+				.start();
+
+		final CsvTail tail = new CsvTail(csvFile);
+		try {
+			while (!process.waitFor(StatisticConfig.POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+				tail.poll(stats);
+			}
+		} finally {
+			if (process.isAlive()) {
+				process.destroyForcibly();
+			}
+		}
+
+		tail.poll(stats);
+		stats.addCompletedRun(tail.getTimeSums());
+
+		if (process.exitValue() != 0) {
+			logger.warning("=> Run " + run + " terminated with exit code " + process.exitValue());
+		}
+		return process.exitValue();
+	}
+
+	/**
+	 * Incremental reader for the metric file of one run. Every call of
+	 * {@link #poll(RunStatistics)} adds all complete lines that were not read
+	 * before. Only the bytes behind the last read line are read, unless the
+	 * reporter rewrote the file.
+	 */
+	private static class CsvTail {
+
+		/**
+		 * Metric file of the run.
+		 */
+		private final File csvFile;
+
+		/**
+		 * Number of lines (without the header) that were already read.
+		 */
+		private int consumed = 0;
+
+		/**
+		 * Header line of the file when it was read last (or null).
+		 */
+		private String header = null;
+
+		/**
+		 * Columns of the header.
+		 */
+		private String[] columns;
+
+		/**
+		 * Byte offset behind the last read line.
+		 */
+		private long offset = 0;
+
+		/**
+		 * Sums of the time metrics over all read lines.
+		 */
+		private final Map<String, Double> timeSums = new HashMap<>();
+
+		/**
+		 * Creates a new reader for the given metric file.
+		 *
+		 * @param csvFile Metric file of the run.
+		 */
+		private CsvTail(final File csvFile) {
+			this.csvFile = csvFile;
+		}
+
+		/**
+		 * Adds all new complete lines of the metric file to the given statistics.
+		 * The header is read again on every call, because the reporter rewrites the
+		 * file if new metrics appear. In this case, all lines that were already read
+		 * are skipped.
+		 *
+		 * @param stats Statistics to add the new lines to.
+		 */
+		private void poll(final RunStatistics stats) throws IOException {
+			if (!csvFile.exists()) {
+				return;
+			}
+
+			try (final RandomAccessFile file = new RandomAccessFile(csvFile, "r")) {
+				final String header = file.readLine();
+				final long start = file.getFilePointer();
+				// The header is incomplete unless it ends with a line break
+				if (header == null || start == 0 || !isLineBreakBefore(file, start)) {
+					return;
+				}
+
+				if (!header.equals(this.header) || file.length() < offset) {
+					final long next = skipLines(file, start, consumed);
+					if (next < 0) {
+						return;
+					}
+					this.header = header;
+					this.columns = header.strip().split(",", -1);
+					this.offset = next;
+				}
+
+				final byte[] bytes = read(file, offset);
+				// The bytes behind the last line break belong to an incomplete line
+				final int end = lastLineBreak(bytes);
+				if (end < 0) {
+					return;
+				}
+
+				for (final String row : new String(bytes, 0, end, StandardCharsets.UTF_8).split("\n", -1)) {
+					addLine(stats, row);
+				}
+				offset += end + 1;
+			}
+		}
+
+		/**
+		 * Parses the given line and adds it to the given statistics.
+		 *
+		 * @param stats Statistics to add the line to.
+		 * @param row   Line to parse.
+		 */
+		private void addLine(final RunStatistics stats, final String row) {
+			final String[] values = row.strip().split(",", -1);
+			final Map<String, Double> line = new HashMap<>();
+			for (int c = 0; c < columns.length && c < values.length; c++) {
+				final Double value = parse(values[c]);
+				if (value != null) {
+					line.put(columns[c], value);
+					if (columns[c].startsWith(RunStatistics.TIME_PREFIX)) {
+						timeSums.merge(columns[c], value, Double::sum);
+					}
+				}
+			}
+			stats.addLine(consumed, line);
+			consumed++;
+		}
+
+		/**
+		 * Returns the byte offset behind the given number of complete lines starting
+		 * at the given byte offset.
+		 *
+		 * @param file  File to read.
+		 * @param from  Byte offset of the first line.
+		 * @param lines Number of lines to skip.
+		 * @return Byte offset behind the skipped lines or -1 if the file does not
+		 *         contain enough complete lines.
+		 */
+		private static long skipLines(final RandomAccessFile file, final long from, final int lines)
+				throws IOException {
+			if (lines == 0) {
+				return from;
+			}
+
+			final byte[] bytes = read(file, from);
+			int found = 0;
+			for (int i = 0; i < bytes.length; i++) {
+				if (bytes[i] == '\n' && ++found == lines) {
+					return from + i + 1;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Reads all bytes of the given file from the given byte offset to its end.
+		 *
+		 * @param file File to read.
+		 * @param from Byte offset to start at.
+		 * @return All read bytes.
+		 */
+		private static byte[] read(final RandomAccessFile file, final long from) throws IOException {
+			final byte[] bytes = new byte[(int) Math.max(0, file.length() - from)];
+			file.seek(from);
+			file.readFully(bytes);
+			return bytes;
+		}
+
+		/**
+		 * Returns true if the byte before the given byte offset is a line break.
+		 *
+		 * @param file File to read.
+		 * @param pos  Byte offset (positive).
+		 * @return True if the byte before the given byte offset is a line break.
+		 */
+		private static boolean isLineBreakBefore(final RandomAccessFile file, final long pos) throws IOException {
+			file.seek(pos - 1);
+			return file.read() == '\n';
+		}
+
+		/**
+		 * Returns the index of the last line break in the given bytes.
+		 *
+		 * @param bytes Bytes to search in.
+		 * @return Index of the last line break or -1 if there is none.
+		 */
+		private static int lastLineBreak(final byte[] bytes) {
+			for (int i = bytes.length - 1; i >= 0; i--) {
+				if (bytes[i] == '\n') {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Returns the sums of the time metrics over all read lines.
+		 *
+		 * @return Mapping of time metric name to sum.
+		 */
+		private Map<String, Double> getTimeSums() {
+			return timeSums;
+		}
+
+		/**
+		 * Parses the given metric value.
+		 *
+		 * @param value Value to parse.
+		 * @return Parsed value or null if the value is not a finite number.
+		 */
+		private static Double parse(final String value) {
+			try {
+				final double d = Double.parseDouble(value);
+				return Double.isFinite(d) ? d : null;
+			} catch (final NumberFormatException e) {
+				return null;
+			}
+		}
+
+	}
+
+}
@@ -51,6 +51,12 @@ public class StatisticConfig {
 	 */
 	public static final DecimalFormat ROUND_TIMETOTALSTDDEV_FORMAT = new DecimalFormat("0.0000");
 
+	/**
+	 * Interval in milliseconds in which the {@link SeedSweepRunner} reads new
+	 * lines of the metric files of running experiments.
+	 */
+	public static final long POLL_INTERVAL_MS = 1000;
+
 	/*
 	 * Apply pattern to time sums format
 	 */
@@ -0,0 +1,77 @@
+package statistics;
+
+/**
+ * Online accumulator for the mean and the standard derivation of a stream of
+ * values (Welford's algorithm). In contrast to {@link StatisticUtils#mean} and
+ * {@link StatisticUtils#stdDev}, the values do not have to be kept in memory
+ * and can be added as they arrive. Like {@link StatisticUtils#stdDev}, the
+ * standard derivation is the one of the population.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class Welford {
+
+	/**
+	 * Number of added values.
+	 */
+	private long count = 0;
+
+	/**
+	 * Mean of all added values.
+	 */
+	private double mean = 0;
+
+	/**
+	 * Sum of the squared differences from the mean.
+	 */
+	private double m2 = 0;
+
+	/**
+	 * Adds a new value.
+	 *
+	 * @param value Value to add.
+	 */
+	public void add(final double value) {
+		count++;
+		final double delta = value - mean;
+		mean += delta / count;
+		m2 += delta * (value - mean);
+	}
+
+	/**
+	 * Returns the number of added values.
+	 *
+	 * @return Number of added values.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the mean of all added values.
+	 *
+	 * @return Mean.
+	 */
+	public double getMean() {
+		return mean;
+	}
+
+	/**
+	 * Returns the (population) variance of all added values.
+	 *
+	 * @return Variance.
+	 */
+	public double getVariance() {
+		return count > 0 ? m2 / count : 0;
+	}
+
+	/**
+	 * Returns the (population) standard derivation of all added values.
+	 *
+	 * @return Standard derivation.
+	 */
+	public double getStdDev() {
+		return Math.sqrt(getVariance());
+	}
+
+}
@@ -3,7 +3,9 @@ package test.algorithms.fakeilp;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
@@ -20,6 +22,7 @@ import generators.config.OneTierConfig;
 import metrics.embedding.TotalCommunicationCostMetricA;
 import model.SubstrateNetwork;
 import model.VirtualNetwork;
+import model.VirtualServer;
 import model.VirtualSwitch;
 import test.algorithms.generic.AAlgorithmTest;
 
@@ -36,6 +39,7 @@ public class VneFakeIlpBatchAlgorithmMigrationTest extends AAlgorithmTest {
 		if (algo != null) {
 			((VneFakeIlpAlgorithm) algo).dispose();
 		}
+		AlgorithmConfig.batchHorizon = -1;
 	}
 
 	/**
@@ -79,6 +83,38 @@ public class VneFakeIlpBatchAlgorithmMigrationTest extends AAlgorithmTest {
 		testSetupAndCheckNormal(60, new int[] { 1, 1, 10 }, new int[] { 15, 15, 2 }, 50, 0);
 	}
 
+	/**
+	 * A rolling horizon of zero keeps all previous embeddings untouched.
+	 */
+	@Test
+	public void testRollingHorizonKeepsEmbeddings() {
+		final OneTierConfig substrateConfig = new OneTierConfig(2, 1, false, 5, 5, 5, 100);
+		new OneTierNetworkGenerator(substrateConfig).createNetwork("sub", false);
+		final OneTierConfig virtualConfig = new OneTierConfig(2, 1, false, 1, 1, 1, 1);
+		new OneTierNetworkGenerator(virtualConfig).createNetwork("virt1", true);
+		new OneTierNetworkGenerator(virtualConfig).createNetwork("virt2", true);
+
+		final SubstrateNetwork sNet = (SubstrateNetwork) facade.getNetworkById("sub");
+		final VirtualNetwork vNet1 = (VirtualNetwork) facade.getNetworkById("virt1");
+		final VirtualNetwork vNet2 = (VirtualNetwork) facade.getNetworkById("virt2");
+
+		initAlgo(sNet, Set.of(vNet1));
+		assertTrue(algo.execute());
+		final Map<String, String> hosts = new HashMap<>();
+		facade.getAllServersOfNetwork("virt1")
+				.forEach(n -> hosts.put(n.getName(), ((VirtualServer) n).getHost().getName()));
+		((VneFakeIlpAlgorithm) algo).dispose();
+
+		AlgorithmConfig.batchHorizon = 0;
+		initAlgo(sNet, Set.of(vNet2));
+		assertTrue(algo.execute());
+
+		assertEquals(sNet, vNet1.getHost());
+		assertEquals(sNet, vNet2.getHost());
+		facade.getAllServersOfNetwork("virt1")
+				.forEach(n -> assertEquals(hosts.get(n.getName()), ((VirtualServer) n).getHost().getName()));
+	}
+
 	/*
 	 * Utility methods
 	 */
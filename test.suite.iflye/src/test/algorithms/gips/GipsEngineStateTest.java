@@ -0,0 +1,97 @@
+package test.algorithms.gips;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algorithms.gips.GipsEngineState;
+
+/**
+ * Test class for the GIPS engine state that tracks the reuse of warm GIPS
+ * engines.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class GipsEngineStateTest {
+
+	/**
+	 * GIPS engine state to test.
+	 */
+	private GipsEngineState engine;
+
+	/**
+	 * Number of engine resets.
+	 */
+	private int resets;
+
+	@BeforeEach
+	public void resetEngine() {
+		engine = new GipsEngineState();
+		resets = 0;
+	}
+
+	@Test
+	public void testWarmEngineIsReused() {
+		final ResourceSet model = new ResourceSetImpl();
+		assertFalse(engine.isWarm());
+
+		// Cold execution is slower than the following warm ones
+		engine.execute(model, () -> resets++, () -> {
+			sleep(50);
+			return null;
+		});
+		assertTrue(engine.isWarm());
+		assertEquals(0, engine.getSavedSeconds());
+		assertEquals(0, engine.getLastSavedSeconds());
+
+		engine.execute(model, () -> resets++, () -> null);
+		engine.execute(model, () -> resets++, () -> null);
+
+		assertEquals(0, resets);
+		assertTrue(engine.getInitSeconds() > 0);
+		assertEquals(2 * engine.getInitSeconds(), engine.getSavedSeconds(), 1e-9);
+		// Every warm execution saves the initialization time once
+		assertEquals(engine.getInitSeconds(), engine.getLastSavedSeconds(), 1e-9);
+	}
+
+	@Test
+	public void testModelChangeResetsEngine() {
+		engine.execute(new ResourceSetImpl(), () -> resets++, () -> null);
+		engine.execute(new ResourceSetImpl(), () -> resets++, () -> null);
+
+		assertEquals(1, resets);
+		assertTrue(engine.isWarm());
+		assertEquals(0, engine.getSavedSeconds());
+		assertEquals(0, engine.getLastSavedSeconds());
+	}
+
+	@Test
+	public void testReset() {
+		final ResourceSet model = new ResourceSetImpl();
+		engine.execute(model, () -> resets++, () -> null);
+		engine.execute(model, () -> resets++, () -> null);
+		engine.reset();
+
+		assertFalse(engine.isWarm());
+		assertEquals(0, engine.getSavedSeconds());
+		assertEquals(0, engine.getInitSeconds());
+	}
+
+	/*
+	 * Utility methods.
+	 */
+
+	private static void sleep(final long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
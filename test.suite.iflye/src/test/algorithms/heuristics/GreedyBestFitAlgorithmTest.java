@@ -0,0 +1,217 @@
+package test.algorithms.heuristics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algorithms.heuristics.GreedyBestFitAlgorithm;
+import facade.config.ModelFacadeConfig;
+import model.Link;
+import model.Node;
+import model.SubstrateNetwork;
+import model.SubstratePath;
+import model.SubstrateServer;
+import model.VirtualLink;
+import model.VirtualNetwork;
+import model.VirtualServer;
+import model.VirtualSwitch;
+import test.algorithms.generic.AAlgorithmTest;
+
+/**
+ * Test class for the greedy best fit algorithm implementation.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class GreedyBestFitAlgorithmTest extends AAlgorithmTest {
+
+	@Override
+	public void initAlgo(final SubstrateNetwork sNet, final Set<VirtualNetwork> vNets) {
+		algo = new GreedyBestFitAlgorithm(facade);
+		algo.prepare(sNet, vNets);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		ModelFacadeConfig.IGNORE_BW = false;
+	}
+
+	/*
+	 * Positive tests.
+	 */
+
+	@Test
+	public void testBestFitServer() {
+		oneTierSetupTwoServers("virt", 1, 1, 1, 1);
+		oneTierSetupTwoServers("sub", 4, 2, 10, 10);
+		facade.createAllPathsForNetwork("sub");
+
+		final SubstrateNetwork sNet = (SubstrateNetwork) facade.getNetworkById("sub");
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+
+		initAlgo(sNet, Set.of(vNet));
+		assertTrue(algo.execute());
+
+		// Both virtual servers fit onto the smaller substrate server 2
+		for (final Node n : facade.getAllServersOfNetwork("virt")) {
+			assertEquals("sub_srv2", ((VirtualServer) n).getHost().getName());
+		}
+
+		// The virtual switch must be placed next to its neighbors
+		for (final Node n : facade.getAllSwitchesOfNetwork("virt")) {
+			assertEquals("sub_srv2", ((VirtualSwitch) n).getHost().getName());
+		}
+
+		for (final Link l : facade.getAllLinksOfNetwork("virt")) {
+			assertEquals("sub_srv2", ((VirtualLink) l).getHost().getName());
+		}
+	}
+
+	@Test
+	public void testDecreasingOrder() {
+		oneTierSetupTwoServers("virt", 1, 3, 1, 1);
+		oneTierSetupTwoServers("sub", 3, 1, 10, 10);
+		facade.createAllPathsForNetwork("sub");
+
+		final SubstrateNetwork sNet = (SubstrateNetwork) facade.getNetworkById("sub");
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+
+		initAlgo(sNet, Set.of(vNet));
+		assertTrue(algo.execute());
+
+		// The larger virtual server must be placed first (onto the only fitting server)
+		assertEquals("sub_srv1", ((VirtualServer) facade.getServerById("virt_srv2")).getHost().getName());
+		assertEquals("sub_srv2", ((VirtualServer) facade.getServerById("virt_srv1")).getHost().getName());
+		checkAllElementsEmbeddedOnSubstrateNetwork(sNet, Set.of(vNet));
+	}
+
+	@Test
+	public void testLinksOnPaths() {
+		oneTierSetupTwoServers("virt", 1, 1, 1, 1);
+		oneTierSetupTwoServers("sub", 1, 1, 1, 1);
+		facade.createAllPathsForNetwork("sub");
+
+		final SubstrateNetwork sNet = (SubstrateNetwork) facade.getNetworkById("sub");
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+
+		initAlgo(sNet, Set.of(vNet));
+		assertTrue(algo.execute());
+
+		final VirtualServer vSrv1 = (VirtualServer) facade.getServerById("virt_srv1");
+		final VirtualServer vSrv2 = (VirtualServer) facade.getServerById("virt_srv2");
+		assertNotEquals(vSrv1.getHost(), vSrv2.getHost());
+
+		// The virtual switch is placed onto one of the servers, hence, one link per
+		// direction is embedded onto a server and the other one onto a path
+		final VirtualSwitch vSw = (VirtualSwitch) facade.getSwitchById("virt_sw");
+		assertInstanceOf(SubstrateServer.class, vSw.getHost());
+
+		int pathLinks = 0;
+		for (final Link l : facade.getAllLinksOfNetwork("virt")) {
+			if (((VirtualLink) l).getHost() instanceof SubstratePath) {
+				pathLinks++;
+			}
+		}
+		assertEquals(2, pathLinks);
+		checkAllElementsEmbeddedOnSubstrateNetwork(sNet, Set.of(vNet));
+	}
+
+	@Test
+	public void testConnectedSwitches() {
+		oneTierSetupTwoServers("sub", 1, 1, 10, 10);
+		facade.createAllPathsForNetwork("sub");
+
+		// Virtual switch 1 is only connected to its server via an incoming link
+		facade.addSwitchToNetwork("virt_sw1", "virt", 0);
+		facade.addSwitchToNetwork("virt_sw2", "virt", 0);
+		facade.addServerToNetwork("virt_srv1", "virt", 1, 1, 1, 1);
+		facade.addServerToNetwork("virt_srv2", "virt", 1, 1, 1, 1);
+		facade.addLinkToNetwork("virt_ln1", "virt", 1, "virt_srv1", "virt_sw1");
+		facade.addLinkToNetwork("virt_ln2", "virt", 1, "virt_sw1", "virt_sw2");
+		facade.addLinkToNetwork("virt_ln3", "virt", 1, "virt_sw2", "virt_sw1");
+		facade.addLinkToNetwork("virt_ln4", "virt", 1, "virt_srv2", "virt_sw2");
+		facade.addLinkToNetwork("virt_ln5", "virt", 1, "virt_sw2", "virt_srv2");
+
+		final SubstrateNetwork sNet = (SubstrateNetwork) facade.getNetworkById("sub");
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+
+		initAlgo(sNet, Set.of(vNet));
+		assertTrue(algo.execute());
+
+		// Switch 1 must be placed next to its server and not onto the substrate switch
+		final VirtualServer vSrv1 = (VirtualServer) facade.getServerById("virt_srv1");
+		assertEquals(vSrv1.getHost(), ((VirtualSwitch) facade.getSwitchById("virt_sw1")).getHost());
+		checkAllElementsEmbeddedOnSubstrateNetwork(sNet, Set.of(vNet));
+	}
+
+	/*
+	 * Negative tests.
+	 */
+
+	@Test
+	public void testNoEmbeddingWithSplittedVm() {
+		oneTierSetupTwoServers("virt", 2, 2, 1, 1);
+		oneTierSetupTwoServers("sub", 1, 1, 10, 10);
+		facade.createAllPathsForNetwork("sub");
+
+		final SubstrateNetwork sNet = (SubstrateNetwork) facade.getNetworkById("sub");
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+
+		initAlgo(sNet, Set.of(vNet));
+		assertFalse(algo.execute());
+		assertNull(vNet.getHost());
+	}
+
+	@Test
+	public void testNoEmbeddingWithInsufficientBandwidth() {
+		oneTierSetupTwoServers("virt", 1, 1, 2, 2);
+		oneTierSetupTwoServers("sub", 1, 1, 1, 1);
+		facade.createAllPathsForNetwork("sub");
+
+		final SubstrateNetwork sNet = (SubstrateNetwork) facade.getNetworkById("sub");
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+
+		initAlgo(sNet, Set.of(vNet));
+		assertFalse(algo.execute());
+		assertNull(vNet.getHost());
+
+		// All partial embeddings must be removed
+		for (final Node n : facade.getAllServersOfNetwork("sub")) {
+			final SubstrateServer ssrv = (SubstrateServer) n;
+			assertEquals(ssrv.getCpu(), ssrv.getResidualCpu());
+			assertTrue(ssrv.getGuestServers().isEmpty());
+		}
+	}
+
+	/*
+	 * Utility methods.
+	 */
+
+	/**
+	 * Creates a one tier network with two servers and one switch.
+	 *
+	 * @param networkId Network id.
+	 * @param slots1    Number of CPU, memory and storage resources of server 1.
+	 * @param slots2    Number of CPU, memory and storage resources of server 2.
+	 * @param bw1       Bandwidth of the links of server 1.
+	 * @param bw2       Bandwidth of the links of server 2.
+	 */
+	private void oneTierSetupTwoServers(final String networkId, final int slots1, final int slots2, final int bw1,
+			final int bw2) {
+		facade.addSwitchToNetwork(networkId + "_sw", networkId, 0);
+		facade.addServerToNetwork(networkId + "_srv1", networkId, slots1, slots1, slots1, 1);
+		facade.addServerToNetwork(networkId + "_srv2", networkId, slots2, slots2, slots2, 1);
+		facade.addLinkToNetwork(networkId + "_ln1", networkId, bw1, networkId + "_srv1", networkId + "_sw");
+		facade.addLinkToNetwork(networkId + "_ln2", networkId, bw2, networkId + "_srv2", networkId + "_sw");
+		facade.addLinkToNetwork(networkId + "_ln3", networkId, bw1, networkId + "_sw", networkId + "_srv1");
+		facade.addLinkToNetwork(networkId + "_ln4", networkId, bw2, networkId + "_sw", networkId + "_srv2");
+	}
+
+}
@@ -12,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import algorithms.AlgorithmConfig;
 import algorithms.AlgorithmConfig.Objective;
 import algorithms.pm.VnePmMdvneAlgorithm;
+import generators.OneTierNetworkGenerator;
+import generators.config.OneTierConfig;
 import model.SubstrateNetwork;
 import model.SubstratePath;
 import model.VirtualLink;
@@ -116,4 +118,28 @@ public class VnePmMdvneAlgorithmTotalCommunicationCostATest extends AAlgorithmMu
 		assertEquals(serverHost3, pLn6.getTarget().getName());
 	}
 
+	/**
+	 * If the model contains more than one substrate network (e.g., one per shard),
+	 * the algorithm must only use the elements of its own substrate network.
+	 */
+	@Test
+	public void testTwoSubstrateNetworks() {
+		final OneTierNetworkGenerator subGen = new OneTierNetworkGenerator(
+				new OneTierConfig(2, 1, false, 10, 10, 10, 10));
+		subGen.createNetwork("sub1", false);
+		subGen.createNetwork("sub2", false);
+		new OneTierNetworkGenerator(new OneTierConfig(2, 1, false, 1, 1, 1, 1)).createNetwork("virt", true);
+
+		final SubstrateNetwork sNet1 = (SubstrateNetwork) facade.getNetworkById("sub1");
+		final SubstrateNetwork sNet2 = (SubstrateNetwork) facade.getNetworkById("sub2");
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+
+		initAlgo(sNet2, Set.of(vNet));
+		assertTrue(algo.execute());
+
+		assertTrue(sNet1.getGuests().isEmpty());
+		checkAllElementsEmbeddedOnSubstrateNetwork(sNet2, Set.of(vNet));
+		facade.validateModel();
+	}
+
 }
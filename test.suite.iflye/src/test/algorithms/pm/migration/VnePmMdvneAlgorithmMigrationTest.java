@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import algorithms.AlgorithmConfig;
 import algorithms.AlgorithmConfig.Objective;
+import algorithms.SubstrateResourceIndex;
 import algorithms.pm.VnePmMdvneAlgorithm;
 import algorithms.pm.VnePmMdvneAlgorithmMigration;
 import facade.ModelFacade;
@@ -89,13 +90,15 @@ public class VnePmMdvneAlgorithmMigrationTest extends AAlgorithmTest {
 		createSmallVirtualNetworkAndEmbedItOn("vnet6", "sub_srv_2");
 
 		/*
-		 * Last virtual network (that must trigger the updates)
+		 * Last virtual network (that must trigger the updates). None of its virtual
+		 * servers fits onto any substrate server before the migration.
 		 */
 		final OneTierConfig virtualConfig = new OneTierConfig(2, 1, false, 3, 3, 3, 1);
 		final OneTierNetworkGenerator virtGen = new OneTierNetworkGenerator(virtualConfig);
 		virtGen.createNetwork("virt7", true);
 		final SubstrateNetwork sNet = (SubstrateNetwork) ModelFacade.getInstance().getNetworkById("sub");
 		final VirtualNetwork vNet = (VirtualNetwork) ModelFacade.getInstance().getNetworkById("virt7");
+		assertFalse(SubstrateResourceIndex.of(sNet).mayHost(vNet));
 		initAlgo(sNet, Set.of(vNet));
 		assertTrue(algo.execute());
 
@@ -132,6 +135,34 @@ public class VnePmMdvneAlgorithmMigrationTest extends AAlgorithmTest {
 		facade.validateModel();
 	}
 
+	@Test
+	public void testUpdateWithIgnoredNetworkInBatch() {
+		createSmallScenario();
+
+		/*
+		 * Fourth virtual network (that must trigger the updates) and a fifth one that
+		 * is screened out before the pattern matching
+		 */
+		final OneTierNetworkGenerator virtGen = new OneTierNetworkGenerator(
+				new OneTierConfig(2, 1, false, 3, 3, 3, 1));
+		virtGen.createNetwork("virt4", true);
+		final OneTierNetworkGenerator hugeGen = new OneTierNetworkGenerator(
+				new OneTierConfig(2, 1, false, 100, 100, 100, 1));
+		hugeGen.createNetwork("huge", true);
+
+		final SubstrateNetwork sNet = (SubstrateNetwork) ModelFacade.getInstance().getNetworkById("sub");
+		final VirtualNetwork vNet = (VirtualNetwork) ModelFacade.getInstance().getNetworkById("virt4");
+		final VirtualNetwork huge = (VirtualNetwork) ModelFacade.getInstance().getNetworkById("huge");
+		initAlgo(sNet, Set.of(vNet, huge));
+		assertFalse(algo.execute());
+
+		// The fourth virtual network must be embedded after the migration
+		assertEquals(3, sNet.getGuests().size());
+		assertTrue(sNet.getGuests().contains(vNet));
+		assertFalse(sNet.getGuests().contains(huge));
+		facade.validateModel();
+	}
+
 	/*
 	 * Negative tests.
 	 */
@@ -0,0 +1,72 @@
+package test.algorithms.pm.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import algorithms.AlgorithmConfig;
+import algorithms.AlgorithmConfig.Objective;
+import algorithms.pm.VnePmMdvneAlgorithmPipelineThreeStagesA;
+import generators.OneTierNetworkGenerator;
+import generators.TwoTierNetworkGenerator;
+import generators.config.OneTierConfig;
+import generators.config.TwoTierConfig;
+import model.SubstrateNetwork;
+import model.VirtualNetwork;
+import test.algorithms.pm.VnePmMdvneAlgorithmTotalCommunicationCostATest;
+
+/**
+ * Test class for the VNE PM MdVNE algorithm implementation for minimizing the
+ * total communication cost metric A including the speculative (parallel)
+ * pipeline functionality. The results must equal the ones of the sequential
+ * pipeline.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class VnePmMdvneAlgorithmPipelineThreeStagesASpeculativeTotalCommunicationCostATest
+		extends VnePmMdvneAlgorithmTotalCommunicationCostATest {
+
+	@Override
+	public void initAlgo(final SubstrateNetwork sNet, final Set<VirtualNetwork> vNets) {
+		AlgorithmConfig.obj = Objective.TOTAL_COMMUNICATION_COST_A;
+		AlgorithmConfig.pipelineSpeculative = true;
+		algo = new VnePmMdvneAlgorithmPipelineThreeStagesA();
+		algo.prepare(sNet, vNets);
+	}
+
+	@AfterEach
+	public void resetSpeculative() {
+		AlgorithmConfig.pipelineSpeculative = false;
+	}
+
+	/**
+	 * If no stage embeds the whole batch, the accepted subset of the last stage
+	 * must be committed (like in the sequential pipeline).
+	 */
+	@Test
+	public void testBatchWithRejectedNetwork() {
+		// Two racks with two servers each, every server can host one virtual network
+		new TwoTierNetworkGenerator(new TwoTierConfig()).createNetwork("sub", false);
+		final OneTierNetworkGenerator virtGen = new OneTierNetworkGenerator(
+				new OneTierConfig(1, 1, false, 10, 10, 10, 1));
+		final Set<VirtualNetwork> vNets = new HashSet<>();
+		for (int i = 0; i < 5; i++) {
+			virtGen.createNetwork("virt" + i, true);
+			vNets.add((VirtualNetwork) facade.getNetworkById("virt" + i));
+		}
+
+		final SubstrateNetwork sNet = (SubstrateNetwork) facade.getNetworkById("sub");
+		initAlgo(sNet, vNets);
+		assertFalse(algo.execute());
+
+		// Four of the five virtual networks must be embedded
+		assertEquals(4, sNet.getGuests().size());
+		facade.validateModel();
+	}
+
+}
@@ -0,0 +1,67 @@
+package test.algorithms.pm.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import algorithms.AlgorithmConfig;
+import algorithms.AlgorithmConfig.Objective;
+import algorithms.pm.VnePmMdvneAlgorithmPipelineTwoStagesRackA;
+import model.SubstrateNetwork;
+import model.VirtualNetwork;
+import test.algorithms.pm.VnePmMdvneAlgorithmTotalCommunicationCostATest;
+
+/**
+ * Test class for the VNE PM MdVNE algorithm implementation for minimizing the
+ * total communication cost metric A including the pipeline functionality with
+ * one ILP problem per rack (rack decomposition). The results must equal the
+ * ones of the global ILP problem.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class VnePmMdvneAlgorithmPipelineTwoStagesRackARackDecompositionTotalCommunicationCostATest
+		extends VnePmMdvneAlgorithmTotalCommunicationCostATest {
+
+	@Override
+	public void initAlgo(final SubstrateNetwork sNet, final Set<VirtualNetwork> vNets) {
+		AlgorithmConfig.obj = Objective.TOTAL_COMMUNICATION_COST_A;
+		AlgorithmConfig.pmRackDecomposition = true;
+		algo = new VnePmMdvneAlgorithmPipelineTwoStagesRackA();
+		algo.prepare(sNet, vNets);
+	}
+
+	@AfterEach
+	public void resetRackDecomposition() {
+		AlgorithmConfig.pmRackDecomposition = false;
+		AlgorithmConfig.pipelineSpeculative = false;
+	}
+
+	/**
+	 * The rack decomposition is not part of the speculative execution, hence, the
+	 * pipeline must fall back to the sequential execution.
+	 */
+	@Test
+	public void testNoSpeculativeExecution() {
+		AlgorithmConfig.pmRackDecomposition = true;
+		AlgorithmConfig.pipelineSpeculative = true;
+		assertFalse(new VnePmMdvneAlgorithmPipelineTwoStagesRackA().canExecuteSpeculatively());
+
+		AlgorithmConfig.pmRackDecomposition = false;
+		assertTrue(new VnePmMdvneAlgorithmPipelineTwoStagesRackA().canExecuteSpeculatively());
+	}
+
+	@Override
+	@Disabled
+	@Test
+	public void testAllOnOneServer() {
+		// This test is disabled, because the pipeline stage rack A can not embed a
+		// virtual network onto
+		// a substrate server only (desired behavior).
+	}
+
+}
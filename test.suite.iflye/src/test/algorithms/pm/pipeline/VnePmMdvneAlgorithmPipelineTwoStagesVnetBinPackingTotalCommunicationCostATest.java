@@ -0,0 +1,57 @@
+package test.algorithms.pm.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import algorithms.AlgorithmConfig;
+import algorithms.AlgorithmConfig.Objective;
+import algorithms.pm.VnePmMdvneAlgorithmPipelineTwoStagesVnet;
+import model.SubstrateNetwork;
+import model.VirtualNetwork;
+import test.algorithms.pm.VnePmMdvneAlgorithmTotalCommunicationCostATest;
+
+/**
+ * Test class for the VNE PM MdVNE algorithm implementation for minimizing the
+ * total communication cost metric A including the pipeline functionality with
+ * the bin packer in the virtual network stage. The results must equal the ones
+ * of the ILP problem.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class VnePmMdvneAlgorithmPipelineTwoStagesVnetBinPackingTotalCommunicationCostATest
+		extends VnePmMdvneAlgorithmTotalCommunicationCostATest {
+
+	@Override
+	public void initAlgo(final SubstrateNetwork sNet, final Set<VirtualNetwork> vNets) {
+		AlgorithmConfig.obj = Objective.TOTAL_COMMUNICATION_COST_A;
+		AlgorithmConfig.pmVnetBinPacking = true;
+		algo = new VnePmMdvneAlgorithmPipelineTwoStagesVnet();
+		algo.prepare(sNet, vNets);
+	}
+
+	@AfterEach
+	public void resetBinPacking() {
+		AlgorithmConfig.pmVnetBinPacking = false;
+		AlgorithmConfig.pipelineSpeculative = false;
+	}
+
+	/**
+	 * The bin packer is not part of the speculative execution, hence, the pipeline
+	 * must fall back to the sequential execution.
+	 */
+	@Test
+	public void testNoSpeculativeExecution() {
+		AlgorithmConfig.pmVnetBinPacking = true;
+		AlgorithmConfig.pipelineSpeculative = true;
+		assertFalse(new VnePmMdvneAlgorithmPipelineTwoStagesVnet().canExecuteSpeculatively());
+
+		AlgorithmConfig.pmVnetBinPacking = false;
+		assertTrue(new VnePmMdvneAlgorithmPipelineTwoStagesVnet().canExecuteSpeculatively());
+	}
+
+}
@@ -0,0 +1,151 @@
+package test.algorithms.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algorithms.AlgorithmConfig.Objective;
+import algorithms.CostTable;
+import algorithms.RunConfig;
+import facade.ModelFacade;
+import metrics.CostUtility;
+import model.Link;
+import model.Node;
+import model.SubstrateElement;
+import model.SubstrateNetwork;
+import model.SubstrateNode;
+import model.VirtualLink;
+import model.VirtualNode;
+
+/**
+ * Test class for the per-solve cost table.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class CostTableTest {
+
+	/**
+	 * ModelFacade instance.
+	 */
+	private final ModelFacade facade = ModelFacade.getInstance();
+
+	@BeforeEach
+	public void resetModel() {
+		facade.resetAll();
+
+		facade.addNetworkToRoot("sub", false);
+		facade.addServerToNetwork("srv1", "sub", 4, 4, 4, 1);
+		facade.addServerToNetwork("srv2", "sub", 8, 8, 8, 1);
+		facade.addSwitchToNetwork("sw", "sub", 0);
+		facade.addLinkToNetwork("l1", "sub", 10, "srv1", "sw");
+		facade.addLinkToNetwork("l2", "sub", 10, "sw", "srv1");
+		facade.addLinkToNetwork("l3", "sub", 10, "srv2", "sw");
+		facade.addLinkToNetwork("l4", "sub", 10, "sw", "srv2");
+		facade.createAllPathsForNetwork("sub");
+
+		facade.addNetworkToRoot("virt", true);
+		facade.addServerToNetwork("vsrv1", "virt", 1, 1, 1, 1);
+		facade.addServerToNetwork("vsrv2", "virt", 2, 2, 2, 1);
+		facade.addSwitchToNetwork("vsw", "virt", 0);
+		facade.addLinkToNetwork("vl1", "virt", 3, "vsrv1", "vsw");
+
+		// Occupy some resources of one substrate server
+		facade.embedNetworkToNetwork("sub", "virt");
+		facade.embedServerToServer("srv1", "vsrv2");
+	}
+
+	@Test
+	public void testNodeCostsEqualCostUtility() {
+		for (final Objective obj : List.of(Objective.TOTAL_PATH_COST, Objective.TOTAL_COMMUNICATION_COST_A,
+				Objective.TOTAL_COMMUNICATION_COST_B, Objective.TOTAL_COMMUNICATION_OBJECTIVE_C,
+				Objective.TOTAL_COMMUNICATION_OBJECTIVE_D)) {
+			final CostTable table = createTable(obj);
+
+			for (final Node v : facade.getNetworkById("virt").getNodess()) {
+				for (final Node s : getSnet().getNodess()) {
+					assertEquals(getNodeCost(obj, (VirtualNode) v, (SubstrateNode) s),
+							table.getNodeCost((VirtualNode) v, (SubstrateNode) s), obj + ": " + v.getName());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLinkCostsEqualCostUtility() {
+		final VirtualLink vl = (VirtualLink) facade.getLinkById("vl1");
+		final List<SubstrateElement> hosts = new ArrayList<>();
+		hosts.addAll(facade.getAllServersOfNetwork("sub"));
+		hosts.addAll(facade.getAllPathsOfNetwork("sub"));
+		assertFalse(facade.getAllPathsOfNetwork("sub").isEmpty());
+
+		for (final Objective obj : List.of(Objective.TOTAL_PATH_COST, Objective.TOTAL_COMMUNICATION_COST_A,
+				Objective.TOTAL_COMMUNICATION_COST_B, Objective.TOTAL_COMMUNICATION_OBJECTIVE_C,
+				Objective.TOTAL_COMMUNICATION_OBJECTIVE_D)) {
+			final CostTable table = createTable(obj);
+
+			for (final SubstrateElement host : hosts) {
+				assertEquals(getLinkCost(obj, vl, host), table.getLinkCost(vl, host), obj + ": " + host.getName());
+			}
+
+			// Substrate links are only valid hosts for the communication costs
+			if (obj != Objective.TOTAL_PATH_COST) {
+				for (final Link l : getSnet().getLinks()) {
+					assertEquals(getLinkCost(obj, vl, (SubstrateElement) l),
+							table.getLinkCost(vl, (SubstrateElement) l));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSnapshotOfResiduals() {
+		final VirtualNode vsrv = (VirtualNode) facade.getServerById("vsrv1");
+		final SubstrateNode ssrv = (SubstrateNode) facade.getServerById("srv2");
+		final CostTable table = createTable(Objective.TOTAL_COMMUNICATION_OBJECTIVE_C);
+		final double before = table.getNodeCost(vsrv, ssrv);
+
+		// The table keeps its values for the whole solve
+		facade.embedServerToServer("srv2", "vsrv1");
+		assertEquals(before, table.getNodeCost(vsrv, ssrv));
+		assertNotEquals(before, createTable(Objective.TOTAL_COMMUNICATION_OBJECTIVE_C).getNodeCost(vsrv, ssrv));
+	}
+
+	/*
+	 * Utility methods.
+	 */
+
+	private SubstrateNetwork getSnet() {
+		return (SubstrateNetwork) facade.getNetworkById("sub");
+	}
+
+	private CostTable createTable(final Objective obj) {
+		return CostTable.of(RunConfig.builder().objective(obj).build(), getSnet());
+	}
+
+	private double getNodeCost(final Objective obj, final VirtualNode virt, final SubstrateNode sub) {
+		return switch (obj) {
+		case TOTAL_PATH_COST -> CostUtility.getTotalPathCostNode(virt, sub);
+		case TOTAL_COMMUNICATION_COST_A, TOTAL_COMMUNICATION_COST_B -> CostUtility.getTotalCommunicationCostNodeAB();
+		case TOTAL_COMMUNICATION_OBJECTIVE_C -> CostUtility.getTotalCommunicationCostObjectiveNodeC(virt, sub);
+		case TOTAL_COMMUNICATION_OBJECTIVE_D -> CostUtility.getTotalCommunicationCostObjectiveNodeD(virt, sub);
+		default -> throw new UnsupportedOperationException();
+		};
+	}
+
+	private double getLinkCost(final Objective obj, final VirtualLink virt, final SubstrateElement sub) {
+		return switch (obj) {
+		case TOTAL_PATH_COST -> CostUtility.getTotalPathCostLink(sub);
+		case TOTAL_COMMUNICATION_COST_A -> CostUtility.getTotalCommunicationCostLinkA(virt, sub);
+		case TOTAL_COMMUNICATION_COST_B, TOTAL_COMMUNICATION_OBJECTIVE_C, TOTAL_COMMUNICATION_OBJECTIVE_D ->
+			CostUtility.getTotalCommunicationCostLinkBCD(virt, sub);
+		default -> throw new UnsupportedOperationException();
+		};
+	}
+
+}
@@ -0,0 +1,121 @@
+package test.algorithms.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algorithms.EmbeddingPlan;
+import algorithms.RunConfig;
+import facade.ModelFacade;
+import model.SubstrateNetwork;
+import model.SubstrateServer;
+import model.VirtualLink;
+import model.VirtualNetwork;
+import model.VirtualServer;
+
+/**
+ * Test class for the bulk embedding plan.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class EmbeddingPlanTest {
+
+	/**
+	 * ModelFacade instance.
+	 */
+	private final ModelFacade facade = ModelFacade.getInstance();
+
+	@BeforeEach
+	public void resetModel() {
+		facade.resetAll();
+		facade.addNetworkToRoot("sub", false);
+		facade.addNetworkToRoot("virt", true);
+		facade.addServerToNetwork("s1", "sub", 4, 4, 4, 0);
+		facade.addServerToNetwork("v1", "virt", 2, 2, 2, 0);
+		facade.addServerToNetwork("v2", "virt", 2, 2, 2, 0);
+		facade.addServerToNetwork("v3", "virt", 1, 1, 1, 0);
+		facade.addLinkToNetwork("vl1", "virt", 1, "v1", "v2");
+	}
+
+	@Test
+	public void testAggregatedValidation() {
+		final EmbeddingPlan.Builder builder = EmbeddingPlan.builder(RunConfig.global());
+		builder.add(getVnet(), getSnet());
+		builder.add(getVsrv("v1"), getSsrv());
+		assertTrue(builder.fits(getVsrv("v2"), getSsrv()));
+		builder.add(getVsrv("v2"), getSsrv());
+
+		// The substrate server is full now
+		assertFalse(builder.fits(getVsrv("v3"), getSsrv()));
+		assertTrue(builder.build().isValid());
+
+		builder.add(getVsrv("v3"), getSsrv());
+		final EmbeddingPlan plan = builder.build();
+		assertFalse(plan.isValid());
+		assertThrows(IllegalStateException.class, () -> plan.apply(facade));
+
+		// Nothing was embedded
+		assertNull(getVnet().getHost());
+		assertNull(getVsrv("v1").getHost());
+	}
+
+	@Test
+	public void testApply() {
+		final EmbeddingPlan plan = EmbeddingPlan.builder(RunConfig.global()) //
+				.add(getVnet(), getSnet()) //
+				.add(getVsrv("v1"), getSsrv()) //
+				.add(getVsrv("v2"), getSsrv()) //
+				.add((VirtualLink) facade.getLinkById("vl1"), getSsrv()) //
+				.build();
+
+		assertEquals(4, plan.getAssignments().size());
+		assertEquals(Set.of(getSsrv()), plan.getServers());
+		assertTrue(plan.apply(facade));
+
+		assertEquals(getSnet(), getVnet().getHost());
+		assertEquals(getSsrv(), getVsrv("v1").getHost());
+		assertEquals(getSsrv(), getVsrv("v2").getHost());
+		assertEquals(getSsrv(), ((VirtualLink) facade.getLinkById("vl1")).getHost());
+		assertEquals(0, getSsrv().getResidualCpu());
+	}
+
+	@Test
+	public void testImmutable() {
+		final EmbeddingPlan.Builder builder = EmbeddingPlan.builder(RunConfig.global());
+		builder.add(getVsrv("v1"), getSsrv());
+		final EmbeddingPlan plan = builder.build();
+
+		// Changing the builder afterwards does not change the plan
+		builder.add(getVsrv("v2"), getSsrv());
+		assertEquals(1, plan.getAssignments().size());
+		assertThrows(UnsupportedOperationException.class, () -> plan.getAssignments().clear());
+	}
+
+	/*
+	 * Utility methods.
+	 */
+
+	private SubstrateNetwork getSnet() {
+		return (SubstrateNetwork) facade.getNetworkById("sub");
+	}
+
+	private VirtualNetwork getVnet() {
+		return (VirtualNetwork) facade.getNetworkById("virt");
+	}
+
+	private SubstrateServer getSsrv() {
+		return (SubstrateServer) facade.getServerById("s1");
+	}
+
+	private VirtualServer getVsrv(final String id) {
+		return (VirtualServer) facade.getServerById(id);
+	}
+
+}
@@ -0,0 +1,161 @@
+package test.algorithms.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algorithms.InfeasibilityScreening;
+import algorithms.RunConfig;
+import facade.ModelFacade;
+import model.SubstrateNetwork;
+import model.VirtualNetwork;
+
+/**
+ * Test class for the screening of virtual networks that can not be embedded at
+ * all.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class InfeasibilityScreeningTest {
+
+	/**
+	 * ModelFacade instance.
+	 */
+	private final ModelFacade facade = ModelFacade.getInstance();
+
+	/**
+	 * Configuration of the screening.
+	 */
+	private RunConfig config;
+
+	@BeforeEach
+	public void resetModel() {
+		facade.resetAll();
+		facade.addNetworkToRoot("sub", false);
+		facade.addNetworkToRoot("virt", true);
+		config = RunConfig.builder().ignoreBw(false).build();
+	}
+
+	@Test
+	public void testFittingNetwork() {
+		substrateSetup(10);
+		virtualSetup(3, 1, 2);
+		assertFalse(screen());
+	}
+
+	@Test
+	public void testServerTooLarge() {
+		substrateSetup(10);
+		virtualSetup(1, 2, 1);
+		assertTrue(screen());
+	}
+
+	@Test
+	public void testLinkBandwidthTooLarge() {
+		substrateSetup(10);
+		virtualSetup(2, 1, 11);
+		assertTrue(screen());
+	}
+
+	@Test
+	public void testLinkBandwidthTooLargeOneServer() {
+		// All heavy virtual links may be embedded onto one substrate server
+		substrateSetup(10);
+		facade.addServerToNetwork("sub_srv5", "sub", 2, 2, 2, 2);
+		facade.addLinkToNetwork("sub_ln13", "sub", 1, "sub_srv5", "sub_rsw2");
+		facade.addLinkToNetwork("sub_ln14", "sub", 1, "sub_rsw2", "sub_srv5");
+		virtualSetup(2, 1, 11);
+		assertFalse(screen());
+	}
+
+	@Test
+	public void testRackCutTooSmall() {
+		substrateSetup(1);
+		virtualSetup(3, 1, 2);
+		assertTrue(screen());
+	}
+
+	@Test
+	public void testRackCutTooSmallIgnoreBw() {
+		config = config.toBuilder().ignoreBw(true).build();
+		substrateSetup(1);
+		virtualSetup(3, 1, 2);
+		assertFalse(screen());
+	}
+
+	@Test
+	public void testRackCutTooSmallOneRack() {
+		// The virtual network fits into one rack, so the cut is not relevant
+		substrateSetup(1);
+		virtualSetup(2, 1, 2);
+		assertFalse(screen());
+	}
+
+	@Test
+	public void testScreenFillsIgnoredSet() {
+		substrateSetup(10);
+		virtualSetup(1, 2, 1);
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+		final Set<VirtualNetwork> ignored = new HashSet<>();
+		InfeasibilityScreening.screen(config, (SubstrateNetwork) facade.getNetworkById("sub"), List.of(vNet), ignored);
+		assertEquals(Set.of(vNet), ignored);
+	}
+
+	/*
+	 * Utility methods.
+	 */
+
+	private boolean screen() {
+		final SubstrateNetwork sNet = (SubstrateNetwork) facade.getNetworkById("sub");
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+		return InfeasibilityScreening.of(config, sNet).isHopeless(vNet);
+	}
+
+	/**
+	 * Creates a two tier substrate network with two racks, two servers per rack
+	 * (one resource slot each) and server links with a bandwidth of 10.
+	 *
+	 * @param uplinkBw Bandwidth of the links between rack and core switch.
+	 */
+	private void substrateSetup(final int uplinkBw) {
+		facade.addSwitchToNetwork("sub_csw1", "sub", 0);
+		facade.addSwitchToNetwork("sub_rsw1", "sub", 1);
+		facade.addSwitchToNetwork("sub_rsw2", "sub", 1);
+
+		for (int i = 1; i <= 4; i++) {
+			final String rsw = i <= 2 ? "sub_rsw1" : "sub_rsw2";
+			facade.addServerToNetwork("sub_srv" + i, "sub", 1, 1, 1, 2);
+			facade.addLinkToNetwork("sub_ln" + (2 * i - 1), "sub", 10, "sub_srv" + i, rsw);
+			facade.addLinkToNetwork("sub_ln" + (2 * i), "sub", 10, rsw, "sub_srv" + i);
+		}
+
+		facade.addLinkToNetwork("sub_ln9", "sub", uplinkBw, "sub_rsw1", "sub_csw1");
+		facade.addLinkToNetwork("sub_ln10", "sub", uplinkBw, "sub_rsw2", "sub_csw1");
+		facade.addLinkToNetwork("sub_ln11", "sub", uplinkBw, "sub_csw1", "sub_rsw1");
+		facade.addLinkToNetwork("sub_ln12", "sub", uplinkBw, "sub_csw1", "sub_rsw2");
+	}
+
+	/**
+	 * Creates a virtual star network.
+	 *
+	 * @param servers Number of virtual servers.
+	 * @param slots   Resources per virtual server.
+	 * @param bw      Bandwidth per virtual link.
+	 */
+	private void virtualSetup(final int servers, final int slots, final int bw) {
+		facade.addSwitchToNetwork("virt_sw", "virt", 0);
+		for (int i = 1; i <= servers; i++) {
+			facade.addServerToNetwork("virt_srv" + i, "virt", slots, slots, slots, 1);
+			facade.addLinkToNetwork("virt_ln" + (2 * i - 1), "virt", bw, "virt_srv" + i, "virt_sw");
+			facade.addLinkToNetwork("virt_ln" + (2 * i), "virt", bw, "virt_sw", "virt_srv" + i);
+		}
+	}
+
+}
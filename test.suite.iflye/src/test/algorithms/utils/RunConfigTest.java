@@ -0,0 +1,132 @@
+package test.algorithms.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algorithms.AlgorithmConfig;
+import algorithms.AlgorithmConfig.Embedding;
+import algorithms.AlgorithmConfig.Objective;
+import algorithms.RunConfig;
+import algorithms.simple.SimpleVne;
+import facade.ModelFacade;
+import ilp.wrapper.config.IlpSolverConfig;
+import model.SubstrateNetwork;
+import model.VirtualNetwork;
+
+/**
+ * Test class for the immutable per-run configuration.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class RunConfigTest {
+
+	/**
+	 * ModelFacade instance.
+	 */
+	private final ModelFacade facade = ModelFacade.getInstance();
+
+	/**
+	 * Old objective value.
+	 */
+	private Objective oldObj;
+
+	/**
+	 * Old objective scaling factor.
+	 */
+	private double oldObjScale;
+
+	@BeforeEach
+	public void resetModel() {
+		oldObj = AlgorithmConfig.obj;
+		oldObjScale = IlpSolverConfig.OBJ_SCALE;
+		facade.resetAll();
+
+		facade.addNetworkToRoot("sub", false);
+		facade.addServerToNetwork("srv1", "sub", 4, 4, 4, 1);
+		facade.addNetworkToRoot("virt", true);
+		facade.addServerToNetwork("vsrv1", "virt", 1, 1, 1, 1);
+	}
+
+	@AfterEach
+	public void restoreConfig() {
+		AlgorithmConfig.obj = oldObj;
+		IlpSolverConfig.OBJ_SCALE = oldObjScale;
+	}
+
+	@Test
+	public void testSnapshotIsIndependentOfGlobals() {
+		AlgorithmConfig.obj = Objective.TOTAL_PATH_COST;
+		final RunConfig config = RunConfig.global();
+
+		AlgorithmConfig.obj = Objective.TOTAL_COMMUNICATION_COST_A;
+		assertEquals(Objective.TOTAL_PATH_COST, config.getObjective());
+		assertEquals(Objective.TOTAL_COMMUNICATION_COST_A, RunConfig.global().getObjective());
+	}
+
+	@Test
+	public void testToBuilderOverridesGivenValuesOnly() {
+		final RunConfig config = RunConfig.builder() //
+				.objective(Objective.TOTAL_COMMUNICATION_COST_B) //
+				.embedding(Embedding.MANUAL) //
+				.pmNoMigrations(3) //
+				.build();
+		final RunConfig other = config.toBuilder().objective(Objective.TOTAL_PATH_COST).build();
+
+		assertEquals(Objective.TOTAL_COMMUNICATION_COST_B, config.getObjective());
+		assertEquals(Objective.TOTAL_PATH_COST, other.getObjective());
+		assertEquals(Embedding.MANUAL, other.getEmbedding());
+		assertEquals(3, other.getPmNoMigrations());
+	}
+
+	@Test
+	public void testTransformObj() {
+		IlpSolverConfig.OBJ_SCALE = 1;
+		final RunConfig linear = RunConfig.builder().objScale(2).objLog(false).build();
+		final RunConfig log = RunConfig.builder().objScale(2).objLog(true).build();
+
+		assertEquals(10, linear.transformObj(5));
+		assertEquals(4, log.transformObj(99));
+		assertEquals(5, RunConfig.global().transformObj(5));
+	}
+
+	@Test
+	public void testPrepareTakesSnapshot() {
+		final SimpleVne algo = new SimpleVne(facade);
+
+		AlgorithmConfig.obj = Objective.TOTAL_PATH_COST;
+		algo.prepare(getSnet(), Set.of(getVnet()));
+		assertEquals(Objective.TOTAL_PATH_COST, algo.getRunConfig().getObjective());
+
+		AlgorithmConfig.obj = Objective.TOTAL_COMMUNICATION_COST_A;
+		assertEquals(Objective.TOTAL_PATH_COST, algo.getRunConfig().getObjective());
+		algo.prepare(getSnet(), Set.of(getVnet()));
+		assertEquals(Objective.TOTAL_COMMUNICATION_COST_A, algo.getRunConfig().getObjective());
+	}
+
+	@Test
+	public void testInjectedConfigSurvivesPrepare() {
+		final RunConfig config = RunConfig.builder().objective(Objective.TOTAL_COMMUNICATION_COST_B).build();
+		final SimpleVne algo = new SimpleVne(facade);
+		algo.setRunConfig(config);
+
+		AlgorithmConfig.obj = Objective.TOTAL_PATH_COST;
+		algo.prepare(getSnet(), Set.of(getVnet()));
+		assertSame(config, algo.getRunConfig());
+		assertEquals(Objective.TOTAL_COMMUNICATION_COST_B, algo.getRunConfig().getObjective());
+	}
+
+	private SubstrateNetwork getSnet() {
+		return (SubstrateNetwork) facade.getNetworkById("sub");
+	}
+
+	private VirtualNetwork getVnet() {
+		return (VirtualNetwork) facade.getNetworkById("virt");
+	}
+
+}
@@ -0,0 +1,99 @@
+package test.algorithms.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algorithms.RunConfig;
+import algorithms.SubstratePathCache;
+import facade.ModelFacade;
+import model.SubstrateNetwork;
+import model.SubstrateNode;
+import model.SubstratePath;
+
+/**
+ * Test class for the bounded cache of substrate path lookups.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class SubstratePathCacheTest {
+
+	/**
+	 * ModelFacade instance.
+	 */
+	private final ModelFacade facade = ModelFacade.getInstance();
+
+	/**
+	 * Configuration with the default path cache size.
+	 */
+	private final RunConfig config = RunConfig.global();
+
+	@BeforeEach
+	public void resetModel() {
+		facade.resetAll();
+
+		facade.addNetworkToRoot("sub", false);
+		facade.addSwitchToNetwork("sw", "sub", 0);
+		for (int i = 1; i <= 3; i++) {
+			facade.addServerToNetwork("s" + i, "sub", 4, 4, 4, 1);
+			facade.addLinkToNetwork("ls" + i, "sub", 10, "s" + i, "sw");
+			facade.addLinkToNetwork("ld" + i, "sub", 10, "sw", "s" + i);
+		}
+		facade.createAllPathsForNetwork("sub");
+	}
+
+	@Test
+	public void testLookupIsCached() {
+		final SubstratePathCache cache = SubstratePathCache.of(config, facade, getSnet());
+		cache.clear();
+
+		final SubstratePath first = cache.get(node("s1"), node("s2"));
+		assertSame(facade.getPathFromSourceToTarget(node("s1"), node("s2")), first);
+		assertSame(first, cache.get(node("s1"), node("s2")));
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testSharedPerNetwork() {
+		assertSame(SubstratePathCache.of(config, facade, getSnet()), SubstratePathCache.of(config, facade, getSnet()));
+
+		final SubstratePathCache old = SubstratePathCache.of(config, facade, getSnet());
+		assertNotSame(old, SubstratePathCache.of(config.toBuilder().pathCacheSize(2).build(), facade, getSnet()));
+		resetModel();
+		assertNotSame(old, SubstratePathCache.of(config, facade, getSnet()));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+		final SubstratePathCache cache = SubstratePathCache.of(config.toBuilder().pathCacheSize(2).build(), facade,
+				getSnet());
+		cache.clear();
+
+		cache.get(node("s1"), node("s2"));
+		cache.get(node("s1"), node("s3"));
+		// Access the first entry again -> (s1, s3) is the least recently used one
+		cache.get(node("s1"), node("s2"));
+		cache.get(node("s2"), node("s3"));
+		assertEquals(2, cache.size());
+
+		final long misses = cache.getMisses();
+		cache.get(node("s1"), node("s2"));
+		assertEquals(misses, cache.getMisses());
+		cache.get(node("s1"), node("s3"));
+		assertEquals(misses + 1, cache.getMisses());
+	}
+
+	private SubstrateNetwork getSnet() {
+		return (SubstrateNetwork) facade.getNetworkById("sub");
+	}
+
+	private SubstrateNode node(final String id) {
+		return (SubstrateNode) facade.getServerById(id);
+	}
+
+}
@@ -0,0 +1,194 @@
+package test.algorithms.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import algorithms.SubstrateResourceIndex;
+import facade.ModelFacade;
+import model.SubstrateNetwork;
+import model.SubstrateServer;
+import model.VirtualNetwork;
+
+/**
+ * Test class for the shared index of residual substrate server resources.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class SubstrateResourceIndexTest {
+
+	/**
+	 * ModelFacade instance.
+	 */
+	private final ModelFacade facade = ModelFacade.getInstance();
+
+	@BeforeEach
+	public void resetModel() {
+		facade.resetAll();
+		facade.addNetworkToRoot("sub", false);
+		facade.addNetworkToRoot("virt", true);
+		facade.addServerToNetwork("s1", "sub", 4, 4, 4, 0);
+		facade.addServerToNetwork("s2", "sub", 8, 2, 8, 0);
+		facade.addServerToNetwork("s3", "sub", 2, 8, 2, 0);
+	}
+
+	@Test
+	public void testEmptyNetwork() {
+		facade.addNetworkToRoot("empty", false);
+		final SubstrateResourceIndex index = SubstrateResourceIndex
+				.of((SubstrateNetwork) facade.getNetworkById("empty"));
+		assertNull(index.getLargestResidualServer());
+		assertTrue(index.getServersThatFit(0, 0, 0).isEmpty());
+		assertFalse(index.anyServerFits(0, 0, 0));
+	}
+
+	@Test
+	public void testServersThatFit() {
+		final SubstrateResourceIndex index = SubstrateResourceIndex.of(getSnet());
+
+		assertEquals(List.of("s2", "s1", "s3"), names(index.getServersThatFit(1, 1, 1)));
+		assertEquals(List.of("s1"), names(index.getServersThatFit(3, 3, 3)));
+		assertEquals(List.of("s2"), names(index.getServersThatFit(5, 1, 5)));
+		assertEquals(List.of("s3"), names(index.getServersThatFit(1, 5, 1)));
+		assertTrue(index.getServersThatFit(5, 5, 5).isEmpty());
+		assertTrue(index.anyServerFits(2, 8, 2));
+		assertFalse(index.anyServerFits(9, 1, 1));
+	}
+
+	@Test
+	public void testLargestResidualServer() {
+		assertEquals("s2", SubstrateResourceIndex.of(getSnet()).getLargestResidualServer().getName());
+	}
+
+	@Test
+	public void testUpdateOnEmbedding() {
+		facade.addServerToNetwork("v1", "virt", 7, 1, 7, 0);
+		SubstrateResourceIndex.of(getSnet());
+
+		// Embed the whole virtual network -> the index picks up the new guest
+		facade.embedNetworkToNetwork("sub", "virt");
+		facade.embedServerToServer("s2", "v1");
+
+		final SubstrateResourceIndex index = SubstrateResourceIndex.of(getSnet());
+		assertEquals("s3", index.getLargestResidualServer().getName());
+		assertEquals(List.of("s1"), names(index.getServersThatFit(2, 2, 2)));
+	}
+
+	@Test
+	public void testUpdateOnUnembedding() {
+		facade.addServerToNetwork("v1", "virt", 7, 1, 7, 0);
+		facade.embedNetworkToNetwork("sub", "virt");
+		facade.embedServerToServer("s2", "v1");
+		assertEquals("s3", SubstrateResourceIndex.of(getSnet()).getLargestResidualServer().getName());
+
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+		facade.unembedVirtualNetwork(vNet);
+
+		assertEquals("s2", SubstrateResourceIndex.of(getSnet()).getLargestResidualServer().getName());
+	}
+
+	@Test
+	public void testUpdateWithoutLookup() {
+		final SubstrateResourceIndex index = SubstrateResourceIndex.of(getSnet());
+		facade.addServerToNetwork("v1", "virt", 7, 1, 7, 0);
+		facade.embedNetworkToNetwork("sub", "virt");
+		facade.embedServerToServer("s2", "v1");
+
+		// The index gets notified by the model, i.e., no new lookup is needed
+		assertEquals("s3", index.getLargestResidualServer().getName());
+	}
+
+	@Test
+	public void testUpdateOnReembedding() {
+		final SubstrateResourceIndex index = SubstrateResourceIndex.of(getSnet());
+		facade.addServerToNetwork("v1", "virt", 3, 1, 3, 0);
+		facade.embedNetworkToNetwork("sub", "virt");
+		facade.embedServerToServer("s2", "v1");
+		assertEquals(List.of("s2"), names(index.getServersThatFit(5, 1, 5)));
+
+		// Move the virtual server to another substrate server
+		facade.removeNetworkEmbedding("virt");
+		facade.embedNetworkToNetwork("sub", "virt");
+		facade.embedServerToServer("s1", "v1");
+		assertEquals(List.of("s2"), names(index.getServersThatFit(8, 1, 8)));
+		assertEquals(List.of("s2", "s3"), names(index.getServersThatFit(2, 1, 2)));
+	}
+
+	@Test
+	public void testTotalsAreUpdatedIncrementally() {
+		final SubstrateResourceIndex index = SubstrateResourceIndex.of(getSnet());
+		assertEquals(14, index.getTotalResidualCpu());
+		assertEquals(14, index.getTotalResidualMemory());
+		assertEquals(14, index.getTotalResidualStorage());
+
+		facade.addServerToNetwork("v1", "virt", 3, 2, 1, 0);
+		facade.embedNetworkToNetwork("sub", "virt");
+		facade.embedServerToServer("s1", "v1");
+
+		SubstrateResourceIndex.of(getSnet());
+		assertEquals(11, index.getTotalResidualCpu());
+		assertEquals(12, index.getTotalResidualMemory());
+		assertEquals(13, index.getTotalResidualStorage());
+	}
+
+	@Test
+	public void testMayHost() {
+		facade.addServerToNetwork("v1", "virt", 4, 4, 4, 0);
+		facade.addServerToNetwork("v2", "virt", 4, 1, 4, 0);
+		final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById("virt");
+		assertTrue(SubstrateResourceIndex.of(getSnet()).mayHost(vNet));
+
+		// Total demand is still lower than the total residual resources, but no
+		// substrate server can host the new virtual server
+		facade.addServerToNetwork("v3", "virt", 5, 5, 1, 0);
+		assertFalse(SubstrateResourceIndex.of(getSnet()).mayHost(vNet));
+	}
+
+	@Test
+	public void testRebuildOnNewServer() {
+		SubstrateResourceIndex.of(getSnet());
+		facade.addServerToNetwork("s4", "sub", 16, 16, 16, 0);
+
+		assertEquals("s4", SubstrateResourceIndex.of(getSnet()).getLargestResidualServer().getName());
+	}
+
+	@Test
+	public void testNewIndexAfterReset() {
+		final SubstrateResourceIndex old = SubstrateResourceIndex.of(getSnet());
+		assertSame(old, SubstrateResourceIndex.of(getSnet()));
+
+		resetModel();
+		assertFalse(old == SubstrateResourceIndex.of(getSnet()));
+	}
+
+	@Test
+	public void testIndexPerNetworkObject() {
+		final SubstrateNetwork oldNet = getSnet();
+		final SubstrateResourceIndex old = SubstrateResourceIndex.of(oldNet);
+
+		// A new network with the same name must not replace the index of the old one
+		resetModel();
+		assertFalse(old == SubstrateResourceIndex.of(getSnet()));
+		assertSame(old, SubstrateResourceIndex.of(oldNet));
+	}
+
+	/*
+	 * Utility methods.
+	 */
+
+	private SubstrateNetwork getSnet() {
+		return (SubstrateNetwork) facade.getNetworkById("sub");
+	}
+
+	private List<String> names(final List<SubstrateServer> servers) {
+		return servers.stream().map(SubstrateServer::getName).toList();
+	}
+
+}
@@ -0,0 +1,170 @@
+package test.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import generators.config.OneTierConfig;
+import generators.config.TwoTierConfig;
+import generators.config.WorkloadConfig;
+import generators.config.WorkloadConfig.ArrivalProcess;
+import generators.workload.VnrJsonLinesWriter;
+import generators.workload.VnrWorkloadGenerator;
+import generators.workload.VnrWorkloadGenerator.Request;
+import model.Link;
+import model.Node;
+import model.VirtualNetwork;
+
+/**
+ * Test class for the synthetic virtual network request workload generator.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class VnrWorkloadGeneratorTest extends IGeneratorTest {
+
+	@Test
+	public void testSameSeedSameWorkload() {
+		for (final ArrivalProcess process : ArrivalProcess.values()) {
+			final List<String> first = jsonLines(config(process, 42), 200);
+			assertEquals(first, jsonLines(config(process, 42), 200));
+			assertNotEquals(first, jsonLines(config(process, 43), 200));
+		}
+	}
+
+	@Test
+	public void testArrivalsAreOrdered() {
+		for (final ArrivalProcess process : ArrivalProcess.values()) {
+			final VnrWorkloadGenerator gen = new VnrWorkloadGenerator(config(process, 1));
+			double last = 0;
+			for (int i = 0; i < 1000; i++) {
+				final Request r = gen.next();
+				assertEquals("vnet_" + i, r.id());
+				assertTrue(r.arrivalTime() > last);
+				last = r.arrivalTime();
+			}
+		}
+	}
+
+	@Test
+	public void testPoissonArrivalRate() {
+		final WorkloadConfig config = config(ArrivalProcess.POISSON, 7);
+		config.setArrivalRate(4);
+		final VnrWorkloadGenerator gen = new VnrWorkloadGenerator(config);
+		for (int i = 0; i < 20_000; i++) {
+			gen.next();
+		}
+
+		// 20,000 arrivals with rate 4 -> about 5,000 time units
+		assertEquals(5000, gen.getTime(), 250);
+	}
+
+	@Test
+	public void testSizesWithinTemplates() {
+		final WorkloadConfig config = config(ArrivalProcess.POISSON, 3);
+		config.setMinScale(0.5);
+		final VnrWorkloadGenerator gen = new VnrWorkloadGenerator(config);
+		for (int i = 0; i < 500; i++) {
+			final Request r = gen.next();
+			if (r.config() instanceof OneTierConfig c) {
+				assertTrue(c.getNumberOfServers() >= 2 && c.getNumberOfServers() <= 4);
+			} else {
+				final TwoTierConfig c = (TwoTierConfig) r.config();
+				assertTrue(c.getNumberOfRacks() >= 1 && c.getNumberOfRacks() <= 2);
+				assertTrue(c.getRack().getNumberOfServers() >= 2 && c.getRack().getNumberOfServers() <= 3);
+			}
+		}
+	}
+
+	@Test
+	public void testBoundedWorkload() {
+		final WorkloadConfig config = config(ArrivalProcess.BURSTY, 5);
+		config.setMaxRequests(3);
+		final VnrWorkloadGenerator gen = new VnrWorkloadGenerator(config);
+
+		for (int i = 0; i < 3; i++) {
+			final String id = gen.createNext();
+			assertNotNull(id);
+			assertTrue(facade.getNetworkById(id) instanceof VirtualNetwork);
+		}
+		assertFalse(gen.hasNext());
+		assertNull(gen.createNext());
+		assertThrows(NoSuchElementException.class, () -> gen.next());
+	}
+
+	@Test
+	public void testJsonMatchesModel() {
+		final VnrWorkloadGenerator gen = new VnrWorkloadGenerator(config(ArrivalProcess.DIURNAL, 11));
+		for (int i = 0; i < 20; i++) {
+			final Request r = gen.next();
+			gen.create(r);
+			final String json = VnrJsonLinesWriter.toJson(r);
+			final VirtualNetwork vNet = (VirtualNetwork) facade.getNetworkById(r.id());
+
+			for (final Node n : vNet.getNodess()) {
+				assertTrue(json.contains("{\"id\":\"" + n.getName() + "\""));
+			}
+			for (final Link l : vNet.getLinks()) {
+				assertTrue(json.contains("{\"id\":\"" + l.getName() + "\",\"bw\":" + l.getBandwidth() + ",\"source\":\""
+						+ l.getSource().getName() + "\",\"target\":\"" + l.getTarget().getName() + "\"}"));
+			}
+			assertEquals(vNet.getLinks().size(), json.split("\"bw\":").length - 1);
+			assertEquals(vNet.getNodess().size(), json.split("\"depth\":").length - 1);
+		}
+	}
+
+	@Test
+	public void testInvalidConfig() {
+		assertThrows(IllegalArgumentException.class, () -> new VnrWorkloadGenerator(new WorkloadConfig()));
+		assertThrows(IllegalArgumentException.class,
+				() -> new WorkloadConfig().addTemplate(new OneTierConfig(2, 1, true, 1, 1, 1, 1), 1));
+		assertThrows(IllegalArgumentException.class,
+				() -> new WorkloadConfig().addTemplate(new OneTierConfig(2, 1, false, 1, 1, 1, 1), 0));
+		assertThrows(IllegalArgumentException.class, () -> new WorkloadConfig().setArrivalRate(0));
+	}
+
+	/**
+	 * Creates a workload configuration with one one tier and one two tier template.
+	 *
+	 * @param process Arrival process.
+	 * @param seed    Seed.
+	 * @return Workload configuration.
+	 */
+	private WorkloadConfig config(final ArrivalProcess process, final long seed) {
+		final WorkloadConfig config = new WorkloadConfig(process, 2, seed);
+		config.addTemplate(new OneTierConfig(4, 1, false, 1, 2, 3, 4), 3);
+		config.addTemplate(new TwoTierConfig(new OneTierConfig(3, 1, false, 1, 1, 1, 2), 2, 2, false, 5), 1);
+		return config;
+	}
+
+	/**
+	 * Writes the given number of requests of the given workload as JSON lines.
+	 *
+	 * @param config Workload configuration.
+	 * @param n      Number of requests.
+	 * @return All written lines.
+	 */
+	private List<String> jsonLines(final WorkloadConfig config, final int n) {
+		final VnrWorkloadGenerator gen = new VnrWorkloadGenerator(config);
+		final StringWriter out = new StringWriter();
+		try (final VnrJsonLinesWriter writer = new VnrJsonLinesWriter(out)) {
+			for (int i = 0; i < n; i++) {
+				writer.write(gen.next());
+			}
+		} catch (final Exception e) {
+			throw new RuntimeException(e);
+		}
+		return new ArrayList<>(List.of(out.toString().split("\n")));
+	}
+
+}
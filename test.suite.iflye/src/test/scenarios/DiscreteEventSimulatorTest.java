@@ -0,0 +1,109 @@
+package test.scenarios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import scenarios.load.DiscreteEventSimulator;
+import scenarios.load.DiscreteEventSimulator.Event;
+import scenarios.load.DiscreteEventSimulator.EventType;
+
+/**
+ * Test class for the discrete-event engine of the VNE scenarios.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class DiscreteEventSimulatorTest {
+
+	@Test
+	public void testOrderByTime() {
+		final DiscreteEventSimulator sim = new DiscreteEventSimulator(0);
+		sim.schedule(2, EventType.ARRIVAL, "b");
+		sim.schedule(1, EventType.DEPARTURE, "a");
+		sim.schedule(3, EventType.DEPARTURE, "c");
+
+		assertEquals("a", sim.next().vNetId());
+		assertEquals(1, sim.getTime());
+		assertEquals("b", sim.next().vNetId());
+		assertEquals(2, sim.getTime());
+		assertEquals("c", sim.next().vNetId());
+		assertEquals(3, sim.getTime());
+		assertFalse(sim.hasNext());
+	}
+
+	@Test
+	public void testDeparturesBeforeArrivals() {
+		final DiscreteEventSimulator sim = new DiscreteEventSimulator(0);
+		sim.schedule(1, EventType.ARRIVAL, "a1");
+		sim.schedule(1, EventType.DEPARTURE, "d1");
+		sim.schedule(1, EventType.ARRIVAL, "a2");
+		sim.schedule(1, EventType.DEPARTURE, "d2");
+
+		assertEquals(EventType.DEPARTURE, sim.next().type());
+		assertEquals(EventType.DEPARTURE, sim.next().type());
+		assertEquals(EventType.ARRIVAL, sim.next().type());
+		assertEquals(EventType.ARRIVAL, sim.next().type());
+	}
+
+	@Test
+	public void testFifoBySequence() {
+		final DiscreteEventSimulator sim = new DiscreteEventSimulator(0);
+		for (int i = 0; i < 10; i++) {
+			sim.schedule(5, EventType.ARRIVAL, "v" + i);
+		}
+
+		long lastSeq = -1;
+		for (int i = 0; i < 10; i++) {
+			final Event event = sim.next();
+			assertEquals("v" + i, event.vNetId());
+			assertTrue(event.seq() > lastSeq);
+			lastSeq = event.seq();
+		}
+	}
+
+	@Test
+	public void testPeek() {
+		final DiscreteEventSimulator sim = new DiscreteEventSimulator(0);
+		assertNull(sim.peek());
+
+		final Event first = sim.schedule(1, EventType.ARRIVAL, null);
+		sim.schedule(2, EventType.ARRIVAL, null);
+
+		// Peeking neither removes the event nor advances the time
+		assertSame(first, sim.peek());
+		assertSame(first, sim.peek());
+		assertEquals(0, sim.getTime());
+		assertSame(first, sim.next());
+		assertEquals(1, sim.getTime());
+	}
+
+	@Test
+	public void testRejectPastEvents() {
+		final DiscreteEventSimulator sim = new DiscreteEventSimulator(0);
+		sim.schedule(2, EventType.ARRIVAL, null);
+		sim.next();
+
+		assertThrows(IllegalArgumentException.class, () -> sim.schedule(1, EventType.ARRIVAL, null));
+
+		// Events at the current time are allowed
+		sim.schedule(2, EventType.DEPARTURE, null);
+		assertTrue(sim.hasNext());
+	}
+
+	@Test
+	public void testSampleExponentialIsSeeded() {
+		final DiscreteEventSimulator a = new DiscreteEventSimulator(42);
+		final DiscreteEventSimulator b = new DiscreteEventSimulator(42);
+		for (int i = 0; i < 10; i++) {
+			final double sample = a.sampleExponential(3);
+			assertTrue(sample >= 0);
+			assertEquals(sample, b.sampleExponential(3));
+		}
+	}
+
+}
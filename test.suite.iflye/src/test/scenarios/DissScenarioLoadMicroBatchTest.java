@@ -0,0 +1,67 @@
+package test.scenarios;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import scenarios.load.DissScenarioLoadMicroBatch;
+
+/**
+ * Test class for the batch closing rule of the micro-batch scenario.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class DissScenarioLoadMicroBatchTest {
+
+	@Test
+	public void testSizeCap() {
+		final TestMicroBatch scenario = new TestMicroBatch(3, -1);
+		assertFalse(scenario.isBatchClosed(1, 0, 100));
+		assertFalse(scenario.isBatchClosed(2, 0, 100));
+		assertTrue(scenario.isBatchClosed(3, 0, 100));
+		assertTrue(scenario.isBatchClosed(4, 0, 0));
+	}
+
+	@Test
+	public void testTimeWindow() {
+		final TestMicroBatch scenario = new TestMicroBatch(10, 2);
+		assertFalse(scenario.isBatchClosed(1, 5, 6));
+		// The end of the window still belongs to it
+		assertFalse(scenario.isBatchClosed(1, 5, 7));
+		assertTrue(scenario.isBatchClosed(1, 5, 7.5));
+		// The size cap closes the batch within the window
+		assertTrue(scenario.isBatchClosed(10, 5, 6));
+	}
+
+	@Test
+	public void testZeroTimeWindow() {
+		final TestMicroBatch scenario = new TestMicroBatch(10, 0);
+		assertFalse(scenario.isBatchClosed(1, 5, 5));
+		assertTrue(scenario.isBatchClosed(1, 5, 5.1));
+	}
+
+	/**
+	 * Micro-batch scenario that exposes its batch closing rule.
+	 */
+	private static class TestMicroBatch extends DissScenarioLoadMicroBatch {
+
+		/**
+		 * Creates a new scenario.
+		 *
+		 * @param maxBatchSize Maximum number of virtual networks per batch.
+		 * @param batchWindow  Time window of a batch (negative to disable it).
+		 */
+		private TestMicroBatch(final int maxBatchSize, final double batchWindow) {
+			setMaxBatchSize(maxBatchSize);
+			setBatchWindow(batchWindow);
+		}
+
+		@Override
+		public boolean isBatchClosed(final int size, final double windowStart, final double nextArrival) {
+			return super.isBatchClosed(size, windowStart, nextArrival);
+		}
+
+	}
+
+}
@@ -0,0 +1,123 @@
+package test.scenarios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import facade.ModelFacade;
+import model.SubstrateNetwork;
+import model.VirtualNetwork;
+import scenarios.load.ShardRouter;
+
+/**
+ * Test class for the router of virtual networks to substrate networks (shards).
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class ShardRouterTest {
+
+	/**
+	 * ModelFacade instance.
+	 */
+	private final ModelFacade facade = ModelFacade.getInstance();
+
+	/**
+	 * Router to test.
+	 */
+	private final ShardRouter router = new ShardRouter();
+
+	@BeforeEach
+	public void resetModel() {
+		facade.resetAll();
+
+		// Shard 1 has less residual resources than shard 2, shard 3 has the smallest
+		// servers
+		facade.addNetworkToRoot("sub1", false);
+		facade.addServerToNetwork("sub1_srv1", "sub1", 3, 3, 3, 0);
+		facade.addServerToNetwork("sub1_srv2", "sub1", 3, 3, 3, 0);
+		facade.addNetworkToRoot("sub2", false);
+		facade.addServerToNetwork("sub2_srv1", "sub2", 4, 4, 4, 0);
+		facade.addServerToNetwork("sub2_srv2", "sub2", 4, 4, 4, 0);
+		facade.addNetworkToRoot("sub3", false);
+		facade.addServerToNetwork("sub3_srv1", "sub3", 1, 1, 1, 0);
+	}
+
+	@Test
+	public void testOrderByResidualResources() {
+		final VirtualNetwork vNet = createVirtualNetwork("virt", 1);
+		assertEquals(List.of("sub2", "sub1", "sub3"), names(router.route(vNet, getShards())));
+	}
+
+	@Test
+	public void testOnlyShardsThatMayHost() {
+		final VirtualNetwork vNet = createVirtualNetwork("virt", 2);
+		assertEquals(List.of("sub2", "sub1"), names(router.route(vNet, getShards())));
+
+		final VirtualNetwork vNetLarge = createVirtualNetwork("virtLarge", 4);
+		assertEquals(List.of("sub2"), names(router.route(vNetLarge, getShards())));
+	}
+
+	@Test
+	public void testOrderAfterEmbedding() {
+		// Occupy shard 2, so that shard 1 has more residual resources
+		createVirtualNetwork("virtOld", 4);
+		facade.embedNetworkToNetwork("sub2", "virtOld");
+		facade.embedServerToServer("sub2_srv1", "virtOld_srv");
+
+		final VirtualNetwork vNet = createVirtualNetwork("virt", 1);
+		assertEquals(List.of("sub1", "sub2", "sub3"), names(router.route(vNet, getShards())));
+	}
+
+	@Test
+	public void testNoShardMayHost() {
+		final VirtualNetwork vNet = createVirtualNetwork("virt", 5);
+		assertEquals(List.of("sub2"), names(router.route(vNet, getShards())));
+	}
+
+	@Test
+	public void testNoShards() {
+		final VirtualNetwork vNet = createVirtualNetwork("virt", 1);
+		assertEquals(List.of(), router.route(vNet, List.of()));
+	}
+
+	/*
+	 * Utility methods.
+	 */
+
+	/**
+	 * Creates a virtual network with one virtual server.
+	 *
+	 * @param name  Name of the virtual network.
+	 * @param slots Number of CPU, memory and storage resources of the server.
+	 * @return Virtual network.
+	 */
+	private VirtualNetwork createVirtualNetwork(final String name, final int slots) {
+		facade.addNetworkToRoot(name, true);
+		facade.addServerToNetwork(name + "_srv", name, slots, slots, slots, 0);
+		return (VirtualNetwork) facade.getNetworkById(name);
+	}
+
+	/**
+	 * Returns all shards.
+	 *
+	 * @return All substrate networks.
+	 */
+	private List<SubstrateNetwork> getShards() {
+		return List.of((SubstrateNetwork) facade.getNetworkById("sub1"),
+				(SubstrateNetwork) facade.getNetworkById("sub2"), (SubstrateNetwork) facade.getNetworkById("sub3"));
+	}
+
+	/**
+	 * Returns the names of the given substrate networks.
+	 *
+	 * @param sNets Substrate networks.
+	 * @return Names of the given substrate networks.
+	 */
+	private List<String> names(final List<SubstrateNetwork> sNets) {
+		return sNets.stream().map(SubstrateNetwork::getName).toList();
+	}
+
+}
@@ -0,0 +1,105 @@
+package test.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import statistics.Welford;
+
+/**
+ * Test class for the online mean and standard derivation accumulator.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class WelfordTest {
+
+	@Test
+	public void testEmpty() {
+		final Welford welford = new Welford();
+		assertEquals(0, welford.getCount());
+		assertEquals(0, welford.getMean());
+		assertEquals(0, welford.getVariance());
+		assertEquals(0, welford.getStdDev());
+	}
+
+	@Test
+	public void testSingleValue() {
+		check(new Double[] { 42.0 });
+	}
+
+	@Test
+	public void testSmallValues() {
+		check(new Double[] { 1.0, 2.5, 7.0, -3.0, 0.0, 2.5 });
+	}
+
+	@Test
+	public void testConstantValues() {
+		check(new Double[] { 3.0, 3.0, 3.0, 3.0 });
+	}
+
+	@Test
+	public void testRandomValues() {
+		final Random rand = new Random(0);
+		final Double[] values = new Double[1_000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = 100 + 10 * rand.nextGaussian();
+		}
+		check(values);
+	}
+
+	/*
+	 * Utility methods.
+	 */
+
+	/**
+	 * Adds all given values to a new accumulator and compares its mean and
+	 * (population) variance to the ones of a two-pass reference calculation.
+	 *
+	 * @param values Values to check.
+	 */
+	private void check(final Double[] values) {
+		final Welford welford = new Welford();
+		for (final Double value : values) {
+			welford.add(value);
+		}
+
+		final double mean = mean(values);
+		final double stdDev = Math.sqrt(variance(values, mean));
+		assertEquals(values.length, welford.getCount());
+		assertEquals(mean, welford.getMean(), 1e-9 * Math.abs(welford.getMean()) + 1e-12);
+		assertEquals(stdDev * stdDev, welford.getVariance(), 1e-9 * stdDev * stdDev + 1e-12);
+		assertEquals(stdDev, welford.getStdDev(), 1e-9 * stdDev + 1e-12);
+	}
+
+	/**
+	 * Calculates the mean of the given values.
+	 *
+	 * @param values Values.
+	 * @return Mean.
+	 */
+	private double mean(final Double[] values) {
+		double sum = 0;
+		for (final Double value : values) {
+			sum += value;
+		}
+		return sum / values.length;
+	}
+
+	/**
+	 * Calculates the (population) variance of the given values.
+	 *
+	 * @param values Values.
+	 * @param mean   Mean of the values.
+	 * @return Variance.
+	 */
+	private double variance(final Double[] values, final double mean) {
+		double sum = 0;
+		for (final Double value : values) {
+			sum += (value - mean) * (value - mean);
+		}
+		return sum / values.length;
+	}
+
+}
@@ -33,6 +33,20 @@ public abstract class AbstractAlgorithm extends IflyeLogger implements Algorithm
 	 */
 	protected Set<VirtualNetwork> vNets;
 
+	/**
+	 * Configuration of the current run. Unless a configuration was injected via
+	 * {@link #setRunConfig(RunConfig)}, every call of
+	 * {@link #prepare(SubstrateNetwork, Set)} takes a new snapshot of the static
+	 * configuration classes.
+	 */
+	protected RunConfig config;
+
+	/**
+	 * True if the configuration was injected and must not be replaced by a
+	 * snapshot of the static configuration classes.
+	 */
+	private boolean configInjected = false;
+
 	/**
 	 * Execution method that starts the algorithm itself.
 	 *
@@ -78,6 +92,10 @@ public abstract class AbstractAlgorithm extends IflyeLogger implements Algorithm
 		this.sNet = sNet;
 		this.vNets = new HashSet<>();
 		this.vNets.addAll(vNets);
+
+		if (!configInjected) {
+			this.config = RunConfig.global();
+		}
 	}
 
 	@Override
@@ -89,6 +107,17 @@ public abstract class AbstractAlgorithm extends IflyeLogger implements Algorithm
 		return this.getClass().getSimpleName();
 	}
 
+	/**
+	 * Returns true if the algorithm only uses (and embeds on) the elements of its
+	 * own substrate network. Only such algorithms can embed on one of several
+	 * substrate networks (shards) in the same model.
+	 *
+	 * @return True if the algorithm is shard-aware.
+	 */
+	public boolean isShardAware() {
+		return false;
+	}
+
 	/**
 	 * Returns the first virtual network from this super type.
 	 *
@@ -99,6 +128,30 @@ public abstract class AbstractAlgorithm extends IflyeLogger implements Algorithm
 		return it.next();
 	}
 
+	/**
+	 * Returns the configuration of the current run. If the algorithm was not
+	 * prepared yet and no configuration was injected, this returns a snapshot of
+	 * the static configuration classes.
+	 *
+	 * @return The configuration of the current run.
+	 */
+	public RunConfig getRunConfig() {
+		return config != null ? config : RunConfig.global();
+	}
+
+	/**
+	 * Injects the configuration to use for all following runs of this algorithm
+	 * instead of the static configuration classes.
+	 *
+	 * @param config The configuration to use.
+	 */
+	public void setRunConfig(final RunConfig config) {
+		Objects.requireNonNull(config);
+
+		this.config = config;
+		this.configInjected = true;
+	}
+
 	/**
 	 * Returns the currently used ModelFacade instance.
 	 * 
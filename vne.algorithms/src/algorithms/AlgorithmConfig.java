@@ -1,7 +1,10 @@
 package algorithms;
 
+import algorithms.ilp.VneFakeIlpBatchAlgorithm;
 import algorithms.pm.VnePmMdvneAlgorithm;
 import algorithms.pm.VnePmMdvneAlgorithmMigration;
+import algorithms.pm.stages.VnePmMdvneAlgorithmPipelineStageRack;
+import algorithms.pm.stages.VnePmMdvneAlgorithmPipelineStageVnet;
 
 /**
  * Configuration of the algorithms {@link VneIlpPathAlgorithm} and
@@ -107,4 +110,60 @@ public class AlgorithmConfig {
 	 */
 	public static boolean netRejCostDynamic = false;
 
+	/**
+	 * If true, an {@link AlgorithmPipeline} solves all of its stages in parallel
+	 * and commits the solution of the first successful stage (in pipeline order).
+	 * This requires all stages to implement {@link SpeculativeAlgorithm} and to
+	 * support planning (see {@link SpeculativeAlgorithm#canPlan()}). Otherwise, the
+	 * stages are executed one after another.
+	 */
+	public static boolean pipelineSpeculative = false;
+
+	/**
+	 * If true, the rack stages ({@link VnePmMdvneAlgorithmPipelineStageRack}) of
+	 * the PM pipelines solve one independent ILP problem per rack in parallel
+	 * instead of one global ILP problem. Virtual networks that do not fit into a
+	 * single rack are embedded by the global ILP problem afterwards. The rack
+	 * decomposition can not plan, hence, {@link #pipelineSpeculative} is ignored
+	 * and the pipeline is executed sequentially if this is set.
+	 */
+	public static boolean pmRackDecomposition = false;
+
+	/**
+	 * If true, the virtual network stage ({@link VnePmMdvneAlgorithmPipelineStageVnet})
+	 * of the PM pipelines places whole virtual networks onto substrate servers with
+	 * a bin packer instead of an ILP problem. The bin packer can not plan, hence,
+	 * {@link #pipelineSpeculative} is ignored and the pipeline is executed
+	 * sequentially if this is set.
+	 */
+	public static boolean pmVnetBinPacking = false;
+
+	/**
+	 * Maximum number of virtual networks for which the bin packer of the virtual
+	 * network stage uses its exact (branch-and-bound) search. Larger instances are
+	 * solved by the best-fit decreasing heuristic.
+	 */
+	public static int pmVnetExactLimit = 8;
+
+	/**
+	 * If true, virtual networks that the bin packer of the virtual network stage
+	 * could not place are embedded by the ILP problem afterwards. Otherwise, they
+	 * are rejected by the stage right away.
+	 */
+	public static boolean pmVnetIlpFallback = true;
+
+	/**
+	 * Maximum number of already embedded virtual networks the
+	 * {@link VneFakeIlpBatchAlgorithm} re-optimizes together with the new ones
+	 * (rolling horizon). All other embeddings stay fixed. A negative value
+	 * re-optimizes all embedded virtual networks.
+	 */
+	public static int batchHorizon = -1;
+
+	/**
+	 * Maximum number of (source, target) lookups a {@link SubstratePathCache}
+	 * keeps per substrate network.
+	 */
+	public static int pathCacheSize = 65_536;
+
 }
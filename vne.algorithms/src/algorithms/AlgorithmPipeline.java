@@ -1,8 +1,15 @@
 package algorithms;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import metrics.manager.GlobalMetricsManager;
 import model.SubstrateNetwork;
 import model.VirtualNetwork;
 
@@ -18,6 +25,11 @@ public interface AlgorithmPipeline extends Algorithm {
 	 */
 	public List<AbstractAlgorithm> getPipeline();
 
+	/**
+	 * Configuration of the current run of the pipeline.
+	 */
+	public RunConfig getRunConfig();
+
 	/**
 	 * Prepare the algorithm for execution
 	 */
@@ -43,6 +55,10 @@ public interface AlgorithmPipeline extends Algorithm {
 	 */
 	@Override
 	default public boolean execute() {
+		if (getRunConfig().isPipelineSpeculative() && canExecuteSpeculatively()) {
+			return executeSpeculatively();
+		}
+
 		for (AbstractAlgorithm algo : getPipeline()) {
 			if (algo.execute()) {
 				return true;
@@ -52,4 +68,111 @@ public interface AlgorithmPipeline extends Algorithm {
 		return false;
 	}
 
+	/**
+	 * Returns true if all stages of the pipeline implement the
+	 * {@link SpeculativeAlgorithm} interface and can be executed speculatively in
+	 * their current configuration (see {@link SpeculativeAlgorithm#canPlan()}).
+	 *
+	 * @return True if the pipeline can be executed speculatively.
+	 */
+	default public boolean canExecuteSpeculatively() {
+		return getPipeline().stream().allMatch(algo -> algo instanceof SpeculativeAlgorithm s && s.canPlan());
+	}
+
+	/**
+	 * Executes the pipeline speculatively: All stages are planned one after
+	 * another, solved in parallel, and only the solution of the first successful
+	 * stage (in pipeline order) is committed. All stages after the successful one
+	 * are terminated. If no stage embeds all virtual networks, the solution of the
+	 * last planned stage is committed, i.e., its accepted subset of the virtual
+	 * networks stays embedded. Hence, the result equals the one of the sequential
+	 * execution, but a failing stage does not delay the following stages.
+	 *
+	 * @return True if one of the stages embedded all virtual networks.
+	 */
+	default public boolean executeSpeculatively() {
+		final List<SpeculativeAlgorithm> stages = new ArrayList<>();
+		for (final AbstractAlgorithm algo : getPipeline()) {
+			stages.add((SpeculativeAlgorithm) algo);
+		}
+
+		// Planning runs the pattern matchers and updates the metrics, hence, it must
+		// not run in parallel
+		final List<Boolean> planned = new ArrayList<>();
+		for (final SpeculativeAlgorithm stage : stages) {
+			planned.add(stage.plan());
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(stages.size());
+		final List<Future<Boolean>> solutions = new ArrayList<>();
+		int winner = -1;
+
+		GlobalMetricsManager.startIlpTime();
+		try {
+			for (int i = 0; i < stages.size(); i++) {
+				solutions.add(planned.get(i) ? executor.submit(stages.get(i)::solve)
+						: CompletableFuture.completedFuture(false));
+			}
+
+			for (int i = 0; i < stages.size() && winner == -1; i++) {
+				if (awaitSolution(solutions.get(i))) {
+					winner = i;
+				}
+			}
+		} finally {
+			// Terminate all stages that are still running and wait for them, because their
+			// solvers must not be used concurrently in the next execution
+			for (int i = 0; i < solutions.size(); i++) {
+				if (!solutions.get(i).isDone()) {
+					stages.get(i).terminate();
+				}
+			}
+			for (final Future<Boolean> solution : solutions) {
+				try {
+					solution.get();
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (final ExecutionException e) {
+					// Results of terminated stages are discarded
+				}
+			}
+			executor.shutdown();
+			GlobalMetricsManager.endIlpTime();
+		}
+
+		if (winner != -1) {
+			return stages.get(winner).commit();
+		}
+
+		// Like in the sequential execution, the partial embedding of the last stage
+		// remains
+		for (int i = stages.size() - 1; i >= 0; i--) {
+			if (planned.get(i)) {
+				stages.get(i).commit();
+				break;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Waits for the given speculative solution.
+	 *
+	 * @param solution Future of the speculative solution.
+	 * @return True if the solution embeds all virtual networks.
+	 */
+	private static boolean awaitSolution(final Future<Boolean> solution) {
+		try {
+			return solution.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a pipeline stage.", e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
 }
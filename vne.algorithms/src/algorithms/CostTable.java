@@ -0,0 +1,187 @@
+package algorithms;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import metrics.CostUtility;
+import model.Node;
+import model.Server;
+import model.SubstrateElement;
+import model.SubstrateLink;
+import model.SubstrateNetwork;
+import model.SubstrateNode;
+import model.SubstratePath;
+import model.SubstrateServer;
+import model.VirtualLink;
+import model.VirtualNode;
+import model.VirtualServer;
+
+/**
+ * Precomputed costs of the configured objective ({@link RunConfig#getObjective()})
+ * for one substrate network. The table is a snapshot of the residual resources
+ * of the substrate servers at the time it was built, i.e., it is only valid for
+ * one solve.
+ *
+ * The node costs of the objectives C and D are stored per substrate server and
+ * the link costs of all objectives are stored per hop count (0 hops = substrate
+ * server) as factor of the virtual bandwidth (or as absolute value for the total
+ * path cost). All cases that are not covered by the table are delegated to
+ * {@link CostUtility}.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class CostTable {
+
+	/**
+	 * Maximum hop count covered by the table. Longer paths are delegated to
+	 * {@link CostUtility}.
+	 */
+	private static final int MAX_HOPS = 64;
+
+	/**
+	 * Objective of this table.
+	 */
+	private final AlgorithmConfig.Objective obj;
+
+	/**
+	 * Node cost per substrate server (objectives C and D only).
+	 */
+	private final Map<SubstrateServer, Double> nodeCosts;
+
+	/**
+	 * Link cost per hop count.
+	 */
+	private final double[] linkCosts;
+
+	/**
+	 * True if the link costs must be multiplied by the virtual bandwidth.
+	 */
+	private final boolean linkCostsPerBandwidth;
+
+	/**
+	 * Creates a new cost table for the given objective and substrate network.
+	 *
+	 * @param obj           Objective.
+	 * @param maxPathLength Maximum length of the substrate paths.
+	 * @param sNet          Substrate network.
+	 */
+	private CostTable(final AlgorithmConfig.Objective obj, final int maxPathLength, final SubstrateNetwork sNet) {
+		this.obj = obj;
+		this.linkCostsPerBandwidth = obj != AlgorithmConfig.Objective.TOTAL_PATH_COST;
+
+		if (obj == AlgorithmConfig.Objective.TOTAL_COMMUNICATION_OBJECTIVE_C
+				|| obj == AlgorithmConfig.Objective.TOTAL_COMMUNICATION_OBJECTIVE_D) {
+			nodeCosts = new HashMap<>();
+			for (final Node n : sNet.getNodess()) {
+				if (n instanceof SubstrateServer ssrv) {
+					final double cost = CostUtility.getTotalCommunicationCostMetricNodeC(ssrv);
+					nodeCosts.put(ssrv, obj == AlgorithmConfig.Objective.TOTAL_COMMUNICATION_OBJECTIVE_C ? cost
+							: 1.0 / cost);
+				}
+			}
+		} else {
+			nodeCosts = Map.of();
+		}
+
+		linkCosts = new double[Math.min(Math.max(maxPathLength, 1), MAX_HOPS) + 1];
+		for (int hops = 0; hops < linkCosts.length; hops++) {
+			linkCosts[hops] = switch (obj) {
+			case TOTAL_PATH_COST -> hops == 0 ? 1 : hops == 1 ? 2 : Math.pow(4, hops);
+			case TOTAL_COMMUNICATION_COST_A -> hops == 0 ? 0 : hops == 1 ? 1 : 5;
+			default -> hops;
+			};
+		}
+	}
+
+	/**
+	 * Builds a new cost table for the objective of the given configuration and the
+	 * given substrate network.
+	 *
+	 * @param config Configuration of the current run.
+	 * @param sNet   Substrate network.
+	 * @return New cost table.
+	 */
+	public static CostTable of(final RunConfig config, final SubstrateNetwork sNet) {
+		return new CostTable(config.getObjective(), config.getMaxPathLength(), sNet);
+	}
+
+	/**
+	 * Returns the cost for a virtual node to substrate node embedding.
+	 *
+	 * @param virt Virtual node to embed.
+	 * @param sub  Substrate node to embed.
+	 * @return Cost for this particular mapping.
+	 */
+	public double getNodeCost(final VirtualNode virt, final SubstrateNode sub) {
+		switch (obj) {
+		case TOTAL_PATH_COST:
+			return CostUtility.getTotalPathCostNode(virt, sub);
+		case TOTAL_COMMUNICATION_COST_A:
+		case TOTAL_COMMUNICATION_COST_B:
+			return CostUtility.getTotalCommunicationCostNodeAB();
+		case TOTAL_COMMUNICATION_OBJECTIVE_C:
+		case TOTAL_COMMUNICATION_OBJECTIVE_D:
+			if (!(virt instanceof VirtualServer)) {
+				return 0;
+			}
+			final Double cost = nodeCosts.get(sub);
+			if (cost != null) {
+				return cost;
+			}
+			// Substrate server unknown to this table
+			return obj == AlgorithmConfig.Objective.TOTAL_COMMUNICATION_OBJECTIVE_C
+					? CostUtility.getTotalCommunicationCostObjectiveNodeC(virt, sub)
+					: CostUtility.getTotalCommunicationCostObjectiveNodeD(virt, sub);
+		default:
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * Returns the cost for a virtual link to substrate element embedding.
+	 *
+	 * @param virt Virtual link to embed.
+	 * @param sub  Substrate element hosting the virtual link.
+	 * @return Cost for this particular mapping.
+	 */
+	public double getLinkCost(final VirtualLink virt, final SubstrateElement sub) {
+		int hops = -1;
+		if (sub instanceof Server) {
+			hops = 0;
+		} else if (sub instanceof SubstratePath sPath && sPath.getHops() >= 1) {
+			hops = sPath.getHops();
+		} else if (sub instanceof SubstrateLink && linkCostsPerBandwidth) {
+			hops = 1;
+		}
+
+		if (hops < 0 || hops >= linkCosts.length) {
+			return getLinkCostUncached(virt, sub);
+		}
+
+		return linkCostsPerBandwidth ? linkCosts[hops] * virt.getBandwidth() : linkCosts[hops];
+	}
+
+	/**
+	 * Returns the cost for a virtual link to substrate element embedding without
+	 * using the table.
+	 *
+	 * @param virt Virtual link to embed.
+	 * @param sub  Substrate element hosting the virtual link.
+	 * @return Cost for this particular mapping.
+	 */
+	private double getLinkCostUncached(final VirtualLink virt, final SubstrateElement sub) {
+		switch (obj) {
+		case TOTAL_PATH_COST:
+			return CostUtility.getTotalPathCostLink(sub);
+		case TOTAL_COMMUNICATION_COST_A:
+			return CostUtility.getTotalCommunicationCostLinkA(virt, sub);
+		case TOTAL_COMMUNICATION_COST_B:
+		case TOTAL_COMMUNICATION_OBJECTIVE_C:
+		case TOTAL_COMMUNICATION_OBJECTIVE_D:
+			return CostUtility.getTotalCommunicationCostLinkBCD(virt, sub);
+		default:
+			throw new UnsupportedOperationException();
+		}
+	}
+
+}
@@ -0,0 +1,311 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import facade.ModelFacade;
+import model.Element;
+import model.Link;
+import model.SubstrateLink;
+import model.SubstrateNetwork;
+import model.SubstrateNode;
+import model.SubstratePath;
+import model.SubstrateServer;
+import model.VirtualLink;
+import model.VirtualNetwork;
+import model.VirtualServer;
+import model.VirtualSwitch;
+
+/**
+ * Immutable list of embeddings (virtual element -> substrate host) that an
+ * algorithm wants to commit to the model. Instead of validating and applying
+ * every single embedding on its own, the plan aggregates the resource demands
+ * of all embeddings per substrate server and substrate link, validates them
+ * once against the residual resources and applies all embeddings in one pass.
+ *
+ * Plans are created with a {@link Builder}, which also allows algorithms to
+ * check whether an additional embedding still fits while they are building the
+ * plan.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class EmbeddingPlan {
+
+	/**
+	 * One embedding of a virtual element onto a substrate host.
+	 */
+	public record Assignment(Element virtual, Element host) {
+	}
+
+	/**
+	 * All embeddings in the order they will be applied.
+	 */
+	private final List<Assignment> assignments;
+
+	/**
+	 * Aggregated demands (CPU, memory, storage) per substrate server.
+	 */
+	private final Map<SubstrateServer, long[]> serverDemands;
+
+	/**
+	 * Aggregated bandwidth demands per substrate link.
+	 */
+	private final Map<SubstrateLink, Long> linkDemands;
+
+	/**
+	 * True if bandwidth demands are ignored.
+	 */
+	private final boolean ignoreBw;
+
+	/**
+	 * Creates a new plan from the given builder.
+	 *
+	 * @param builder Builder to take all embeddings and demands from.
+	 */
+	private EmbeddingPlan(final Builder builder) {
+		this.assignments = List.copyOf(builder.assignments);
+		final Map<SubstrateServer, long[]> servers = new LinkedHashMap<>();
+		builder.serverDemands.forEach((k, v) -> servers.put(k, v.clone()));
+		this.serverDemands = Collections.unmodifiableMap(servers);
+		this.linkDemands = Collections.unmodifiableMap(new LinkedHashMap<>(builder.linkDemands));
+		this.ignoreBw = builder.ignoreBw;
+	}
+
+	/**
+	 * Creates a new builder for an embedding plan. Bandwidth demands are ignored
+	 * if {@link RunConfig#isIgnoreBw()} is set in the given configuration.
+	 *
+	 * @param config Configuration of the current run.
+	 * @return New builder.
+	 */
+	public static Builder builder(final RunConfig config) {
+		return new Builder(config.isIgnoreBw());
+	}
+
+	/**
+	 * Returns all embeddings of this plan in the order they will be applied.
+	 *
+	 * @return Unmodifiable list of all embeddings.
+	 */
+	public List<Assignment> getAssignments() {
+		return assignments;
+	}
+
+	/**
+	 * Returns all substrate servers that host at least one virtual server of this
+	 * plan.
+	 *
+	 * @return Unmodifiable set of all substrate servers with resource demands.
+	 */
+	public Set<SubstrateServer> getServers() {
+		return serverDemands.keySet();
+	}
+
+	/**
+	 * Returns true if this plan does not contain any embedding.
+	 *
+	 * @return True if this plan is empty.
+	 */
+	public boolean isEmpty() {
+		return assignments.isEmpty();
+	}
+
+	/**
+	 * Returns true if the aggregated demands of all embeddings fit into the
+	 * residual resources of the substrate servers and substrate links. Bandwidth
+	 * demands are ignored if the plan was built with {@link RunConfig#isIgnoreBw()}
+	 * set.
+	 *
+	 * @return True if the plan can be applied.
+	 */
+	public boolean isValid() {
+		for (final Map.Entry<SubstrateServer, long[]> e : serverDemands.entrySet()) {
+			final SubstrateServer ssrv = e.getKey();
+			final long[] demand = e.getValue();
+			if (ssrv.getResidualCpu() < demand[0] || ssrv.getResidualMemory() < demand[1]
+					|| ssrv.getResidualStorage() < demand[2]) {
+				return false;
+			}
+		}
+
+		if (!ignoreBw) {
+			for (final Map.Entry<SubstrateLink, Long> e : linkDemands.entrySet()) {
+				if (e.getKey().getResidualBandwidth() < e.getValue()) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Validates this plan and applies all of its embeddings to the model using
+	 * the given model facade.
+	 *
+	 * @param modelFacade Model facade to apply the embeddings with.
+	 * @return True if all embeddings were applied successfully.
+	 * @throws IllegalStateException If the aggregated demands do not fit into the
+	 *                               residual resources.
+	 */
+	public boolean apply(final ModelFacade modelFacade) {
+		if (!isValid()) {
+			throw new IllegalStateException("Embedding plan exceeds the residual resources.");
+		}
+
+		return applyUnchecked(modelFacade);
+	}
+
+	/**
+	 * Applies all embeddings of this plan to the model using the given model
+	 * facade without validating the plan first. Only use this method if the plan
+	 * is known to fit, e.g., because it is the solution of an ILP problem with
+	 * capacity constraints.
+	 *
+	 * @param modelFacade Model facade to apply the embeddings with.
+	 * @return True if all embeddings were applied successfully.
+	 */
+	public boolean applyUnchecked(final ModelFacade modelFacade) {
+		boolean success = true;
+		for (final Assignment a : assignments) {
+			final String hostId = a.host().getName();
+			final String virtualId = a.virtual().getName();
+
+			if (a.virtual() instanceof VirtualNetwork && a.host() instanceof SubstrateNetwork) {
+				success &= modelFacade.embedNetworkToNetwork(hostId, virtualId);
+			} else if (a.virtual() instanceof VirtualServer && a.host() instanceof SubstrateServer) {
+				success &= modelFacade.embedServerToServer(hostId, virtualId);
+			} else if (a.virtual() instanceof VirtualSwitch && a.host() instanceof SubstrateNode) {
+				success &= modelFacade.embedSwitchToNode(hostId, virtualId);
+			} else if (a.virtual() instanceof VirtualLink && a.host() instanceof SubstrateServer) {
+				success &= modelFacade.embedLinkToServer(hostId, virtualId);
+			} else if (a.virtual() instanceof VirtualLink && a.host() instanceof SubstratePath) {
+				success &= modelFacade.embedLinkToPath(hostId, virtualId);
+			} else {
+				success &= modelFacade.embedGeneric(hostId, virtualId);
+			}
+		}
+		return success;
+	}
+
+	/**
+	 * Builder for {@link EmbeddingPlan}s. It keeps track of the aggregated demands
+	 * of all embeddings added so far.
+	 *
+	 * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+	 */
+	public static class Builder {
+
+		/**
+		 * All embeddings added so far.
+		 */
+		private final List<Assignment> assignments = new ArrayList<>();
+
+		/**
+		 * Aggregated demands (CPU, memory, storage) per substrate server.
+		 */
+		private final Map<SubstrateServer, long[]> serverDemands = new HashMap<>();
+
+		/**
+		 * Aggregated bandwidth demands per substrate link.
+		 */
+		private final Map<SubstrateLink, Long> linkDemands = new HashMap<>();
+
+		/**
+		 * True if bandwidth demands are ignored.
+		 */
+		private final boolean ignoreBw;
+
+		/**
+		 * Private constructor, use {@link EmbeddingPlan#builder(RunConfig)}.
+		 *
+		 * @param ignoreBw True if bandwidth demands are ignored.
+		 */
+		private Builder(final boolean ignoreBw) {
+			this.ignoreBw = ignoreBw;
+		}
+
+		/**
+		 * Adds the embedding of the given virtual element onto the given substrate
+		 * host.
+		 *
+		 * @param virtual Virtual element to embed.
+		 * @param host    Substrate element to embed the virtual element onto.
+		 * @return This builder.
+		 */
+		public Builder add(final Element virtual, final Element host) {
+			if (virtual == null || host == null) {
+				throw new IllegalArgumentException("Virtual element and substrate host must not be null.");
+			}
+
+			assignments.add(new Assignment(virtual, host));
+
+			if (virtual instanceof VirtualServer vsrv && host instanceof SubstrateServer ssrv) {
+				final long[] demand = serverDemands.computeIfAbsent(ssrv, k -> new long[3]);
+				demand[0] += vsrv.getCpu();
+				demand[1] += vsrv.getMemory();
+				demand[2] += vsrv.getStorage();
+			} else if (virtual instanceof VirtualLink vl && host instanceof SubstratePath sPath) {
+				for (final Link l : sPath.getLinks()) {
+					linkDemands.merge((SubstrateLink) l, (long) vl.getBandwidth(), Long::sum);
+				}
+			}
+
+			return this;
+		}
+
+		/**
+		 * Returns true if the given virtual server still fits onto the given
+		 * substrate server considering all embeddings added so far.
+		 *
+		 * @param vsrv Virtual server.
+		 * @param ssrv Substrate server.
+		 * @return True if the virtual server fits.
+		 */
+		public boolean fits(final VirtualServer vsrv, final SubstrateServer ssrv) {
+			final long[] demand = serverDemands.getOrDefault(ssrv, new long[3]);
+			return ssrv.getResidualCpu() >= demand[0] + vsrv.getCpu()
+					&& ssrv.getResidualMemory() >= demand[1] + vsrv.getMemory()
+					&& ssrv.getResidualStorage() >= demand[2] + vsrv.getStorage();
+		}
+
+		/**
+		 * Returns true if the given virtual link still fits onto the given substrate
+		 * path considering all embeddings added so far. Always returns true if
+		 * bandwidth demands are ignored.
+		 *
+		 * @param vl    Virtual link.
+		 * @param sPath Substrate path.
+		 * @return True if the virtual link fits.
+		 */
+		public boolean fits(final VirtualLink vl, final SubstratePath sPath) {
+			if (ignoreBw) {
+				return true;
+			}
+
+			for (final Link l : sPath.getLinks()) {
+				final SubstrateLink sl = (SubstrateLink) l;
+				if (sl.getResidualBandwidth() < linkDemands.getOrDefault(sl, 0L) + vl.getBandwidth()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Creates the immutable embedding plan.
+		 *
+		 * @return Embedding plan with all embeddings added so far.
+		 */
+		public EmbeddingPlan build() {
+			return new EmbeddingPlan(this);
+		}
+
+	}
+
+}
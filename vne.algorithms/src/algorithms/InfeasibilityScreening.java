@@ -0,0 +1,374 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import model.Link;
+import model.Node;
+import model.SubstrateLink;
+import model.SubstrateNetwork;
+import model.SubstrateServer;
+import model.Switch;
+import model.VirtualLink;
+import model.VirtualNetwork;
+import model.VirtualServer;
+
+/**
+ * Fast screening of virtual networks that can not be embedded into a substrate
+ * network at all. All checks are necessary conditions of a valid embedding,
+ * i.e., a virtual network that is marked as hopeless can be rejected without
+ * running the pattern matcher and the ILP solver. The following checks are
+ * implemented:
+ * <ul>
+ * <li>The aggregated resources and every single virtual server must fit (see
+ * {@link SubstrateResourceIndex#mayHost(VirtualNetwork)}).</li>
+ * <li>Every virtual link whose bandwidth exceeds the largest residual bandwidth
+ * of all substrate links (i.e., the upper bound of the best residual path
+ * bottleneck) must be embedded onto a single server. Hence, the virtual servers
+ * connected by such links must fit onto one substrate server together.</li>
+ * <li>If the virtual network does not fit into a single rack (or pod), at least
+ * two racks (or pods) must provide a residual cut capacity of at least the
+ * minimum cut bandwidth of the virtual network.</li>
+ * </ul>
+ * All bandwidth checks are skipped if {@link RunConfig#isIgnoreBw()} is set.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class InfeasibilityScreening {
+
+	/**
+	 * Topologies created so far (substrate network -> topology).
+	 */
+	private static final SubstrateNetworkRegistry<Topology> topologies = new SubstrateNetworkRegistry<>();
+
+	/**
+	 * Group of substrate servers (rack or pod) together with all substrate links
+	 * that cross its border.
+	 */
+	private record Group(List<SubstrateServer> servers, List<SubstrateLink> cutLinks) {
+
+		/**
+		 * Returns the residual bandwidth of all links that cross the border of the
+		 * group.
+		 *
+		 * @return Residual bandwidth of all links that cross the border of the group.
+		 */
+		long getCutCapacity() {
+			return cutLinks.stream().mapToLong(SubstrateLink::getResidualBandwidth).sum();
+		}
+
+		/**
+		 * Returns true if the total residual resources of all servers of this group
+		 * cover the given demand.
+		 *
+		 * @param demand Demand of a virtual network.
+		 * @return True if the total residual resources cover the given demand.
+		 */
+		boolean mayHost(final VirtualNetworkDemand demand) {
+			long cpu = 0;
+			long mem = 0;
+			long sto = 0;
+			for (final SubstrateServer ssrv : servers) {
+				cpu += ssrv.getResidualCpu();
+				mem += ssrv.getResidualMemory();
+				sto += ssrv.getResidualStorage();
+			}
+			return cpu >= demand.getCpu() && mem >= demand.getMemory() && sto >= demand.getStorage();
+		}
+
+	}
+
+	/**
+	 * Static rack and pod structure of a substrate network. Racks and pods are
+	 * derived from the structure the network generators create: Every server is
+	 * connected to exactly one (rack) switch and the rack switches of one pod are
+	 * connected to the same set of upper switches.
+	 */
+	private record Topology(int nodes, int links, List<Group> racks, List<Group> pods) {
+	}
+
+	/**
+	 * Substrate network to screen for.
+	 */
+	private final SubstrateNetwork sNet;
+
+	/**
+	 * Shared resource index of the substrate network.
+	 */
+	private final SubstrateResourceIndex index;
+
+	/**
+	 * Largest residual bandwidth of all substrate links. This is an upper bound of
+	 * the bottleneck of every substrate path.
+	 */
+	private final long maxResidualBandwidth;
+
+	/**
+	 * Rack and pod structure of the substrate network.
+	 */
+	private final Topology topology;
+
+	/**
+	 * True if bandwidth demands are ignored.
+	 */
+	private final boolean ignoreBw;
+
+	/**
+	 * Creates a new screening for the current state of the given substrate
+	 * network.
+	 *
+	 * @param config Configuration of the current run.
+	 * @param sNet   Substrate network.
+	 */
+	private InfeasibilityScreening(final RunConfig config, final SubstrateNetwork sNet) {
+		this.sNet = sNet;
+		this.ignoreBw = config.isIgnoreBw();
+		this.index = SubstrateResourceIndex.of(sNet);
+		this.maxResidualBandwidth = sNet.getLinks().stream()
+				.mapToLong(l -> ((SubstrateLink) l).getResidualBandwidth()).max().orElse(0);
+		this.topology = getTopology(sNet);
+	}
+
+	/**
+	 * Returns a screening for the current state of the given substrate network.
+	 * The screening must be re-created after the embedding changed.
+	 *
+	 * @param config Configuration of the current run.
+	 * @param sNet   Substrate network.
+	 * @return Screening for the current state of the substrate network.
+	 */
+	public static InfeasibilityScreening of(final RunConfig config, final SubstrateNetwork sNet) {
+		return new InfeasibilityScreening(config, sNet);
+	}
+
+	/**
+	 * Adds all given virtual networks that can not be embedded into the given
+	 * substrate network in its current state (see
+	 * {@link #isHopeless(VirtualNetwork)}) to the given set of ignored virtual
+	 * networks.
+	 *
+	 * @param config  Configuration of the current run.
+	 * @param sNet    Substrate network.
+	 * @param vNets   Virtual networks to check.
+	 * @param ignored Set of ignored virtual networks to add all hopeless virtual
+	 *                networks to.
+	 */
+	public static void screen(final RunConfig config, final SubstrateNetwork sNet,
+			final Collection<VirtualNetwork> vNets, final Set<VirtualNetwork> ignored) {
+		final InfeasibilityScreening screening = of(config, sNet);
+		for (final VirtualNetwork vNet : vNets) {
+			if (screening.isHopeless(vNet)) {
+				ignored.add(vNet);
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the given virtual network can not be embedded into the
+	 * substrate network in its current state.
+	 *
+	 * @param vNet Virtual network to check.
+	 * @return True if the given virtual network can not be embedded.
+	 */
+	public boolean isHopeless(final VirtualNetwork vNet) {
+		if (!index.mayHost(vNet)) {
+			return true;
+		}
+
+		if (ignoreBw) {
+			return false;
+		}
+
+		final VirtualNetworkDemand demand = VirtualNetworkDemand.of(vNet);
+		if (demand.getMaxLinkBandwidth() > maxResidualBandwidth && !heavyLinksFit(vNet)) {
+			return true;
+		}
+
+		return !cutsFit(demand, topology.racks()) || !cutsFit(demand, topology.pods());
+	}
+
+	/**
+	 * Checks if all virtual links with a bandwidth larger than the largest
+	 * residual bandwidth of all substrate links can be embedded onto single
+	 * servers. Therefore, all virtual nodes connected by such links are grouped
+	 * and the virtual servers of every group must fit onto one substrate server.
+	 *
+	 * @param vNet Virtual network to check.
+	 * @return True if all heavy virtual links may be embedded onto single servers.
+	 */
+	private boolean heavyLinksFit(final VirtualNetwork vNet) {
+		// Union-find over all virtual nodes
+		final Map<Node, Node> parents = new HashMap<>();
+		for (final Link l : vNet.getLinks()) {
+			if (((VirtualLink) l).getBandwidth() > maxResidualBandwidth) {
+				parents.put(find(parents, l.getSource()), find(parents, l.getTarget()));
+			}
+		}
+
+		final Map<Node, long[]> groups = new HashMap<>();
+		for (final Node n : new HashSet<>(parents.keySet())) {
+			if (n instanceof VirtualServer vsrv) {
+				final long[] sum = groups.computeIfAbsent(find(parents, n), r -> new long[3]);
+				sum[0] += vsrv.getCpu();
+				sum[1] += vsrv.getMemory();
+				sum[2] += vsrv.getStorage();
+			}
+		}
+
+		for (final long[] sum : groups.values()) {
+			if (!index.anyServerFits(sum[0], sum[1], sum[2])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Union-find lookup with path compression.
+	 *
+	 * @param parents Parent references.
+	 * @param n       Node to find the representative for.
+	 * @return Representative of the given node.
+	 */
+	private static Node find(final Map<Node, Node> parents, final Node n) {
+		final Node parent = parents.computeIfAbsent(n, k -> k);
+		if (parent == n) {
+			return n;
+		}
+		final Node root = find(parents, parent);
+		parents.put(n, root);
+		return root;
+	}
+
+	/**
+	 * Checks the cut capacities of the given groups (racks or pods). If the
+	 * virtual network may be placed into one group, the check passes. Otherwise,
+	 * at least two groups are used and each of them has to transfer the minimum
+	 * cut bandwidth of the virtual network.
+	 *
+	 * @param demand Demand of the virtual network.
+	 * @param groups Groups of substrate servers.
+	 * @return True if the cut capacities do not rule out the embedding.
+	 */
+	private boolean cutsFit(final VirtualNetworkDemand demand, final List<Group> groups) {
+		if (groups.size() < 2 || demand.getMinCutBandwidth() <= 0) {
+			return true;
+		}
+
+		int sufficientCuts = 0;
+		for (final Group g : groups) {
+			if (g.getCutCapacity() >= demand.getMinCutBandwidth() && ++sufficientCuts >= 2) {
+				return true;
+			}
+		}
+
+		return groups.stream().anyMatch(g -> g.mayHost(demand));
+	}
+
+	/**
+	 * Returns the (cached) rack and pod structure of the given substrate network.
+	 *
+	 * @param sNet Substrate network.
+	 * @return Rack and pod structure of the given substrate network.
+	 */
+	private static synchronized Topology getTopology(final SubstrateNetwork sNet) {
+		Topology topology = topologies.get(sNet);
+		if (topology == null || topology.nodes() != sNet.getNodess().size()
+				|| topology.links() != sNet.getLinks().size()) {
+			topology = createTopology(sNet);
+			topologies.put(sNet, topology);
+		}
+		return topology;
+	}
+
+	/**
+	 * Derives the rack and pod structure of the given substrate network. If the
+	 * network does not follow the structure of the generators (e.g., servers are
+	 * connected to more than one switch), no racks and pods are returned.
+	 *
+	 * @param sNet Substrate network.
+	 * @return Rack and pod structure of the given substrate network.
+	 */
+	private static Topology createTopology(final SubstrateNetwork sNet) {
+		final int nodes = sNet.getNodess().size();
+		final int links = sNet.getLinks().size();
+
+		// Rack switch -> servers
+		final Map<Node, List<SubstrateServer>> rackServers = new LinkedHashMap<>();
+		for (final Node n : sNet.getNodess()) {
+			if (n instanceof SubstrateServer ssrv) {
+				if (ssrv.getOutgoingLinks().size() != 1
+						|| !(ssrv.getOutgoingLinks().get(0).getTarget() instanceof Switch)) {
+					return new Topology(nodes, links, List.of(), List.of());
+				}
+				rackServers.computeIfAbsent(ssrv.getOutgoingLinks().get(0).getTarget(), k -> new ArrayList<>())
+						.add(ssrv);
+			}
+		}
+
+		// Set of upper switches -> rack switches
+		final Map<Set<Node>, List<Node>> podRacks = new LinkedHashMap<>();
+		final List<Group> racks = new ArrayList<>();
+		for (final Map.Entry<Node, List<SubstrateServer>> rack : rackServers.entrySet()) {
+			final Set<Node> members = new HashSet<>(rack.getValue());
+			members.add(rack.getKey());
+			racks.add(new Group(rack.getValue(), getCutLinks(sNet, members)));
+
+			final Set<Node> upper = new HashSet<>();
+			for (final Link l : rack.getKey().getOutgoingLinks()) {
+				if (!members.contains(l.getTarget())) {
+					upper.add(l.getTarget());
+				}
+			}
+			podRacks.computeIfAbsent(upper, k -> new ArrayList<>()).add(rack.getKey());
+		}
+
+		final List<Group> pods = new ArrayList<>();
+		for (final Map.Entry<Set<Node>, List<Node>> pod : podRacks.entrySet()) {
+			final List<SubstrateServer> servers = new ArrayList<>();
+			final Set<Node> members = new HashSet<>(pod.getKey());
+			for (final Node rackSwitch : pod.getValue()) {
+				servers.addAll(rackServers.get(rackSwitch));
+				members.add(rackSwitch);
+			}
+			members.addAll(servers);
+			pods.add(new Group(servers, getCutLinks(sNet, members)));
+		}
+
+		return new Topology(nodes, links, racks, pods);
+	}
+
+	/**
+	 * Returns all substrate links with exactly one end point in the given set of
+	 * nodes.
+	 *
+	 * @param sNet    Substrate network.
+	 * @param members Set of nodes.
+	 * @return All substrate links with exactly one end point in the set of nodes.
+	 */
+	private static List<SubstrateLink> getCutLinks(final SubstrateNetwork sNet, final Set<Node> members) {
+		final List<SubstrateLink> cutLinks = new ArrayList<>();
+		for (final Link l : sNet.getLinks()) {
+			if (members.contains(l.getSource()) != members.contains(l.getTarget())) {
+				cutLinks.add((SubstrateLink) l);
+			}
+		}
+		return cutLinks;
+	}
+
+	/**
+	 * Returns the substrate network of this screening.
+	 *
+	 * @return Substrate network of this screening.
+	 */
+	public SubstrateNetwork getSubstrateNetwork() {
+		return sNet;
+	}
+
+}
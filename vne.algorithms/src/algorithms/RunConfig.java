@@ -0,0 +1,441 @@
+package algorithms;
+
+import algorithms.AlgorithmConfig.Embedding;
+import algorithms.AlgorithmConfig.Objective;
+import facade.config.ModelFacadeConfig;
+import gt.PatternMatchingConfig;
+import gt.PatternMatchingConfig.PatternMatcher;
+import ilp.wrapper.IncrementalIlpSolver;
+import ilp.wrapper.config.IlpSolverConfig;
+import ilp.wrapper.config.Solver;
+import ilp.wrapper.impl.IncrementalCplexSolver;
+import ilp.wrapper.impl.IncrementalGurobiSolver;
+
+/**
+ * Immutable configuration of one run (experiment) of an algorithm. It bundles
+ * the settings of {@link AlgorithmConfig}, {@link IlpSolverConfig},
+ * {@link PatternMatchingConfig} and {@link ModelFacadeConfig}, so that
+ * algorithms, ILP solvers and pattern matchers of concurrent runs in one process
+ * can use different settings.
+ *
+ * The static configuration classes remain the defaults: {@link #global()}
+ * takes a snapshot of them and every algorithm without an injected
+ * configuration uses such a snapshot (see
+ * {@link AbstractAlgorithm#setRunConfig(RunConfig)}).
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public final class RunConfig {
+
+	/*
+	 * Algorithms
+	 */
+
+	private final Objective obj;
+	private final Embedding emb;
+	private final boolean pmSosEnabled;
+	private final int pmNoMigrations;
+	private final boolean netRejCostDynamic;
+	private final boolean pipelineSpeculative;
+	private final boolean pmRackDecomposition;
+	private final boolean pmVnetBinPacking;
+	private final int pmVnetExactLimit;
+	private final boolean pmVnetIlpFallback;
+	private final int batchHorizon;
+	private final int pathCacheSize;
+
+	/*
+	 * ILP solver
+	 */
+
+	private final Solver solver;
+	private final int timeOut;
+	private final int randomSeed;
+	private final double optTol;
+	private final double objScale;
+	private final boolean objLog;
+
+	/*
+	 * Pattern matcher
+	 */
+
+	private final PatternMatcher pm;
+
+	/*
+	 * Model (paths)
+	 */
+
+	private final int minPathLength;
+	private final int maxPathLength;
+	private final boolean ignoreBw;
+
+	/**
+	 * Creates a new configuration from the given builder.
+	 *
+	 * @param builder Builder to take all values from.
+	 */
+	private RunConfig(final Builder builder) {
+		this.obj = builder.obj;
+		this.emb = builder.emb;
+		this.pmSosEnabled = builder.pmSosEnabled;
+		this.pmNoMigrations = builder.pmNoMigrations;
+		this.netRejCostDynamic = builder.netRejCostDynamic;
+		this.pipelineSpeculative = builder.pipelineSpeculative;
+		this.pmRackDecomposition = builder.pmRackDecomposition;
+		this.pmVnetBinPacking = builder.pmVnetBinPacking;
+		this.pmVnetExactLimit = builder.pmVnetExactLimit;
+		this.pmVnetIlpFallback = builder.pmVnetIlpFallback;
+		this.batchHorizon = builder.batchHorizon;
+		this.pathCacheSize = builder.pathCacheSize;
+		this.solver = builder.solver;
+		this.timeOut = builder.timeOut;
+		this.randomSeed = builder.randomSeed;
+		this.optTol = builder.optTol;
+		this.objScale = builder.objScale;
+		this.objLog = builder.objLog;
+		this.pm = builder.pm;
+		this.minPathLength = builder.minPathLength;
+		this.maxPathLength = builder.maxPathLength;
+		this.ignoreBw = builder.ignoreBw;
+	}
+
+	/**
+	 * Takes a snapshot of the current values of all static configuration classes.
+	 *
+	 * @return New configuration.
+	 */
+	public static RunConfig global() {
+		return builder().build();
+	}
+
+	/**
+	 * Creates a new builder that is initialized with the current values of all
+	 * static configuration classes.
+	 *
+	 * @return New builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Creates a new builder that is initialized with the values of this
+	 * configuration.
+	 *
+	 * @return New builder.
+	 */
+	public Builder toBuilder() {
+		return new Builder(this);
+	}
+
+	/**
+	 * Returns a new instance of the configured ILP solver.
+	 *
+	 * @return New instance of the configured solver.
+	 */
+	public IncrementalIlpSolver createIlpSolver() {
+		switch (solver) {
+		case GUROBI:
+			return new IncrementalGurobiSolver(timeOut, randomSeed, optTol);
+		case CPLEX:
+			return new IncrementalCplexSolver(timeOut, randomSeed);
+		}
+		throw new UnsupportedOperationException("Solver type not implemented.");
+	}
+
+	/**
+	 * Transforms the input value of the former objective function according to the
+	 * settings for the ILP solver (see {@link IlpSolverConfig#transformObj(double)}).
+	 *
+	 * @param input Input value of the former objective function.
+	 * @return Transformed value according to the set parameters.
+	 */
+	public double transformObj(final double input) {
+		if (objLog) {
+			return Math.log10(input + 1) * objScale;
+		} else {
+			return input * objScale;
+		}
+	}
+
+	public Objective getObjective() {
+		return obj;
+	}
+
+	public Embedding getEmbedding() {
+		return emb;
+	}
+
+	public boolean isPmSosEnabled() {
+		return pmSosEnabled;
+	}
+
+	public int getPmNoMigrations() {
+		return pmNoMigrations;
+	}
+
+	public boolean isNetRejCostDynamic() {
+		return netRejCostDynamic;
+	}
+
+	public boolean isPipelineSpeculative() {
+		return pipelineSpeculative;
+	}
+
+	public boolean isPmRackDecomposition() {
+		return pmRackDecomposition;
+	}
+
+	public boolean isPmVnetBinPacking() {
+		return pmVnetBinPacking;
+	}
+
+	public int getPmVnetExactLimit() {
+		return pmVnetExactLimit;
+	}
+
+	public boolean isPmVnetIlpFallback() {
+		return pmVnetIlpFallback;
+	}
+
+	public int getBatchHorizon() {
+		return batchHorizon;
+	}
+
+	public int getPathCacheSize() {
+		return pathCacheSize;
+	}
+
+	public Solver getSolver() {
+		return solver;
+	}
+
+	public int getTimeOut() {
+		return timeOut;
+	}
+
+	public int getRandomSeed() {
+		return randomSeed;
+	}
+
+	public double getOptTol() {
+		return optTol;
+	}
+
+	public double getObjScale() {
+		return objScale;
+	}
+
+	public boolean isObjLog() {
+		return objLog;
+	}
+
+	public PatternMatcher getPatternMatcher() {
+		return pm;
+	}
+
+	public int getMinPathLength() {
+		return minPathLength;
+	}
+
+	public int getMaxPathLength() {
+		return maxPathLength;
+	}
+
+	public boolean isIgnoreBw() {
+		return ignoreBw;
+	}
+
+	/**
+	 * Builder for {@link RunConfig}s. All values default to the current values of
+	 * the static configuration classes.
+	 *
+	 * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+	 */
+	public static class Builder {
+
+		private Objective obj = AlgorithmConfig.obj;
+		private Embedding emb = AlgorithmConfig.emb;
+		private boolean pmSosEnabled = AlgorithmConfig.pmSosEnabled;
+		private int pmNoMigrations = AlgorithmConfig.pmNoMigrations;
+		private boolean netRejCostDynamic = AlgorithmConfig.netRejCostDynamic;
+		private boolean pipelineSpeculative = AlgorithmConfig.pipelineSpeculative;
+		private boolean pmRackDecomposition = AlgorithmConfig.pmRackDecomposition;
+		private boolean pmVnetBinPacking = AlgorithmConfig.pmVnetBinPacking;
+		private int pmVnetExactLimit = AlgorithmConfig.pmVnetExactLimit;
+		private boolean pmVnetIlpFallback = AlgorithmConfig.pmVnetIlpFallback;
+		private int batchHorizon = AlgorithmConfig.batchHorizon;
+		private int pathCacheSize = AlgorithmConfig.pathCacheSize;
+		private Solver solver = IlpSolverConfig.solver;
+		private int timeOut = IlpSolverConfig.TIME_OUT;
+		private int randomSeed = IlpSolverConfig.RANDOM_SEED;
+		private double optTol = IlpSolverConfig.OPT_TOL;
+		private double objScale = IlpSolverConfig.OBJ_SCALE;
+		private boolean objLog = IlpSolverConfig.OBJ_LOG;
+		private PatternMatcher pm = PatternMatchingConfig.pm;
+		private int minPathLength = ModelFacadeConfig.MIN_PATH_LENGTH;
+		private int maxPathLength = ModelFacadeConfig.MAX_PATH_LENGTH;
+		private boolean ignoreBw = ModelFacadeConfig.IGNORE_BW;
+
+		/**
+		 * Private constructor, use {@link RunConfig#builder()}.
+		 */
+		private Builder() {
+		}
+
+		/**
+		 * Private constructor, use {@link RunConfig#toBuilder()}.
+		 *
+		 * @param config Configuration to take all values from.
+		 */
+		private Builder(final RunConfig config) {
+			this.obj = config.obj;
+			this.emb = config.emb;
+			this.pmSosEnabled = config.pmSosEnabled;
+			this.pmNoMigrations = config.pmNoMigrations;
+			this.netRejCostDynamic = config.netRejCostDynamic;
+			this.pipelineSpeculative = config.pipelineSpeculative;
+			this.pmRackDecomposition = config.pmRackDecomposition;
+			this.pmVnetBinPacking = config.pmVnetBinPacking;
+			this.pmVnetExactLimit = config.pmVnetExactLimit;
+			this.pmVnetIlpFallback = config.pmVnetIlpFallback;
+			this.batchHorizon = config.batchHorizon;
+			this.pathCacheSize = config.pathCacheSize;
+			this.solver = config.solver;
+			this.timeOut = config.timeOut;
+			this.randomSeed = config.randomSeed;
+			this.optTol = config.optTol;
+			this.objScale = config.objScale;
+			this.objLog = config.objLog;
+			this.pm = config.pm;
+			this.minPathLength = config.minPathLength;
+			this.maxPathLength = config.maxPathLength;
+			this.ignoreBw = config.ignoreBw;
+		}
+
+		public Builder objective(final Objective obj) {
+			this.obj = obj;
+			return this;
+		}
+
+		public Builder embedding(final Embedding emb) {
+			this.emb = emb;
+			return this;
+		}
+
+		public Builder pmSosEnabled(final boolean pmSosEnabled) {
+			this.pmSosEnabled = pmSosEnabled;
+			return this;
+		}
+
+		public Builder pmNoMigrations(final int pmNoMigrations) {
+			this.pmNoMigrations = pmNoMigrations;
+			return this;
+		}
+
+		public Builder netRejCostDynamic(final boolean netRejCostDynamic) {
+			this.netRejCostDynamic = netRejCostDynamic;
+			return this;
+		}
+
+		public Builder pipelineSpeculative(final boolean pipelineSpeculative) {
+			this.pipelineSpeculative = pipelineSpeculative;
+			return this;
+		}
+
+		public Builder pmRackDecomposition(final boolean pmRackDecomposition) {
+			this.pmRackDecomposition = pmRackDecomposition;
+			return this;
+		}
+
+		public Builder pmVnetBinPacking(final boolean pmVnetBinPacking) {
+			this.pmVnetBinPacking = pmVnetBinPacking;
+			return this;
+		}
+
+		public Builder pmVnetExactLimit(final int pmVnetExactLimit) {
+			this.pmVnetExactLimit = pmVnetExactLimit;
+			return this;
+		}
+
+		public Builder pmVnetIlpFallback(final boolean pmVnetIlpFallback) {
+			this.pmVnetIlpFallback = pmVnetIlpFallback;
+			return this;
+		}
+
+		public Builder batchHorizon(final int batchHorizon) {
+			this.batchHorizon = batchHorizon;
+			return this;
+		}
+
+		public Builder pathCacheSize(final int pathCacheSize) {
+			this.pathCacheSize = pathCacheSize;
+			return this;
+		}
+
+		public Builder solver(final Solver solver) {
+			this.solver = solver;
+			return this;
+		}
+
+		public Builder timeOut(final int timeOut) {
+			this.timeOut = timeOut;
+			return this;
+		}
+
+		public Builder randomSeed(final int randomSeed) {
+			this.randomSeed = randomSeed;
+			return this;
+		}
+
+		public Builder optTol(final double optTol) {
+			this.optTol = optTol;
+			return this;
+		}
+
+		public Builder objScale(final double objScale) {
+			this.objScale = objScale;
+			return this;
+		}
+
+		public Builder objLog(final boolean objLog) {
+			this.objLog = objLog;
+			return this;
+		}
+
+		public Builder patternMatcher(final PatternMatcher pm) {
+			this.pm = pm;
+			return this;
+		}
+
+		public Builder minPathLength(final int minPathLength) {
+			this.minPathLength = minPathLength;
+			return this;
+		}
+
+		public Builder maxPathLength(final int maxPathLength) {
+			this.maxPathLength = maxPathLength;
+			return this;
+		}
+
+		public Builder ignoreBw(final boolean ignoreBw) {
+			this.ignoreBw = ignoreBw;
+			return this;
+		}
+
+		/**
+		 * Builds the configuration.
+		 *
+		 * @return New immutable configuration.
+		 * @throws IllegalArgumentException If one of the enumeration values is null.
+		 */
+		public RunConfig build() {
+			if (obj == null || emb == null || solver == null || pm == null) {
+				throw new IllegalArgumentException("Objective, embedding, solver and pattern matcher must be set.");
+			}
+			return new RunConfig(this);
+		}
+
+	}
+
+}
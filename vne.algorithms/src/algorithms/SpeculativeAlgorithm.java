@@ -0,0 +1,64 @@
+package algorithms;
+
+/**
+ * Algorithm that splits its execution into a planning, a solving, and a
+ * committing phase. Only the committing phase changes the embedding within the
+ * model. Therefore, an {@link AlgorithmPipeline} can plan and solve all of its
+ * stages speculatively in parallel and commit only one of the solutions.
+ *
+ * The phases must be called in the following order: {@link #plan()},
+ * {@link #solve()}, and either {@link #commit()} or nothing at all (the
+ * solution is discarded on the next call of {@link #plan()}). Only
+ * {@link #solve()} may be called from another thread and only
+ * {@link #terminate()} may be called while {@link #solve()} is running.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public interface SpeculativeAlgorithm extends Algorithm {
+
+	/**
+	 * Prepares the solving phase, e.g., by running the pattern matcher and by
+	 * creating the ILP formulation. This method must not change the embedding.
+	 *
+	 * @return False if no virtual network can be embedded at all (i.e., solving
+	 *         is not necessary).
+	 */
+	public boolean plan();
+
+	/**
+	 * Solves the planned problem. This method must neither change the model nor
+	 * any global (metrics) state, because it may run concurrently with the
+	 * solving phases of other algorithms.
+	 *
+	 * @return True if the solution embeds all virtual networks.
+	 */
+	public boolean solve();
+
+	/**
+	 * Terminates a running {@link #solve()} call as early as possible. May be
+	 * called from any thread, also before the solving phase started. A terminated
+	 * {@link #solve()} call returns false.
+	 */
+	public void terminate();
+
+	/**
+	 * Applies the solution of the last {@link #solve()} call to the model.
+	 *
+	 * @return True if all virtual networks were embedded.
+	 */
+	public boolean commit();
+
+	/**
+	 * Returns true if the phases above cover the complete execution of this
+	 * algorithm in its current configuration. Algorithms that execute differently
+	 * depending on their configuration must return false if {@link #plan()} and
+	 * {@link #solve()} would not solve the same problem as
+	 * {@link #execute()}.
+	 *
+	 * @return True if this algorithm can be executed speculatively.
+	 */
+	public default boolean canPlan() {
+		return true;
+	}
+
+}
@@ -0,0 +1,74 @@
+package algorithms;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import model.SubstrateNetwork;
+
+/**
+ * Registry of objects that are shared per substrate network (e.g., indices and
+ * caches). The objects are keyed by the substrate network object itself, i.e.,
+ * two networks with the same name (e.g., of two models) never share an object.
+ *
+ * The keys are held weakly. The registered objects reference their substrate
+ * network (and its elements), hence, they are held softly. Otherwise, the keys
+ * would never be cleared. The objects of substrate networks that are no longer
+ * used are therefore released at the latest when the heap runs low. If an
+ * object gets released while its substrate network is still in use, it will be
+ * created again on the next lookup, i.e., all registered objects must be
+ * derivable from the model.
+ *
+ * This class is not synchronized.
+ *
+ * @param <T> Type of the registered objects.
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+final class SubstrateNetworkRegistry<T> {
+
+	/**
+	 * All registered objects (substrate network -> object).
+	 */
+	private final Map<SubstrateNetwork, SoftReference<T>> objects = new WeakHashMap<>();
+
+	/**
+	 * Returns the object registered for the given substrate network.
+	 *
+	 * @param sNet Substrate network.
+	 * @return Registered object or null if there is none (anymore).
+	 */
+	T get(final SubstrateNetwork sNet) {
+		final SoftReference<T> ref = objects.get(sNet);
+		return ref == null ? null : ref.get();
+	}
+
+	/**
+	 * Registers the given object for the given substrate network. A previously
+	 * registered object will be replaced.
+	 *
+	 * @param sNet   Substrate network.
+	 * @param object Object to register.
+	 */
+	void put(final SubstrateNetwork sNet, final T object) {
+		objects.put(sNet, new SoftReference<>(object));
+	}
+
+	/**
+	 * Returns all registered objects that were not released yet.
+	 *
+	 * @return All registered objects.
+	 */
+	List<T> values() {
+		final List<T> values = new ArrayList<>(objects.size());
+		for (final SoftReference<T> ref : objects.values()) {
+			final T object = ref.get();
+			if (object != null) {
+				values.add(object);
+			}
+		}
+		return values;
+	}
+
+}
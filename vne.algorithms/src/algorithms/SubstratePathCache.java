@@ -0,0 +1,184 @@
+package algorithms;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import facade.ModelFacade;
+import model.SubstrateNetwork;
+import model.SubstrateNode;
+import model.SubstratePath;
+
+/**
+ * Bounded lookup cache (source, target) -> path for one substrate network. The
+ * model facade searches all paths of the substrate network for every lookup.
+ * This cache resolves a (source, target) pair only the first time it is
+ * requested and keeps the result in a least recently used (LRU) order. If the cache exceeds {@link RunConfig#getPathCacheSize()}
+ * entries, the least recently used entry will be evicted.
+ *
+ * This is a lookup cache only. It bounds the lookup table, but it does not
+ * create paths on demand. All substrate paths are still created eagerly by the
+ * model facade and stay part of the model, so the cache does not reduce the
+ * heap used by the paths.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class SubstratePathCache {
+
+	/**
+	 * All caches created so far (substrate network -> cache).
+	 */
+	private static final SubstrateNetworkRegistry<SubstratePathCache> caches = new SubstrateNetworkRegistry<>();
+
+	/**
+	 * Key of one cache entry.
+	 */
+	private record Key(SubstrateNode source, SubstrateNode target) {
+	}
+
+	/**
+	 * Model facade to resolve missing paths with.
+	 */
+	private final ModelFacade modelFacade;
+
+	/**
+	 * Substrate network of this cache.
+	 */
+	private final SubstrateNetwork sNet;
+
+	/**
+	 * Cached paths in access order (least recently used first).
+	 */
+	private final LinkedHashMap<Key, SubstratePath> paths = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Maximum number of cached paths.
+	 */
+	private final int maxSize;
+
+	/**
+	 * Number of lookups that were answered from the cache.
+	 */
+	private long hits = 0;
+
+	/**
+	 * Number of lookups that had to be resolved by the model facade.
+	 */
+	private long misses = 0;
+
+	/**
+	 * Creates a new cache for the given substrate network.
+	 *
+	 * @param modelFacade Model facade to resolve missing paths with.
+	 * @param sNet        Substrate network to cache the paths of.
+	 * @param maxSize     Maximum number of cached paths.
+	 */
+	private SubstratePathCache(final ModelFacade modelFacade, final SubstrateNetwork sNet, final int maxSize) {
+		this.modelFacade = modelFacade;
+		this.sNet = sNet;
+		this.maxSize = Math.max(maxSize, 1);
+	}
+
+	/**
+	 * Returns the shared cache of the given substrate network. The size bound is
+	 * taken from the given configuration.
+	 *
+	 * @param config      Configuration of the current run.
+	 * @param modelFacade Model facade to resolve missing paths with.
+	 * @param sNet        Substrate network.
+	 * @return Shared cache of the given substrate network.
+	 */
+	public static synchronized SubstratePathCache of(final RunConfig config, final ModelFacade modelFacade,
+			final SubstrateNetwork sNet) {
+		if (config == null || modelFacade == null || sNet == null) {
+			throw new IllegalArgumentException("Configuration, model facade and substrate network must not be null.");
+		}
+
+		SubstratePathCache cache = caches.get(sNet);
+
+		// Another model facade or size bound replaces the old cache
+		if (cache == null || cache.modelFacade != modelFacade
+				|| cache.maxSize != Math.max(config.getPathCacheSize(), 1)) {
+			cache = new SubstratePathCache(modelFacade, sNet, config.getPathCacheSize());
+			caches.put(sNet, cache);
+		}
+
+		return cache;
+	}
+
+	/**
+	 * Returns the substrate path from the given source to the given target node.
+	 * Cached paths that were removed from the substrate network in the meantime
+	 * (e.g., by removing a substrate server) are resolved again.
+	 *
+	 * @param source Source node.
+	 * @param target Target node.
+	 * @return Substrate path from source to target or null if there is none.
+	 */
+	public synchronized SubstratePath get(final SubstrateNode source, final SubstrateNode target) {
+		final Key key = new Key(source, target);
+		final SubstratePath cached = paths.get(key);
+		if (cached != null && cached.eContainer() != null) {
+			hits++;
+			return cached;
+		}
+
+		misses++;
+		final SubstratePath path = modelFacade.getPathFromSourceToTarget(source, target);
+		if (path == null) {
+			paths.remove(key);
+			return null;
+		}
+
+		paths.put(key, path);
+		evict();
+		return path;
+	}
+
+	/**
+	 * Removes all entries from this cache and resets its counters.
+	 */
+	public synchronized void clear() {
+		paths.clear();
+		hits = 0;
+		misses = 0;
+	}
+
+	/**
+	 * Returns the number of cached paths.
+	 *
+	 * @return Number of cached paths.
+	 */
+	public synchronized int size() {
+		return paths.size();
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the substrate network of this cache.
+	 *
+	 * @return Substrate network of this cache.
+	 */
+	public SubstrateNetwork getSubstrateNetwork() {
+		return sNet;
+	}
+
+	/**
+	 * Evicts the least recently used entries until the cache does not exceed its
+	 * size bound anymore.
+	 */
+	private void evict() {
+		final Iterator<SubstratePath> it = paths.values().iterator();
+		while (paths.size() > maxSize) {
+			it.next();
+			it.remove();
+		}
+	}
+
+}
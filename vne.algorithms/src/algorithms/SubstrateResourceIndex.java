@@ -0,0 +1,449 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+
+import algorithms.VirtualNetworkDemand.ServerDemand;
+import model.Node;
+import model.SubstrateNetwork;
+import model.SubstrateServer;
+import model.VirtualNetwork;
+
+/**
+ * Shared index over the residual resources (CPU, memory, storage) of all
+ * substrate servers of one substrate network. It answers the questions "which
+ * servers can host a demand d?" and "which server has the largest residual
+ * resources?" without scanning all substrate servers.
+ *
+ * The index is kept up to date by model change notifications: It listens to
+ * all substrate servers of the network (e.g., changed residual resources due to
+ * an embedding or unembedding) and to the network itself (added or removed
+ * substrate servers). Changed servers are collected and re-indexed before the
+ * next query, i.e., the costs of an update only depend on the number of changed
+ * servers. Added or removed servers trigger a rebuild of the whole index.
+ * Hence, algorithms do not have to report their (un-)embeddings.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class SubstrateResourceIndex {
+
+	/**
+	 * All indices created so far (substrate network -> index).
+	 */
+	private static final SubstrateNetworkRegistry<SubstrateResourceIndex> indices = new SubstrateNetworkRegistry<>();
+
+	/**
+	 * Snapshot of the residual resources of one substrate server. The snapshot is
+	 * immutable, because the ordering of the sorted sets below must not change
+	 * while an entry is part of them.
+	 */
+	private record Entry(SubstrateServer server, long cpu, long mem, long sto) {
+
+		/**
+		 * Returns the sum of all residual resources.
+		 *
+		 * @return Sum of all residual resources.
+		 */
+		long sum() {
+			return cpu + mem + sto;
+		}
+
+		/**
+		 * Returns true if the snapshot satisfies the given demand.
+		 *
+		 * @param cpu Demanded CPU.
+		 * @param mem Demanded memory.
+		 * @param sto Demanded storage.
+		 * @return True if the snapshot satisfies the given demand.
+		 */
+		boolean fits(final long cpu, final long mem, final long sto) {
+			return this.cpu >= cpu && this.mem >= mem && this.sto >= sto;
+		}
+
+	}
+
+	/**
+	 * Tie breaker for all comparators (the server names are unique).
+	 */
+	private static final Comparator<Entry> BY_NAME = Comparator.comparing(e -> e.server().getName());
+
+	/**
+	 * Substrate network of this index.
+	 */
+	private final SubstrateNetwork sNet;
+
+	/**
+	 * Current snapshot per substrate server.
+	 */
+	private final Map<SubstrateServer, Entry> entries = new HashMap<>();
+
+	/**
+	 * All snapshots ordered by residual CPU (descending).
+	 */
+	private final TreeSet<Entry> byCpu = createSet(Entry::cpu);
+
+	/**
+	 * All snapshots ordered by residual memory (descending).
+	 */
+	private final TreeSet<Entry> byMem = createSet(Entry::mem);
+
+	/**
+	 * All snapshots ordered by residual storage (descending).
+	 */
+	private final TreeSet<Entry> bySto = createSet(Entry::sto);
+
+	/**
+	 * All snapshots ordered by the sum of their residual resources (descending).
+	 */
+	private final TreeSet<Entry> bySum = createSet(Entry::sum);
+
+	/**
+	 * Total residual CPU of all indexed servers.
+	 */
+	private long totalResidualCpu = 0;
+
+	/**
+	 * Total residual memory of all indexed servers.
+	 */
+	private long totalResidualMem = 0;
+
+	/**
+	 * Total residual storage of all indexed servers.
+	 */
+	private long totalResidualSto = 0;
+
+	/**
+	 * Substrate servers that changed since the last synchronization.
+	 */
+	private final Set<SubstrateServer> changedServers = new HashSet<>();
+
+	/**
+	 * True if substrate servers were added to or removed from the network since
+	 * the last synchronization.
+	 */
+	private boolean serversChanged = true;
+
+	/**
+	 * Listener that is attached to the substrate network and all of its
+	 * substrate servers.
+	 */
+	private final Adapter listener = new AdapterImpl() {
+		@Override
+		public void notifyChanged(final Notification notification) {
+			if (!notification.isTouch()) {
+				changed(notification);
+			}
+		}
+	};
+
+	/**
+	 * Creates a new index for the given substrate network.
+	 *
+	 * @param sNet Substrate network to index.
+	 */
+	private SubstrateResourceIndex(final SubstrateNetwork sNet) {
+		this.sNet = sNet;
+		sNet.eAdapters().add(listener);
+	}
+
+	/**
+	 * Returns the (synchronized) shared index of the given substrate network.
+	 *
+	 * @param sNet Substrate network.
+	 * @return Shared index of the given substrate network.
+	 */
+	public static synchronized SubstrateResourceIndex of(final SubstrateNetwork sNet) {
+		if (sNet == null) {
+			throw new IllegalArgumentException("Substrate network must not be null.");
+		}
+
+		SubstrateResourceIndex index = indices.get(sNet);
+		if (index == null) {
+			index = new SubstrateResourceIndex(sNet);
+			indices.put(sNet, index);
+		}
+
+		index.sync();
+		return index;
+	}
+
+	/**
+	 * Returns all substrate servers whose residual resources satisfy the given
+	 * demand, ordered by their residual CPU (descending). Only the servers that
+	 * satisfy the demand of the most selective resource are visited.
+	 *
+	 * @param cpu Demanded CPU.
+	 * @param mem Demanded memory.
+	 * @param sto Demanded storage.
+	 * @return All substrate servers whose residual resources satisfy the demand.
+	 */
+	public synchronized List<SubstrateServer> getServersThatFit(final long cpu, final long mem, final long sto) {
+		sync();
+		final List<Entry> fitting = new ArrayList<>();
+		for (final Entry e : getCandidates(cpu, mem, sto)) {
+			if (e.fits(cpu, mem, sto)) {
+				fitting.add(e);
+			}
+		}
+
+		fitting.sort(byCpu.comparator());
+		return fitting.stream().map(Entry::server).toList();
+	}
+
+	/**
+	 * Returns true if at least one substrate server satisfies the given demand.
+	 *
+	 * @param cpu Demanded CPU.
+	 * @param mem Demanded memory.
+	 * @param sto Demanded storage.
+	 * @return True if at least one substrate server satisfies the given demand.
+	 */
+	public synchronized boolean anyServerFits(final long cpu, final long mem, final long sto) {
+		sync();
+		for (final Entry e : getCandidates(cpu, mem, sto)) {
+			if (e.fits(cpu, mem, sto)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the substrate server with the largest sum of residual resources.
+	 *
+	 * @return Substrate server with the largest sum of residual resources or null
+	 *         if the substrate network does not contain any server.
+	 */
+	public synchronized SubstrateServer getLargestResidualServer() {
+		sync();
+		return bySum.isEmpty() ? null : bySum.first().server();
+	}
+
+	/**
+	 * Returns true if the given virtual network may be embedded at all: The total
+	 * residual resources of all substrate servers must cover the total demand of
+	 * the virtual network and every virtual server must fit onto at least one
+	 * substrate server. The check is based on the aggregated counters of this
+	 * index and the cached demand of the virtual network, i.e., it does not
+	 * iterate over all substrate servers.
+	 *
+	 * @param vNet Virtual network to check.
+	 * @return True if the given virtual network may be embedded.
+	 */
+	public synchronized boolean mayHost(final VirtualNetwork vNet) {
+		if (!coversTotalDemand(vNet)) {
+			return false;
+		}
+
+		for (final ServerDemand d : VirtualNetworkDemand.of(vNet).getServerDemands()) {
+			if (!anyServerFits(d.cpu(), d.mem(), d.sto())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if the total residual resources of all substrate servers cover
+	 * the total demand of the given virtual network.
+	 *
+	 * @param vNet Virtual network to check.
+	 * @return True if the total residual resources cover the total demand.
+	 */
+	public synchronized boolean coversTotalDemand(final VirtualNetwork vNet) {
+		sync();
+		final VirtualNetworkDemand demand = VirtualNetworkDemand.of(vNet);
+		return totalResidualCpu >= demand.getCpu() && totalResidualMem >= demand.getMemory()
+				&& totalResidualSto >= demand.getStorage();
+	}
+
+	public synchronized long getTotalResidualCpu() {
+		sync();
+		return totalResidualCpu;
+	}
+
+	public synchronized long getTotalResidualMemory() {
+		sync();
+		return totalResidualMem;
+	}
+
+	public synchronized long getTotalResidualStorage() {
+		sync();
+		return totalResidualSto;
+	}
+
+	/**
+	 * Returns the substrate network of this index.
+	 *
+	 * @return Substrate network of this index.
+	 */
+	public SubstrateNetwork getSubstrateNetwork() {
+		return sNet;
+	}
+
+	/*
+	 * Utility methods.
+	 */
+
+	/**
+	 * Creates a new sorted set of snapshots ordered by the given resource
+	 * (descending).
+	 *
+	 * @param resource Resource to order by.
+	 * @return New sorted set.
+	 */
+	private static TreeSet<Entry> createSet(final ToLongFunction<Entry> resource) {
+		return new TreeSet<>(Comparator.comparingLong(resource).reversed().thenComparing(BY_NAME));
+	}
+
+	/**
+	 * Handles a change notification of the model.
+	 *
+	 * @param notification Change notification.
+	 */
+	private synchronized void changed(final Notification notification) {
+		if (notification.getNotifier() instanceof SubstrateServer ssrv) {
+			changedServers.add(ssrv);
+		} else if (containsServer(notification.getNewValue()) || containsServer(notification.getOldValue())) {
+			serversChanged = true;
+		}
+	}
+
+	/**
+	 * Returns true if the given notification value is or contains a substrate
+	 * server.
+	 *
+	 * @param value Notification value.
+	 * @return True if the value is or contains a substrate server.
+	 */
+	private static boolean containsServer(final Object value) {
+		if (value instanceof Collection<?> values) {
+			return values.stream().anyMatch(SubstrateServer.class::isInstance);
+		}
+		return value instanceof SubstrateServer;
+	}
+
+	/**
+	 * Applies all changes since the last synchronization to the index.
+	 */
+	private synchronized void sync() {
+		if (serversChanged) {
+			rebuild();
+			return;
+		}
+
+		changedServers.forEach(this::update);
+		changedServers.clear();
+	}
+
+	/**
+	 * Rebuilds the whole index from the model and attaches the listener to all
+	 * current substrate servers.
+	 */
+	private void rebuild() {
+		for (final SubstrateServer ssrv : entries.keySet()) {
+			ssrv.eAdapters().remove(listener);
+		}
+
+		entries.clear();
+		byCpu.clear();
+		byMem.clear();
+		bySto.clear();
+		bySum.clear();
+		totalResidualCpu = 0;
+		totalResidualMem = 0;
+		totalResidualSto = 0;
+
+		for (final Node n : sNet.getNodess()) {
+			if (n instanceof SubstrateServer ssrv) {
+				ssrv.eAdapters().add(listener);
+				update(ssrv);
+			}
+		}
+
+		changedServers.clear();
+		serversChanged = false;
+	}
+
+	/**
+	 * Re-indexes the given substrate server with its current residual resources.
+	 *
+	 * @param server Substrate server to re-index.
+	 */
+	private void update(final SubstrateServer server) {
+		final Entry old = entries.remove(server);
+		if (old != null) {
+			byCpu.remove(old);
+			byMem.remove(old);
+			bySto.remove(old);
+			bySum.remove(old);
+			totalResidualCpu -= old.cpu();
+			totalResidualMem -= old.mem();
+			totalResidualSto -= old.sto();
+		}
+
+		// Removed servers must not be re-added
+		if (server.getNetwork() != sNet) {
+			return;
+		}
+
+		final Entry act = new Entry(server, server.getResidualCpu(), server.getResidualMemory(),
+				server.getResidualStorage());
+		entries.put(server, act);
+		byCpu.add(act);
+		byMem.add(act);
+		bySto.add(act);
+		bySum.add(act);
+		totalResidualCpu += act.cpu();
+		totalResidualMem += act.mem();
+		totalResidualSto += act.sto();
+	}
+
+	/**
+	 * Returns all snapshots that satisfy the given demand of the most selective
+	 * resource (a superset of all snapshots that satisfy the whole demand). The
+	 * three orderings are walked in lockstep until the first one reaches a
+	 * snapshot below its demand. Hence, the costs are bounded by the number of
+	 * servers that satisfy the demand of the most selective resource.
+	 *
+	 * @param cpu Demanded CPU.
+	 * @param mem Demanded memory.
+	 * @param sto Demanded storage.
+	 * @return All snapshots that satisfy the demand of one resource.
+	 */
+	private List<Entry> getCandidates(final long cpu, final long mem, final long sto) {
+		final List<Iterator<Entry>> its = List.of(byCpu.iterator(), byMem.iterator(), bySto.iterator());
+		final List<ToLongFunction<Entry>> resources = List.of(Entry::cpu, Entry::mem, Entry::sto);
+		final long[] demands = { cpu, mem, sto };
+		final List<List<Entry>> visited = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+
+		while (true) {
+			for (int i = 0; i < demands.length; i++) {
+				if (!its.get(i).hasNext()) {
+					return visited.get(i);
+				}
+
+				final Entry e = its.get(i).next();
+				// All following snapshots have even less residual resources
+				if (resources.get(i).applyAsLong(e) < demands[i]) {
+					return visited.get(i);
+				}
+				visited.get(i).add(e);
+			}
+		}
+	}
+
+}
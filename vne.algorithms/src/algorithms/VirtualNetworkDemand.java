@@ -0,0 +1,231 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import model.Link;
+import model.Node;
+import model.VirtualLink;
+import model.VirtualNetwork;
+import model.VirtualServer;
+
+/**
+ * Aggregated resource demand of all virtual servers and links of one virtual
+ * network. The demand of a virtual network does not change while it waits for
+ * its embedding. Therefore, it is calculated once and cached per virtual
+ * network (until nodes or links are added or removed).
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class VirtualNetworkDemand {
+
+	/**
+	 * Cache of all demands calculated so far (virtual network -> demand).
+	 */
+	private static final Map<VirtualNetwork, VirtualNetworkDemand> cache = new WeakHashMap<>();
+
+	/**
+	 * Resource demand of a single virtual server.
+	 */
+	public record ServerDemand(long cpu, long mem, long sto) {
+	}
+
+	/**
+	 * Total CPU demand.
+	 */
+	private final long cpu;
+
+	/**
+	 * Total memory demand.
+	 */
+	private final long mem;
+
+	/**
+	 * Total storage demand.
+	 */
+	private final long sto;
+
+	/**
+	 * All distinct demands of single virtual servers.
+	 */
+	private final List<ServerDemand> serverDemands;
+
+	/**
+	 * Largest bandwidth demand of a single virtual link.
+	 */
+	private final long maxLinkBandwidth;
+
+	/**
+	 * Bandwidth of the minimum cut of the (undirected) virtual network. Every
+	 * partition of the virtual network into two non-empty parts has to transfer
+	 * at least this amount of bandwidth between both parts.
+	 */
+	private final long minCutBandwidth;
+
+	/**
+	 * Number of nodes of the virtual network at calculation time.
+	 */
+	private final int nodes;
+
+	/**
+	 * Number of links of the virtual network at calculation time.
+	 */
+	private final int links;
+
+	/**
+	 * Calculates the demand of the given virtual network.
+	 *
+	 * @param vNet Virtual network.
+	 */
+	private VirtualNetworkDemand(final VirtualNetwork vNet) {
+		long cpu = 0;
+		long mem = 0;
+		long sto = 0;
+		final Set<ServerDemand> distinct = new LinkedHashSet<>();
+
+		for (final Node n : vNet.getNodess()) {
+			if (n instanceof VirtualServer vsrv) {
+				cpu += vsrv.getCpu();
+				mem += vsrv.getMemory();
+				sto += vsrv.getStorage();
+				distinct.add(new ServerDemand(vsrv.getCpu(), vsrv.getMemory(), vsrv.getStorage()));
+			}
+		}
+
+		this.cpu = cpu;
+		this.mem = mem;
+		this.sto = sto;
+		this.serverDemands = Collections.unmodifiableList(new ArrayList<>(distinct));
+		this.maxLinkBandwidth = vNet.getLinks().stream().mapToLong(l -> ((VirtualLink) l).getBandwidth()).max()
+				.orElse(0);
+		this.minCutBandwidth = calculateMinCut(vNet);
+		this.nodes = vNet.getNodess().size();
+		this.links = vNet.getLinks().size();
+	}
+
+	/**
+	 * Calculates the bandwidth of the minimum cut of the given virtual network
+	 * with the algorithm of Stoer and Wagner. The direction of the virtual links is
+	 * ignored, i.e., the bandwidths of both directions are summed up.
+	 *
+	 * @param vNet Virtual network.
+	 * @return Bandwidth of the minimum cut of the given virtual network.
+	 */
+	private static long calculateMinCut(final VirtualNetwork vNet) {
+		final List<Node> vNodes = vNet.getNodess();
+		final int n = vNodes.size();
+		if (n < 2) {
+			return 0;
+		}
+
+		final Map<Node, Integer> positions = new HashMap<>();
+		for (int i = 0; i < n; i++) {
+			positions.put(vNodes.get(i), i);
+		}
+
+		final long[][] weights = new long[n][n];
+		for (final Link l : vNet.getLinks()) {
+			final int src = positions.get(l.getSource());
+			final int trg = positions.get(l.getTarget());
+			if (src != trg) {
+				weights[src][trg] += ((VirtualLink) l).getBandwidth();
+				weights[trg][src] += ((VirtualLink) l).getBandwidth();
+			}
+		}
+
+		long best = Long.MAX_VALUE;
+		final boolean[] merged = new boolean[n];
+		for (int phase = 0; phase < n - 1; phase++) {
+			final long[] connectivity = new long[n];
+			final boolean[] added = new boolean[n];
+			int prev = -1;
+			int last = -1;
+
+			for (int i = 0; i < n - phase; i++) {
+				int next = -1;
+				for (int j = 0; j < n; j++) {
+					if (!merged[j] && !added[j] && (next == -1 || connectivity[j] > connectivity[next])) {
+						next = j;
+					}
+				}
+
+				added[next] = true;
+				prev = last;
+				last = next;
+				for (int j = 0; j < n; j++) {
+					connectivity[j] += weights[next][j];
+				}
+			}
+
+			best = Math.min(best, connectivity[last]);
+
+			// Merge the last two nodes of this phase
+			for (int j = 0; j < n; j++) {
+				if (j != prev && j != last) {
+					weights[prev][j] += weights[last][j];
+					weights[j][prev] = weights[prev][j];
+				}
+			}
+			merged[last] = true;
+		}
+
+		return best;
+	}
+
+	/**
+	 * Returns the (cached) demand of the given virtual network.
+	 *
+	 * @param vNet Virtual network.
+	 * @return Demand of the given virtual network.
+	 */
+	public static synchronized VirtualNetworkDemand of(final VirtualNetwork vNet) {
+		VirtualNetworkDemand demand = cache.get(vNet);
+		if (demand == null || demand.nodes != vNet.getNodess().size() || demand.links != vNet.getLinks().size()) {
+			demand = new VirtualNetworkDemand(vNet);
+			cache.put(vNet, demand);
+		}
+		return demand;
+	}
+
+	public long getCpu() {
+		return cpu;
+	}
+
+	public long getMemory() {
+		return mem;
+	}
+
+	public long getStorage() {
+		return sto;
+	}
+
+	public long getMaxLinkBandwidth() {
+		return maxLinkBandwidth;
+	}
+
+	/**
+	 * Returns the bandwidth that has to be transferred between any two non-empty
+	 * parts of the virtual network (i.e., the bandwidth of its minimum cut).
+	 *
+	 * @return Bandwidth of the minimum cut of the virtual network.
+	 */
+	public long getMinCutBandwidth() {
+		return minCutBandwidth;
+	}
+
+	/**
+	 * Returns all distinct resource demands of single virtual servers.
+	 *
+	 * @return All distinct resource demands of single virtual servers.
+	 */
+	public List<ServerDemand> getServerDemands() {
+		return serverDemands;
+	}
+
+}
@@ -31,4 +31,12 @@ public interface GipsAlgorithm extends Algorithm {
 
 	public abstract Map<String, IMeasurement> getMeasurements();
 
+	/**
+	 * Returns the state of the GIPS engine, i.e., whether it is initialized and how
+	 * much initialization time was saved by reusing it.
+	 * 
+	 * @return The state of the GIPS engine.
+	 */
+	public abstract GipsEngineState getEngineState();
+
 }
@@ -0,0 +1,166 @@
+package algorithms.gips;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.emoflon.gips.core.util.IMeasurement;
+import org.emoflon.gips.gipsl.examples.mdvne.MdvneGipsIflyeAdapter;
+
+/**
+ * Keeps track of the initialization state of the GIPS engine of a GIPS-based
+ * VNE algorithm. The GIPS adapters load the GIPS model, the pattern set and the
+ * HiPE network only on their first execution and reuse the warm engine for all
+ * following executions until they get reset. This class makes sure that the
+ * engine is only reset if the model (resource set) changes, and it estimates
+ * the initialization time that was saved by reusing the warm engine.
+ *
+ * The initialization time of the first (cold) execution is estimated as its
+ * wall time minus all measured GIPS phases (pattern matching, building and
+ * solving the problem). If the adapter does not provide measurements, the
+ * difference between the first and the second execution is used instead.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class GipsEngineState {
+
+	/**
+	 * Measured GIPS phases that are part of every execution.
+	 */
+	private static final List<String> PHASES = List.of("PM", "BUILD", "SOLVE_PROBLEM");
+
+	/**
+	 * Model the engine was initialized with or null if the engine is cold.
+	 */
+	private ResourceSet model;
+
+	/**
+	 * Wall time of the cold execution in seconds.
+	 */
+	private double coldSeconds;
+
+	/**
+	 * Estimated initialization time in seconds or a negative value if it is not
+	 * known (yet).
+	 */
+	private double initSeconds = -1;
+
+	/**
+	 * Initialization time saved by all warm executions in seconds.
+	 */
+	private double savedSeconds;
+
+	/**
+	 * Initialization time saved by the last execution in seconds.
+	 */
+	private double lastSavedSeconds;
+
+	/**
+	 * Executes the given GIPS execution. If the engine was initialized with
+	 * another model, it will be reset beforehand.
+	 *
+	 * @param model     Model to execute the GIPS engine on.
+	 * @param resetInit Operation that resets the GIPS engine of the adapter.
+	 * @param execution GIPS execution to run.
+	 * @return Output of the GIPS execution.
+	 */
+	public MdvneGipsIflyeAdapter.MdvneIflyeOutput execute(final ResourceSet model, final Runnable resetInit,
+			final Supplier<MdvneGipsIflyeAdapter.MdvneIflyeOutput> execution) {
+		if (this.model != null && this.model != model) {
+			resetInit.run();
+			reset();
+		}
+
+		final boolean warm = this.model != null;
+		lastSavedSeconds = 0;
+		final long start = System.nanoTime();
+		final MdvneGipsIflyeAdapter.MdvneIflyeOutput output = execution.get();
+		final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		this.model = model;
+
+		if (!warm) {
+			coldSeconds = seconds;
+			final double phases = sumPhases(output);
+			if (phases >= 0) {
+				initSeconds = Math.max(0, seconds - phases);
+			}
+		} else {
+			if (initSeconds < 0) {
+				initSeconds = Math.max(0, coldSeconds - seconds);
+			}
+			lastSavedSeconds = initSeconds;
+			savedSeconds += initSeconds;
+		}
+
+		return output;
+	}
+
+	/**
+	 * Resets the state to a cold engine. Must be called whenever the GIPS engine
+	 * of the adapter gets reset.
+	 */
+	public void reset() {
+		model = null;
+		coldSeconds = 0;
+		initSeconds = -1;
+		savedSeconds = 0;
+		lastSavedSeconds = 0;
+	}
+
+	/**
+	 * Returns true if the GIPS engine is initialized.
+	 *
+	 * @return True if the GIPS engine is initialized.
+	 */
+	public boolean isWarm() {
+		return model != null;
+	}
+
+	/**
+	 * Returns the estimated initialization time of the GIPS engine.
+	 *
+	 * @return Estimated initialization time in seconds or 0 if it is not known
+	 *         (yet).
+	 */
+	public double getInitSeconds() {
+		return Math.max(0, initSeconds);
+	}
+
+	/**
+	 * Returns the initialization time saved by reusing the warm GIPS engine since
+	 * its initialization.
+	 *
+	 * @return Saved initialization time in seconds.
+	 */
+	public double getSavedSeconds() {
+		return savedSeconds;
+	}
+
+	/**
+	 * Returns the initialization time saved by the last execution, i.e., zero if
+	 * the last execution was a cold one.
+	 *
+	 * @return Saved initialization time of the last execution in seconds.
+	 */
+	public double getLastSavedSeconds() {
+		return lastSavedSeconds;
+	}
+
+	/**
+	 * Returns the sum of all measured GIPS phases of the given output.
+	 *
+	 * @param output Output of a GIPS execution.
+	 * @return Sum of all measured phases in seconds or a negative value if the
+	 *         output does not provide measurements.
+	 */
+	private static double sumPhases(final MdvneGipsIflyeAdapter.MdvneIflyeOutput output) {
+		final Map<String, IMeasurement> measurements = output == null ? null : output.measurements();
+		if (measurements == null || !measurements.keySet().containsAll(PHASES)) {
+			return -1;
+		}
+
+		return PHASES.stream().mapToDouble(p -> measurements.get(p).maxDurationSeconds()).sum();
+	}
+
+}
@@ -9,7 +9,6 @@ import org.emoflon.gips.core.util.IMeasurement;
 import org.emoflon.gips.gipsl.examples.mdvne.MdvneGipsIflyeAdapter;
 
 import algorithms.AbstractAlgorithm;
-import algorithms.AlgorithmConfig;
 import algorithms.AlgorithmConfig.Objective;
 import facade.ModelFacade;
 import model.SubstrateNetwork;
@@ -37,6 +36,11 @@ public class VneGipsAlgorithm extends AbstractAlgorithm implements GipsAlgorithm
 	 */
 	private MdvneGipsIflyeAdapter.MdvneIflyeOutput iflyeOutput;
 
+	/**
+	 * State of the GIPS engine of the adapter.
+	 */
+	private final GipsEngineState engine = new GipsEngineState();
+
 	/**
 	 * Initializes a new GIPS algorithm with the global model facade.
 	 */
@@ -80,17 +84,18 @@ public class VneGipsAlgorithm extends AbstractAlgorithm implements GipsAlgorithm
 	@Override
 	public boolean execute() {
 		// Check if correct objective is used
-		if (AlgorithmConfig.obj != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
+		if (config.getObjective() != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
 			throw new UnsupportedOperationException(
 					"The VNE GIPS algorithm can only be used with the total communication cost C.");
 		}
 
 		// TODO: Time measurement
 		final ResourceSet model = getModelFacade().getResourceSet();
-		this.iflyeOutput = iflyeAdapter.execute(model,
+		this.iflyeOutput = engine.execute(model, iflyeAdapter::resetInit, () -> iflyeAdapter.execute(model,
 				GIPS_PROJECT_BASE_PATH + "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/api/gips/gips-model.xmi",
 				GIPS_PROJECT_BASE_PATH + "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/api/ibex-patterns.xmi",
-				GIPS_PROJECT_BASE_PATH + "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/hipe/engine/hipe-network.xmi");
+				GIPS_PROJECT_BASE_PATH
+						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/hipe/engine/hipe-network.xmi"));
 
 		final boolean gipsSuccess = this.iflyeOutput.solverOutput().solutionCount() > 0;
 
@@ -116,12 +121,18 @@ public class VneGipsAlgorithm extends AbstractAlgorithm implements GipsAlgorithm
 		return this.iflyeOutput.measurements();
 	}
 
+	@Override
+	public GipsEngineState getEngineState() {
+		return engine;
+	}
+
 	/**
 	 * Resets the algorithm instance.
 	 */
 	@Override
 	public void dispose() {
 		iflyeAdapter.resetInit();
+		engine.reset();
 	}
 
 }
@@ -10,10 +10,8 @@ import org.emoflon.gips.gipsl.examples.mdvne.MdvneGipsIflyeAdapter;
 import org.emoflon.gips.gipsl.examples.mdvne.bwignore.MdvneGipsBwIgnoreIflyeAdapter;
 
 import algorithms.AbstractAlgorithm;
-import algorithms.AlgorithmConfig;
 import algorithms.AlgorithmConfig.Objective;
 import facade.ModelFacade;
-import facade.config.ModelFacadeConfig;
 import model.SubstrateNetwork;
 import model.VirtualNetwork;
 
@@ -40,6 +38,11 @@ public class VneGipsBwIgnoreAlgorithm extends AbstractAlgorithm implements GipsA
 	 */
 	private MdvneGipsIflyeAdapter.MdvneIflyeOutput iflyeOutput;
 
+	/**
+	 * State of the GIPS engine of the adapter.
+	 */
+	private final GipsEngineState engine = new GipsEngineState();
+
 	/**
 	 * Initialize the algorithm with the global model facade.
 	 */
@@ -61,25 +64,25 @@ public class VneGipsBwIgnoreAlgorithm extends AbstractAlgorithm implements GipsA
 	@Override
 	public boolean execute() {
 		// Check if correct objective is used
-		if (AlgorithmConfig.obj != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
+		if (config.getObjective() != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
 			throw new UnsupportedOperationException(
 					"The VNE GIPS algorithm can only be used with the total communication cost C.");
 		}
 
-		if (!ModelFacadeConfig.IGNORE_BW) {
+		if (!config.isIgnoreBw()) {
 			throw new UnsupportedOperationException(
 					"Bandwidth ignore must be globally enabled when using this VNE algorithm implementation.");
 		}
 
 		// TODO: Time measurement
 		final ResourceSet model = getModelFacade().getResourceSet();
-		iflyeOutput = iflyeAdapter.execute(model,
+		iflyeOutput = engine.execute(model, iflyeAdapter::resetInit, () -> iflyeAdapter.execute(model,
 				GIPS_PROJECT_BASE_PATH
 						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/bwignore/api/gips/gips-model.xmi",
 				GIPS_PROJECT_BASE_PATH
 						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/bwignore/api/ibex-patterns.xmi",
 				GIPS_PROJECT_BASE_PATH
-						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/bwignore/hipe/engine/hipe-network.xmi");
+						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/bwignore/hipe/engine/hipe-network.xmi"));
 
 		final boolean gipsSuccess = this.iflyeOutput.solverOutput().solutionCount() > 0;
 
@@ -120,12 +123,18 @@ public class VneGipsBwIgnoreAlgorithm extends AbstractAlgorithm implements GipsA
 		super.prepare(sNet, vNets);
 	}
 
+	@Override
+	public GipsEngineState getEngineState() {
+		return engine;
+	}
+
 	/**
 	 * Resets the algorithm instance.
 	 */
 	@Override
 	public void dispose() {
 		iflyeAdapter.resetInit();
+		engine.reset();
 	}
 
 }
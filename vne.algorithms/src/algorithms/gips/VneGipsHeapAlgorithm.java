@@ -10,7 +10,6 @@ import org.emoflon.gips.gipsl.examples.mdvne.MdvneGipsIflyeAdapter;
 import org.emoflon.gips.gipsl.examples.mdvne.heap.MdvneGipsHeapIflyeAdapter;
 
 import algorithms.AbstractAlgorithm;
-import algorithms.AlgorithmConfig;
 import algorithms.AlgorithmConfig.Objective;
 import facade.ModelFacade;
 import model.SubstrateNetwork;
@@ -40,6 +39,11 @@ public class VneGipsHeapAlgorithm extends AbstractAlgorithm implements GipsAlgor
 	 */
 	private MdvneGipsIflyeAdapter.MdvneIflyeOutput iflyeOutput;
 
+	/**
+	 * State of the GIPS engine of the adapter.
+	 */
+	private final GipsEngineState engine = new GipsEngineState();
+
 	/**
 	 * Initialize the algorithm with the global model facade.
 	 */
@@ -61,18 +65,18 @@ public class VneGipsHeapAlgorithm extends AbstractAlgorithm implements GipsAlgor
 	@Override
 	public boolean execute() {
 		// Check if correct objective is used
-		if (AlgorithmConfig.obj != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
+		if (config.getObjective() != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
 			throw new UnsupportedOperationException(
 					"The VNE GIPS algorithm can only be used with the total communication cost C.");
 		}
 
 		// TODO: Time measurement
 		final ResourceSet model = getModelFacade().getResourceSet();
-		this.iflyeOutput = iflyeAdapter.execute(model,
+		this.iflyeOutput = engine.execute(model, iflyeAdapter::resetInit, () -> iflyeAdapter.execute(model,
 				GIPS_PROJECT_BASE_PATH + "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/heap/api/gips/gips-model.xmi",
 				GIPS_PROJECT_BASE_PATH + "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/heap/api/ibex-patterns.xmi",
 				GIPS_PROJECT_BASE_PATH
-						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/heap/hipe/engine/hipe-network.xmi");
+						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/heap/hipe/engine/hipe-network.xmi"));
 
 		final boolean gipsSuccess = this.iflyeOutput.solverOutput().solutionCount() > 0;
 
@@ -112,12 +116,18 @@ public class VneGipsHeapAlgorithm extends AbstractAlgorithm implements GipsAlgor
 		return this.iflyeOutput.measurements();
 	}
 
+	@Override
+	public GipsEngineState getEngineState() {
+		return engine;
+	}
+
 	/**
 	 * Resets the algorithm instance.
 	 */
 	@Override
 	public void dispose() {
 		iflyeAdapter.resetInit();
+		engine.reset();
 	}
 
 }
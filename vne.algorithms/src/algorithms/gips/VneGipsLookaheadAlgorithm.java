@@ -10,7 +10,6 @@ import org.emoflon.gips.gipsl.examples.mdvne.MdvneGipsIflyeAdapter;
 import org.emoflon.gips.gipsl.examples.mdvne.MdvneGipsLookaheadIflyeAdapter;
 
 import algorithms.AbstractAlgorithm;
-import algorithms.AlgorithmConfig;
 import algorithms.AlgorithmConfig.Objective;
 import facade.ModelFacade;
 import model.SubstrateNetwork;
@@ -43,6 +42,11 @@ public class VneGipsLookaheadAlgorithm extends AbstractAlgorithm implements Gips
 	 */
 	private MdvneGipsIflyeAdapter.MdvneIflyeOutput iflyeOutput;
 
+	/**
+	 * State of the GIPS engine of the adapter.
+	 */
+	private final GipsEngineState engine = new GipsEngineState();
+
 	/**
 	 * Initialize the algorithm with the global model facade. GIPS will calculate a
 	 * valid embedding for all given virtual networks but only the one whose name
@@ -70,18 +74,18 @@ public class VneGipsLookaheadAlgorithm extends AbstractAlgorithm implements Gips
 	@Override
 	public boolean execute() {
 		// Check if correct objective is used
-		if (AlgorithmConfig.obj != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
+		if (config.getObjective() != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
 			throw new UnsupportedOperationException(
 					"The VNE GIPS algorithm can only be used with the total communication cost C.");
 		}
 
 		// TODO: Time measurement
 		final ResourceSet model = getModelFacade().getResourceSet();
-		iflyeOutput = iflyeAdapter.execute(model,
+		iflyeOutput = engine.execute(model, iflyeAdapter::resetInit, () -> iflyeAdapter.execute(model,
 				GIPS_PROJECT_BASE_PATH + "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/api/gips/gips-model.xmi",
 				GIPS_PROJECT_BASE_PATH + "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/api/ibex-patterns.xmi",
 				GIPS_PROJECT_BASE_PATH + "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/hipe/engine/hipe-network.xmi",
-				vNetId);
+				vNetId));
 
 		final boolean gipsSuccess = this.iflyeOutput.solverOutput().solutionCount() > 0;
 
@@ -147,12 +151,18 @@ public class VneGipsLookaheadAlgorithm extends AbstractAlgorithm implements Gips
 		return null;
 	}
 
+	@Override
+	public GipsEngineState getEngineState() {
+		return engine;
+	}
+
 	/**
 	 * Resets the algorithm instance.
 	 */
 	@Override
 	public void dispose() {
 		iflyeAdapter.resetInit();
+		engine.reset();
 	}
 
 	@Override
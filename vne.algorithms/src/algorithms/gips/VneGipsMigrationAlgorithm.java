@@ -10,7 +10,6 @@ import org.emoflon.gips.gipsl.examples.mdvne.MdvneGipsIflyeAdapter;
 import org.emoflon.gips.gipsl.examples.mdvne.migration.MdvneMigrationGipsIflyeAdapter;
 
 import algorithms.AbstractAlgorithm;
-import algorithms.AlgorithmConfig;
 import algorithms.AlgorithmConfig.Objective;
 import facade.ModelFacade;
 import model.Network;
@@ -39,6 +38,11 @@ public class VneGipsMigrationAlgorithm extends AbstractAlgorithm implements Gips
 	 */
 	private MdvneGipsIflyeAdapter.MdvneIflyeOutput iflyeOutput;
 
+	/**
+	 * State of the GIPS engine of the adapter.
+	 */
+	private final GipsEngineState engine = new GipsEngineState();
+
 	/**
 	 * Initialize the algorithm with the global model facade.
 	 */
@@ -60,7 +64,7 @@ public class VneGipsMigrationAlgorithm extends AbstractAlgorithm implements Gips
 	@Override
 	public boolean execute() {
 		// Check if correct objective is used
-		if (AlgorithmConfig.obj != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
+		if (config.getObjective() != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
 			throw new UnsupportedOperationException(
 					"The VNE GIPS algorithm can only be used with the total communication cost C.");
 		}
@@ -81,13 +85,13 @@ public class VneGipsMigrationAlgorithm extends AbstractAlgorithm implements Gips
 		getModelFacade().updateAllPathsResidualBandwidth(sNet.getName());
 
 		final ResourceSet model = getModelFacade().getResourceSet();
-		iflyeOutput = iflyeAdapter.execute(model,
+		iflyeOutput = engine.execute(model, iflyeAdapter::resetInit, () -> iflyeAdapter.execute(model,
 				GIPS_PROJECT_BASE_PATH
 						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/migration/api/gips/gips-model.xmi",
 				GIPS_PROJECT_BASE_PATH
 						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/migration/api/ibex-patterns.xmi",
 				GIPS_PROJECT_BASE_PATH
-						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/migration/hipe/engine/hipe-network.xmi");
+						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/migration/hipe/engine/hipe-network.xmi"));
 
 		final boolean gipsSuccess = this.iflyeOutput.solverOutput().solutionCount() > 0;
 
@@ -133,12 +137,18 @@ public class VneGipsMigrationAlgorithm extends AbstractAlgorithm implements Gips
 		return null;
 	}
 
+	@Override
+	public GipsEngineState getEngineState() {
+		return engine;
+	}
+
 	/**
 	 * Resets the algorithm instance.
 	 */
 	@Override
 	public void dispose() {
 		iflyeAdapter.resetInit();
+		engine.reset();
 	}
 
 }
@@ -10,7 +10,6 @@ import org.emoflon.gips.gipsl.examples.mdvne.MdvneGipsIflyeAdapter;
 import org.emoflon.gips.gipsl.examples.mdvne.seq.MdvneSeqGipsIflyeAdapter;
 
 import algorithms.AbstractAlgorithm;
-import algorithms.AlgorithmConfig;
 import algorithms.AlgorithmConfig.Objective;
 import facade.ModelFacade;
 import model.SubstrateNetwork;
@@ -38,6 +37,11 @@ public class VneGipsSeqAlgorithm extends AbstractAlgorithm implements GipsAlgori
 	 */
 	private MdvneGipsIflyeAdapter.MdvneIflyeOutput iflyeOutput;
 
+	/**
+	 * State of the GIPS engine of the adapter.
+	 */
+	private final GipsEngineState engine = new GipsEngineState();
+
 	/**
 	 * Initialize the algorithm with the global model facade.
 	 */
@@ -59,18 +63,18 @@ public class VneGipsSeqAlgorithm extends AbstractAlgorithm implements GipsAlgori
 	@Override
 	public boolean execute() {
 		// Check if correct objective is used
-		if (AlgorithmConfig.obj != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
+		if (config.getObjective() != Objective.TOTAL_COMMUNICATION_OBJECTIVE_C) {
 			throw new UnsupportedOperationException(
 					"The VNE GIPS algorithm can only be used with the total communication cost C.");
 		}
 
 		// TODO: Time measurement
 		final ResourceSet model = getModelFacade().getResourceSet();
-		iflyeOutput = iflyeAdapter.execute(model,
+		iflyeOutput = engine.execute(model, iflyeAdapter::resetInit, () -> iflyeAdapter.execute(model,
 				GIPS_PROJECT_BASE_PATH + "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/seq/api/gips/gips-model.xmi",
 				GIPS_PROJECT_BASE_PATH + "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/seq/api/ibex-patterns.xmi",
 				GIPS_PROJECT_BASE_PATH
-						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/seq/hipe/engine/hipe-network.xmi");
+						+ "/src-gen/org/emoflon/gips/gipsl/examples/mdvne/seq/hipe/engine/hipe-network.xmi"));
 
 		final boolean gipsSuccess = this.iflyeOutput.solverOutput().solutionCount() > 0;
 
@@ -116,12 +120,18 @@ public class VneGipsSeqAlgorithm extends AbstractAlgorithm implements GipsAlgori
 		return null;
 	}
 
+	@Override
+	public GipsEngineState getEngineState() {
+		return engine;
+	}
+
 	/**
 	 * Resets the algorithm instance.
 	 */
 	@Override
 	public void dispose() {
 		iflyeAdapter.resetInit();
+		engine.reset();
 	}
 
 }
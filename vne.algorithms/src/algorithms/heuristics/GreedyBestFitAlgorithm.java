@@ -0,0 +1,383 @@
+package algorithms.heuristics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import algorithms.AbstractAlgorithm;
+import algorithms.SubstrateResourceIndex;
+import facade.ModelFacade;
+import metrics.manager.GlobalMetricsManager;
+import model.Link;
+import model.Node;
+import model.SubstrateLink;
+import model.SubstrateNode;
+import model.SubstratePath;
+import model.SubstrateServer;
+import model.VirtualLink;
+import model.VirtualNetwork;
+import model.VirtualNode;
+import model.VirtualServer;
+import model.VirtualSwitch;
+
+/**
+ * Greedy Virtual Network Embedding algorithm. It places all virtual servers in
+ * a best-fit-decreasing manner (largest virtual server first, onto the
+ * substrate server with the smallest sufficient residual resources) using the
+ * {@link SubstrateResourceIndex}. Virtual switches are placed onto the
+ * substrate node that minimizes the number of hops to all neighbors and every
+ * virtual link is embedded onto the shortest substrate path with enough
+ * residual bandwidth.
+ *
+ * The algorithm does not optimize any objective. It is meant to be the first
+ * stage of an {@link algorithms.AlgorithmPipeline}, so that the following
+ * (ILP-based) stages only run if the greedy embedding fails. If a virtual
+ * network can not be embedded, all of its partial embeddings are removed.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class GreedyBestFitAlgorithm extends AbstractAlgorithm {
+
+	/**
+	 * Initialize the algorithm with the global model facade.
+	 */
+	public GreedyBestFitAlgorithm() {
+		this(ModelFacade.getInstance());
+	}
+
+	/**
+	 * Initialize the algorithm with the given model facade.
+	 *
+	 * @param modelFacade Model facade to work with.
+	 */
+	public GreedyBestFitAlgorithm(final ModelFacade modelFacade) {
+		super(modelFacade);
+	}
+
+	@Override
+	public boolean isShardAware() {
+		return true;
+	}
+
+	@Override
+	public boolean execute() {
+		GlobalMetricsManager.measureMemory();
+		boolean success = true;
+
+		for (final VirtualNetwork vNet : vNets) {
+			// Virtual networks that are already embedded do not have to be touched
+			if (vNet.getHost() != null) {
+				continue;
+			}
+
+			if (!embed(vNet)) {
+				logger.info("=> Greedy: Embedding of virtual network " + vNet.getName() + " not possible.");
+				success = false;
+			}
+		}
+
+		// Workaround to fix the residual bandwidth of other paths possibly affected by
+		// virtual link to substrate path embeddings
+		modelFacade.updateAllPathsResidualBandwidth(sNet.getName());
+
+		GlobalMetricsManager.measureMemory();
+		return success;
+	}
+
+	/**
+	 * Embeds the given virtual network. If this is not possible, all partial
+	 * embeddings of the virtual network will be removed.
+	 *
+	 * @param vNet Virtual network to embed.
+	 * @return True if the virtual network was embedded successfully.
+	 */
+	private boolean embed(final VirtualNetwork vNet) {
+		final SubstrateResourceIndex index = SubstrateResourceIndex.of(sNet);
+		final Map<VirtualNode, SubstrateNode> placement = new HashMap<>();
+
+		modelFacade.embedNetworkToNetwork(sNet.getName(), vNet.getName());
+		final boolean success = placeServers(vNet, index, placement) && placeSwitches(vNet, placement)
+				&& placeLinks(vNet, placement);
+
+		if (!success) {
+			modelFacade.unembedVirtualNetwork(vNet);
+		}
+
+		return success;
+	}
+
+	/**
+	 * Places all virtual servers of the given virtual network (best fit
+	 * decreasing).
+	 *
+	 * @param vNet      Virtual network.
+	 * @param index     Resource index of the substrate network.
+	 * @param placement Map to collect the placements.
+	 * @return True if all virtual servers could be placed.
+	 */
+	private boolean placeServers(final VirtualNetwork vNet, final SubstrateResourceIndex index,
+			final Map<VirtualNode, SubstrateNode> placement) {
+		final List<VirtualServer> vServers = new ArrayList<>();
+		for (final Node n : vNet.getNodess()) {
+			if (n instanceof VirtualServer vsrv) {
+				vServers.add(vsrv);
+			}
+		}
+
+		vServers.sort(Comparator.comparingLong(GreedyBestFitAlgorithm::getSize).reversed()
+				.thenComparing(VirtualServer::getName));
+
+		for (final VirtualServer vsrv : vServers) {
+			SubstrateServer bestFit = null;
+			for (final SubstrateServer ssrv : index.getServersThatFit(vsrv.getCpu(), vsrv.getMemory(),
+					vsrv.getStorage())) {
+				if (bestFit == null || getResidualSize(ssrv) < getResidualSize(bestFit)) {
+					bestFit = ssrv;
+				}
+			}
+
+			if (bestFit == null) {
+				return false;
+			}
+
+			modelFacade.embedServerToServer(bestFit.getName(), vsrv.getName());
+			placement.put(vsrv, bestFit);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Places all virtual switches of the given virtual network. The virtual
+	 * switches are placed one after another, starting with the one that has the
+	 * most already placed neighbors (in both link directions). Every virtual switch
+	 * is placed onto the substrate node with the lowest total number of hops to the
+	 * hosts of all placed neighbors.
+	 *
+	 * @param vNet      Virtual network.
+	 * @param placement Map of all placements (will be extended).
+	 * @return True if all virtual switches could be placed.
+	 */
+	private boolean placeSwitches(final VirtualNetwork vNet, final Map<VirtualNode, SubstrateNode> placement) {
+		final List<VirtualSwitch> unplaced = new ArrayList<>();
+		for (final Node n : vNet.getNodess()) {
+			if (n instanceof VirtualSwitch vsw) {
+				unplaced.add(vsw);
+			}
+		}
+
+		while (!unplaced.isEmpty()) {
+			VirtualSwitch next = null;
+			Set<SubstrateNode> nextHosts = null;
+			for (final VirtualSwitch vsw : unplaced) {
+				final Set<SubstrateNode> hosts = getNeighborHosts(vsw, placement);
+				if (next == null || hosts.size() > nextHosts.size()) {
+					next = vsw;
+					nextHosts = hosts;
+				}
+			}
+			unplaced.remove(next);
+
+			final SubstrateNode host = findSwitchHost(nextHosts, placement);
+			if (host == null) {
+				return false;
+			}
+
+			modelFacade.embedSwitchToNode(host.getName(), next.getName());
+			placement.put(next, host);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the hosts of all placed neighbors (via incoming or outgoing links) of
+	 * the given virtual switch.
+	 *
+	 * @param vsw       Virtual switch.
+	 * @param placement Map of all placements.
+	 * @return Hosts of all placed neighbors.
+	 */
+	private Set<SubstrateNode> getNeighborHosts(final VirtualSwitch vsw,
+			final Map<VirtualNode, SubstrateNode> placement) {
+		final Set<SubstrateNode> hosts = new LinkedHashSet<>();
+		for (final Link l : vsw.getOutgoingLinks()) {
+			if (placement.containsKey(l.getTarget())) {
+				hosts.add(placement.get(l.getTarget()));
+			}
+		}
+		for (final Link l : vsw.getIncomingLinks()) {
+			if (placement.containsKey(l.getSource())) {
+				hosts.add(placement.get(l.getSource()));
+			}
+		}
+		return hosts;
+	}
+
+	/**
+	 * Finds the substrate node with the lowest total number of hops to all given
+	 * substrate nodes. Candidates are all given nodes, their direct substrate
+	 * neighbors and all nodes of the paths between the first given node and all
+	 * others. A given substrate node that is no server (i.e., it hosts a
+	 * neighboring virtual switch) is no candidate, because the virtual link between
+	 * both virtual switches could not be embedded.
+	 *
+	 * If no neighbor is placed yet, the host of an already placed virtual node (or
+	 * the substrate server with the largest residual resources) is used.
+	 *
+	 * @param neighborHosts Substrate nodes to connect.
+	 * @param placement     Map of all placements.
+	 * @return Substrate node with the lowest total number of hops or null if there
+	 *         is no node connected to all given nodes.
+	 */
+	private SubstrateNode findSwitchHost(final Set<SubstrateNode> neighborHosts,
+			final Map<VirtualNode, SubstrateNode> placement) {
+		if (neighborHosts.isEmpty()) {
+			for (final SubstrateNode host : placement.values()) {
+				if (host instanceof SubstrateServer) {
+					return host;
+				}
+			}
+			return SubstrateResourceIndex.of(sNet).getLargestResidualServer();
+		}
+
+		final Set<SubstrateNode> candidates = new LinkedHashSet<>(neighborHosts);
+		final SubstrateNode first = neighborHosts.iterator().next();
+		for (final SubstrateNode other : neighborHosts) {
+			other.getOutgoingLinks().forEach(l -> candidates.add((SubstrateNode) l.getTarget()));
+			other.getIncomingLinks().forEach(l -> candidates.add((SubstrateNode) l.getSource()));
+
+			final SubstratePath p = findShortestPath(first, other, 0);
+			if (p != null) {
+				p.getNodes().forEach(pn -> candidates.add((SubstrateNode) pn));
+			}
+		}
+		candidates.removeIf(c -> neighborHosts.contains(c) && !(c instanceof SubstrateServer));
+
+		SubstrateNode best = null;
+		int bestHops = Integer.MAX_VALUE;
+		for (final SubstrateNode candidate : candidates) {
+			int hops = 0;
+			for (final SubstrateNode other : neighborHosts) {
+				if (candidate.equals(other)) {
+					continue;
+				}
+
+				final SubstratePath p = findShortestPath(candidate, other, 0);
+				if (p == null) {
+					hops = Integer.MAX_VALUE;
+					break;
+				}
+				hops += p.getHops();
+			}
+
+			if (hops < bestHops) {
+				bestHops = hops;
+				best = candidate;
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Embeds all virtual links of the given virtual network onto their hosting
+	 * server (if source and target share the same host) or the shortest feasible
+	 * substrate path.
+	 *
+	 * @param vNet      Virtual network.
+	 * @param placement Map of all placements.
+	 * @return True if all virtual links could be embedded.
+	 */
+	private boolean placeLinks(final VirtualNetwork vNet, final Map<VirtualNode, SubstrateNode> placement) {
+		for (final Link l : vNet.getLinks()) {
+			final VirtualLink vl = (VirtualLink) l;
+			final SubstrateNode sourceHost = placement.get(vl.getSource());
+			final SubstrateNode targetHost = placement.get(vl.getTarget());
+
+			if (sourceHost.equals(targetHost)) {
+				if (!(sourceHost instanceof SubstrateServer)) {
+					return false;
+				}
+				modelFacade.embedLinkToServer(sourceHost.getName(), vl.getName());
+				continue;
+			}
+
+			final SubstratePath path = findShortestPath(sourceHost, targetHost,
+					config.isIgnoreBw() ? 0 : vl.getBandwidth());
+			if (path == null) {
+				return false;
+			}
+
+			modelFacade.embedLinkToPath(path.getName(), vl.getName());
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the shortest substrate path from source to target that provides at
+	 * least the given residual bandwidth. The residual bandwidth is calculated
+	 * from the substrate links, because the residual bandwidth of paths is only
+	 * updated after all embeddings.
+	 *
+	 * @param source    Source node.
+	 * @param target    Target node.
+	 * @param bandwidth Required residual bandwidth.
+	 * @return Shortest feasible substrate path or null if there is none.
+	 */
+	private SubstratePath findShortestPath(final SubstrateNode source, final SubstrateNode target,
+			final long bandwidth) {
+		SubstratePath best = null;
+		for (final SubstratePath p : source.getOutgoingPaths()) {
+			if (!p.getTarget().equals(target) || (best != null && p.getHops() >= best.getHops())) {
+				continue;
+			}
+
+			if (getBottleneck(p) >= bandwidth) {
+				best = p;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Returns the smallest residual bandwidth of all links of the given path.
+	 *
+	 * @param path Substrate path.
+	 * @return Smallest residual bandwidth of all links of the given path.
+	 */
+	private static long getBottleneck(final SubstratePath path) {
+		long bottleneck = Long.MAX_VALUE;
+		for (final Link l : path.getLinks()) {
+			bottleneck = Math.min(bottleneck, ((SubstrateLink) l).getResidualBandwidth());
+		}
+		return bottleneck;
+	}
+
+	/**
+	 * Returns the size (sum of all resources) of the given virtual server.
+	 *
+	 * @param vsrv Virtual server.
+	 * @return Size of the given virtual server.
+	 */
+	private static long getSize(final VirtualServer vsrv) {
+		return (long) vsrv.getCpu() + vsrv.getMemory() + vsrv.getStorage();
+	}
+
+	/**
+	 * Returns the residual size (sum of all residual resources) of the given
+	 * substrate server.
+	 *
+	 * @param ssrv Substrate server.
+	 * @return Residual size of the given substrate server.
+	 */
+	private static long getResidualSize(final SubstrateServer ssrv) {
+		return (long) ssrv.getResidualCpu() + ssrv.getResidualMemory() + ssrv.getResidualStorage();
+	}
+
+}
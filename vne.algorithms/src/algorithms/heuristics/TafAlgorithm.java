@@ -3,6 +3,7 @@ package algorithms.heuristics;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -15,10 +16,11 @@ import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import algorithms.AbstractAlgorithm;
-import algorithms.AlgorithmConfig;
 import algorithms.AlgorithmConfig.Objective;
+import algorithms.EmbeddingPlan;
+import algorithms.SubstratePathCache;
+import algorithms.SubstrateResourceIndex;
 import facade.ModelFacade;
-import facade.config.ModelFacadeConfig;
 import metrics.CostUtility;
 import metrics.manager.GlobalMetricsManager;
 import model.Link;
@@ -34,6 +36,7 @@ import model.Switch;
 import model.VirtualLink;
 import model.VirtualNetwork;
 import model.VirtualServer;
+import model.VirtualSwitch;
 
 /**
  * Implementation of the TAF algorithm of the paper [1]. Please note:
@@ -79,6 +82,11 @@ public class TafAlgorithm extends AbstractAlgorithm {
 	 */
 	private final List<SubstrateServer> substrateServers = new LinkedList<>();
 
+	/**
+	 * Map of substrate server -> position in the list of all substrate servers.
+	 */
+	private final Map<SubstrateServer, Integer> substrateServerPositions = new HashMap<>();
+
 	/**
 	 * Map of virtual -> substrate server.
 	 */
@@ -219,9 +227,11 @@ public class TafAlgorithm extends AbstractAlgorithm {
 		}
 
 		substrateServers.clear();
+		substrateServerPositions.clear();
 		// Add substrate servers from model
 		final List<Node> sServers = modelFacade.getAllServersOfNetwork(sNet.getName());
 		for (final Node n : sServers) {
+			substrateServerPositions.put((SubstrateServer) n, substrateServers.size());
 			substrateServers.add((SubstrateServer) n);
 		}
 
@@ -247,17 +257,17 @@ public class TafAlgorithm extends AbstractAlgorithm {
 		}
 
 		// Path creation has to be enabled for paths with length = 1
-		if (ModelFacadeConfig.MIN_PATH_LENGTH != 1) {
+		if (config.getMinPathLength() != 1) {
 			throw new UnsupportedOperationException("Minimum path length must be 1.");
 		}
 
 		// Bandwidth ignore must be true
-		if (!ModelFacadeConfig.IGNORE_BW) {
+		if (!config.isIgnoreBw()) {
 			throw new UnsupportedOperationException("Bandwidth ignore flag must be set.");
 		}
 
 		// Objective
-		if (AlgorithmConfig.obj != Objective.TOTAL_TAF_COMMUNICATION_COST) {
+		if (config.getObjective() != Objective.TOTAL_TAF_COMMUNICATION_COST) {
 			throw new IllegalArgumentException("The TAF algorithm can only optimize its own metric.");
 		}
 
@@ -269,6 +279,11 @@ public class TafAlgorithm extends AbstractAlgorithm {
 		// TODO: Maybe check for total amount of paths here!
 	}
 
+	@Override
+	public boolean isShardAware() {
+		return true;
+	}
+
 	/**
 	 * Starts the algorithm and embeds the generated mapping in the model.
 	 *
@@ -291,30 +306,34 @@ public class TafAlgorithm extends AbstractAlgorithm {
 	}
 
 	/**
-	 * Embeds the calculated mappings in the model.
+	 * Embeds the calculated mappings in the model. All mappings are collected in
+	 * an {@link EmbeddingPlan} that is applied at once.
 	 */
 	private void embed() {
 		// Network
-		modelFacade.embedNetworkToNetwork(sNet.getName(), getFirstVnet().getName());
+		final EmbeddingPlan.Builder plan = EmbeddingPlan.builder(config);
+		final SubstratePathCache pathCache = SubstratePathCache.of(config, modelFacade, sNet);
+		plan.add(getFirstVnet(), sNet);
 
 		// Embed all servers
 		for (final Entry<VirtualServer, SubstrateServer> m : placedVms.entrySet()) {
-			modelFacade.embedServerToServer(m.getValue().getName(), m.getKey().getName());
+			plan.add(m.getKey(), m.getValue());
 		}
 
 		// Embed all links and the switch
-		final String vSwitchId = modelFacade.getAllSwitchesOfNetwork(getFirstVnet().getName()).get(0).getName();
+		final VirtualSwitch vSwitch = (VirtualSwitch) modelFacade.getAllSwitchesOfNetwork(getFirstVnet().getName())
+				.get(0);
 
 		if (allVirtualServersToOneSubstrateServer()) {
 			// If the virtual network can be placed onto one substrate server
 			// Switch
 			final Iterator<SubstrateServer> sServerIt = placedVms.values().iterator();
-			final String sServerId = sServerIt.next().getName();
-			modelFacade.embedSwitchToNode(sServerId, vSwitchId);
+			final SubstrateServer sServer = sServerIt.next();
+			plan.add(vSwitch, sServer);
 
 			// Links
 			for (final VirtualLink l : virtualLinks) {
-				modelFacade.embedLinkToServer(sServerId, l.getName());
+				plan.add(l, sServer);
 			}
 		} else {
 			// If the virtual network can *not* be placed onto one substrate server
@@ -329,7 +348,7 @@ public class TafAlgorithm extends AbstractAlgorithm {
 				commonSwitch = getHighestCommonSwitch(placedVms.values());
 			}
 
-			modelFacade.embedSwitchToNode(commonSwitch.getName(), vSwitchId);
+			plan.add(vSwitch, commonSwitch);
 
 			// Get links from servers to that switch -> Embed virtual links onto them
 			for (final VirtualLink l : virtualLinks) {
@@ -349,12 +368,13 @@ public class TafAlgorithm extends AbstractAlgorithm {
 
 				// Forward only, because all backward links are part of the collection
 				// virtualLinks
-				final SubstratePath sPath = modelFacade.getPathFromSourceToTarget((SubstrateNode) source,
-						(SubstrateNode) target);
+				final SubstratePath sPath = pathCache.get((SubstrateNode) source, (SubstrateNode) target);
 				// final Set<Link> sLinks = facade.getAllLinksFromPath(sPath);
-				modelFacade.embedLinkToPath(sPath.getName(), l.getName());
+				plan.add(l, sPath);
 			}
 		}
+
+		plan.build().apply(modelFacade);
 	}
 
 	/**
@@ -627,29 +647,29 @@ public class TafAlgorithm extends AbstractAlgorithm {
 		final long sumMem = listServerV.stream().mapToLong(e -> e.getMemory()).sum();
 		final long sumSto = listServerV.stream().mapToLong(e -> e.getStorage()).sum();
 
-		for (final SubstrateServer s : substrateServers) {
-			// Get residual resources of substrate server from model
-			long resCpu = s.getResidualCpu();
-			long resMem = s.getResidualMemory();
-			long resSto = s.getResidualStorage();
-
-			// Update residual resources of substrate server according to already created
-			// mappings
-			// (The mappings are not made in the model itself, yet!)
-			for (final VirtualServer vPlaced : placedVms.keySet()) {
-				if (placedVms.get(vPlaced).equals(s)) {
-					resCpu -= vPlaced.getCpu();
-					resMem -= vPlaced.getMemory();
-					resSto -= vPlaced.getStorage();
-				}
-			}
-
-			// If requirements are fulfilled, add substrate server s to candidates
-			if (sumCpu <= resCpu && sumMem <= resMem && sumSto <= resSto) {
+		// Sum resources of the already created mappings per substrate server
+		// (The mappings are not made in the model itself, yet!)
+		final Map<SubstrateServer, long[]> placedResources = new HashMap<>();
+		for (final Entry<VirtualServer, SubstrateServer> m : placedVms.entrySet()) {
+			final long[] placed = placedResources.computeIfAbsent(m.getValue(), s -> new long[3]);
+			placed[0] += m.getKey().getCpu();
+			placed[1] += m.getKey().getMemory();
+			placed[2] += m.getKey().getStorage();
+		}
+
+		// The index only returns servers whose residual resources in the model are
+		// sufficient. Servers with already created mappings must be checked again.
+		for (final SubstrateServer s : SubstrateResourceIndex.of(sNet).getServersThatFit(sumCpu, sumMem, sumSto)) {
+			final long[] placed = placedResources.get(s);
+			if (placed == null || (sumCpu <= s.getResidualCpu() - placed[0]
+					&& sumMem <= s.getResidualMemory() - placed[1] && sumSto <= s.getResidualStorage() - placed[2])) {
 				candidates.add(s);
 			}
 		}
 
+		// Keep the order of the substrate servers of the model, because the candidates
+		// with equal communication cost are chosen by their order
+		candidates.sort(Comparator.comparingInt(substrateServerPositions::get));
 		return candidates;
 	}
 
@@ -3,6 +3,7 @@ package algorithms.ilp;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -11,16 +12,17 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import algorithms.AbstractAlgorithm;
-import algorithms.AlgorithmConfig;
+import algorithms.CostTable;
+import algorithms.EmbeddingPlan;
+import algorithms.InfeasibilityScreening;
+import algorithms.SubstrateResourceIndex;
 import facade.ModelFacade;
-import facade.config.ModelFacadeConfig;
 import gt.PatternMatchingDelta;
 import gt.PatternMatchingDelta.Match;
 import ilp.wrapper.IlpDelta;
 import ilp.wrapper.IlpSolverException;
 import ilp.wrapper.IncrementalIlpSolver;
 import ilp.wrapper.Statistics;
-import ilp.wrapper.config.IlpSolverConfig;
 import metrics.CostUtility;
 import metrics.manager.GlobalMetricsManager;
 import model.Link;
@@ -86,7 +88,7 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 		public void addSosMappings(final String v, final String vs) {
 			// If the algorithm configuration for the SOS constraint feature is disabled,
 			// return.
-			if (!AlgorithmConfig.pmSosEnabled) {
+			if (!config.isPmSosEnabled()) {
 				return;
 			}
 
@@ -302,6 +304,12 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 	 */
 	protected final Set<VirtualNetwork> ignoredVnets = new HashSet<>();
 
+	/**
+	 * Cost table of the current solve. It is built once per {@link #execute()}
+	 * call. If null, the costs are calculated on the fly.
+	 */
+	protected CostTable costTable;
+
 	/**
 	 * Initialize the algorithm with the global model facade.
 	 */
@@ -335,6 +343,7 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 		}
 
 		super.prepare(sNet, vNets);
+		costTable = null;
 
 		checkPreConditions();
 	}
@@ -363,10 +372,17 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 		final Set<VirtualNetwork> repairedVnets = repairVirtualNetworks();
 		vNets.addAll(repairedVnets);
 
+		// Skip pattern matching and ILP solving if no virtual network can be embedded
+		if (!vNets.isEmpty() && ignoredVnets.containsAll(vNets)) {
+			logger.info("=> Screening rejected all virtual networks.");
+			return false;
+		}
+
 		GlobalMetricsManager.startPmTime();
 		final PatternMatchingDelta delta = createFakeMatches();
 		GlobalMetricsManager.endPmTime();
 
+		costTable = CostTable.of(config, sNet);
 		delta2Ilp(delta);
 		GlobalMetricsManager.measureMemory();
 		final Set<VirtualNetwork> rejectedNetworks = solveIlp();
@@ -379,54 +395,71 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 	}
 
 	/**
-	 * Creates all possible combinations of matches.
+	 * Creates all possible combinations of matches. Instead of enumerating the
+	 * full cross product, the candidates are generated from indices: Virtual
+	 * servers are only matched to substrate servers with sufficient residual
+	 * resources (taken from the {@link SubstrateResourceIndex}). Virtual links are
+	 * only matched to substrate paths (looked up in a path endpoint index) and
+	 * substrate servers that connect candidate hosts of the link's source and
+	 * target node. All omitted combinations would be dropped by the ILP delta
+	 * generator anyway, because their node mapping variables are missing.
 	 *
 	 * @return PatternMatchingDelta with all possible combinations of matches.
 	 */
 	protected PatternMatchingDelta createFakeMatches() {
 		final PatternMatchingDelta delta = new PatternMatchingDelta();
+		final SubstrateResourceIndex index = SubstrateResourceIndex.of(sNet);
+		final Map<SubstrateNode, Map<SubstrateNode, List<SubstratePath>>> pathIndex = createPathIndex();
+
+		// Virtual switches may be placed onto all substrate switches and servers
+		final Set<SubstrateNode> switchHosts = new LinkedHashSet<>();
+		modelFacade.getAllSwitchesOfNetwork(sNet.getName()).forEach(n -> switchHosts.add((SubstrateNode) n));
+		modelFacade.getAllServersOfNetwork(sNet.getName()).forEach(n -> switchHosts.add((SubstrateNode) n));
 
 		for (final VirtualNetwork actVNet : this.vNets) {
+			// Candidate hosts of all virtual nodes of this network
+			final Map<Node, Set<SubstrateNode>> candidates = new HashMap<>();
+
 			// Virtual servers
 			for (final Node actInnerNode : modelFacade.getAllServersOfNetwork(actVNet.getName())) {
 				final VirtualServer actVSrv = (VirtualServer) actInnerNode;
-
-				for (final Node actOuterNode : modelFacade.getAllServersOfNetwork(sNet.getName())) {
-					final SubstrateServer actSSrv = (SubstrateServer) actOuterNode;
-					delta.addServerMatchPositive(actVSrv, actSSrv);
-				}
+				final Set<SubstrateNode> hosts = new LinkedHashSet<>(
+						index.getServersThatFit(actVSrv.getCpu(), actVSrv.getMemory(), actVSrv.getStorage()));
+				hosts.forEach(actSSrv -> delta.addServerMatchPositive(actVSrv, actSSrv));
+				candidates.put(actVSrv, hosts);
 			}
 
 			// Virtual switches
 			for (final Node actInnerNode : modelFacade.getAllSwitchesOfNetwork(actVNet.getName())) {
 				final VirtualSwitch actVSw = (VirtualSwitch) actInnerNode;
-
-				// To substrate switches
-				for (final Node actOuterNode : modelFacade.getAllSwitchesOfNetwork(sNet.getName())) {
-					final SubstrateSwitch actSSw = (SubstrateSwitch) actOuterNode;
-					delta.addSwitchMatchPositive(actVSw, actSSw);
-				}
-
-				// To substrate servers
-				for (final Node actOuterNode : modelFacade.getAllServersOfNetwork(sNet.getName())) {
-					final SubstrateServer actSSrv = (SubstrateServer) actOuterNode;
-					delta.addSwitchMatchPositive(actVSw, actSSrv);
-				}
+				switchHosts.forEach(actSNode -> delta.addSwitchMatchPositive(actVSw, actSNode));
+				candidates.put(actVSw, switchHosts);
 			}
 
 			// Virtual links
 			for (final Link actInnerLink : modelFacade.getAllLinksOfNetwork(actVNet.getName())) {
 				final VirtualLink actVL = (VirtualLink) actInnerLink;
+				final Set<SubstrateNode> sourceHosts = candidates.getOrDefault(actVL.getSource(), Set.of());
+				final Set<SubstrateNode> targetHosts = candidates.getOrDefault(actVL.getTarget(), Set.of());
 
-				// To substrate paths
-				for (final SubstratePath actOuterPath : modelFacade.getAllPathsOfNetwork(sNet.getName())) {
-					delta.addLinkPathMatchPositive(actVL, actOuterPath);
-				}
+				for (final SubstrateNode sourceHost : sourceHosts) {
+					// To substrate servers
+					if (sourceHost instanceof SubstrateServer && targetHosts.contains(sourceHost)) {
+						delta.addLinkServerMatchPositive(actVL, sourceHost);
+					}
 
-				// To substrate servers
-				for (final Node actOuterNode : modelFacade.getAllServersOfNetwork(sNet.getName())) {
-					final SubstrateServer actSSrv = (SubstrateServer) actOuterNode;
-					delta.addLinkServerMatchPositive(actVL, actSSrv);
+					// To substrate paths
+					final Map<SubstrateNode, List<SubstratePath>> pathsByTarget = pathIndex.get(sourceHost);
+					if (pathsByTarget == null) {
+						continue;
+					}
+
+					for (final SubstrateNode targetHost : targetHosts) {
+						final List<SubstratePath> paths = pathsByTarget.get(targetHost);
+						if (paths != null) {
+							paths.forEach(actOuterPath -> delta.addLinkPathMatchPositive(actVL, actOuterPath));
+						}
+					}
 				}
 			}
 		}
@@ -434,6 +467,22 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 		return delta;
 	}
 
+	/**
+	 * Creates an index of all substrate paths of the substrate network by their
+	 * source and target node.
+	 *
+	 * @return Map of source node to map of target node to all substrate paths
+	 *         between them.
+	 */
+	private Map<SubstrateNode, Map<SubstrateNode, List<SubstratePath>>> createPathIndex() {
+		final Map<SubstrateNode, Map<SubstrateNode, List<SubstratePath>>> pathIndex = new HashMap<>();
+		for (final SubstratePath actPath : modelFacade.getAllPathsOfNetwork(sNet.getName())) {
+			pathIndex.computeIfAbsent((SubstrateNode) actPath.getSource(), k -> new HashMap<>())
+					.computeIfAbsent((SubstrateNode) actPath.getTarget(), k -> new LinkedList<>()).add(actPath);
+		}
+		return pathIndex;
+	}
+
 	/**
 	 * Solves the created ILP problem, embeds all accepted elements and returns a
 	 * set of virtual networks that could not be embedded.
@@ -495,45 +544,10 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 	 * Checks the overall resource availability for all nodes of all virtual
 	 * networks and all nodes of the substrate network. If a network can not be
 	 * placed on the substrate network at all, the method adds it to the set of
-	 * ignored networks.
+	 * ignored networks (see {@link InfeasibilityScreening}).
 	 */
 	protected void checkOverallResources() {
-		// Calculate total residual resources for substrate servers Datatype long is
-		// needed, because of the possible large values of substrate server residual
-		// resources (e.g. from the diss scenario).
-		long subTotalResidualCpu = 0;
-		long subTotalResidualMem = 0;
-		long subTotalResidualSto = 0;
-
-		for (final Node n : sNet.getNodess()) {
-			if (n instanceof SubstrateServer) {
-				final SubstrateServer ssrv = (SubstrateServer) n;
-				subTotalResidualCpu += ssrv.getResidualCpu();
-				subTotalResidualMem += ssrv.getResidualMemory();
-				subTotalResidualSto += ssrv.getResidualStorage();
-			}
-		}
-
-		for (final VirtualNetwork vNet : vNets) {
-			// Calculate needed resources for current virtual network candidate
-			long virtTotalCpu = 0;
-			long virtTotalMem = 0;
-			long virtTotalSto = 0;
-
-			for (final Node n : vNet.getNodess()) {
-				if (n instanceof VirtualServer) {
-					final VirtualServer vsrv = (VirtualServer) n;
-					virtTotalCpu += vsrv.getCpu();
-					virtTotalMem += vsrv.getMemory();
-					virtTotalSto += vsrv.getStorage();
-				}
-			}
-
-			if (!(subTotalResidualCpu >= virtTotalCpu && subTotalResidualMem >= virtTotalMem
-					&& subTotalResidualSto >= virtTotalSto)) {
-				ignoredVnets.add(vNet);
-			}
-		}
+		InfeasibilityScreening.screen(config, sNet, vNets, ignoredVnets);
 	}
 
 	/*
@@ -581,7 +595,7 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 	 */
 	protected void checkPreConditions() {
 		// Path creation has to be enabled for paths with length = 1
-		if (ModelFacadeConfig.MIN_PATH_LENGTH != 1) {
+		if (config.getMinPathLength() != 1) {
 			throw new UnsupportedOperationException("Minimum path length must be 1.");
 		}
 
@@ -665,6 +679,7 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 	protected Set<VirtualNetwork> updateMappingsAndEmbed(final Map<String, Boolean> mappings) {
 		// Embed elements
 		final Set<VirtualNetwork> rejectedNetworks = new HashSet<>();
+		final EmbeddingPlan.Builder plan = EmbeddingPlan.builder(config);
 
 		for (final String s : mappings.keySet()) {
 			if (!mappings.get(s)) {
@@ -680,20 +695,14 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 			}
 
 			// Embed element: Only use manual mode.
-			switch (AlgorithmConfig.emb) {
+			switch (config.getEmbedding()) {
 			case MANUAL:
+				// Collect embedding in the plan that is applied after all mappings are known
 				final VirtualElement ve = (VirtualElement) m.getVirtual();
 				final SubstrateElement se = (SubstrateElement) m.getSubstrate();
-				if (ve instanceof VirtualServer) {
-					modelFacade.embedServerToServer(se.getName(), ve.getName());
-				} else if (ve instanceof VirtualSwitch) {
-					modelFacade.embedSwitchToNode(se.getName(), ve.getName());
-				} else if (ve instanceof VirtualLink) {
-					if (se instanceof SubstrateServer) {
-						modelFacade.embedLinkToServer(se.getName(), ve.getName());
-					} else if (se instanceof SubstratePath) {
-						modelFacade.embedLinkToPath(se.getName(), ve.getName());
-					}
+				if (ve instanceof VirtualServer || ve instanceof VirtualSwitch || (ve instanceof VirtualLink
+						&& (se instanceof SubstrateServer || se instanceof SubstratePath))) {
+					plan.add(ve, se);
 				}
 				break;
 			default:
@@ -701,6 +710,9 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 			}
 		}
 
+		// The capacity constraints of the ILP problem already guarantee that the plan fits
+		plan.build().applyUnchecked(modelFacade);
+
 		return rejectedNetworks;
 	}
 
@@ -709,7 +721,7 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 	 */
 	public void init() {
 		// Create new ILP solver object on every method call.
-		ilpSolver = IlpSolverConfig.getIlpSolver();
+		ilpSolver = config.createIlpSolver();
 	}
 
 	public void forEachLink(final SubstratePath sPath, final Consumer<? super Link> operation) {
@@ -742,16 +754,20 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 
 	public double getCost(final VirtualElement virt, final SubstrateElement host) {
 		if (virt instanceof Link) {
-			return IlpSolverConfig.transformObj(getLinkCost((VirtualLink) virt, host));
+			return config.transformObj(getLinkCost((VirtualLink) virt, host));
 		} else if (virt instanceof Node && host instanceof Node) {
-			return IlpSolverConfig.transformObj(getNodeCost((VirtualNode) virt, (SubstrateNode) host));
+			return config.transformObj(getNodeCost((VirtualNode) virt, (SubstrateNode) host));
 		}
 
 		throw new IllegalArgumentException();
 	}
 
 	public double getNodeCost(final VirtualNode virt, final SubstrateNode sub) {
-		switch (AlgorithmConfig.obj) {
+		if (costTable != null) {
+			return costTable.getNodeCost(virt, sub);
+		}
+
+		switch (config.getObjective()) {
 		case TOTAL_PATH_COST:
 			return CostUtility.getTotalPathCostNode(virt, sub);
 		case TOTAL_COMMUNICATION_COST_A:
@@ -768,7 +784,11 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 	}
 
 	public double getLinkCost(final VirtualLink virt, final SubstrateElement sub) {
-		switch (AlgorithmConfig.obj) {
+		if (costTable != null) {
+			return costTable.getLinkCost(virt, sub);
+		}
+
+		switch (config.getObjective()) {
 		case TOTAL_PATH_COST:
 			return CostUtility.getTotalPathCostLink(sub);
 		case TOTAL_COMMUNICATION_COST_A:
@@ -785,10 +805,10 @@ public class VneFakeIlpAlgorithm extends AbstractAlgorithm {
 	}
 
 	public double getNetRejCost(final VirtualNetwork vNet) {
-		if (AlgorithmConfig.netRejCostDynamic) {
-			return IlpSolverConfig.transformObj(CostUtility.getNetworkRejectionCost(vNet));
+		if (config.isNetRejCostDynamic()) {
+			return config.transformObj(CostUtility.getNetworkRejectionCost(vNet));
 		} else {
-			return IlpSolverConfig.transformObj(CostUtility.getNetworkRejectionCost());
+			return config.transformObj(CostUtility.getNetworkRejectionCost());
 		}
 	}
 
@@ -1,12 +1,29 @@
 package algorithms.ilp;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import algorithms.AlgorithmConfig;
+import algorithms.CostTable;
+import algorithms.SubstrateResourceIndex;
+import algorithms.VirtualNetworkDemand;
+import algorithms.VirtualNetworkDemand.ServerDemand;
 import facade.ModelFacade;
 import gt.PatternMatchingDelta;
 import metrics.manager.GlobalMetricsManager;
+import model.Link;
+import model.Node;
 import model.SubstrateNetwork;
+import model.SubstratePath;
+import model.SubstrateServer;
+import model.VirtualLink;
 import model.VirtualNetwork;
+import model.VirtualServer;
 
 /**
  * Implementation of the ILP fake algorithm that uses the batch mechanism.
@@ -65,11 +82,27 @@ public class VneFakeIlpBatchAlgorithm extends VneFakeIlpAlgorithm {
 		checkPreConditions();
 	}
 
+	/**
+	 * Adds the already embedded virtual networks that should be re-optimized to
+	 * the job list and removes the embedding of every virtual network of the job
+	 * list. If {@link AlgorithmConfig#batchHorizon} is negative, all currently
+	 * embedded virtual networks are re-optimized. Otherwise, only the new virtual
+	 * networks plus the bounded neighborhood found by
+	 * {@link #findNeighborhood(int)} are re-optimized (rolling horizon). All
+	 * other embeddings stay untouched and, therefore, reduce the residual
+	 * capacities the ILP problem is built upon.
+	 */
 	protected void preHook() {
-		// Add all currently embedded networks to job list
-		sNet.getGuests().forEach(guest -> {
-			vNets.add(guest);
-		});
+		// Add all currently embedded networks (or the neighborhood of the new ones) to
+		// job list
+		if (config.getBatchHorizon() < 0) {
+			sNet.getGuests().forEach(guest -> {
+				vNets.add(guest);
+			});
+		} else {
+			vNets.addAll(findNeighborhood(config.getBatchHorizon()));
+		}
+
 		// Remove embedding of every virtual network, that is currently embedded on
 		// substrate one
 		vNets.forEach(vn -> {
@@ -80,6 +113,80 @@ public class VneFakeIlpBatchAlgorithm extends VneFakeIlpAlgorithm {
 		});
 	}
 
+	/**
+	 * Finds at most the given number of already embedded virtual networks that
+	 * share racks with the possible hosts of the new (not embedded) virtual
+	 * networks. A rack is represented by the substrate switches a substrate
+	 * server is connected to. Possible hosts are all substrate servers whose
+	 * residual resources could host at least one virtual server of the new virtual
+	 * networks. If no substrate server has enough residual resources for a virtual
+	 * server, all substrate servers that could host it if they were empty are
+	 * possible hosts, because only re-optimizing can make room for it. An embedded
+	 * virtual network belongs to the neighborhood if one of its virtual servers is
+	 * hosted in one of these racks or if one of its virtual links is hosted on a
+	 * substrate path that traverses one of the racks. Virtual networks that occupy
+	 * more resources in these racks are chosen first, because removing them frees
+	 * the most capacity for the new ones.
+	 *
+	 * @param limit Maximum number of virtual networks to return.
+	 * @return Set of embedded virtual networks to re-optimize.
+	 */
+	protected Set<VirtualNetwork> findNeighborhood(final int limit) {
+		final Set<ServerDemand> demands = new HashSet<>();
+		vNets.stream().filter(vNet -> vNet.getHost() == null)
+				.forEach(vNet -> demands.addAll(VirtualNetworkDemand.of(vNet).getServerDemands()));
+
+		// Racks (and their servers) of all possible hosts
+		final SubstrateResourceIndex index = SubstrateResourceIndex.of(sNet);
+		final Set<Node> racks = new HashSet<>();
+		for (final ServerDemand d : demands) {
+			List<SubstrateServer> hosts = index.getServersThatFit(d.cpu(), d.mem(), d.sto());
+			if (hosts.isEmpty()) {
+				hosts = modelFacade.getAllServersOfNetwork(sNet.getName()).stream() //
+						.map(n -> (SubstrateServer) n) //
+						.filter(ssrv -> d.cpu() <= ssrv.getCpu() && d.mem() <= ssrv.getMemory()
+								&& d.sto() <= ssrv.getStorage()) //
+						.toList();
+			}
+			hosts.forEach(ssrv -> ssrv.getOutgoingLinks().forEach(l -> racks.add(l.getTarget())));
+		}
+		final Set<Node> rackServers = new HashSet<>();
+		racks.forEach(r -> r.getOutgoingLinks().forEach(l -> rackServers.add(l.getTarget())));
+
+		final Map<VirtualNetwork, Long> scores = new HashMap<>();
+		for (final VirtualNetwork guest : sNet.getGuests()) {
+			if (vNets.contains(guest)) {
+				continue;
+			}
+
+			long score = 0;
+			boolean inRack = false;
+			for (final Node n : guest.getNodess()) {
+				if (n instanceof VirtualServer vsrv && rackServers.contains(vsrv.getHost())) {
+					score += (long) vsrv.getCpu() + vsrv.getMemory() + vsrv.getStorage();
+					inRack = true;
+				}
+			}
+
+			for (final Link l : guest.getLinks()) {
+				if (((VirtualLink) l).getHost() instanceof SubstratePath sPath
+						&& sPath.getNodes().stream().anyMatch(racks::contains)) {
+					inRack = true;
+				}
+			}
+
+			if (inRack) {
+				scores.put(guest, score);
+			}
+		}
+
+		return scores.keySet().stream() //
+				.sorted(Comparator.comparing((VirtualNetwork vNet) -> scores.get(vNet)).reversed()
+						.thenComparing(VirtualNetwork::getName)) //
+				.limit(limit) //
+				.collect(Collectors.toSet());
+	}
+
 	@Override
 	public boolean execute() {
 		preHook();
@@ -96,10 +203,17 @@ public class VneFakeIlpBatchAlgorithm extends VneFakeIlpAlgorithm {
 		final Set<VirtualNetwork> repairedVnets = repairVirtualNetworks();
 		vNets.addAll(repairedVnets);
 
+		// Skip pattern matching and ILP solving if no virtual network can be embedded
+		if (!vNets.isEmpty() && ignoredVnets.containsAll(vNets)) {
+			logger.info("=> Screening rejected all virtual networks.");
+			return false;
+		}
+
 		GlobalMetricsManager.startPmTime();
 		final PatternMatchingDelta delta = createFakeMatches();
 		GlobalMetricsManager.endPmTime();
 
+		costTable = CostTable.of(config, sNet);
 		delta2Ilp(delta);
 		GlobalMetricsManager.measureMemory();
 		final Set<VirtualNetwork> rejectedNetworks = solveIlp();
@@ -27,10 +27,12 @@ public class PmAlgorithmUtils {
 	 * Moreover, this method "repairs" the possible floating state if the virtual
 	 * network itself is not embedded, but its elements are.
 	 *
-	 * @param sNet  Substrate network.
-	 * @param vNets Set of virtual networks to remove embeddings for.
+	 * @param modelFacade Model facade to work with.
+	 * @param sNet        Substrate network.
+	 * @param vNets       Set of virtual networks to remove embeddings for.
 	 */
-	public static void unembedAll(final SubstrateNetwork sNet, final Set<VirtualNetwork> vNets) {
+	public static void unembedAll(final ModelFacade modelFacade, final SubstrateNetwork sNet,
+			final Set<VirtualNetwork> vNets) {
 		// Iterate over all given virtual networks
 		for (final VirtualNetwork vNet : vNets) {
 			// If virtual network has no host, but one of the nodes is embedded -> Embed the
@@ -41,18 +43,18 @@ public class PmAlgorithmUtils {
 
 				if (n instanceof VirtualSwitch) {
 					if (((VirtualSwitch) n).getHost() != null) {
-						ModelFacade.getInstance().embedNetworkToNetwork(sNet.getName(), vNet.getName());
+						modelFacade.embedNetworkToNetwork(sNet.getName(), vNet.getName());
 					}
 				} else if (n instanceof VirtualServer) {
 					if (((VirtualServer) n).getHost() != null) {
-						ModelFacade.getInstance().embedNetworkToNetwork(sNet.getName(), vNet.getName());
+						modelFacade.embedNetworkToNetwork(sNet.getName(), vNet.getName());
 					}
 				}
 			}
 
 			// Remove embedding of whole virtual network with all of its elements
 			if (vNet.getHost() != null) {
-				ModelFacade.getInstance().removeNetworkEmbedding(vNet.getName());
+				modelFacade.removeNetworkEmbedding(vNet.getName());
 			}
 		}
 	}
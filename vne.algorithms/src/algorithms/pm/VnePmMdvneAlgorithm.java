@@ -11,9 +11,11 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import algorithms.AbstractAlgorithm;
-import algorithms.AlgorithmConfig;
+import algorithms.CostTable;
+import algorithms.EmbeddingPlan;
+import algorithms.InfeasibilityScreening;
+import algorithms.SpeculativeAlgorithm;
 import facade.ModelFacade;
-import facade.config.ModelFacadeConfig;
 import gt.IncrementalPatternMatcher;
 import gt.PatternMatchingDelta;
 import gt.PatternMatchingDelta.Match;
@@ -23,9 +25,9 @@ import ilp.wrapper.IlpDelta;
 import ilp.wrapper.IlpSolverException;
 import ilp.wrapper.IncrementalIlpSolver;
 import ilp.wrapper.Statistics;
-import ilp.wrapper.config.IlpSolverConfig;
 import metrics.CostUtility;
 import metrics.manager.GlobalMetricsManager;
+import model.Element;
 import model.Link;
 import model.Node;
 import model.SubstrateElement;
@@ -56,7 +58,7 @@ import model.VirtualSwitch;
  * @author Stefan Tomaszek (ES TU Darmstadt) [idyve project]
  * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
  */
-public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
+public class VnePmMdvneAlgorithm extends AbstractAlgorithm implements SpeculativeAlgorithm {
 
 	/**
 	 * ILP delta generator that converts matches and given model objects into ILP
@@ -71,6 +73,11 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 		 */
 		protected final IlpDelta delta = new IlpDelta();
 
+		/**
+		 * ILP solver the delta will be applied to.
+		 */
+		private final IncrementalIlpSolver solver;
+
 		/**
 		 * Mappings for the SOS1 constraints. Each virtual element IDs is a key and the
 		 * corresponding value is a list of virtual to substrate element ID mappings.
@@ -80,6 +87,22 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 		 */
 		final Map<String, List<String>> sosMappings = new HashMap<>();
 
+		/**
+		 * Creates a new ILP delta generator for the ILP solver of the algorithm.
+		 */
+		public IlpDeltaGenerator() {
+			this.solver = ilpSolver;
+		}
+
+		/**
+		 * Creates a new ILP delta generator for the given ILP solver.
+		 *
+		 * @param solver ILP solver the delta will be applied to.
+		 */
+		public IlpDeltaGenerator(final IncrementalIlpSolver solver) {
+			this.solver = solver;
+		}
+
 		/**
 		 * Adds a SOS1 mapping to the collection. This method immediately returns, if
 		 * the algorithm configuration option for SOS1 constraints is disabled.
@@ -90,7 +113,7 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 		public void addSosMappings(final String v, final String vs) {
 			// If the algorithm configuration for the SOS constraint feature is disabled,
 			// return.
-			if (!AlgorithmConfig.pmSosEnabled) {
+			if (!config.isPmSosEnabled()) {
 				return;
 			}
 
@@ -100,6 +123,18 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 			sosMappings.get(v).add(vs);
 		}
 
+		/**
+		 * Returns true if the variable with the given name was added to this delta or
+		 * already exists in the ILP solver (i.e., if this delta extends an already
+		 * solved problem).
+		 *
+		 * @param name Variable name.
+		 * @return True if the variable exists.
+		 */
+		public boolean hasVariable(final String name) {
+			return delta.hasAddVariable(name) || (solver != null && solver.hasVariable(name));
+		}
+
 		/**
 		 * Adds a new match from a virtual to a substrate network.
 		 *
@@ -132,7 +167,7 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 			final String sourceVarName = vLink.getSource().getName() + "_" + match.getSubstrate().getName();
 			final String targetVarName = vLink.getTarget().getName() + "_" + match.getSubstrate().getName();
 
-			if (!delta.hasAddVariable(sourceVarName) || !delta.hasAddVariable(targetVarName)) {
+			if (!hasVariable(sourceVarName) || !hasVariable(targetVarName)) {
 				return;
 			}
 
@@ -170,7 +205,7 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 			final String sourceVarName = vLink.getSource().getName() + "_" + sPath.getSource().getName();
 			final String targetVarName = vLink.getTarget().getName() + "_" + sPath.getTarget().getName();
 
-			if (!delta.hasAddVariable(sourceVarName) || !delta.hasAddVariable(targetVarName)) {
+			if (!hasVariable(sourceVarName) || !hasVariable(targetVarName)) {
 				return;
 			}
 
@@ -284,7 +319,7 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 			for (final String key : sosMappings.keySet()) {
 				delta.addSosConstraint(key, sosMappings.get(key));
 			}
-			delta.apply(ilpSolver);
+			delta.apply(solver);
 		}
 
 	}
@@ -311,6 +346,24 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 	 */
 	protected final Set<VirtualNetwork> ignoredVnets = new HashSet<>();
 
+	/**
+	 * Cost table of the current solve. It is built once per {@link #execute()} or
+	 * {@link #plan()} call. If null, the costs are calculated on the fly.
+	 */
+	protected CostTable costTable;
+
+	/**
+	 * Mappings of the last speculative {@link #solve()} call that were not
+	 * committed yet.
+	 */
+	private Map<String, Boolean> speculativeMappings;
+
+	/**
+	 * True if the current speculative {@link #solve()} call was terminated. May be
+	 * set before the solving phase started.
+	 */
+	private volatile boolean terminated = false;
+
 	/**
 	 * Initialize the algorithm with the global model facade.
 	 */
@@ -345,6 +398,7 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 		}
 
 		super.prepare(sNet, vNets);
+		costTable = null;
 
 		checkPreConditions();
 	}
@@ -361,9 +415,30 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 		}
 	}
 
+	@Override
+	public boolean isShardAware() {
+		return true;
+	}
+
 	@Override
 	public boolean execute() {
 		GlobalMetricsManager.measureMemory();
+		if (!plan()) {
+			return false;
+		}
+
+		final Set<VirtualNetwork> rejectedNetworks = solveIlp();
+
+		rejectedNetworks.addAll(ignoredVnets);
+		embedNetworks(rejectedNetworks);
+		GlobalMetricsManager.endDeployTime();
+		GlobalMetricsManager.measureMemory();
+		return rejectedNetworks.isEmpty();
+	}
+
+	@Override
+	public boolean plan() {
+		terminated = false;
 		init();
 
 		// Check overall embedding possibility
@@ -375,22 +450,77 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 		// Repair model consistency: Virtual network(s)
 		final Set<VirtualNetwork> repairedVnets = repairVirtualNetworks();
 		if (!repairedVnets.isEmpty()) {
-			this.patternMatcher = new EmoflonGtFactory().create();
+			this.patternMatcher = new EmoflonGtFactory().create(modelFacade, config.getPatternMatcher());
 		}
 		vNets.addAll(repairedVnets);
 
+		// Skip pattern matching and ILP solving if no virtual network can be embedded
+		if (!vNets.isEmpty() && ignoredVnets.containsAll(vNets)) {
+			logger.info("=> Screening rejected all virtual networks.");
+			return false;
+		}
+
 		GlobalMetricsManager.startPmTime();
 		final PatternMatchingDelta delta = patternMatcher.run();
 		GlobalMetricsManager.endPmTime();
 
+		costTable = CostTable.of(config, sNet);
 		delta2Ilp(delta);
 		GlobalMetricsManager.measureMemory();
-		final Set<VirtualNetwork> rejectedNetworks = solveIlp();
+		return true;
+	}
+
+	@Override
+	public boolean solve() {
+		speculativeMappings = null;
+		if (terminated) {
+			return false;
+		}
+
+		final Statistics solve = ilpSolver.solve();
+		if (terminated) {
+			// The solution of an aborted optimization is not usable
+			return false;
+		}
+		if (!solve.isFeasible()) {
+			throw new IlpSolverException("Problem was infeasible.");
+		}
+
+		speculativeMappings = ilpSolver.getMappings();
+		if (!ignoredVnets.isEmpty()) {
+			return false;
+		}
+
+		// The solution is only accepted if no virtual network gets rejected
+		for (final Map.Entry<String, Boolean> e : speculativeMappings.entrySet()) {
+			if (e.getValue() && variablesToMatch.get(e.getKey()).getVirtual() instanceof VirtualNetwork) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void terminate() {
+		terminated = true;
+		if (ilpSolver != null) {
+			ilpSolver.terminate();
+		}
+	}
+
+	@Override
+	public boolean commit() {
+		if (speculativeMappings == null) {
+			throw new IllegalStateException("There is no solution to commit.");
+		}
+
+		GlobalMetricsManager.startDeployTime();
+		final Set<VirtualNetwork> rejectedNetworks = updateMappingsAndEmbed(speculativeMappings);
+		speculativeMappings = null;
 
 		rejectedNetworks.addAll(ignoredVnets);
 		embedNetworks(rejectedNetworks);
 		GlobalMetricsManager.endDeployTime();
-		GlobalMetricsManager.measureMemory();
 		return rejectedNetworks.isEmpty();
 	}
 
@@ -429,10 +559,12 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 		delta.getNewServerMatchPositives().stream()
 				.filter(m -> !ignoredVnets.contains(((VirtualServer) m.getVirtual()).getNetwork()))
 				.filter(m -> vNets.contains(((VirtualServer) m.getVirtual()).getNetwork()))
+				.filter(this::isOnSubstrate)
 				.forEach(gen::addServerMatch);
 		delta.getNewSwitchMatchPositives().stream()
 				.filter(m -> !ignoredVnets.contains(((VirtualSwitch) m.getVirtual()).getNetwork()))
 				.filter(m -> vNets.contains(((VirtualSwitch) m.getVirtual()).getNetwork()))
+				.filter(this::isOnSubstrate)
 				.forEach(gen::addSwitchMatch);
 
 		// Important: Due to the fact that both link constraint generating methods check
@@ -443,60 +575,44 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 		delta.getNewLinkPathMatchPositives().stream()
 				.filter(m -> !ignoredVnets.contains(((VirtualLink) m.getVirtual()).getNetwork()))
 				.filter(m -> vNets.contains(((VirtualLink) m.getVirtual()).getNetwork()))
+				.filter(this::isOnSubstrate)
 				.forEach(gen::addLinkPathMatch);
 		delta.getNewLinkServerMatchPositives().stream()
 				.filter(m -> !ignoredVnets.contains(((VirtualLink) m.getVirtual()).getNetwork()))
 				.filter(m -> vNets.contains(((VirtualLink) m.getVirtual()).getNetwork()))
+				.filter(this::isOnSubstrate)
 				.forEach(gen::addLinkServerMatch);
 
 		// apply delta in ILP generator
 		gen.apply();
 	}
 
+	/**
+	 * Returns true if the substrate element of the given match is part of the
+	 * substrate network of this algorithm. If the model contains more than one
+	 * substrate network (e.g., one per shard), the pattern matcher also finds
+	 * matches on the other substrate networks, but their elements have no
+	 * constraints in the ILP problem.
+	 *
+	 * @param m Match to check.
+	 * @return True if the substrate element is part of the substrate network.
+	 */
+	protected boolean isOnSubstrate(final Match m) {
+		final Element substrate = m.getSubstrate();
+		if (substrate instanceof SubstratePath sPath) {
+			return sNet.equals(sPath.getNetwork());
+		}
+		return sNet.equals(((Node) substrate).getNetwork());
+	}
+
 	/**
 	 * Checks the overall resource availability for all nodes of all virtual
 	 * networks and all nodes of the substrate network. If a network can not be
 	 * placed on the substrate network at all, the method adds it to the set of
-	 * ignored networks.
+	 * ignored networks (see {@link InfeasibilityScreening}).
 	 */
 	protected void checkOverallResources() {
-		// Calculate total residual resources for substrate servers
-		// Datatype long is needed, because of the possible large values of substrate
-		// server residual
-		// resources (e.g. from the diss scenario).
-		long subTotalResidualCpu = 0;
-		long subTotalResidualMem = 0;
-		long subTotalResidualSto = 0;
-
-		for (final Node n : sNet.getNodess()) {
-			if (n instanceof SubstrateServer) {
-				final SubstrateServer ssrv = (SubstrateServer) n;
-				subTotalResidualCpu += ssrv.getResidualCpu();
-				subTotalResidualMem += ssrv.getResidualMemory();
-				subTotalResidualSto += ssrv.getResidualStorage();
-			}
-		}
-
-		for (final VirtualNetwork vNet : vNets) {
-			// Calculate needed resources for current virtual network candidate
-			long virtTotalCpu = 0;
-			long virtTotalMem = 0;
-			long virtTotalSto = 0;
-
-			for (final Node n : vNet.getNodess()) {
-				if (n instanceof VirtualServer) {
-					final VirtualServer vsrv = (VirtualServer) n;
-					virtTotalCpu += vsrv.getCpu();
-					virtTotalMem += vsrv.getMemory();
-					virtTotalSto += vsrv.getStorage();
-				}
-			}
-
-			if (!(subTotalResidualCpu >= virtTotalCpu && subTotalResidualMem >= virtTotalMem
-					&& subTotalResidualSto >= virtTotalSto)) {
-				ignoredVnets.add(vNet);
-			}
-		}
+		InfeasibilityScreening.screen(config, sNet, vNets, ignoredVnets);
 	}
 
 	/*
@@ -544,7 +660,7 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 	 */
 	protected void checkPreConditions() {
 		// Path creation has to be enabled for paths with length = 1
-		if (ModelFacadeConfig.MIN_PATH_LENGTH != 1) {
+		if (config.getMinPathLength() != 1) {
 			throw new UnsupportedOperationException("Minimum path length must be 1.");
 		}
 
@@ -598,23 +714,34 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 				continue;
 			}
 
-			for (final Node n : vNet.getNodess()) {
-				if (n instanceof VirtualServer) {
-					gen.addNewVirtualServer((VirtualServer) n);
-				} else if (n instanceof VirtualSwitch) {
-					gen.addNewVirtualSwitch((VirtualSwitch) n);
-				}
-			}
+			addVirtualNetworkToSolver(gen, vNet);
+		}
+	}
 
-			for (final Link l : vNet.getLinks()) {
-				if (l instanceof VirtualLink) {
-					gen.addNewVirtualLink((VirtualLink) l);
-				}
+	/**
+	 * Adds all elements of the given virtual network and its network match to the
+	 * given delta generator (solver).
+	 *
+	 * @param gen  ILP delta generator to add elements to.
+	 * @param vNet Virtual network to add.
+	 */
+	protected void addVirtualNetworkToSolver(final IlpDeltaGenerator gen, final VirtualNetwork vNet) {
+		for (final Node n : vNet.getNodess()) {
+			if (n instanceof VirtualServer) {
+				gen.addNewVirtualServer((VirtualServer) n);
+			} else if (n instanceof VirtualSwitch) {
+				gen.addNewVirtualSwitch((VirtualSwitch) n);
 			}
+		}
 
-			// Network match
-			gen.addNewNetworkMatch(new Match(vNet, sNet));
+		for (final Link l : vNet.getLinks()) {
+			if (l instanceof VirtualLink) {
+				gen.addNewVirtualLink((VirtualLink) l);
+			}
 		}
+
+		// Network match
+		gen.addNewNetworkMatch(new Match(vNet, sNet));
 	}
 
 	/**
@@ -629,6 +756,7 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 		// Embed elements
 		final Set<VirtualNetwork> rejectedNetworks = new HashSet<>();
 		final EmoflonGt engine = (EmoflonGt) patternMatcher;
+		final EmbeddingPlan.Builder plan = EmbeddingPlan.builder(config);
 
 		// for (final String s : newMappings) {
 		for (final String s : mappings.keySet()) {
@@ -645,7 +773,7 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 			}
 
 			// Embed element: Either use emoflon/GT or use manual mode.
-			switch (AlgorithmConfig.emb) {
+			switch (config.getEmbedding()) {
 			case EMOFLON:
 				// Create embedding via matches and graph transformation
 				engine.apply((VirtualElement) m.getVirtual(), (SubstrateElement) m.getSubstrate(), true);
@@ -655,23 +783,20 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 				engine.apply((VirtualElement) m.getVirtual(), (SubstrateElement) m.getSubstrate(), false);
 				break;
 			case MANUAL:
+				// Collect embedding in the plan that is applied after all mappings are known
 				final VirtualElement ve = (VirtualElement) m.getVirtual();
 				final SubstrateElement se = (SubstrateElement) m.getSubstrate();
-				if (ve instanceof VirtualServer) {
-					modelFacade.embedServerToServer(se.getName(), ve.getName());
-				} else if (ve instanceof VirtualSwitch) {
-					modelFacade.embedSwitchToNode(se.getName(), ve.getName());
-				} else if (ve instanceof VirtualLink) {
-					if (se instanceof SubstrateServer) {
-						modelFacade.embedLinkToServer(se.getName(), ve.getName());
-					} else if (se instanceof SubstratePath) {
-						modelFacade.embedLinkToPath(se.getName(), ve.getName());
-					}
+				if (ve instanceof VirtualServer || ve instanceof VirtualSwitch || (ve instanceof VirtualLink
+						&& (se instanceof SubstrateServer || se instanceof SubstratePath))) {
+					plan.add(ve, se);
 				}
 				break;
 			}
 		}
 
+		// The capacity constraints of the ILP problem already guarantee that the plan fits
+		plan.build().applyUnchecked(modelFacade);
+
 		// Workaround to fix the residual bandwidth of other paths possibly affected by
 		// virtual link to substrate path embeddings
 		modelFacade.updateAllPathsResidualBandwidth(sNet.getName());
@@ -685,10 +810,10 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 	 */
 	public void init() {
 		// Create new ILP solver object on every method call.
-		ilpSolver = IlpSolverConfig.getIlpSolver();
+		ilpSolver = config.createIlpSolver();
 
 		if (patternMatcher == null) {
-			patternMatcher = new EmoflonGtFactory().create();
+			patternMatcher = new EmoflonGtFactory().create(modelFacade, config.getPatternMatcher());
 		}
 	}
 
@@ -722,16 +847,20 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 
 	public double getCost(final VirtualElement virt, final SubstrateElement host) {
 		if (virt instanceof Link) {
-			return IlpSolverConfig.transformObj(getLinkCost((VirtualLink) virt, host));
+			return config.transformObj(getLinkCost((VirtualLink) virt, host));
 		} else if (virt instanceof Node && host instanceof Node) {
-			return IlpSolverConfig.transformObj(getNodeCost((VirtualNode) virt, (SubstrateNode) host));
+			return config.transformObj(getNodeCost((VirtualNode) virt, (SubstrateNode) host));
 		}
 
 		throw new IllegalArgumentException();
 	}
 
 	public double getNodeCost(final VirtualNode virt, final SubstrateNode sub) {
-		switch (AlgorithmConfig.obj) {
+		if (costTable != null) {
+			return costTable.getNodeCost(virt, sub);
+		}
+
+		switch (config.getObjective()) {
 		case TOTAL_PATH_COST:
 			return CostUtility.getTotalPathCostNode(virt, sub);
 		case TOTAL_COMMUNICATION_COST_A:
@@ -748,7 +877,11 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 	}
 
 	public double getLinkCost(final VirtualLink virt, final SubstrateElement sub) {
-		switch (AlgorithmConfig.obj) {
+		if (costTable != null) {
+			return costTable.getLinkCost(virt, sub);
+		}
+
+		switch (config.getObjective()) {
 		case TOTAL_PATH_COST:
 			return CostUtility.getTotalPathCostLink(sub);
 		case TOTAL_COMMUNICATION_COST_A:
@@ -765,10 +898,10 @@ public class VnePmMdvneAlgorithm extends AbstractAlgorithm {
 	}
 
 	public double getNetRejCost(final VirtualNetwork vNet) {
-		if (AlgorithmConfig.netRejCostDynamic) {
-			return IlpSolverConfig.transformObj(CostUtility.getNetworkRejectionCost(vNet));
+		if (config.isNetRejCostDynamic()) {
+			return config.transformObj(CostUtility.getNetworkRejectionCost(vNet));
 		} else {
-			return IlpSolverConfig.transformObj(CostUtility.getNetworkRejectionCost());
+			return config.transformObj(CostUtility.getNetworkRejectionCost());
 		}
 	}
 
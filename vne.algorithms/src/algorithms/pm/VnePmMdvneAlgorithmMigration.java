@@ -1,16 +1,35 @@
 package algorithms.pm;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
-import algorithms.AlgorithmConfig;
+import algorithms.CostTable;
+import algorithms.InfeasibilityScreening;
+import algorithms.SubstrateResourceIndex;
+import algorithms.VirtualNetworkDemand;
+import algorithms.VirtualNetworkDemand.ServerDemand;
 import facade.ModelFacade;
 import gt.PatternMatchingDelta;
+import gt.PatternMatchingDelta.Match;
 import gt.emoflon.EmoflonGtFactory;
 import metrics.manager.GlobalMetricsManager;
+import model.Element;
+import model.Link;
 import model.Node;
+import model.SubstrateLink;
+import model.SubstratePath;
+import model.SubstrateServer;
+import model.VirtualLink;
 import model.VirtualNetwork;
 import model.VirtualServer;
+import model.VirtualSwitch;
 
 /**
  * Implementation of the model-driven virtual network algorithm that uses
@@ -72,10 +91,16 @@ public class VnePmMdvneAlgorithmMigration extends VnePmMdvneAlgorithm {
 		// Repair model consistency: Virtual network(s)
 		final Set<VirtualNetwork> repairedVnets = repairVirtualNetworks();
 		if (!repairedVnets.isEmpty()) {
-			this.patternMatcher = new EmoflonGtFactory().create();
+			this.patternMatcher = new EmoflonGtFactory().create(modelFacade, config.getPatternMatcher());
 		}
 		vNets.addAll(repairedVnets);
 
+		// Skip pattern matching and ILP solving if no virtual network can be embedded
+		if (!vNets.isEmpty() && ignoredVnets.containsAll(vNets)) {
+			logger.info("=> Screening rejected all virtual networks.");
+			return false;
+		}
+
 		GlobalMetricsManager.startPmTime();
 		final PatternMatchingDelta delta = patternMatcher.run();
 		GlobalMetricsManager.endPmTime();
@@ -83,6 +108,8 @@ public class VnePmMdvneAlgorithmMigration extends VnePmMdvneAlgorithm {
 		// Add current delta to the global one
 		globalDelta.addOther(delta);
 
+		// All migration tries share the cost table of this execution
+		costTable = CostTable.of(config, sNet);
 		delta2Ilp(delta);
 		GlobalMetricsManager.measureMemory();
 		Set<VirtualNetwork> rejectedNetworks = solveIlp();
@@ -92,7 +119,7 @@ public class VnePmMdvneAlgorithmMigration extends VnePmMdvneAlgorithm {
 		if (!rejectedNetworks.isEmpty()) {
 			logger.info("=> Started embedding migration.");
 			embedNetworks(rejectedNetworks);
-			rejectedNetworks = tryMigrationEmbedding();
+			rejectedNetworks = tryMigrationEmbedding(rejectedNetworks);
 		}
 
 		rejectedDespiteMigration.addAll(ignoredVnets);
@@ -103,28 +130,57 @@ public class VnePmMdvneAlgorithmMigration extends VnePmMdvneAlgorithm {
 	}
 
 	/**
-	 * Removes the smallest virtual network currently embedded on the substrate one
-	 * and tries the embedding job again. If it fails again, the method removes the
-	 * next smallest virtual network and tries again. If no virtual network to
-	 * remove is left, the method returns a set of rejected networks.
+	 * Only checks the total residual resources of the substrate network. A
+	 * migration does not change these totals, but it frees single substrate
+	 * servers and the bandwidth of rack and pod cuts. Hence, the per-server and
+	 * bandwidth checks of the {@link InfeasibilityScreening} would
+	 * reject virtual networks that could be embedded after a migration.
+	 */
+	@Override
+	protected void checkOverallResources() {
+		final SubstrateResourceIndex index = SubstrateResourceIndex.of(sNet);
+		for (final VirtualNetwork vNet : vNets) {
+			if (!index.coversTotalDemand(vNet)) {
+				ignoredVnets.add(vNet);
+			}
+		}
+	}
+
+	/**
+	 * Removes the embedding of the most promising virtual network currently
+	 * embedded on the substrate network and tries the embedding job again. If it
+	 * fails again, the method removes the next candidate and tries again. The
+	 * candidates are ranked once by {@link #rankMigrationCandidates(Set)}.
+	 * Instead of re-creating the whole ILP problem, every try only adds the
+	 * variables and constraints of the removed virtual network to the already
+	 * solved problem and raises the capacities of the freed substrate elements. If
+	 * no virtual network to remove is left, the method returns a set of rejected
+	 * networks.
 	 *
+	 * @param failedNetworks Set of virtual networks that could not be embedded.
 	 * @return Set of virtual networks that could not be embedded onto the substrate
 	 *         one.
 	 */
-	private Set<VirtualNetwork> tryMigrationEmbedding() {
-		Set<VirtualNetwork> rejectedNetworks = new HashSet<>();
-		VirtualNetwork removalCandidate = findAndUnembedSmallestNetwork();
+	private Set<VirtualNetwork> tryMigrationEmbedding(final Set<VirtualNetwork> failedNetworks) {
+		final Set<VirtualNetwork> rejectedNetworks = new HashSet<>(failedNetworks);
+		final Iterator<VirtualNetwork> candidates = rankMigrationCandidates(failedNetworks).iterator();
 		int tries = 0;
 
 		// Pattern matching delta for this run's migration tries
 		final PatternMatchingDelta delta = new PatternMatchingDelta();
 		delta.addOther(globalDelta);
 
-		while (removalCandidate != null) {
-			PmAlgorithmUtils.unembedAll(sNet, vNets);
+		while (candidates.hasNext() && tries < config.getPmNoMigrations()) {
+			final VirtualNetwork removalCandidate = candidates.next();
+
+			// Restore the state the current ILP problem is based on and remove the
+			// candidate
+			PmAlgorithmUtils.unembedAll(modelFacade, sNet, vNets);
+			final Set<SubstrateServer> freedServers = new HashSet<>();
+			final Set<SubstrateLink> freedLinks = new HashSet<>();
+			collectHosts(removalCandidate, freedServers, freedLinks);
+			modelFacade.unembedVirtualNetwork(removalCandidate);
 			vNets.add(removalCandidate);
-			PmAlgorithmUtils.unembedAll(sNet, vNets);
-			init();
 
 			GlobalMetricsManager.startPmTime();
 			final PatternMatchingDelta deltaIncr = patternMatcher.run();
@@ -132,8 +188,9 @@ public class VnePmMdvneAlgorithmMigration extends VnePmMdvneAlgorithm {
 
 			// add deltaIncr to delta
 			delta.addOther(deltaIncr);
+			globalDelta.addOther(deltaIncr);
 
-			delta2Ilp(delta);
+			migrationDelta2Ilp(delta, removalCandidate, freedServers, freedLinks);
 			rejectedNetworks.clear();
 			rejectedNetworks.addAll(solveIlp());
 
@@ -145,52 +202,166 @@ public class VnePmMdvneAlgorithmMigration extends VnePmMdvneAlgorithm {
 			}
 
 			tries++;
+		}
 
-			// Check number of already tried migrations; if threshold reached, stop trying.
-			if (tries >= AlgorithmConfig.pmNoMigrations) {
-				break;
+		return rejectedNetworks;
+	}
+
+	/**
+	 * Ranks all virtual networks currently embedded on the substrate network as
+	 * migration candidates for the given failed virtual networks. A candidate is
+	 * ranked higher, the more resources it frees on substrate servers that the
+	 * failed virtual networks may use, i.e., servers that are part of their
+	 * server matches or servers that would fit one of their virtual servers after
+	 * the removal of the candidate. Candidates with equal scores are ordered by
+	 * size (smallest first), because they are cheaper to migrate.
+	 *
+	 * @param failedNetworks Set of virtual networks that could not be embedded.
+	 * @return Ranked list of migration candidates.
+	 */
+	private List<VirtualNetwork> rankMigrationCandidates(final Set<VirtualNetwork> failedNetworks) {
+		// Substrate servers that are part of the feasible region of the failed networks
+		final Set<Element> region = new HashSet<>();
+		for (final Match m : globalDelta.getNewServerMatchPositives()) {
+			if (failedNetworks.contains(((VirtualServer) m.getVirtual()).getNetwork()) && isOnSubstrate(m)) {
+				region.add(m.getSubstrate());
 			}
+		}
+
+		final Set<ServerDemand> demands = new HashSet<>();
+		failedNetworks.forEach(vNet -> demands.addAll(VirtualNetworkDemand.of(vNet).getServerDemands()));
 
-			removalCandidate = findAndUnembedSmallestNetwork();
+		final Map<VirtualNetwork, Long> scores = new HashMap<>();
+		final Map<VirtualNetwork, Long> sizes = new HashMap<>();
+		for (final VirtualNetwork guest : sNet.getGuests()) {
+			if (vNets.contains(guest)) {
+				continue;
+			}
+
+			// Resources freed per substrate server
+			final Map<SubstrateServer, long[]> freed = new HashMap<>();
+			for (final Node n : guest.getNodess()) {
+				if (n instanceof VirtualServer vsrv && vsrv.getHost() instanceof SubstrateServer ssrv) {
+					final long[] res = freed.computeIfAbsent(ssrv, k -> new long[3]);
+					res[0] += vsrv.getCpu();
+					res[1] += vsrv.getMemory();
+					res[2] += vsrv.getStorage();
+				}
+			}
+
+			long score = 0;
+			for (final Map.Entry<SubstrateServer, long[]> e : freed.entrySet()) {
+				final SubstrateServer ssrv = e.getKey();
+				final long[] res = e.getValue();
+				final long cpu = ssrv.getResidualCpu() + res[0];
+				final long mem = ssrv.getResidualMemory() + res[1];
+				final long sto = ssrv.getResidualStorage() + res[2];
+				if (region.contains(ssrv)
+						|| demands.stream().anyMatch(d -> d.cpu() <= cpu && d.mem() <= mem && d.sto() <= sto)) {
+					score += res[0] + res[1] + res[2];
+				}
+			}
+
+			final VirtualNetworkDemand demand = VirtualNetworkDemand.of(guest);
+			scores.put(guest, score);
+			sizes.put(guest, demand.getCpu() + demand.getMemory() + demand.getStorage());
 		}
 
-		return rejectedNetworks;
+		final List<VirtualNetwork> candidates = new ArrayList<>(scores.keySet());
+		candidates.sort(Comparator.comparing((VirtualNetwork vNet) -> scores.get(vNet)).reversed()
+				.thenComparing(sizes::get).thenComparing(VirtualNetwork::getName));
+		return candidates;
 	}
 
 	/**
-	 * Finds the smallest virtual network currently embedded on the substrate
-	 * network and removes its embedding. If there is no such network, the method
-	 * returns null.
+	 * Collects all substrate servers and substrate links that host elements of the
+	 * given virtual network.
 	 *
-	 * @return Smallest virtual network object currently embedded on the substrate
-	 *         network or null if
+	 * @param vNet    Virtual network.
+	 * @param servers Set to add all hosting substrate servers to.
+	 * @param links   Set to add all substrate links of hosting paths to.
 	 */
-	private VirtualNetwork findAndUnembedSmallestNetwork() {
-		VirtualNetwork smallest = null;
-		long res = Integer.MAX_VALUE;
-
-		for (final VirtualNetwork vn : sNet.getGuests()) {
-			long aRes = 0;
-			for (final Node n : vn.getNodess()) {
-				if (n instanceof VirtualServer) {
-					final VirtualServer vsrv = (VirtualServer) n;
-					aRes += vsrv.getCpu();
-					aRes += vsrv.getMemory();
-					aRes += vsrv.getStorage();
-				}
+	private void collectHosts(final VirtualNetwork vNet, final Set<SubstrateServer> servers,
+			final Set<SubstrateLink> links) {
+		for (final Node n : vNet.getNodess()) {
+			if (n instanceof VirtualServer vsrv && vsrv.getHost() instanceof SubstrateServer ssrv) {
+				servers.add(ssrv);
 			}
+		}
 
-			if (aRes < res) {
-				res = aRes;
-				smallest = vn;
+		for (final Link l : vNet.getLinks()) {
+			if (((VirtualLink) l).getHost() instanceof SubstratePath sPath) {
+				forEachLink(sPath, sl -> links.add((SubstrateLink) sl));
 			}
 		}
+	}
+
+	/**
+	 * Extends the already solved ILP problem by the removed virtual network and
+	 * all new matches of the given pattern matching delta. Additionally, the
+	 * capacities of all substrate servers and links freed by the removal are set
+	 * to their current residual values.
+	 *
+	 * @param delta        Pattern matching delta.
+	 * @param removed      Virtual network that was removed from the substrate
+	 *                     network.
+	 * @param freedServers Substrate servers that hosted the removed network.
+	 * @param freedLinks   Substrate links that hosted the removed network.
+	 */
+	private void migrationDelta2Ilp(final PatternMatchingDelta delta, final VirtualNetwork removed,
+			final Set<SubstrateServer> freedServers, final Set<SubstrateLink> freedLinks) {
+		final IlpDeltaGenerator gen = new IlpDeltaGenerator();
+
+		// Free the resources of the removed network
+		for (final SubstrateServer ssrv : freedServers) {
+			gen.delta.setConstraintRight("cpu" + ssrv.getName(), ssrv.getResidualCpu());
+			gen.delta.setConstraintRight("mem" + ssrv.getName(), ssrv.getResidualMemory());
+			gen.delta.setConstraintRight("sto" + ssrv.getName(), ssrv.getResidualStorage());
+		}
+		for (final SubstrateLink sl : freedLinks) {
+			gen.delta.setConstraintRight("sl" + sl.getName(), sl.getResidualBandwidth());
+		}
 
-		if (smallest != null) {
-			ModelFacade.getInstance().unembedVirtualNetwork(smallest);
+		// Add the elements of the removed network
+		for (final Node n : removed.getNodess()) {
+			if (n instanceof VirtualServer vsrv) {
+				gen.addNewVirtualServer(vsrv);
+			} else if (n instanceof VirtualSwitch vsw) {
+				gen.addNewVirtualSwitch(vsw);
+			}
+		}
+		for (final Link l : removed.getLinks()) {
+			gen.addNewVirtualLink((VirtualLink) l);
 		}
+		gen.addNewNetworkMatch(new Match(removed, sNet));
+
+		// Add all matches that are not part of the problem yet (node matches first,
+		// because the link matches check the existence of the node mapping variables).
+		// Screened out networks and other substrate networks have no constraints in the
+		// problem.
+		final Predicate<Match> isNew = m -> vNets.contains(getNetwork(m)) && !ignoredVnets.contains(getNetwork(m))
+				&& isOnSubstrate(m) && !gen.hasVariable(m.getVirtual().getName() + "_" + m.getSubstrate().getName());
+		delta.getNewServerMatchPositives().stream().filter(isNew).forEach(gen::addServerMatch);
+		delta.getNewSwitchMatchPositives().stream().filter(isNew).forEach(gen::addSwitchMatch);
+		delta.getNewLinkPathMatchPositives().stream().filter(isNew).forEach(gen::addLinkPathMatch);
+		delta.getNewLinkServerMatchPositives().stream().filter(isNew).forEach(gen::addLinkServerMatch);
+
+		gen.apply();
+	}
 
-		return smallest;
+	/**
+	 * Returns the virtual network of the virtual element of the given match.
+	 *
+	 * @param m Match.
+	 * @return Virtual network of the virtual element of the given match.
+	 */
+	private static VirtualNetwork getNetwork(final Match m) {
+		if (m.getVirtual() instanceof VirtualServer vsrv) {
+			return vsrv.getNetwork();
+		} else if (m.getVirtual() instanceof VirtualSwitch vsw) {
+			return vsw.getNetwork();
+		}
+		return ((VirtualLink) m.getVirtual()).getNetwork();
 	}
 
 	/**
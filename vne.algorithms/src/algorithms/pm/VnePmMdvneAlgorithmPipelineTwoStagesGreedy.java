@@ -0,0 +1,35 @@
+package algorithms.pm;
+
+import java.util.List;
+
+import algorithms.heuristics.GreedyBestFitAlgorithm;
+import facade.ModelFacade;
+
+/**
+ * Implementation of the model-driven virtual network algorithm that uses
+ * pattern matching as a way to reduce the search space of the ILP solver. This
+ * implementation uses a two-stage pipeline approach that first tries to embed
+ * all virtual networks with the {@link GreedyBestFitAlgorithm} and only falls
+ * back to the complete ILP-based algorithm if the greedy embedding fails.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class VnePmMdvneAlgorithmPipelineTwoStagesGreedy extends VnePmMdvnePipelineAlgorithm {
+
+	/**
+	 * Initialize the algorithm with the global model facade.
+	 */
+	public VnePmMdvneAlgorithmPipelineTwoStagesGreedy() {
+		this(ModelFacade.getInstance());
+	}
+
+	/**
+	 * Initialize the algorithm with the given model facade.
+	 * 
+	 * @param modelFacade Model facade to work with.
+	 */
+	public VnePmMdvneAlgorithmPipelineTwoStagesGreedy(final ModelFacade modelFacade) {
+		super(modelFacade, List.of(new GreedyBestFitAlgorithm(modelFacade), new VnePmMdvneAlgorithm(modelFacade)));
+	}
+
+}
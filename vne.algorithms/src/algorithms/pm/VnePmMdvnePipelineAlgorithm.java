@@ -11,19 +11,16 @@ import java.util.stream.Collectors;
 
 import algorithms.AbstractAlgorithm;
 import algorithms.AlgorithmPipeline;
+import algorithms.InfeasibilityScreening;
+import algorithms.RunConfig;
 import facade.ModelFacade;
-import facade.config.ModelFacadeConfig;
 import gt.IncrementalPatternMatcher;
 import gt.PatternMatchingDelta.Match;
 import gt.emoflon.EmoflonGtFactory;
 import ilp.wrapper.IncrementalIlpSolver;
-import ilp.wrapper.config.IlpSolverConfig;
 import metrics.manager.GlobalMetricsManager;
-import model.Node;
 import model.SubstrateNetwork;
-import model.SubstrateServer;
 import model.VirtualNetwork;
-import model.VirtualServer;
 
 /**
  * Implementation of the model-driven virtual network algorithm that uses
@@ -112,6 +109,21 @@ public abstract class VnePmMdvnePipelineAlgorithm extends VnePmMdvneAlgorithm im
 		return this.pipeline;
 	}
 
+	/**
+	 * Injects the configuration into this algorithm and all of its pipeline
+	 * stages.
+	 *
+	 * @param config The configuration to use.
+	 */
+	@Override
+	public void setRunConfig(final RunConfig config) {
+		super.setRunConfig(config);
+
+		for (final AbstractAlgorithm algo : pipeline) {
+			algo.setRunConfig(config);
+		}
+	}
+
 	/**
 	 * Initializes a new instance of the VNE pattern matching algorithm.
 	 *
@@ -164,17 +176,32 @@ public abstract class VnePmMdvnePipelineAlgorithm extends VnePmMdvneAlgorithm im
 		// Repair model consistency: Virtual network(s)
 		final Set<VirtualNetwork> repairedVnets = repairVirtualNetworks();
 		if (!repairedVnets.isEmpty()) {
-			this.patternMatcher = new EmoflonGtFactory().create();
+			this.patternMatcher = new EmoflonGtFactory().create(modelFacade, config.getPatternMatcher());
 		}
 		vNets.addAll(repairedVnets);
 
+		// Skip pattern matching and ILP solving if no virtual network can be embedded
+		if (!vNets.isEmpty() && ignoredVnets.containsAll(vNets)) {
+			logger.info("=> Screening rejected all virtual networks.");
+			return false;
+		}
+
+		if (config.isPipelineSpeculative() && canExecuteSpeculatively()) {
+			for (final AbstractAlgorithm algo : pipeline) {
+				algo.prepare(sNet, vNets);
+			}
+
+			logger.info("=> Starting all " + pipeline.size() + " pipeline stages speculatively");
+			return executeSpeculatively();
+		}
+
 		int stage = 0;
 		for (AbstractAlgorithm algo : pipeline) {
 			// Run algorithm preparation again because the substrate network or the set of
 			// virtual networks may have changed because of the repairing above.
 			algo.prepare(sNet, vNets);
 			if (stage > 0) {
-				PmAlgorithmUtils.unembedAll(sNet, vNets);
+				PmAlgorithmUtils.unembedAll(modelFacade, sNet, vNets);
 			}
 
 			logger.info("=> Starting pipeline stage #" + (++stage));
@@ -187,50 +214,12 @@ public abstract class VnePmMdvnePipelineAlgorithm extends VnePmMdvneAlgorithm im
 	}
 
 	/**
-	 * Checks the overall resource availability for all nodes of all virtual
-	 * networks and all nodes of the substrate network. If a network can not be
-	 * placed on the substrate network at all, the method adds it to the set of
-	 * ignored networks.
+	 * {@inheritDoc} The networks are added to the ignored networks of this
+	 * pipeline.
 	 */
 	@Override
 	protected void checkOverallResources() {
-		// Calculate total residual resources for substrate servers
-		// Datatype long is needed, because of the possible large values of substrate
-		// server residual
-		// resources (e.g. from the diss scenario).
-		long subTotalResidualCpu = 0;
-		long subTotalResidualMem = 0;
-		long subTotalResidualSto = 0;
-
-		for (final Node n : sNet.getNodess()) {
-			if (n instanceof SubstrateServer) {
-				final SubstrateServer ssrv = (SubstrateServer) n;
-				subTotalResidualCpu += ssrv.getResidualCpu();
-				subTotalResidualMem += ssrv.getResidualMemory();
-				subTotalResidualSto += ssrv.getResidualStorage();
-			}
-		}
-
-		for (final VirtualNetwork vNet : vNets) {
-			// Calculate needed resources for current virtual network candidate
-			long virtTotalCpu = 0;
-			long virtTotalMem = 0;
-			long virtTotalSto = 0;
-
-			for (final Node n : vNet.getNodess()) {
-				if (n instanceof VirtualServer) {
-					final VirtualServer vsrv = (VirtualServer) n;
-					virtTotalCpu += vsrv.getCpu();
-					virtTotalMem += vsrv.getMemory();
-					virtTotalSto += vsrv.getStorage();
-				}
-			}
-
-			if (!(subTotalResidualCpu >= virtTotalCpu && subTotalResidualMem >= virtTotalMem
-					&& subTotalResidualSto >= virtTotalSto)) {
-				ignoredVnets.add(vNet);
-			}
-		}
+		InfeasibilityScreening.screen(config, sNet, vNets, ignoredVnets);
 	}
 
 	/*
@@ -281,7 +270,7 @@ public abstract class VnePmMdvnePipelineAlgorithm extends VnePmMdvneAlgorithm im
 	@Override
 	protected void checkPreConditions() {
 		// Path creation has to be enabled for paths with length = 1
-		if (ModelFacadeConfig.MIN_PATH_LENGTH != 1) {
+		if (config.getMinPathLength() != 1) {
 			throw new UnsupportedOperationException("Minimum path length must be 1.");
 		}
 
@@ -298,10 +287,10 @@ public abstract class VnePmMdvnePipelineAlgorithm extends VnePmMdvneAlgorithm im
 	@Override
 	public void init() {
 		// Create new ILP solver object on every method call.
-		ilpSolver = IlpSolverConfig.getIlpSolver();
+		ilpSolver = config.createIlpSolver();
 
 		if (patternMatcher == null) {
-			patternMatcher = new EmoflonGtFactory().create();
+			patternMatcher = new EmoflonGtFactory().create(modelFacade, config.getPatternMatcher());
 		}
 	}
 
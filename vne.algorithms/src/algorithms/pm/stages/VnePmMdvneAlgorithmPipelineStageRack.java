@@ -0,0 +1,409 @@
+package algorithms.pm.stages;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import algorithms.AlgorithmConfig;
+import algorithms.CostTable;
+import algorithms.VirtualNetworkDemand;
+import algorithms.pm.VnePmMdvneAlgorithm;
+import facade.ModelFacade;
+import gt.IncrementalPatternMatcher;
+import gt.PatternMatchingDelta;
+import gt.PatternMatchingDelta.Match;
+import ilp.wrapper.IncrementalIlpSolver;
+import ilp.wrapper.Statistics;
+import metrics.manager.GlobalMetricsManager;
+import model.Element;
+import model.Link;
+import model.Node;
+import model.SubstrateLink;
+import model.SubstrateNode;
+import model.SubstratePath;
+import model.SubstrateServer;
+import model.SubstrateSwitch;
+import model.VirtualLink;
+import model.VirtualNetwork;
+import model.VirtualServer;
+import model.VirtualSwitch;
+
+/**
+ * Base class of the pipeline stages that embed virtual networks onto racks. A
+ * rack consists of a substrate switch and all substrate servers connected to
+ * it.
+ *
+ * If {@link AlgorithmConfig#pmRackDecomposition} is enabled, the stage does not
+ * solve one global ILP problem. Instead, every virtual network whose matches
+ * allow an embedding within a single rack is assigned to one of these racks.
+ * Afterwards, one independent (small) ILP problem per rack is created and all
+ * of them are solved in parallel. Virtual networks that can not be assigned to
+ * a single rack or that are rejected by the ILP problem of their rack are
+ * embedded by the global ILP problem afterwards.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public abstract class VnePmMdvneAlgorithmPipelineStageRack extends VnePmMdvneAlgorithm {
+
+	/**
+	 * Incremental pattern matcher to use for the rack pipeline stage.
+	 */
+	protected IncrementalPatternMatcher patternMatcherRack;
+
+	/**
+	 * Cache of the racks of all substrate elements.
+	 */
+	private final Map<Element, SubstrateNode> racks = new HashMap<>();
+
+	/**
+	 * Initialize the algorithm with the given model facade.
+	 *
+	 * @param modelFacade Model facade to work with.
+	 */
+	public VnePmMdvneAlgorithmPipelineStageRack(final ModelFacade modelFacade) {
+		super(modelFacade);
+	}
+
+	/**
+	 * The rack decomposition is only implemented in {@link #execute()}, hence,
+	 * this stage can only be executed speculatively without it.
+	 */
+	@Override
+	public boolean canPlan() {
+		return !getRunConfig().isPmRackDecomposition();
+	}
+
+	@Override
+	public boolean execute() {
+		if (!config.isPmRackDecomposition()) {
+			return super.execute();
+		}
+
+		GlobalMetricsManager.measureMemory();
+		init();
+		racks.clear();
+		costTable = CostTable.of(config, sNet);
+
+		GlobalMetricsManager.startPmTime();
+		final PatternMatchingDelta delta = patternMatcherRack.run();
+		GlobalMetricsManager.endPmTime();
+
+		// Solve all virtual networks that fit into a single rack (in parallel)
+		final Set<VirtualNetwork> remaining = solveRacks(delta);
+
+		// All other virtual networks go back to the global ILP problem
+		final Set<VirtualNetwork> rejectedNetworks = new HashSet<>();
+		if (!remaining.isEmpty()) {
+			logger.info("=> " + remaining.size() + " virtual network(s) go back to the global ILP problem");
+			final Set<VirtualNetwork> embedded = vNets.stream()
+					.filter(vNet -> !remaining.contains(vNet) && !ignoredVnets.contains(vNet))
+					.collect(Collectors.toSet());
+			ignoredVnets.addAll(embedded);
+			delta2Ilp(delta);
+			ignoredVnets.removeAll(embedded);
+			GlobalMetricsManager.measureMemory();
+			rejectedNetworks.addAll(solveIlp());
+		} else {
+			GlobalMetricsManager.startDeployTime();
+		}
+
+		rejectedNetworks.addAll(ignoredVnets);
+		embedNetworks(rejectedNetworks);
+		GlobalMetricsManager.endDeployTime();
+		GlobalMetricsManager.measureMemory();
+		return rejectedNetworks.isEmpty();
+	}
+
+	/**
+	 * Assigns all virtual networks to racks, creates one ILP problem per rack,
+	 * solves all of them in parallel and embeds the results.
+	 *
+	 * @param delta Pattern matching delta of the rack pattern matcher.
+	 * @return Set of virtual networks that could not be embedded within a single
+	 *         rack.
+	 */
+	private Set<VirtualNetwork> solveRacks(final PatternMatchingDelta delta) {
+		// Matches per virtual network and rack
+		final Map<VirtualNetwork, Map<SubstrateNode, List<Match>>> matches = new HashMap<>();
+		final List<Match> all = new ArrayList<>();
+		all.addAll(delta.getNewServerMatchPositives());
+		all.addAll(delta.getNewSwitchMatchPositives());
+		all.addAll(delta.getNewLinkPathMatchPositives());
+		all.addAll(delta.getNewLinkServerMatchPositives());
+		for (final Match m : all) {
+			if (!isOnSubstrate(m)) {
+				continue;
+			}
+
+			final VirtualNetwork vNet = getNetwork(m.getVirtual());
+			final SubstrateNode rack = getRack(m.getSubstrate());
+			if (rack != null && vNets.contains(vNet) && !ignoredVnets.contains(vNet)) {
+				matches.computeIfAbsent(vNet, k -> new HashMap<>()).computeIfAbsent(rack, k -> new ArrayList<>())
+						.add(m);
+			}
+		}
+
+		final Map<SubstrateNode, Set<VirtualNetwork>> assignment = assignRacks(matches);
+		final Set<VirtualNetwork> remaining = new HashSet<>(vNets);
+		remaining.removeAll(ignoredVnets);
+		if (assignment.isEmpty()) {
+			return remaining;
+		}
+
+		// Create one ILP problem per rack (all racks share the cost table of this execution)
+		final Map<SubstrateNode, IncrementalIlpSolver> solvers = new LinkedHashMap<>();
+		for (final Map.Entry<SubstrateNode, Set<VirtualNetwork>> e : assignment.entrySet()) {
+			final IncrementalIlpSolver solver = config.createIlpSolver();
+			solvers.put(e.getKey(), solver);
+			rack2Ilp(solver, e.getKey(), e.getValue(), matches);
+		}
+
+		logger.info("=> Solving " + solvers.size() + " rack ILP problem(s) in parallel");
+		final Map<String, Boolean> mappings = new HashMap<>();
+		final ExecutorService pool = Executors
+				.newFixedThreadPool(Math.min(solvers.size(), Runtime.getRuntime().availableProcessors()));
+		GlobalMetricsManager.startIlpTime();
+		try {
+			final Map<SubstrateNode, Future<Map<String, Boolean>>> futures = new LinkedHashMap<>();
+			for (final Map.Entry<SubstrateNode, IncrementalIlpSolver> e : solvers.entrySet()) {
+				final IncrementalIlpSolver solver = e.getValue();
+				futures.put(e.getKey(), pool.submit(() -> {
+					final Statistics solve = solver.solve();
+					return solve.isFeasible() ? solver.getMappings() : null;
+				}));
+			}
+
+			// Merge the results of all racks that could be solved
+			for (final Map.Entry<SubstrateNode, Future<Map<String, Boolean>>> e : futures.entrySet()) {
+				final Map<String, Boolean> rackMappings = awaitMappings(e.getValue());
+				if (rackMappings == null) {
+					logger.info("=> Rack ILP problem of " + e.getKey().getName() + " could not be solved");
+					continue;
+				}
+
+				mappings.putAll(rackMappings);
+				remaining.removeAll(assignment.get(e.getKey()));
+			}
+		} finally {
+			pool.shutdown();
+			GlobalMetricsManager.endIlpTime();
+			solvers.values().forEach(IncrementalIlpSolver::dispose);
+		}
+
+		GlobalMetricsManager.startDeployTime();
+		remaining.addAll(updateMappingsAndEmbed(mappings));
+		GlobalMetricsManager.endDeployTime();
+		return remaining;
+	}
+
+	/**
+	 * Assigns every virtual network to at most one rack. A virtual network may be
+	 * assigned to a rack, if every of its virtual elements has at least one match
+	 * within the rack. The virtual networks are assigned in the order of their
+	 * resource demands (largest first) to the rack with the most remaining
+	 * residual resources.
+	 *
+	 * @param matches Matches per virtual network and rack.
+	 * @return Map of rack to all virtual networks assigned to it.
+	 */
+	private Map<SubstrateNode, Set<VirtualNetwork>> assignRacks(
+			final Map<VirtualNetwork, Map<SubstrateNode, List<Match>>> matches) {
+		// Residual resources (CPU, memory, storage) per rack
+		final Map<SubstrateNode, long[]> residuals = new HashMap<>();
+		for (final Node n : sNet.getNodess()) {
+			if (n instanceof SubstrateServer ssrv && getRack(ssrv) != null) {
+				final long[] res = residuals.computeIfAbsent(getRack(ssrv), k -> new long[3]);
+				res[0] += ssrv.getResidualCpu();
+				res[1] += ssrv.getResidualMemory();
+				res[2] += ssrv.getResidualStorage();
+			}
+		}
+
+		final List<VirtualNetwork> ordered = new ArrayList<>(matches.keySet());
+		ordered.sort(Comparator.comparingLong((VirtualNetwork vNet) -> {
+			final VirtualNetworkDemand d = VirtualNetworkDemand.of(vNet);
+			return d.getCpu() + d.getMemory() + d.getStorage();
+		}).reversed().thenComparing(VirtualNetwork::getName));
+
+		final Map<SubstrateNode, Set<VirtualNetwork>> assignment = new LinkedHashMap<>();
+		for (final VirtualNetwork vNet : ordered) {
+			final VirtualNetworkDemand d = VirtualNetworkDemand.of(vNet);
+			final int elements = vNet.getNodess().size() + vNet.getLinks().size();
+
+			SubstrateNode best = null;
+			for (final Map.Entry<SubstrateNode, List<Match>> e : matches.get(vNet).entrySet()) {
+				final long[] res = residuals.get(e.getKey());
+				final Set<Element> covered = e.getValue().stream().map(Match::getVirtual).collect(Collectors.toSet());
+				if (res == null || covered.size() < elements || res[0] < d.getCpu() || res[1] < d.getMemory()
+						|| res[2] < d.getStorage()) {
+					continue;
+				}
+
+				if (best == null || sum(res) > sum(residuals.get(best))) {
+					best = e.getKey();
+				}
+			}
+
+			if (best != null) {
+				final long[] res = residuals.get(best);
+				res[0] -= d.getCpu();
+				res[1] -= d.getMemory();
+				res[2] -= d.getStorage();
+				assignment.computeIfAbsent(best, k -> new LinkedHashSet<>()).add(vNet);
+			}
+		}
+
+		return assignment;
+	}
+
+	/**
+	 * Translates all matches of the given virtual networks within the given rack
+	 * into an ILP formulation for the given solver. Only the substrate servers and
+	 * links of the rack are part of the ILP problem.
+	 *
+	 * @param solver  ILP solver of the rack.
+	 * @param rack    Rack.
+	 * @param rackNets Virtual networks assigned to the rack.
+	 * @param matches Matches per virtual network and rack.
+	 */
+	private void rack2Ilp(final IncrementalIlpSolver solver, final SubstrateNode rack,
+			final Set<VirtualNetwork> rackNets, final Map<VirtualNetwork, Map<SubstrateNode, List<Match>>> matches) {
+		final IlpDeltaGenerator gen = new IlpDeltaGenerator(solver);
+
+		// Substrate servers and links of the rack
+		final Set<SubstrateLink> links = new LinkedHashSet<>();
+		for (final Node n : sNet.getNodess()) {
+			if (n instanceof SubstrateServer ssrv && rack.equals(getRack(ssrv))) {
+				gen.addNewSubstrateServer(ssrv);
+				ssrv.getOutgoingLinks().forEach(l -> links.add((SubstrateLink) l));
+				ssrv.getIncomingLinks().forEach(l -> links.add((SubstrateLink) l));
+			}
+		}
+		links.forEach(gen::addNewSubstrateLink);
+
+		// Virtual networks and their matches (node matches first, because the link
+		// matches check the existence of the node mapping variables)
+		final List<Match> linkMatches = new ArrayList<>();
+		for (final VirtualNetwork vNet : rackNets) {
+			addVirtualNetworkToSolver(gen, vNet);
+
+			for (final Match m : matches.get(vNet).get(rack)) {
+				if (m.getVirtual() instanceof VirtualServer) {
+					gen.addServerMatch(m);
+				} else if (m.getVirtual() instanceof VirtualSwitch) {
+					gen.addSwitchMatch(m);
+				} else {
+					linkMatches.add(m);
+				}
+			}
+		}
+
+		for (final Match m : linkMatches) {
+			if (m.getSubstrate() instanceof SubstratePath) {
+				gen.addLinkPathMatch(m);
+			} else {
+				gen.addLinkServerMatch(m);
+			}
+		}
+
+		gen.apply();
+	}
+
+	/**
+	 * Returns the rack of the given substrate element. The rack of a substrate
+	 * server is the substrate switch it is connected to, the rack of a substrate
+	 * switch is the switch itself. The rack of a substrate path is the rack of all
+	 * of its nodes.
+	 *
+	 * @param element Substrate element.
+	 * @return Rack of the given substrate element or null if the element spans
+	 *         multiple racks.
+	 */
+	private SubstrateNode getRack(final Element element) {
+		if (racks.containsKey(element)) {
+			return racks.get(element);
+		}
+
+		SubstrateNode rack = null;
+		if (element instanceof SubstrateServer ssrv) {
+			rack = ssrv;
+			for (final Link l : ssrv.getOutgoingLinks()) {
+				if (l.getTarget() instanceof SubstrateSwitch ssw) {
+					rack = ssw;
+					break;
+				}
+			}
+		} else if (element instanceof SubstrateSwitch ssw) {
+			rack = ssw;
+		} else if (element instanceof SubstratePath sPath) {
+			rack = getRack((SubstrateNode) sPath.getSource());
+
+			// All nodes of the path must be part of the same rack
+			for (final Node n : sPath.getNodes()) {
+				if (rack != null && !rack.equals(getRack(n))) {
+					rack = null;
+				}
+			}
+		}
+
+		racks.put(element, rack);
+		return rack;
+	}
+
+	/**
+	 * Returns the virtual network of the given virtual element.
+	 *
+	 * @param virtual Virtual element.
+	 * @return Virtual network of the given virtual element.
+	 */
+	private static VirtualNetwork getNetwork(final Element virtual) {
+		if (virtual instanceof VirtualServer vsrv) {
+			return vsrv.getNetwork();
+		} else if (virtual instanceof VirtualSwitch vsw) {
+			return vsw.getNetwork();
+		}
+		return ((VirtualLink) virtual).getNetwork();
+	}
+
+	/**
+	 * Returns the sum of all given resources.
+	 *
+	 * @param res Resources.
+	 * @return Sum of all given resources.
+	 */
+	private static long sum(final long[] res) {
+		return res[0] + res[1] + res[2];
+	}
+
+	/**
+	 * Waits for the given result of a rack ILP problem. Failures of single racks
+	 * are not fatal, because their virtual networks go back to the global ILP
+	 * problem.
+	 *
+	 * @param future Result of the rack ILP problem.
+	 * @return Mappings of the rack ILP problem or null if it could not be solved.
+	 */
+	private Map<String, Boolean> awaitMappings(final Future<Map<String, Boolean>> future) {
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (final ExecutionException e) {
+			logger.warning("=> Rack ILP problem failed: " + e.getCause());
+			return null;
+		}
+	}
+
+}
@@ -4,16 +4,13 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
-import algorithms.AlgorithmConfig;
-import algorithms.pm.VnePmMdvneAlgorithm;
+import algorithms.CostTable;
 import facade.ModelFacade;
-import gt.IncrementalPatternMatcher;
 import gt.PatternMatchingDelta;
 import gt.PatternMatchingDelta.Match;
 import gt.emoflon.EmoflonGtFactory;
 import gt.emoflon.EmoflonGtRackB;
 import gt.emoflon.EmoflonGtRackBFactory;
-import ilp.wrapper.config.IlpSolverConfig;
 import metrics.manager.GlobalMetricsManager;
 import model.SubstrateElement;
 import model.VirtualElement;
@@ -26,12 +23,7 @@ import model.VirtualNetwork;
  *
  * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
  */
-public class VnePmMdvneAlgorithmPipelineStageRackB extends VnePmMdvneAlgorithm {
-
-	/**
-	 * Incremental pattern matcher to use for the second pipeline stage.
-	 */
-	protected IncrementalPatternMatcher patternMatcherRack;
+public class VnePmMdvneAlgorithmPipelineStageRackB extends VnePmMdvneAlgorithmPipelineStageRack {
 
 	/**
 	 * Initialize the algorithm with the global model facade.
@@ -67,8 +59,7 @@ public class VnePmMdvneAlgorithmPipelineStageRackB extends VnePmMdvneAlgorithm {
 	}
 
 	@Override
-	public boolean execute() {
-		GlobalMetricsManager.measureMemory();
+	public boolean plan() {
 		init();
 
 		// // Check overall embedding possibility
@@ -98,15 +89,10 @@ public class VnePmMdvneAlgorithmPipelineStageRackB extends VnePmMdvneAlgorithm {
 		GlobalMetricsManager.endPmTime();
 
 		// Uses the "normal" delta to ILP translator of the super class
+		costTable = CostTable.of(config, sNet);
 		delta2Ilp(deltaTwo);
 		GlobalMetricsManager.measureMemory();
-		final Set<VirtualNetwork> rejectedNetworksTwo = solveIlp();
-
-		rejectedNetworksTwo.addAll(ignoredVnets);
-		embedNetworks(rejectedNetworksTwo);
-		GlobalMetricsManager.endDeployTime();
-		GlobalMetricsManager.measureMemory();
-		return rejectedNetworksTwo.isEmpty();
+		return true;
 	}
 
 	/*
@@ -120,14 +106,14 @@ public class VnePmMdvneAlgorithmPipelineStageRackB extends VnePmMdvneAlgorithm {
 	@Override
 	public void init() {
 		// Create new ILP solver object on every method call.
-		ilpSolver = IlpSolverConfig.getIlpSolver();
+		ilpSolver = config.createIlpSolver();
 
 		if (patternMatcher == null) {
-			patternMatcher = new EmoflonGtFactory().create();
+			patternMatcher = new EmoflonGtFactory().create(modelFacade, config.getPatternMatcher());
 		}
 
 		if (patternMatcherRack == null) {
-			patternMatcherRack = new EmoflonGtRackBFactory().create();
+			patternMatcherRack = new EmoflonGtRackBFactory().create(modelFacade, config.getPatternMatcher());
 		}
 	}
 
@@ -160,7 +146,7 @@ public class VnePmMdvneAlgorithmPipelineStageRackB extends VnePmMdvneAlgorithm {
 			}
 
 			// Embed element: Either use emoflon/GT or use manual mode.
-			switch (AlgorithmConfig.emb) {
+			switch (config.getEmbedding()) {
 			case EMOFLON:
 				// Create embedding via matches and graph transformation
 				engine.apply((VirtualElement) m.getVirtual(), (SubstrateElement) m.getSubstrate(), true);
@@ -1,11 +1,16 @@
 package algorithms.pm.stages;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import algorithms.AlgorithmConfig;
+import algorithms.CostTable;
 import algorithms.pm.VnePmMdvneAlgorithm;
 import facade.ModelFacade;
 import gt.IncrementalPatternMatcher;
@@ -14,7 +19,6 @@ import gt.PatternMatchingDelta.Match;
 import gt.emoflon.EmoflonGtFactory;
 import gt.emoflon.EmoflonGtVnet;
 import gt.emoflon.EmoflonGtVnetFactory;
-import ilp.wrapper.config.IlpSolverConfig;
 import metrics.manager.GlobalMetricsManager;
 import model.Link;
 import model.Node;
@@ -34,6 +38,11 @@ import model.VirtualNode;
  * pattern matching as a way to reduce the search space of the ILP solver. This
  * implementation embeds whole virtual networks onto substrate servers only.
  *
+ * If {@link AlgorithmConfig#pmVnetBinPacking} is enabled, the stage does not
+ * create an ILP problem. Instead, the virtual networks are placed onto their
+ * matched substrate servers by a (multi-dimensional) bin packer. The ILP problem
+ * is only used as fallback for virtual networks the bin packer could not place.
+ *
  * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
  */
 public class VnePmMdvneAlgorithmPipelineStageVnet extends VnePmMdvneAlgorithm {
@@ -116,9 +125,78 @@ public class VnePmMdvneAlgorithmPipelineStageVnet extends VnePmMdvneAlgorithm {
 		super.dispose();
 	}
 
+	/**
+	 * The bin packing is only implemented in {@link #execute()}, hence, this stage
+	 * can only be executed speculatively without it.
+	 */
+	@Override
+	public boolean canPlan() {
+		return !getRunConfig().isPmVnetBinPacking();
+	}
+
 	@Override
 	public boolean execute() {
-		// GlobalMetricsManager.measureMemory();
+		if (!config.isPmVnetBinPacking()) {
+			return super.execute();
+		}
+
+		GlobalMetricsManager.measureMemory();
+		init();
+		checkPrerequisites();
+
+		GlobalMetricsManager.startPmTime();
+		final PatternMatchingDelta delta = patternMatcherVnet.run();
+		GlobalMetricsManager.endPmTime();
+
+		// Candidate substrate servers per virtual network
+		final Map<VirtualNetwork, List<Match>> candidates = new HashMap<>();
+		delta.getNewNetworkServerMatchPositives().stream() //
+				.filter(m -> !ignoredVnets.contains(m.getVirtual())) //
+				.filter(m -> vNets.contains(m.getVirtual())) //
+				.filter(this::isOnSubstrate) //
+				.forEach(m -> candidates.computeIfAbsent((VirtualNetwork) m.getVirtual(), k -> new ArrayList<>())
+						.add(m));
+
+		// The bin packer replaces the ILP solver, hence, its time counts as ILP time
+		GlobalMetricsManager.startIlpTime();
+		costTable = CostTable.of(config, sNet);
+		final Map<VirtualNetwork, Match> packed = new VnetBinPacker(candidates,
+				m -> getCost((VirtualElement) m.getVirtual(), (SubstrateElement) m.getSubstrate()),
+				config.getPmVnetExactLimit()).pack();
+		GlobalMetricsManager.endIlpTime();
+
+		final Map<String, Boolean> mappings = new HashMap<>();
+		for (final Match m : packed.values()) {
+			final String varName = m.getVirtual().getName() + "_" + m.getSubstrate().getName();
+			variablesToMatch.put(varName, m);
+			mappings.put(varName, true);
+		}
+
+		GlobalMetricsManager.startDeployTime();
+		final Set<VirtualNetwork> rejectedNetworks = updateMappingsAndEmbed(mappings);
+
+		final Set<VirtualNetwork> unpacked = vNets.stream()
+				.filter(vNet -> !ignoredVnets.contains(vNet) && !packed.containsKey(vNet)).collect(Collectors.toSet());
+		if (!unpacked.isEmpty() && config.isPmVnetIlpFallback()) {
+			GlobalMetricsManager.endDeployTime();
+			logger.info("=> " + unpacked.size() + " virtual network(s) go to the ILP fallback");
+			ignoredVnets.addAll(packed.keySet());
+			delta2Ilp(delta);
+			ignoredVnets.removeAll(packed.keySet());
+			rejectedNetworks.addAll(solveIlp());
+		} else {
+			rejectedNetworks.addAll(unpacked);
+		}
+
+		rejectedNetworks.addAll(ignoredVnets);
+		embedNetworks(rejectedNetworks);
+		GlobalMetricsManager.endDeployTime();
+		GlobalMetricsManager.measureMemory();
+		return rejectedNetworks.isEmpty();
+	}
+
+	@Override
+	public boolean plan() {
 		init();
 
 		// Check prerequisites
@@ -146,15 +224,10 @@ public class VnePmMdvneAlgorithmPipelineStageVnet extends VnePmMdvneAlgorithm {
 		final PatternMatchingDelta delta = patternMatcherVnet.run();
 		GlobalMetricsManager.endPmTime();
 
+		costTable = CostTable.of(config, sNet);
 		delta2Ilp(delta);
 		GlobalMetricsManager.measureMemory();
-		final Set<VirtualNetwork> rejectedNetworks = solveIlp();
-
-		rejectedNetworks.addAll(ignoredVnets);
-		embedNetworks(rejectedNetworks);
-		GlobalMetricsManager.endDeployTime();
-		GlobalMetricsManager.measureMemory();
-		return rejectedNetworks.isEmpty();
+		return true;
 	}
 
 	/**
@@ -185,6 +258,7 @@ public class VnePmMdvneAlgorithmPipelineStageVnet extends VnePmMdvneAlgorithm {
 		delta.getNewNetworkServerMatchPositives().stream() //
 				.filter(m -> !ignoredVnets.contains(m.getVirtual())) //
 				.filter(m -> vNets.contains(m.getVirtual())) //
+				.filter(this::isOnSubstrate) //
 				.forEach(gen::addNetworkToServerMatch);
 
 		// apply delta in ILP generator
@@ -261,7 +335,7 @@ public class VnePmMdvneAlgorithmPipelineStageVnet extends VnePmMdvneAlgorithm {
 			}
 
 			// Embed element: Use emoflon/GT.
-			switch (AlgorithmConfig.emb) {
+			switch (config.getEmbedding()) {
 			case EMOFLON:
 				// Create embedding via matches and graph transformation
 				engine.apply((VirtualElement) m.getVirtual(), (SubstrateElement) m.getSubstrate(), true);
@@ -289,14 +363,14 @@ public class VnePmMdvneAlgorithmPipelineStageVnet extends VnePmMdvneAlgorithm {
 	@Override
 	public void init() {
 		// Create new ILP solver object on every method call.
-		ilpSolver = IlpSolverConfig.getIlpSolver();
+		ilpSolver = config.createIlpSolver();
 
 		if (patternMatcher == null) {
-			patternMatcher = new EmoflonGtFactory().create();
+			patternMatcher = new EmoflonGtFactory().create(modelFacade, config.getPatternMatcher());
 		}
 
 		if (patternMatcherVnet == null) {
-			patternMatcherVnet = new EmoflonGtVnetFactory().create();
+			patternMatcherVnet = new EmoflonGtVnetFactory().create(modelFacade, config.getPatternMatcher());
 		}
 	}
 
@@ -307,11 +381,11 @@ public class VnePmMdvneAlgorithmPipelineStageVnet extends VnePmMdvneAlgorithm {
 	@Override
 	public double getCost(final VirtualElement virt, final SubstrateElement host) {
 		if (virt instanceof Link) {
-			return IlpSolverConfig.transformObj(getLinkCost((VirtualLink) virt, host));
+			return config.transformObj(getLinkCost((VirtualLink) virt, host));
 		} else if (virt instanceof Node && host instanceof Node) {
-			return IlpSolverConfig.transformObj(getNodeCost((VirtualNode) virt, (SubstrateNode) host));
+			return config.transformObj(getNodeCost((VirtualNode) virt, (SubstrateNode) host));
 		} else if (virt instanceof VirtualNetwork) {
-			return IlpSolverConfig.transformObj(getNetCost((VirtualNetwork) virt, (SubstrateNode) host));
+			return config.transformObj(getNetCost((VirtualNetwork) virt, (SubstrateNode) host));
 		}
 
 		throw new IllegalArgumentException();
@@ -0,0 +1,252 @@
+package algorithms.pm.stages;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import gt.PatternMatchingDelta.Match;
+import model.SubstrateServer;
+import model.VirtualNetwork;
+
+/**
+ * Multi-dimensional (CPU, memory, storage) bin packer that places whole virtual
+ * networks onto single substrate servers. Every virtual network may only be
+ * placed onto one of its candidate matches (virtual network -> substrate
+ * server).
+ *
+ * Small instances are solved exactly by a branch-and-bound search that
+ * maximizes the number of placed virtual networks and minimizes the total cost
+ * of all placements afterwards. All other instances are solved by the best-fit
+ * decreasing heuristic.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+class VnetBinPacker {
+
+	/**
+	 * Maximum number of search nodes of the branch-and-bound search. If the limit
+	 * is reached, the best placement found so far is returned.
+	 */
+	private static final int MAX_SEARCH_NODES = 1_000_000;
+
+	/**
+	 * Virtual networks to place ordered by their total demand (descending).
+	 */
+	private final List<VirtualNetwork> order;
+
+	/**
+	 * Candidate matches per virtual network ordered by their cost (ascending).
+	 */
+	private final Map<VirtualNetwork, List<Match>> candidates = new HashMap<>();
+
+	/**
+	 * Cost function of the matches.
+	 */
+	private final ToDoubleFunction<Match> cost;
+
+	/**
+	 * Residual resources (CPU, memory, storage) of all candidate substrate servers.
+	 */
+	private final Map<SubstrateServer, long[]> residuals = new HashMap<>();
+
+	/**
+	 * Maximum number of virtual networks the exact search is used for.
+	 */
+	private final int exactLimit;
+
+	/**
+	 * Placement of the current search path.
+	 */
+	private final Map<VirtualNetwork, Match> current = new HashMap<>();
+
+	/**
+	 * Best placement found so far.
+	 */
+	private Map<VirtualNetwork, Match> best = new HashMap<>();
+
+	/**
+	 * Total cost of the best placement found so far.
+	 */
+	private double bestCost;
+
+	/**
+	 * Number of visited search nodes.
+	 */
+	private int searchNodes;
+
+	/**
+	 * Creates a new bin packer.
+	 *
+	 * @param candidates Candidate matches (virtual network -> substrate server)
+	 *                   per virtual network.
+	 * @param cost       Cost function of the matches.
+	 * @param exactLimit Maximum number of virtual networks the exact search is
+	 *                   used for.
+	 */
+	VnetBinPacker(final Map<VirtualNetwork, List<Match>> candidates, final ToDoubleFunction<Match> cost,
+			final int exactLimit) {
+		this.cost = cost;
+		this.exactLimit = exactLimit;
+
+		candidates.forEach((vNet, matches) -> {
+			final List<Match> sorted = new ArrayList<>(matches);
+			sorted.sort(Comparator.comparingDouble(cost).thenComparing(m -> m.getSubstrate().getName()));
+			this.candidates.put(vNet, sorted);
+
+			for (final Match m : sorted) {
+				final SubstrateServer ssrv = (SubstrateServer) m.getSubstrate();
+				residuals.computeIfAbsent(ssrv, k -> new long[] { ssrv.getResidualCpu(), ssrv.getResidualMemory(),
+						ssrv.getResidualStorage() });
+			}
+		});
+
+		this.order = new ArrayList<>(candidates.keySet());
+		this.order.sort(Comparator.comparingLong(VnetBinPacker::demand).reversed()
+				.thenComparing(VirtualNetwork::getName));
+	}
+
+	/**
+	 * Places the virtual networks onto the substrate servers.
+	 *
+	 * @return Chosen match per placed virtual network. Virtual networks that could
+	 *         not be placed are not part of the map.
+	 */
+	Map<VirtualNetwork, Match> pack() {
+		best = bestFitDecreasing();
+		bestCost = totalCost(best);
+
+		if (order.size() <= exactLimit) {
+			searchNodes = 0;
+			branch(0, 0);
+		}
+
+		return best;
+	}
+
+	/**
+	 * Best-fit decreasing heuristic: Every virtual network (largest first) is
+	 * placed onto the candidate substrate server with the smallest remaining
+	 * residual resources after the placement.
+	 *
+	 * @return Chosen match per placed virtual network.
+	 */
+	private Map<VirtualNetwork, Match> bestFitDecreasing() {
+		final Map<VirtualNetwork, Match> placement = new HashMap<>();
+		for (final VirtualNetwork vNet : order) {
+			Match chosen = null;
+			long chosenLeft = Long.MAX_VALUE;
+			for (final Match m : candidates.get(vNet)) {
+				final long[] res = residuals.get(m.getSubstrate());
+				if (!fits(vNet, res)) {
+					continue;
+				}
+
+				// Candidates are sorted by cost, so the first one wins ties
+				final long left = res[0] + res[1] + res[2] - demand(vNet);
+				if (left < chosenLeft) {
+					chosen = m;
+					chosenLeft = left;
+				}
+			}
+
+			if (chosen != null) {
+				allocate(vNet, chosen, 1);
+				placement.put(vNet, chosen);
+			}
+		}
+
+		// Restore the residual resources for the exact search
+		placement.forEach((vNet, m) -> allocate(vNet, m, -1));
+		return placement;
+	}
+
+	/**
+	 * Branch-and-bound search over all placements of the virtual networks starting
+	 * at the given index of the order. A branch is pruned if it can not place more
+	 * virtual networks than the best placement or if it can only place the same
+	 * number of virtual networks with at least the same cost (all costs are
+	 * non-negative).
+	 *
+	 * @param i       Index of the next virtual network to place.
+	 * @param curCost Total cost of the current placement.
+	 */
+	private void branch(final int i, final double curCost) {
+		final int bound = current.size() + order.size() - i;
+		if (++searchNodes > MAX_SEARCH_NODES || bound < best.size() || bound == best.size() && curCost >= bestCost) {
+			return;
+		}
+
+		if (i == order.size()) {
+			best = new HashMap<>(current);
+			bestCost = curCost;
+			return;
+		}
+
+		final VirtualNetwork vNet = order.get(i);
+		for (final Match m : candidates.get(vNet)) {
+			if (!fits(vNet, residuals.get(m.getSubstrate()))) {
+				continue;
+			}
+
+			allocate(vNet, m, 1);
+			current.put(vNet, m);
+			branch(i + 1, curCost + cost.applyAsDouble(m));
+			current.remove(vNet);
+			allocate(vNet, m, -1);
+		}
+
+		// Do not place the virtual network at all
+		branch(i + 1, curCost);
+	}
+
+	/**
+	 * Allocates (sign = 1) or frees (sign = -1) the resources of the given virtual
+	 * network on the substrate server of the given match.
+	 *
+	 * @param vNet Virtual network.
+	 * @param m    Match of the virtual network.
+	 * @param sign 1 to allocate or -1 to free the resources.
+	 */
+	private void allocate(final VirtualNetwork vNet, final Match m, final int sign) {
+		final long[] res = residuals.get(m.getSubstrate());
+		res[0] -= sign * vNet.getCpu();
+		res[1] -= sign * vNet.getMemory();
+		res[2] -= sign * vNet.getStorage();
+	}
+
+	/**
+	 * Returns the total cost of the given placement.
+	 *
+	 * @param placement Placement.
+	 * @return Total cost of the given placement.
+	 */
+	private double totalCost(final Map<VirtualNetwork, Match> placement) {
+		return placement.values().stream().mapToDouble(cost).sum();
+	}
+
+	/**
+	 * Returns true if the given virtual network fits into the given residual
+	 * resources.
+	 *
+	 * @param vNet Virtual network.
+	 * @param res  Residual resources (CPU, memory, storage).
+	 * @return True if the virtual network fits.
+	 */
+	private static boolean fits(final VirtualNetwork vNet, final long[] res) {
+		return res[0] >= vNet.getCpu() && res[1] >= vNet.getMemory() && res[2] >= vNet.getStorage();
+	}
+
+	/**
+	 * Returns the total (CPU, memory, storage) demand of the given virtual network.
+	 *
+	 * @param vNet Virtual network.
+	 * @return Total demand of the given virtual network.
+	 */
+	private static long demand(final VirtualNetwork vNet) {
+		return vNet.getCpu() + vNet.getMemory() + vNet.getStorage();
+	}
+
+}
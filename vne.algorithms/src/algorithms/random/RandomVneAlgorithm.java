@@ -1,20 +1,24 @@
 package algorithms.random;
 
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
 import algorithms.AbstractAlgorithm;
+import algorithms.EmbeddingPlan;
+import algorithms.SubstratePathCache;
+import algorithms.SubstrateResourceIndex;
 import facade.ModelFacade;
-import facade.config.ModelFacadeConfig;
 import model.Link;
 import model.Node;
 import model.SubstrateNetwork;
 import model.SubstrateNode;
 import model.SubstratePath;
 import model.SubstrateServer;
+import model.VirtualLink;
 import model.VirtualNetwork;
 import model.VirtualNode;
 import model.VirtualServer;
@@ -101,47 +105,47 @@ public class RandomVneAlgorithm extends AbstractAlgorithm {
 		allNodes.addAll(subSwitches);
 		allNodes.addAll(subServers);
 
-		final Set<String> embeddedIds = new HashSet<String>();
+		final SubstrateResourceIndex index = SubstrateResourceIndex.of(sNet);
+		final SubstratePathCache pathCache = SubstratePathCache.of(config, modelFacade, sNet);
+		final Map<VirtualNode, SubstrateNode> placement = new HashMap<>();
 
 		/*
-		 * Place embedding on model
+		 * Plan embedding
 		 */
 
 		boolean success = true;
 		final VirtualNetwork vNet = vNets.iterator().next();
+		final EmbeddingPlan.Builder builder = EmbeddingPlan.builder(config);
 
 		// Embed virtual network
-		success &= modelFacade.embedNetworkToNetwork(sNet.getName(), vNet.getName());
-		if (success) {
-			embeddedIds.add(vNet.getName());
-		}
+		builder.add(vNet, sNet);
 
 		for (final Node vnode : vNet.getNodess()) {
 			if (vnode instanceof VirtualServer vserver) {
-				// Get random substrate server
-				SubstrateServer sserver = (SubstrateServer) subServers.get(rand(subServers.size()));
-
-				boolean serverSuccess = true;
-				for (int i = 0; i < retries; i++) {
-					try {
-						modelFacade.embedServerToServer(sserver.getName(), vserver.getName());
-						embeddedIds.add(vserver.getName());
+				// Get random substrate server out of all servers that can host the virtual
+				// server
+				final List<SubstrateServer> candidates = index.getServersThatFit(vserver.getCpu(), vserver.getMemory(),
+						vserver.getStorage());
+
+				boolean serverSuccess = false;
+				for (int i = 0; i < retries && !candidates.isEmpty(); i++) {
+					final SubstrateServer sserver = candidates.get(rand(candidates.size()));
+					// The server may already be filled up by other virtual servers of this plan
+					if (builder.fits(vserver, sserver)) {
+						builder.add(vserver, sserver);
+						placement.put(vserver, sserver);
 						serverSuccess = true;
 						break;
-					} catch (final UnsupportedOperationException ex) {
-						serverSuccess = false;
-						sserver = (SubstrateServer) subServers.get(rand(subServers.size()));
+					} else {
+						candidates.remove(sserver);
 					}
 				}
 
 				success &= serverSuccess;
 			} else if (vnode instanceof VirtualSwitch vswitch) {
 				final SubstrateNode snode = (SubstrateNode) allNodes.get(rand(allNodes.size()));
-				success &= modelFacade.embedSwitchToNode(snode.getName(), vswitch.getName());
-
-				if (success) {
-					embeddedIds.add(vswitch.getName());
-				}
+				builder.add(vswitch, snode);
+				placement.put(vswitch, snode);
 			}
 
 			// Termination condition
@@ -152,35 +156,43 @@ public class RandomVneAlgorithm extends AbstractAlgorithm {
 
 		if (success) {
 			for (final Link vLink : vNet.getLinks()) {
-				final VirtualNode vsource = (VirtualNode) vLink.getSource();
-				final VirtualNode vtarget = (VirtualNode) vLink.getTarget();
-
-				final SubstrateNode vsourceHost = findHost(vsource);
-				final SubstrateNode vtargetHost = findHost(vtarget);
+				final VirtualLink vl = (VirtualLink) vLink;
+				final SubstrateNode vsourceHost = placement.get(vLink.getSource());
+				final SubstrateNode vtargetHost = placement.get(vLink.getTarget());
 
 				// If both, the source and the target of a virtual link are embedded to the same
 				// substrate node, also use this node for the embedding of the virtual link.
 				if (vsourceHost.equals(vtargetHost)) {
-					success &= modelFacade.embedGeneric(vsourceHost.getName(), vLink.getName());
-
-					if (success) {
-						embeddedIds.add(vLink.getName());
-					}
+					builder.add(vl, vsourceHost);
 				} else {
 					// If source and target host are not the same node, find the corresponding path
 					// between the two nodes.
-					final SubstratePath sPath = modelFacade.getPathFromSourceToTarget(vsourceHost.getName(),
-							vtargetHost.getName());
-					try {
-						modelFacade.embedGeneric(sPath.getName(), vLink.getName());
-						embeddedIds.add(vLink.getName());
-					} catch (final UnsupportedOperationException ex) {
+					final SubstratePath sPath = pathCache.get(vsourceHost, vtargetHost);
+					if (!builder.fits(vl, sPath)) {
 						success = false;
+						break;
 					}
+					builder.add(vl, sPath);
 				}
 			}
 		}
 
+		// If at least one element could not be placed, the model stays untouched.
+		if (!success) {
+			return false;
+		}
+
+		/*
+		 * Place embedding on model
+		 */
+
+		final EmbeddingPlan plan = builder.build();
+		try {
+			success = plan.apply(modelFacade);
+		} catch (final IllegalStateException | UnsupportedOperationException ex) {
+			success = false;
+		}
+
 		// If at least one element could not be embedded, all other embeddings must be
 		// removed.
 		if (!success) {
@@ -211,34 +223,18 @@ public class RandomVneAlgorithm extends AbstractAlgorithm {
 		return rand(0, end);
 	}
 
-	/**
-	 * Finds a possible host for the virtual node to be embedded into.
-	 * 
-	 * @param vNode Virtual node to find a host for.
-	 * @return Possible host for the given virtual node.
-	 */
-	private SubstrateNode findHost(final VirtualNode vNode) {
-		if (vNode instanceof VirtualServer vsrv) {
-			return vsrv.getHost();
-		} else if (vNode instanceof VirtualSwitch vsw) {
-			return vsw.getHost();
-		}
-
-		throw new UnsupportedOperationException();
-	}
-
 	/**
 	 * Checks every condition necessary to run this algorithm. If a condition is not
 	 * met, it throws an UnsupportedOperationException.
 	 */
 	private void checkPreConditions() {
 		// Path creation has to be enabled for paths with length = 1
-		if (ModelFacadeConfig.MIN_PATH_LENGTH != 1) {
+		if (config.getMinPathLength() != 1) {
 			throw new UnsupportedOperationException("Minimum path length must be 1.");
 		}
 
 		// Bandwidth ignore must be true
-		if (!ModelFacadeConfig.IGNORE_BW) {
+		if (!config.isIgnoreBw()) {
 			throw new UnsupportedOperationException("Bandwidth ignore flag must be set.");
 		}
 
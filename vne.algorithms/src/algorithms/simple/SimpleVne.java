@@ -1,16 +1,19 @@
 package algorithms.simple;
 
-import java.util.List;
 import java.util.Set;
 
 import algorithms.AbstractAlgorithm;
+import algorithms.EmbeddingPlan;
+import algorithms.SubstrateResourceIndex;
 import facade.ModelFacade;
 import model.Link;
 import model.Node;
 import model.SubstrateNetwork;
 import model.SubstrateServer;
 import model.VirtualNetwork;
+import model.VirtualLink;
 import model.VirtualServer;
+import model.VirtualSwitch;
 
 /**
  * Super simple Virtual Network Embedding algorithm. It searches for the
@@ -50,65 +53,49 @@ public class SimpleVne extends AbstractAlgorithm {
 
 	@Override
 	public boolean execute() {
-		final List<Node> subServers = modelFacade.getAllServersOfNetwork(sNet.getName());
-		String largestServerId = "";
-		long largestServerRes = Long.MAX_VALUE;
-
-		for (Node actNode : subServers) {
-			final SubstrateServer actServer = (SubstrateServer) actNode;
-			final long resSum = actServer.getResidualCpu() + actServer.getResidualMemory()
-					+ actServer.getResidualStorage();
-			if (largestServerRes < resSum) {
-				largestServerRes = resSum;
-				largestServerId = actServer.getName();
-			}
-		}
-
-		// Check if embedding is possible
-		int summedCpu = 0;
-		int summedMem = 0;
-		int summedStor = 0;
-
-		for (Node actNode : modelFacade.getAllServersOfNetwork(getFirstVnet().getName())) {
-			final VirtualServer actServer = (VirtualServer) actNode;
-			summedCpu += actServer.getCpu();
-			summedMem += actServer.getMemory();
-			summedMem += actServer.getStorage();
-		}
-
-		final SubstrateServer largestSubServer = (SubstrateServer) modelFacade.getServerById(largestServerId);
-
-		if (!(summedCpu <= largestSubServer.getResidualCpu() && summedMem <= largestSubServer.getResidualMemory()
-				&& summedStor <= largestSubServer.getResidualStorage())) {
-			logger.info("=> SimpleVne: Embedding not possible due to resource constraints.");
+		final SubstrateServer largestSubServer = SubstrateResourceIndex.of(sNet).getLargestResidualServer();
+		if (largestSubServer == null) {
+			logger.info("=> SimpleVne: Embedding not possible due to missing substrate servers.");
 			return false;
 		}
 
 		/*
-		 * Place embedding on model
+		 * Plan embedding
 		 */
 
-		boolean success = true;
+		final VirtualNetwork vNet = getFirstVnet();
+		final EmbeddingPlan.Builder builder = EmbeddingPlan.builder(config);
 
 		// Network
-		success &= modelFacade.embedNetworkToNetwork(sNet.getName(), getFirstVnet().getName());
+		builder.add(vNet, sNet);
 
 		// Servers
-		for (Node act : modelFacade.getAllServersOfNetwork(getFirstVnet().getName())) {
-			success &= modelFacade.embedServerToServer(largestServerId, act.getName());
+		for (Node act : modelFacade.getAllServersOfNetwork(vNet.getName())) {
+			builder.add((VirtualServer) act, largestSubServer);
 		}
 
 		// Switches
-		for (Node act : modelFacade.getAllSwitchesOfNetwork(getFirstVnet().getName())) {
-			success &= modelFacade.embedSwitchToNode(largestServerId, act.getName());
+		for (Node act : modelFacade.getAllSwitchesOfNetwork(vNet.getName())) {
+			builder.add((VirtualSwitch) act, largestSubServer);
 		}
 
 		// Links
-		for (Link act : modelFacade.getAllLinksOfNetwork(getFirstVnet().getName())) {
-			success &= modelFacade.embedLinkToServer(largestServerId, act.getName());
+		for (Link act : modelFacade.getAllLinksOfNetwork(vNet.getName())) {
+			builder.add((VirtualLink) act, largestSubServer);
 		}
 
-		return success;
+		// Check if embedding is possible (all resources added together)
+		final EmbeddingPlan plan = builder.build();
+		if (!plan.isValid()) {
+			logger.info("=> SimpleVne: Embedding not possible due to resource constraints.");
+			return false;
+		}
+
+		/*
+		 * Place embedding on model
+		 */
+
+		return plan.apply(modelFacade);
 	}
 
 }
@@ -111,7 +111,7 @@ public abstract class AMdvneAdaptedScenario extends IflyeLogger implements IScen
 
 		final OneTierConfig virtualConfig = new OneTierConfig(numberOfServers, 1, false, cpu, memory, storage,
 				bandwidth);
-		final OneTierNetworkGenerator virtGen = new OneTierNetworkGenerator(virtualConfig);
+		final OneTierNetworkGenerator virtGen = new OneTierNetworkGenerator(virtualConfig, facade);
 		virtGen.createNetwork(virtualNetworkId, true);
 	}
 
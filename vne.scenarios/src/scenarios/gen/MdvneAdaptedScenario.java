@@ -4,7 +4,6 @@ import java.util.Set;
 
 import algorithms.AbstractAlgorithm;
 import algorithms.heuristics.TafAlgorithm;
-import facade.ModelFacade;
 import facade.config.ModelFacadeConfig;
 import generators.TwoTierNetworkGenerator;
 import generators.config.OneTierConfig;
@@ -56,7 +55,7 @@ public class MdvneAdaptedScenario extends AMdvneAdaptedScenario implements IScen
 			scen.virtualSetup(virtualNetworkId);
 			final VirtualNetwork virt = (VirtualNetwork) facade.getNetworkById(virtualNetworkId);
 			// TODO: Change the algorithm instance later on.
-			final AbstractAlgorithm algo = new TafAlgorithm();
+			final AbstractAlgorithm algo = new TafAlgorithm(facade);
 			algo.prepare(sub, Set.of(virt));
 			final boolean success = algo.execute();
 
@@ -68,7 +67,7 @@ public class MdvneAdaptedScenario extends AMdvneAdaptedScenario implements IScen
 		}
 
 		// Save model to file
-		ModelFacade.getInstance().persistModel();
+		facade.persistModel();
 		logger.info("=> Scenario finished.");
 
 		System.exit(0);
@@ -87,7 +86,7 @@ public class MdvneAdaptedScenario extends AMdvneAdaptedScenario implements IScen
 		substrateConfig.setNumberOfCoreSwitches(2);
 		substrateConfig.setNumberOfRacks(racks);
 		substrateConfig.setCoreBandwidth(substrateBwCore);
-		final TwoTierNetworkGenerator subGen = new TwoTierNetworkGenerator(substrateConfig);
+		final TwoTierNetworkGenerator subGen = new TwoTierNetworkGenerator(substrateConfig, facade);
 		subGen.createNetwork(substrateNetworkId, false);
 	}
 
@@ -4,7 +4,6 @@ import java.util.Set;
 
 import algorithms.AbstractAlgorithm;
 import algorithms.heuristics.TafAlgorithm;
-import facade.ModelFacade;
 import facade.config.ModelFacadeConfig;
 import generators.FatTreeNetworkGenerator;
 import generators.config.FatTreeConfig;
@@ -63,7 +62,7 @@ public class MdvneFatTreeAdaptedScenario extends AMdvneAdaptedScenario implement
 			scen.virtualSetup(virtualNetworkId);
 			final VirtualNetwork virt = (VirtualNetwork) facade.getNetworkById(virtualNetworkId);
 			// TODO: Change the algorithm instance later on.
-			final AbstractAlgorithm algo = new TafAlgorithm();
+			final AbstractAlgorithm algo = new TafAlgorithm(facade);
 			algo.prepare(sub, Set.of(virt));
 			final boolean success = algo.execute();
 
@@ -75,7 +74,7 @@ public class MdvneFatTreeAdaptedScenario extends AMdvneAdaptedScenario implement
 		}
 
 		// Save model to file
-		ModelFacade.getInstance().persistModel();
+		facade.persistModel();
 		logger.info("=> Scenario finished.");
 
 		System.exit(0);
@@ -93,7 +92,7 @@ public class MdvneFatTreeAdaptedScenario extends AMdvneAdaptedScenario implement
 		substrateConfig.setRack(substrateRackConfig);
 		substrateConfig.setBwCoreToAggr(substrateBwCore);
 		substrateConfig.setBwAggrToEdge(substrateBwAggr);
-		final FatTreeNetworkGenerator subGen = new FatTreeNetworkGenerator(substrateConfig);
+		final FatTreeNetworkGenerator subGen = new FatTreeNetworkGenerator(substrateConfig, facade);
 		subGen.createNetwork(substrateNetworkId, false);
 	}
 
@@ -5,7 +5,6 @@ import java.util.Set;
 
 import algorithms.AbstractAlgorithm;
 import algorithms.heuristics.TafAlgorithm;
-import facade.ModelFacade;
 import facade.config.ModelFacadeConfig;
 import generators.OneTierNetworkGenerator;
 import generators.TwoTierNetworkGenerator;
@@ -115,7 +114,7 @@ public class OptimalVmScenario extends IflyeLogger implements IScenario {
 			virtualSetup(virtualNetworkId);
 			final VirtualNetwork virt = (VirtualNetwork) facade.getNetworkById(virtualNetworkId);
 			// TODO: Change the algorithm instance later on.
-			final AbstractAlgorithm algo = new TafAlgorithm();
+			final AbstractAlgorithm algo = new TafAlgorithm(facade);
 			algo.prepare(sub, Set.of(virt));
 			final boolean success = algo.execute();
 
@@ -127,7 +126,7 @@ public class OptimalVmScenario extends IflyeLogger implements IScenario {
 		}
 
 		// Save model to file
-		ModelFacade.getInstance().persistModel();
+		facade.persistModel();
 		logger.info("=> Scenario finished.");
 
 		System.exit(0);
@@ -157,7 +156,7 @@ public class OptimalVmScenario extends IflyeLogger implements IScenario {
 		substrateConfig.setRack(substrateRackConfig);
 		substrateConfig.setNumberOfCoreSwitches(2);
 		substrateConfig.setNumberOfRacks(M);
-		final TwoTierNetworkGenerator subGen = new TwoTierNetworkGenerator(substrateConfig);
+		final TwoTierNetworkGenerator subGen = new TwoTierNetworkGenerator(substrateConfig, facade);
 		subGen.createNetwork(substrateNetworkId, false);
 	}
 
@@ -174,7 +173,7 @@ public class OptimalVmScenario extends IflyeLogger implements IScenario {
 		final int bandwidth = getNextRandIntInterval(virtualTrafficMin, virtualTrafficMax);
 
 		final OneTierConfig virtualConfig = new OneTierConfig(L, 1, false, cpu, memory, storage, bandwidth);
-		final OneTierNetworkGenerator virtGen = new OneTierNetworkGenerator(virtualConfig);
+		final OneTierNetworkGenerator virtGen = new OneTierNetworkGenerator(virtualConfig, facade);
 		virtGen.createNetwork(virtualNetworkId, true);
 	}
 
@@ -3,6 +3,7 @@ package scenarios.load;
 import java.util.function.Function;
 
 import algorithms.AbstractAlgorithm;
+import algorithms.RunConfig;
 import facade.ModelFacade;
 import iflye.dependencies.logging.IflyeLogger;
 import model.SubstrateNetwork;
@@ -29,11 +30,26 @@ public abstract class AbstractExperiment extends IflyeLogger implements Experime
 	 */
 	protected String virtNetsPath;
 
+	/**
+	 * The model facade to work with
+	 */
+	protected ModelFacade modelFacade = ModelFacade.getInstance();
+
 	/**
 	 * The algorithm to use
 	 */
 	protected Function<ModelFacade, AbstractAlgorithm> algoFactory = null;
 
+	/**
+	 * The configuration of all runs of this experiment
+	 */
+	protected RunConfig runConfig = null;
+
+	/**
+	 * The builder the configuration modules fill the run configuration into
+	 */
+	protected final RunConfig.Builder runConfigBuilder = RunConfig.builder();
+
 	/**
 	 * If the model should be persisted after execution, optionally supply the file
 	 * name.
@@ -57,6 +73,22 @@ public abstract class AbstractExperiment extends IflyeLogger implements Experime
 	public AbstractExperiment() {
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ModelFacade getModelFacade() {
+		return modelFacade;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setModelFacade(ModelFacade modelFacade) {
+		this.modelFacade = modelFacade;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -73,6 +105,30 @@ public abstract class AbstractExperiment extends IflyeLogger implements Experime
 		this.algoFactory = algoFactory;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RunConfig getRunConfig() {
+		return runConfig;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setRunConfig(RunConfig runConfig) {
+		this.runConfig = runConfig;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RunConfig.Builder getRunConfigBuilder() {
+		return runConfigBuilder;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -0,0 +1,135 @@
+package scenarios.load;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import generators.workload.VnrWorkloadGenerator;
+
+/**
+ * Minimal discrete-event engine for VNE scenarios with arriving and departing
+ * virtual networks. Events are processed in the order of their simulated time.
+ * At the same simulated time, departures are processed before arrivals (so that
+ * the freed resources can be used by the arriving virtual networks) and events
+ * of the same type in the order they were scheduled.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class DiscreteEventSimulator {
+
+	/**
+	 * Type of a simulation event.
+	 */
+	public enum EventType {
+		ARRIVAL, DEPARTURE
+	}
+
+	/**
+	 * Simulation event.
+	 *
+	 * @param time   Simulated time of the event.
+	 * @param seq    Sequence number of the event (tie breaker).
+	 * @param type   Type of the event.
+	 * @param vNetId ID of the virtual network of the event or null if the virtual
+	 *               network is not known yet (arrivals).
+	 */
+	public record Event(double time, long seq, EventType type, String vNetId) {
+	}
+
+	/**
+	 * Pending events.
+	 */
+	private final PriorityQueue<Event> queue = new PriorityQueue<>(Comparator.comparingDouble(Event::time)
+			.thenComparing(e -> e.type() == EventType.DEPARTURE ? 0 : 1).thenComparingLong(Event::seq));
+
+	/**
+	 * Random number generator for all sampled durations.
+	 */
+	private final Random rand;
+
+	/**
+	 * Current simulated time.
+	 */
+	private double time = 0;
+
+	/**
+	 * Sequence number of the next scheduled event.
+	 */
+	private long seq = 0;
+
+	/**
+	 * Creates a new simulator.
+	 *
+	 * @param seed Seed of the random number generator.
+	 */
+	public DiscreteEventSimulator(final long seed) {
+		this.rand = new Random(seed);
+	}
+
+	/**
+	 * Schedules a new event.
+	 *
+	 * @param at     Simulated time of the event.
+	 * @param type   Type of the event.
+	 * @param vNetId ID of the virtual network of the event (may be null).
+	 * @return The scheduled event.
+	 */
+	public Event schedule(final double at, final EventType type, final String vNetId) {
+		if (at < time) {
+			throw new IllegalArgumentException("Events must not be scheduled in the past.");
+		}
+
+		final Event event = new Event(at, seq++, type, vNetId);
+		queue.add(event);
+		return event;
+	}
+
+	/**
+	 * Returns true if there are pending events.
+	 *
+	 * @return True if there are pending events.
+	 */
+	public boolean hasNext() {
+		return !queue.isEmpty();
+	}
+
+	/**
+	 * Returns the next event without removing it.
+	 *
+	 * @return The next event or null if there are no pending events.
+	 */
+	public Event peek() {
+		return queue.peek();
+	}
+
+	/**
+	 * Removes the next event and advances the simulated time to it.
+	 *
+	 * @return The next event.
+	 */
+	public Event next() {
+		final Event event = queue.remove();
+		time = event.time();
+		return event;
+	}
+
+	/**
+	 * Returns the current simulated time.
+	 *
+	 * @return Current simulated time.
+	 */
+	public double getTime() {
+		return time;
+	}
+
+	/**
+	 * Samples an exponentially distributed duration with the given mean.
+	 *
+	 * @param mean Mean of the distribution.
+	 * @return Sampled duration.
+	 */
+	public double sampleExponential(final double mean) {
+		return VnrWorkloadGenerator.sampleExponential(rand, mean);
+	}
+
+}
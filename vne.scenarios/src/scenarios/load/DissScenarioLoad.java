@@ -9,7 +9,6 @@ import java.util.UUID;
 import org.apache.commons.cli.ParseException;
 
 import algorithms.AbstractAlgorithm;
-import facade.ModelFacade;
 import facade.config.ModelFacadeConfig;
 import io.micrometer.core.instrument.Tags;
 import metrics.manager.Context;
@@ -69,7 +68,7 @@ public class DissScenarioLoad extends AbstractExperiment {
 	 */
 	@Override
 	public void run() {
-		final AbstractAlgorithm algo = algoFactory.apply(ModelFacade.getInstance());
+		final AbstractAlgorithm algo = algoFactory.apply(modelFacade);
 
 		try {
 
@@ -90,19 +89,18 @@ public class DissScenarioLoad extends AbstractExperiment {
 			 * Every embedding starts here.
 			 */
 
-			String vNetId = IncrementalModelConverter.jsonToModelIncremental(virtNetsPath, true);
+			String vNetId = nextVirtualNetwork();
 
 			metricsManager.addTags("series uuid", UUID.randomUUID().toString(), "started",
 					OffsetDateTime.now().toString(), "implementation", algo.getAlgorithmName());
 			metricsManager.initialized();
 
 			while (vNetId != null) {
-				final VirtualNetwork vNet = (VirtualNetwork) ModelFacade.getInstance().getNetworkById(vNetId);
+				final VirtualNetwork vNet = (VirtualNetwork) modelFacade.getNetworkById(vNetId);
 
 				logger.info("=> Embedding virtual network " + vNetId);
 
-				final SubstrateNetwork sNet = (SubstrateNetwork) ModelFacade.getInstance()
-						.getNetworkById(sNetIds.get(0));
+				final SubstrateNetwork sNet = (SubstrateNetwork) modelFacade.getNetworkById(sNetIds.get(0));
 
 				boolean success = metricsManager.observe("algorithm",
 						() -> new Context.VnetRootContext(sNet, Set.of(vNet), algo), () -> {
@@ -114,7 +112,7 @@ public class DissScenarioLoad extends AbstractExperiment {
 						}, Tags.of("lastVNR", vNetId, "series group uuid", UUID.randomUUID().toString()));
 
 				if (!success && removeUnembeddedVnets) {
-					ModelFacade.getInstance().removeNetworkFromRoot(vNetId);
+					modelFacade.removeNetworkFromRoot(vNetId);
 				}
 
 				// Reload substrate network from model facade (needed for GIPS-based
@@ -122,14 +120,14 @@ public class DissScenarioLoad extends AbstractExperiment {
 				metricsManager.flush();
 
 				// Get next virtual network ID to embed
-				vNetId = IncrementalModelConverter.jsonToModelIncremental(virtNetsPath, true);
+				vNetId = nextVirtualNetwork();
 
 				// Save model to file
 				if (persistModel) {
 					if (persistModelPath == null) {
-						ModelFacade.getInstance().persistModel();
+						modelFacade.persistModel();
 					} else {
-						ModelFacade.getInstance().persistModel(persistModelPath);
+						modelFacade.persistModel(persistModelPath);
 					}
 				}
 			}
@@ -139,7 +137,7 @@ public class DissScenarioLoad extends AbstractExperiment {
 			 */
 
 			// Validate model
-			ModelFacade.getInstance().validateModel();
+			modelFacade.validateModel();
 
 			/*
 			 * Evaluation.
@@ -166,4 +164,13 @@ public class DissScenarioLoad extends AbstractExperiment {
 		return metricsManager;
 	}
 
+	/**
+	 * Creates the next virtual network to embed in the model.
+	 *
+	 * @return ID of the next virtual network or null if there is none.
+	 */
+	protected String nextVirtualNetwork() {
+		return IncrementalModelConverter.jsonToModelIncremental(virtNetsPath, true);
+	}
+
 }
@@ -10,7 +10,6 @@ import java.util.UUID;
 import org.apache.commons.cli.ParseException;
 
 import algorithms.AbstractAlgorithm;
-import facade.ModelFacade;
 import facade.config.ModelFacadeConfig;
 import metrics.manager.Context;
 import metrics.manager.MetricsManager;
@@ -41,7 +40,7 @@ public class DissScenarioLoadBatch extends DissScenarioLoad {
 
 	@Override
 	public void run() {
-		final AbstractAlgorithm algo = algoFactory.apply(ModelFacade.getInstance());
+		final AbstractAlgorithm algo = algoFactory.apply(modelFacade);
 
 		try {
 			// Substrate network = read from file
@@ -51,7 +50,7 @@ public class DissScenarioLoadBatch extends DissScenarioLoad {
 				throw new UnsupportedOperationException("There is more than one substrate network.");
 			}
 
-			sNet = (SubstrateNetwork) ModelFacade.getInstance().getNetworkById(sNetIds.get(0));
+			sNet = (SubstrateNetwork) modelFacade.getNetworkById(sNetIds.get(0));
 
 			// Print maximum path length (after possible auto determination)
 			if (ModelFacadeConfig.MAX_PATH_LENGTH_AUTO) {
@@ -65,7 +64,7 @@ public class DissScenarioLoadBatch extends DissScenarioLoad {
 
 			final List<String> vNetIds = BasicModelConverter.jsonToModel(virtNetsPath, true);
 			final Set<VirtualNetwork> vNets = new HashSet<>();
-			vNetIds.forEach(i -> vNets.add((VirtualNetwork) ModelFacade.getInstance().getNetworkById(i)));
+			vNetIds.forEach(i -> vNets.add((VirtualNetwork) modelFacade.getNetworkById(i)));
 
 			metricsManager.addTags("series uuid", UUID.randomUUID().toString(), "started",
 					OffsetDateTime.now().toString(), "implementation", algo.getAlgorithmName());
@@ -85,18 +84,18 @@ public class DissScenarioLoadBatch extends DissScenarioLoad {
 			// Save metrics to CSV file
 			// Reload substrate network from model facade (needed for GIPS-based
 			// algorithms.)
-			sNet = (SubstrateNetwork) ModelFacade.getInstance().getNetworkById(sNet.getName());
+			sNet = (SubstrateNetwork) modelFacade.getNetworkById(sNet.getName());
 			metricsManager.flush();
 
 			// Validate model
-			ModelFacade.getInstance().validateModel();
+			modelFacade.validateModel();
 
 			// Save model to file
 			if (persistModel) {
 				if (persistModelPath == null) {
-					ModelFacade.getInstance().persistModel();
+					modelFacade.persistModel();
 				} else {
-					ModelFacade.getInstance().persistModel(persistModelPath);
+					modelFacade.persistModel(persistModelPath);
 				}
 			}
 
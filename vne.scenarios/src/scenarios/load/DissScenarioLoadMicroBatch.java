@@ -0,0 +1,270 @@
+package scenarios.load;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.cli.ParseException;
+
+import algorithms.AbstractAlgorithm;
+import facade.config.ModelFacadeConfig;
+import io.micrometer.core.instrument.Tags;
+import metrics.manager.Context;
+import metrics.manager.MetricsManager;
+import model.SubstrateNetwork;
+import model.VirtualNetwork;
+import model.converter.BasicModelConverter;
+import model.converter.IncrementalModelConverter;
+import scenarios.load.DiscreteEventSimulator.EventType;
+import scenarios.modules.AlgorithmModule;
+import scenarios.modules.CsvModule;
+import scenarios.modules.MemoryModule;
+import scenarios.modules.MicroBatchModule;
+import scenarios.modules.ModelConfigurationModule;
+import scenarios.modules.Module;
+import scenarios.modules.NotionModule;
+
+/**
+ * Runnable (micro-batch) scenario for VNE algorithms that reads specified files
+ * from resource folder. In contrast to {@link DissScenarioLoad}, arriving
+ * virtual networks are gathered into batches which are embedded together. A
+ * batch is closed as soon as it reaches the configured size cap or its time
+ * window (measured from the arrival of its first virtual network) is over.
+ * Every arriving virtual network joins the current batch, i.e., the size cap
+ * is the arrival-count window as well.
+ *
+ * The JSON file does not contain arrival times. Hence, the virtual networks
+ * arrive as a Poisson process (exponentially distributed inter-arrival times)
+ * in the order of the JSON file, like in {@link DissScenarioLoadSimulation}.
+ * The time window and the per-request latency (arrival until the dispatch of
+ * the batch) are measured in simulated time units. An embedding does not take
+ * any simulated time, its run time is reported by the algorithm metrics.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class DissScenarioLoadMicroBatch extends DissScenarioLoad {
+
+	/**
+	 * Maximum number of virtual networks per batch.
+	 */
+	protected int maxBatchSize = 10;
+
+	/**
+	 * Time window of a batch in simulated time units. A negative value disables
+	 * the time window.
+	 */
+	protected double batchWindow = -1;
+
+	/**
+	 * Mean number of arriving virtual networks per simulated time unit.
+	 */
+	protected double arrivalRate = 1;
+
+	/**
+	 * Seed of the random number generator of the arrival process.
+	 */
+	protected long seed = 0;
+
+	/**
+	 * Handler that reports the batch sizes and the per-request latencies.
+	 */
+	protected final MicroBatchHandler batchHandler = new MicroBatchHandler();
+
+	/**
+	 * Main method to start the example. String array of arguments will be parsed.
+	 *
+	 * @param args See {@link #parseArgs(String[])}.
+	 */
+	public static void main(final String[] args) throws IOException, InterruptedException, ParseException {
+		ExperimentConfigurator.of(DissScenarioLoadMicroBatch::new, args).run();
+	}
+
+	public DissScenarioLoadMicroBatch() {
+		metricsManager.addMeter(batchHandler);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Module> getConfigurationModules() {
+		return List.of(//
+				new AlgorithmModule(), //
+				new CsvModule(), //
+				new MemoryModule(), //
+				new MicroBatchModule(), //
+				new ModelConfigurationModule(), //
+				new NotionModule() //
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void run() {
+		final AbstractAlgorithm algo = algoFactory.apply(modelFacade);
+
+		try {
+			// Substrate network = read from file
+			final List<String> sNetIds = BasicModelConverter.jsonToModel(subNetPath, false);
+
+			if (sNetIds.size() != 1) {
+				throw new UnsupportedOperationException("There is more than one substrate network.");
+			}
+
+			// Print maximum path length (after possible auto determination)
+			if (ModelFacadeConfig.MAX_PATH_LENGTH_AUTO) {
+				logger.info("=> Using path length auto determination");
+			}
+			logger.info("=> Using max path length " + ModelFacadeConfig.MAX_PATH_LENGTH);
+
+			/*
+			 * Every embedding starts here.
+			 */
+
+			metricsManager.addTags("series uuid", UUID.randomUUID().toString(), "started",
+					OffsetDateTime.now().toString(), "implementation", algo.getAlgorithmName());
+			metricsManager.initialized();
+
+			final DiscreteEventSimulator sim = new DiscreteEventSimulator(seed);
+			sim.schedule(sim.sampleExponential(1 / arrivalRate), EventType.ARRIVAL, null);
+
+			while (sim.hasNext()) {
+				// Gather arriving virtual networks until the batch is closed. The next virtual
+				// network must not be read before its arrival, because reading adds it to the
+				// model.
+				final Set<VirtualNetwork> vNets = new LinkedHashSet<>();
+				double windowStart = 0;
+				String lastVnetId = null;
+				while (sim.hasNext() && (vNets.isEmpty() || !isBatchClosed(vNets.size(), windowStart,
+						sim.peek().time()))) {
+					sim.next();
+					final String vNetId = IncrementalModelConverter.jsonToModelIncremental(virtNetsPath, true);
+					if (vNetId == null) {
+						break;
+					}
+					sim.schedule(sim.getTime() + sim.sampleExponential(1 / arrivalRate), EventType.ARRIVAL, null);
+
+					if (vNets.isEmpty()) {
+						windowStart = sim.getTime();
+					}
+					vNets.add((VirtualNetwork) modelFacade.getNetworkById(vNetId));
+					batchHandler.arrived(vNetId, sim.getTime());
+					lastVnetId = vNetId;
+				}
+
+				if (vNets.isEmpty()) {
+					break;
+				}
+
+				// A batch that is not full is dispatched at the end of its time window
+				final double dispatch = vNets.size() < maxBatchSize && batchWindow >= 0 ? windowStart + batchWindow
+						: sim.getTime();
+				batchHandler.dispatched(dispatch);
+				logger.info("=> [t=" + dispatch + "] Embedding batch of " + vNets.size() + " virtual network(s)");
+
+				final SubstrateNetwork sNet = (SubstrateNetwork) modelFacade.getNetworkById(sNetIds.get(0));
+
+				metricsManager.observe("algorithm", () -> new Context.VnetRootContext(sNet, vNets, algo), () -> {
+					// Create and execute algorithm
+					MetricsManager.getInstance().observe("prepare", Context.PrepareStageContext::new,
+							() -> algo.prepare(sNet, vNets));
+					return MetricsManager.getInstance().observe("execute", Context.ExecuteStageContext::new,
+							algo::execute);
+				}, Tags.of("lastVNR", lastVnetId, "sim time", String.valueOf(dispatch), "series group uuid",
+						UUID.randomUUID().toString()));
+
+				if (removeUnembeddedVnets) {
+					for (final VirtualNetwork vNet : vNets) {
+						if (vNet.getHost() == null && vNet.getHostServer() == null) {
+							modelFacade.removeNetworkFromRoot(vNet.getName());
+						}
+					}
+				}
+
+				metricsManager.flush();
+
+				// Save model to file
+				if (persistModel) {
+					if (persistModelPath == null) {
+						modelFacade.persistModel();
+					} else {
+						modelFacade.persistModel(persistModelPath);
+					}
+				}
+			}
+
+			/*
+			 * End of every embedding.
+			 */
+
+			// Validate model
+			modelFacade.validateModel();
+
+			/*
+			 * Evaluation.
+			 */
+
+			// Print metrics before saving the model
+			metricsManager.conclude();
+		} finally {
+			algo.dispose();
+			metricsManager.close();
+			MetricsManager.closeAll();
+		}
+
+		logger.info("=> Execution finished.");
+		System.exit(0);
+	}
+
+	/**
+	 * Returns true if the current batch must be closed before the next virtual
+	 * network arrives.
+	 *
+	 * @param size        Number of virtual networks in the current batch.
+	 * @param windowStart Start of the time window of the current batch (simulated
+	 *                    time).
+	 * @param nextArrival Arrival of the next virtual network (simulated time).
+	 * @return True if the current batch must be closed.
+	 */
+	protected boolean isBatchClosed(final int size, final double windowStart, final double nextArrival) {
+		return size >= maxBatchSize || batchWindow >= 0 && nextArrival > windowStart + batchWindow;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	public void setMaxBatchSize(final int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	public double getBatchWindow() {
+		return batchWindow;
+	}
+
+	public void setBatchWindow(final double batchWindow) {
+		this.batchWindow = batchWindow;
+	}
+
+	public double getArrivalRate() {
+		return arrivalRate;
+	}
+
+	public void setArrivalRate(final double arrivalRate) {
+		this.arrivalRate = arrivalRate;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public void setSeed(final long seed) {
+		this.seed = seed;
+	}
+
+}
@@ -0,0 +1,219 @@
+package scenarios.load;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.cli.ParseException;
+
+import algorithms.AbstractAlgorithm;
+import facade.config.ModelFacadeConfig;
+import io.micrometer.core.instrument.Tags;
+import metrics.manager.Context;
+import metrics.manager.MetricsManager;
+import model.SubstrateNetwork;
+import model.VirtualNetwork;
+import model.converter.BasicModelConverter;
+import model.converter.IncrementalModelConverter;
+import scenarios.modules.AlgorithmModule;
+import scenarios.modules.CsvModule;
+import scenarios.modules.MemoryModule;
+import scenarios.modules.ModelConfigurationModule;
+import scenarios.modules.Module;
+import scenarios.modules.NotionModule;
+import scenarios.modules.ShardModule;
+
+/**
+ * Runnable (sharded) scenario for VNE algorithms that reads specified files
+ * from resource folder. In contrast to {@link DissScenarioLoad}, the substrate
+ * file may contain more than one substrate network (e.g., one per data center).
+ * Every substrate network (shard) gets its own algorithm instance (and,
+ * therefore, its own pattern matcher and solver). A {@link ShardRouter} picks
+ * the shard for every arriving virtual network based on the residual capacity
+ * of the shards. If the embedding gets rejected, the next candidate shard will
+ * be tried (up to the configured number of shards).
+ *
+ * All shards share the model facade (and, therefore, the pattern matches of
+ * all substrate networks). Hence, the shards embed one after another and every
+ * algorithm only uses the matches on its own substrate network. Algorithms that
+ * do not support this (see {@link AbstractAlgorithm#isShardAware()}), e.g., the
+ * GIPS-based algorithms, are rejected. Embedding the shards concurrently would
+ * require a model facade per shard, which the (process-wide) model facade and
+ * model converters do not offer.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class DissScenarioLoadSharded extends DissScenarioLoad {
+
+	/**
+	 * Maximum number of shards to try per virtual network.
+	 */
+	protected int maxShardTries = 1;
+
+	/**
+	 * Router that picks the shards for arriving virtual networks.
+	 */
+	protected final ShardRouter router = new ShardRouter();
+
+	/**
+	 * Main method to start the example. String array of arguments will be parsed.
+	 *
+	 * @param args See {@link #parseArgs(String[])}.
+	 */
+	public static void main(final String[] args) throws IOException, InterruptedException, ParseException {
+		ExperimentConfigurator.of(DissScenarioLoadSharded::new, args).run();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Module> getConfigurationModules() {
+		return List.of(//
+				new AlgorithmModule(), //
+				new CsvModule(), //
+				new MemoryModule(), //
+				new ModelConfigurationModule(), //
+				new NotionModule(), //
+				new ShardModule() //
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void run() {
+		// Algorithm instance per shard (substrate network ID)
+		final Map<String, AbstractAlgorithm> shards = new LinkedHashMap<>();
+
+		try {
+			// Substrate networks = read from file
+			final List<String> sNetIds = BasicModelConverter.jsonToModel(subNetPath, false);
+
+			if (sNetIds.isEmpty()) {
+				throw new UnsupportedOperationException("There is no substrate network.");
+			}
+
+			for (final String sNetId : sNetIds) {
+				final AbstractAlgorithm algo = algoFactory.apply(modelFacade);
+				shards.put(sNetId, algo);
+				if (!algo.isShardAware()) {
+					throw new UnsupportedOperationException(
+							"The algorithm " + algo.getAlgorithmName() + " does not support sharded embeddings.");
+				}
+			}
+			logger.info("=> Using " + shards.size() + " shard(s)");
+
+			// Print maximum path length (after possible auto determination)
+			if (ModelFacadeConfig.MAX_PATH_LENGTH_AUTO) {
+				logger.info("=> Using path length auto determination");
+			}
+			logger.info("=> Using max path length " + ModelFacadeConfig.MAX_PATH_LENGTH);
+
+			/*
+			 * Every embedding starts here.
+			 */
+
+			String vNetId = IncrementalModelConverter.jsonToModelIncremental(virtNetsPath, true);
+
+			metricsManager.addTags("series uuid", UUID.randomUUID().toString(), "started",
+					OffsetDateTime.now().toString(), "implementation",
+					shards.values().iterator().next().getAlgorithmName(), "shards", String.valueOf(shards.size()));
+			metricsManager.initialized();
+
+			while (vNetId != null) {
+				final VirtualNetwork vNet = (VirtualNetwork) modelFacade.getNetworkById(vNetId);
+
+				// Substrate networks must be re-fetched from the model facade (needed for
+				// GIPS-based algorithms)
+				final List<SubstrateNetwork> sNets = new ArrayList<>();
+				for (final String sNetId : shards.keySet()) {
+					sNets.add((SubstrateNetwork) modelFacade.getNetworkById(sNetId));
+				}
+
+				boolean success = false;
+				int tries = 0;
+				for (final SubstrateNetwork sNet : router.route(vNet, sNets)) {
+					if (success || tries++ >= maxShardTries) {
+						break;
+					}
+
+					logger.info("=> Embedding virtual network " + vNetId + " on shard " + sNet.getName());
+					success = embed(shards.get(sNet.getName()), sNet, vNet);
+				}
+
+				if (!success && removeUnembeddedVnets) {
+					modelFacade.removeNetworkFromRoot(vNetId);
+				}
+
+				metricsManager.flush();
+
+				// Get next virtual network ID to embed
+				vNetId = IncrementalModelConverter.jsonToModelIncremental(virtNetsPath, true);
+
+				// Save model to file
+				if (persistModel) {
+					if (persistModelPath == null) {
+						modelFacade.persistModel();
+					} else {
+						modelFacade.persistModel(persistModelPath);
+					}
+				}
+			}
+
+			/*
+			 * End of every embedding.
+			 */
+
+			// Validate model
+			modelFacade.validateModel();
+
+			/*
+			 * Evaluation.
+			 */
+
+			// Print metrics before saving the model
+			metricsManager.conclude();
+		} finally {
+			shards.values().forEach(AbstractAlgorithm::dispose);
+			metricsManager.close();
+			MetricsManager.closeAll();
+		}
+
+		logger.info("=> Execution finished.");
+		System.exit(0);
+	}
+
+	/**
+	 * Embeds the given virtual network on the given shard.
+	 *
+	 * @param algo Algorithm instance of the shard.
+	 * @param sNet Substrate network of the shard.
+	 * @param vNet Virtual network to embed.
+	 * @return True if the virtual network was embedded.
+	 */
+	private boolean embed(final AbstractAlgorithm algo, final SubstrateNetwork sNet, final VirtualNetwork vNet) {
+		return metricsManager.observe("algorithm", () -> new Context.VnetRootContext(sNet, Set.of(vNet), algo), () -> {
+			// Create and execute algorithm
+			MetricsManager.getInstance().observe("prepare", Context.PrepareStageContext::new,
+					() -> algo.prepare(sNet, Set.of(vNet)));
+			return MetricsManager.getInstance().observe("execute", Context.ExecuteStageContext::new, algo::execute);
+		}, Tags.of("lastVNR", vNet.getName(), "shard", sNet.getName(), "series group uuid",
+				UUID.randomUUID().toString()));
+	}
+
+	public int getMaxShardTries() {
+		return maxShardTries;
+	}
+
+	public void setMaxShardTries(final int maxShardTries) {
+		this.maxShardTries = maxShardTries;
+	}
+
+}
@@ -0,0 +1,289 @@
+package scenarios.load;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.cli.ParseException;
+
+import algorithms.AbstractAlgorithm;
+import facade.config.ModelFacadeConfig;
+import io.micrometer.core.instrument.Tags;
+import metrics.manager.Context;
+import metrics.manager.MetricsManager;
+import model.SubstrateNetwork;
+import model.VirtualNetwork;
+import model.converter.BasicModelConverter;
+import model.converter.IncrementalModelConverter;
+import scenarios.load.DiscreteEventSimulator.Event;
+import scenarios.load.DiscreteEventSimulator.EventType;
+import scenarios.modules.AlgorithmModule;
+import scenarios.modules.CsvModule;
+import scenarios.modules.MemoryModule;
+import scenarios.modules.ModelConfigurationModule;
+import scenarios.modules.Module;
+import scenarios.modules.NotionModule;
+import scenarios.modules.SimulationModule;
+
+/**
+ * Runnable (discrete-event) scenario for VNE algorithms that reads specified
+ * files from resource folder. In contrast to {@link DissScenarioLoad}, embedded
+ * virtual networks leave the substrate network again: The virtual networks
+ * arrive as a Poisson process (exponentially distributed inter-arrival times)
+ * in the order of the JSON file and every accepted virtual network departs
+ * after an exponentially distributed lifetime. A departure removes the
+ * embedding and the virtual network from the model. All embeddings are tagged
+ * with the simulated time of their arrival.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class DissScenarioLoadSimulation extends DissScenarioLoad {
+
+	/**
+	 * Mean number of arriving virtual networks per simulated time unit.
+	 */
+	protected double arrivalRate = 1;
+
+	/**
+	 * Mean lifetime of an accepted virtual network in simulated time units.
+	 */
+	protected double meanLifetime = 10;
+
+	/**
+	 * Simulated time after which no more virtual networks arrive. A negative value
+	 * lets all virtual networks of the JSON file arrive.
+	 */
+	protected double duration = -1;
+
+	/**
+	 * Seed of the random number generator of the simulation.
+	 */
+	protected long seed = 0;
+
+	/**
+	 * Handler that reports the state of the simulation.
+	 */
+	protected final SimulationHandler simHandler = new SimulationHandler();
+
+	/**
+	 * IDs of all active (embedded) virtual networks.
+	 */
+	private final Set<String> active = new HashSet<>();
+
+	/**
+	 * Number of accepted virtual networks.
+	 */
+	private int accepted = 0;
+
+	/**
+	 * Main method to start the example. String array of arguments will be parsed.
+	 *
+	 * @param args See {@link #parseArgs(String[])}.
+	 */
+	public static void main(final String[] args) throws IOException, InterruptedException, ParseException {
+		ExperimentConfigurator.of(DissScenarioLoadSimulation::new, args).run();
+	}
+
+	public DissScenarioLoadSimulation() {
+		metricsManager.addMeter(simHandler);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Module> getConfigurationModules() {
+		return List.of(//
+				new AlgorithmModule(), //
+				new CsvModule(), //
+				new MemoryModule(), //
+				new ModelConfigurationModule(), //
+				new NotionModule(), //
+				new SimulationModule() //
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void run() {
+		final AbstractAlgorithm algo = algoFactory.apply(modelFacade);
+
+		try {
+			// Substrate network = read from file
+			final List<String> sNetIds = BasicModelConverter.jsonToModel(subNetPath, false);
+
+			if (sNetIds.size() != 1) {
+				throw new UnsupportedOperationException("There is more than one substrate network.");
+			}
+
+			// Print maximum path length (after possible auto determination)
+			if (ModelFacadeConfig.MAX_PATH_LENGTH_AUTO) {
+				logger.info("=> Using path length auto determination");
+			}
+			logger.info("=> Using max path length " + ModelFacadeConfig.MAX_PATH_LENGTH);
+
+			metricsManager.addTags("series uuid", UUID.randomUUID().toString(), "started",
+					OffsetDateTime.now().toString(), "implementation", algo.getAlgorithmName());
+			metricsManager.initialized();
+
+			/*
+			 * Every event starts here.
+			 */
+
+			final DiscreteEventSimulator sim = new DiscreteEventSimulator(seed);
+			sim.schedule(0, EventType.ARRIVAL, null);
+
+			while (sim.hasNext()) {
+				final Event event = sim.next();
+				switch (event.type()) {
+				case ARRIVAL:
+					arrive(sim, algo, sNetIds.get(0));
+					break;
+				case DEPARTURE:
+					depart(sim, event.vNetId());
+					break;
+				}
+			}
+
+			/*
+			 * End of every event.
+			 */
+
+			// Validate model
+			modelFacade.validateModel();
+
+			/*
+			 * Evaluation.
+			 */
+
+			// Print metrics before saving the model
+			metricsManager.conclude();
+		} finally {
+			algo.dispose();
+			metricsManager.close();
+			MetricsManager.closeAll();
+		}
+
+		logger.info("=> Execution finished.");
+		System.exit(0);
+	}
+
+	/**
+	 * Handles an arrival event: Reads the next virtual network from the JSON file,
+	 * embeds it and schedules its departure (if accepted) as well as the next
+	 * arrival.
+	 *
+	 * @param sim    Discrete-event simulator.
+	 * @param algo   Algorithm to embed the virtual network with.
+	 * @param sNetId ID of the substrate network.
+	 */
+	private void arrive(final DiscreteEventSimulator sim, final AbstractAlgorithm algo, final String sNetId) {
+		if (duration >= 0 && sim.getTime() > duration) {
+			return;
+		}
+
+		final String vNetId = IncrementalModelConverter.jsonToModelIncremental(virtNetsPath, true);
+		if (vNetId == null) {
+			return;
+		}
+		sim.schedule(sim.getTime() + sim.sampleExponential(1 / arrivalRate), EventType.ARRIVAL, null);
+
+		final VirtualNetwork vNet = (VirtualNetwork) modelFacade.getNetworkById(vNetId);
+		final SubstrateNetwork sNet = (SubstrateNetwork) modelFacade.getNetworkById(sNetId);
+		logger.info("=> [t=" + sim.getTime() + "] Embedding virtual network " + vNetId);
+
+		final boolean success = metricsManager.observe("algorithm",
+				() -> new Context.VnetRootContext(sNet, Set.of(vNet), algo), () -> {
+					// Create and execute algorithm
+					MetricsManager.getInstance().observe("prepare", Context.PrepareStageContext::new,
+							() -> algo.prepare(sNet, Set.of(vNet)));
+					final boolean embedded = MetricsManager.getInstance().observe("execute",
+							Context.ExecuteStageContext::new, algo::execute);
+
+					// The simulation state must be up to date when the observation stops
+					if (embedded) {
+						active.add(vNetId);
+						accepted++;
+					}
+					simHandler.update(sim.getTime(), active.size(), accepted);
+					return embedded;
+				}, Tags.of("lastVNR", vNetId, "sim time", String.valueOf(sim.getTime()), "series group uuid",
+						UUID.randomUUID().toString()));
+
+		if (success) {
+			sim.schedule(sim.getTime() + sim.sampleExponential(meanLifetime), EventType.DEPARTURE, vNetId);
+		} else if (removeUnembeddedVnets) {
+			modelFacade.removeNetworkFromRoot(vNetId);
+		}
+
+		metricsManager.flush();
+
+		// Save model to file
+		if (persistModel) {
+			if (persistModelPath == null) {
+				modelFacade.persistModel();
+			} else {
+				modelFacade.persistModel(persistModelPath);
+			}
+		}
+	}
+
+	/**
+	 * Handles a departure event: Removes the embedding of the given virtual
+	 * network and the virtual network itself from the model.
+	 *
+	 * @param sim    Discrete-event simulator.
+	 * @param vNetId ID of the departing virtual network.
+	 */
+	private void depart(final DiscreteEventSimulator sim, final String vNetId) {
+		final VirtualNetwork vNet = (VirtualNetwork) modelFacade.getNetworkById(vNetId);
+		active.remove(vNetId);
+		if (vNet == null) {
+			return;
+		}
+
+		logger.info("=> [t=" + sim.getTime() + "] Departure of virtual network " + vNetId);
+		if (vNet.getHost() != null || vNet.getHostServer() != null) {
+			modelFacade.removeNetworkEmbedding(vNetId);
+		}
+		modelFacade.removeNetworkFromRoot(vNetId);
+	}
+
+	public double getArrivalRate() {
+		return arrivalRate;
+	}
+
+	public void setArrivalRate(final double arrivalRate) {
+		this.arrivalRate = arrivalRate;
+	}
+
+	public double getMeanLifetime() {
+		return meanLifetime;
+	}
+
+	public void setMeanLifetime(final double meanLifetime) {
+		this.meanLifetime = meanLifetime;
+	}
+
+	public double getDuration() {
+		return duration;
+	}
+
+	public void setDuration(final double duration) {
+		this.duration = duration;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public void setSeed(final long seed) {
+		this.seed = seed;
+	}
+
+}
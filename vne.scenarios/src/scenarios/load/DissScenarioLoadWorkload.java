@@ -0,0 +1,235 @@
+package scenarios.load;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.apache.commons.cli.ParseException;
+
+import generators.config.OneTierConfig;
+import generators.config.TwoTierConfig;
+import generators.config.WorkloadConfig;
+import generators.workload.VnrJsonLinesWriter;
+import generators.workload.VnrWorkloadGenerator;
+import generators.workload.VnrWorkloadGenerator.Request;
+import scenarios.modules.AlgorithmModule;
+import scenarios.modules.CsvModule;
+import scenarios.modules.MemoryModule;
+import scenarios.modules.ModelConfigurationModule;
+import scenarios.modules.Module;
+import scenarios.modules.NotionModule;
+import scenarios.modules.WorkloadModule;
+
+/**
+ * Runnable (incremental) scenario for VNE algorithms that reads the substrate
+ * network from a file, but generates the virtual networks with a synthetic
+ * workload generator (see {@link VnrWorkloadGenerator}) instead of reading
+ * them from a file. Hence, the number of virtual networks is only limited by
+ * the configured maximum number of requests.
+ *
+ * If a pace is configured, the virtual networks are released in wall-clock
+ * time according to their arrival times. If the algorithm falls behind the
+ * schedule, the next virtual network is released immediately, i.e., the
+ * algorithm runs saturated. Optionally, all generated virtual networks are
+ * recorded to a JSON lines file (see {@link VnrJsonLinesWriter}).
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class DissScenarioLoadWorkload extends DissScenarioLoad {
+
+	/**
+	 * Configuration of the workload.
+	 */
+	protected final WorkloadConfig workloadConfig = new WorkloadConfig();
+
+	/**
+	 * Wall-clock milliseconds per time unit of the arrival process. Zero releases
+	 * all virtual networks as fast as possible.
+	 */
+	protected double pace = 0;
+
+	/**
+	 * Path of the JSON lines file to record the generated virtual networks to (or
+	 * null).
+	 */
+	protected String tracePath = null;
+
+	/**
+	 * Workload generator (created on the first request).
+	 */
+	private VnrWorkloadGenerator generator = null;
+
+	/**
+	 * JSON lines writer of the trace (or null).
+	 */
+	private VnrJsonLinesWriter trace = null;
+
+	/**
+	 * Wall-clock time of the first request in milliseconds.
+	 */
+	private long start;
+
+	/**
+	 * Main method to start the example. String array of arguments will be parsed.
+	 *
+	 * @param args See {@link #parseArgs(String[])}.
+	 */
+	public static void main(final String[] args) throws IOException, InterruptedException, ParseException {
+		ExperimentConfigurator.of(DissScenarioLoadWorkload::new, args).run();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Module> getConfigurationModules() {
+		return List.of(//
+				new AlgorithmModule(), //
+				new CsvModule(), //
+				new MemoryModule(), //
+				new ModelConfigurationModule(), //
+				new NotionModule(), //
+				new WorkloadModule() //
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean requiresVirtualNetworkFile() {
+		return false;
+	}
+
+	/**
+	 * Runs the scenario and closes the trace (if opened), even if the run failed.
+	 */
+	@Override
+	public void run() {
+		try {
+			super.run();
+		} finally {
+			closeTrace();
+		}
+	}
+
+	/**
+	 * Generates the next virtual network, waits until its release time (if a pace
+	 * is configured) and creates it in the model.
+	 *
+	 * @return ID of the next virtual network or null if the workload has no more
+	 *         requests.
+	 */
+	@Override
+	protected String nextVirtualNetwork() {
+		if (generator == null) {
+			if (workloadConfig.getTemplates().isEmpty()) {
+				addDefaultTemplates(workloadConfig);
+			}
+			generator = new VnrWorkloadGenerator(workloadConfig, modelFacade);
+			start = System.currentTimeMillis();
+		}
+
+		if (!generator.hasNext()) {
+			closeTrace();
+			return null;
+		}
+
+		final Request request = generator.next();
+		waitForRelease(request.arrivalTime());
+		generator.create(request);
+		writeTrace(request);
+		return request.id();
+	}
+
+	/**
+	 * Adds the default templates (small one tier and two tier virtual networks) to
+	 * the given workload configuration.
+	 *
+	 * @param config Workload configuration.
+	 */
+	public static void addDefaultTemplates(final WorkloadConfig config) {
+		config.addTemplate(new OneTierConfig(4, 1, false, 2, 2, 2, 1), 0.8);
+		config.addTemplate(new TwoTierConfig(new OneTierConfig(2, 1, false, 2, 2, 2, 1), 1, 2, false, 2), 0.2);
+	}
+
+	/**
+	 * Blocks until the release time of the given arrival time is reached.
+	 *
+	 * @param arrivalTime Arrival time of the request.
+	 */
+	private void waitForRelease(final double arrivalTime) {
+		if (pace <= 0) {
+			return;
+		}
+
+		final long wait = start + (long) (arrivalTime * pace) - System.currentTimeMillis();
+		if (wait > 0) {
+			try {
+				Thread.sleep(wait);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		} else {
+			logger.info("=> Release of the next virtual network is " + -wait + " ms behind schedule");
+		}
+	}
+
+	/**
+	 * Records the given request to the trace (if configured).
+	 *
+	 * @param request Request to record.
+	 */
+	private void writeTrace(final Request request) {
+		if (tracePath == null) {
+			return;
+		}
+
+		try {
+			if (trace == null) {
+				trace = new VnrJsonLinesWriter(new FileWriter(tracePath));
+			}
+			trace.write(request);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Closes the trace (if opened).
+	 */
+	private void closeTrace() {
+		if (trace == null) {
+			return;
+		}
+
+		try {
+			trace.close();
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		trace = null;
+	}
+
+	public WorkloadConfig getWorkloadConfig() {
+		return workloadConfig;
+	}
+
+	public double getPace() {
+		return pace;
+	}
+
+	public void setPace(final double pace) {
+		this.pace = pace;
+	}
+
+	public String getTracePath() {
+		return tracePath;
+	}
+
+	public void setTracePath(final String tracePath) {
+		this.tracePath = tracePath;
+	}
+
+}
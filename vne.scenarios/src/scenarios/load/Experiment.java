@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import algorithms.AbstractAlgorithm;
+import algorithms.RunConfig;
 import facade.ModelFacade;
 import scenarios.modules.Module;
 
@@ -32,6 +33,29 @@ public interface Experiment {
 		return List.of();
 	}
 
+	/**
+	 * Get if the experiment reads its virtual networks from a file.
+	 * 
+	 * @return if a virtual network file must be configured.
+	 */
+	default public boolean requiresVirtualNetworkFile() {
+		return true;
+	}
+
+	/**
+	 * Get the model facade the experiment works with.
+	 * 
+	 * @return the model facade of this experiment.
+	 */
+	public ModelFacade getModelFacade();
+
+	/**
+	 * Set the model facade the experiment works with.
+	 * 
+	 * @param modelFacade the model facade to use.
+	 */
+	public void setModelFacade(ModelFacade modelFacade);
+
 	/**
 	 * Get the currently configured algorithm factory.
 	 * 
@@ -46,6 +70,31 @@ public interface Experiment {
 	 */
 	public void setAlgoFactory(Function<ModelFacade, AbstractAlgorithm> algoFactory);
 
+	/**
+	 * Get the configuration of all runs of this experiment.
+	 * 
+	 * @return the run configuration or null if the experiment was not configured
+	 *         yet.
+	 */
+	public RunConfig getRunConfig();
+
+	/**
+	 * Set the configuration of all runs of this experiment. It will be injected
+	 * into every algorithm the experiment creates.
+	 * 
+	 * @param runConfig the run configuration to use.
+	 */
+	public void setRunConfig(RunConfig runConfig);
+
+	/**
+	 * Get the builder of the run configuration. All configuration modules fill
+	 * their settings into it, the run configuration is built once all modules are
+	 * configured.
+	 * 
+	 * @return the builder of the run configuration.
+	 */
+	public RunConfig.Builder getRunConfigBuilder();
+
 	/**
 	 * Get if the model should be currently persisted after each step (depending on
 	 * the scenario).
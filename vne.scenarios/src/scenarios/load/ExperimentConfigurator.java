@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.commons.cli.CommandLine;
@@ -14,6 +15,8 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import algorithms.AbstractAlgorithm;
+import facade.ModelFacade;
 import iflye.dependencies.logging.IflyeLogger;
 import scenarios.modules.Module;
 
@@ -138,6 +141,10 @@ public class ExperimentConfigurator extends IflyeLogger {
 				module.configure(experiment, cmd);
 			}
 
+			// Freeze the configuration all modules filled in for this experiment
+			experiment.setRunConfig(experiment.getRunConfigBuilder().build());
+			injectRunConfig(experiment);
+
 			// Print arguments into logs/system outputs
 			logger.info("=> Arguments: " + Arrays.toString(args));
 		} catch (final ParseException e) {
@@ -151,4 +158,24 @@ public class ExperimentConfigurator extends IflyeLogger {
 		return experiment;
 	}
 
+	/**
+	 * Wraps the algorithm factory of the given experiment, so that the run
+	 * configuration of the experiment is injected into every created algorithm.
+	 *
+	 * @param experiment The {@link Experiment} to wrap the algorithm factory of.
+	 */
+	protected void injectRunConfig(final Experiment experiment) {
+		final Function<ModelFacade, AbstractAlgorithm> algoFactory = experiment.getAlgoFactory();
+		if (algoFactory == null) {
+			return;
+		}
+
+		experiment.setAlgoFactory(algoFactory.andThen((algo) -> {
+			if (experiment.getRunConfig() != null) {
+				algo.setRunConfig(experiment.getRunConfig());
+			}
+			return algo;
+		}));
+	}
+
 }
@@ -0,0 +1,145 @@
+package scenarios.load;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.observation.Observation;
+import metrics.HasMetric;
+import metrics.MetricTransformer;
+import metrics.manager.Context;
+import metrics.reporter.NotionReporter;
+import metrics.reporter.NotionReporter.PropertyFormat;
+import model.VirtualNetwork;
+
+/**
+ * Collect the batch size and the per-request latency (arrival of a virtual
+ * network until the dispatch of its batch in simulated time units) of
+ * micro-batched embeddings.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class MicroBatchHandler implements HasMetric<Context.VnetRootContext> {
+
+	/**
+	 * The {@link MeterRegistry} to register the metrics to.
+	 */
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * Arrival times (simulated time) of all virtual networks that were not
+	 * embedded yet.
+	 */
+	private final Map<String, Double> arrivals = new HashMap<>();
+
+	/**
+	 * Dispatch time (simulated time) of the current batch.
+	 */
+	private double dispatch;
+
+	/**
+	 * Records the arrival of the virtual network with the given ID.
+	 *
+	 * @param vNetId      The ID of the arrived virtual network.
+	 * @param arrivalTime Simulated time of the arrival.
+	 */
+	public void arrived(final String vNetId, final double arrivalTime) {
+		arrivals.put(vNetId, arrivalTime);
+	}
+
+	/**
+	 * Records the dispatch of the current batch.
+	 *
+	 * @param dispatchTime Simulated time of the dispatch.
+	 */
+	public void dispatched(final double dispatchTime) {
+		this.dispatch = dispatchTime;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Collection<MetricTransformer> getProvidedMeters() {
+		class BatchMeter implements MetricTransformer, NotionReporter.NotionMeter {
+			@Override
+			public Map<String, Object> toEntry(Meter meter, Map<String, Object> unmodifiableEntry) {
+				DistributionSummary summary = (DistributionSummary) meter;
+
+				Map<String, Object> entry = new HashMap<>();
+				if (meter.getId().getName().equals("batch.size")) {
+					entry.put(meter.getId().getName(), summary.max());
+				} else {
+					entry.put(meter.getId().getName() + ".mean", summary.mean());
+					entry.put(meter.getId().getName() + ".max", summary.max());
+				}
+				return entry;
+			}
+
+			@Override
+			public boolean supportsMeter(Meter meter) {
+				return meter instanceof DistributionSummary && (meter.getId().getName().equals("batch.size")
+						|| meter.getId().getName().equals("batch.latency"));
+			}
+
+			@Override
+			public boolean shouldResetMeter(Meter meter) {
+				return true;
+			}
+
+			@Override
+			public PropertyFormat getNotionPropertyFormat(Meter meter, String key, Object value) {
+				return NotionReporter.PROPERTY_TYPE.NUMBER;
+			}
+		}
+		return List.of(new BatchMeter());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onStop(Context.VnetRootContext context) {
+		meterRegistry.summary("batch.size", createTags(context)).record(context.getVirtualNetwork().size());
+
+		for (final VirtualNetwork vNet : context.getVirtualNetwork()) {
+			final Double arrival = arrivals.remove(vNet.getName());
+			if (arrival != null) {
+				meterRegistry.summary("batch.latency", createTags(context)).record(dispatch - arrival);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof Context.VnetRootContext;
+	}
+
+	/**
+	 * Transform the context key-values into a set of Tags to register with the
+	 * meters.
+	 *
+	 * @param context The context to transform.
+	 * @return The tags to register with the meters.
+	 */
+	private List<Tag> createTags(Context context) {
+		return context.getLowCardinalityKeyValues().stream().map(kv -> Tag.of(kv.getKey(), kv.getValue())).toList();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+}
@@ -0,0 +1,72 @@
+package scenarios.load;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import algorithms.SubstrateResourceIndex;
+import model.SubstrateNetwork;
+import model.VirtualNetwork;
+
+/**
+ * Routes arriving virtual networks to the substrate networks (shards) of a
+ * {@link DissScenarioLoadSharded} experiment based on their residual capacity.
+ * Only shards that may host the virtual network (according to their
+ * {@link SubstrateResourceIndex}) are candidates. The candidates are ordered by
+ * their total residual resources (descending), i.e., the load is spread over
+ * all shards.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class ShardRouter {
+
+	/**
+	 * Returns the shards to try for the given virtual network in the order of
+	 * preference. If no shard may host the virtual network, the shard with the
+	 * most residual resources will be returned (the embedding will be rejected by
+	 * its algorithm).
+	 *
+	 * @param vNet   Virtual network to route.
+	 * @param shards All substrate networks (shards).
+	 * @return Shards to try in the order of preference.
+	 */
+	public List<SubstrateNetwork> route(final VirtualNetwork vNet, final Collection<SubstrateNetwork> shards) {
+		final List<SubstrateNetwork> candidates = new ArrayList<>();
+		final Map<SubstrateNetwork, Long> residuals = new HashMap<>();
+		SubstrateNetwork largest = null;
+
+		for (final SubstrateNetwork sNet : shards) {
+			final SubstrateResourceIndex index = SubstrateResourceIndex.of(sNet);
+			final long residual = getResidual(index);
+			residuals.put(sNet, residual);
+			if (largest == null || residual > residuals.get(largest)) {
+				largest = sNet;
+			}
+
+			if (index.mayHost(vNet)) {
+				candidates.add(sNet);
+			}
+		}
+
+		if (candidates.isEmpty()) {
+			return largest == null ? List.of() : List.of(largest);
+		}
+
+		candidates.sort(Comparator.comparingLong((SubstrateNetwork sNet) -> residuals.get(sNet)).reversed());
+		return candidates;
+	}
+
+	/**
+	 * Returns the sum of all residual resources of the given index.
+	 *
+	 * @param index Substrate resource index.
+	 * @return Sum of all residual resources.
+	 */
+	private static long getResidual(final SubstrateResourceIndex index) {
+		return index.getTotalResidualCpu() + index.getTotalResidualMemory() + index.getTotalResidualStorage();
+	}
+
+}
@@ -0,0 +1,132 @@
+package scenarios.load;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.observation.Observation;
+import metrics.HasMetric;
+import metrics.MetricTransformer;
+import metrics.manager.Context;
+import metrics.reporter.NotionReporter;
+import metrics.reporter.NotionReporter.PropertyFormat;
+
+/**
+ * Collect the simulated time, the number of active (embedded) virtual networks
+ * and the sustained throughput (accepted virtual networks per simulated time
+ * unit) of a discrete-event simulation.
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class SimulationHandler implements HasMetric<Context.VnetRootContext> {
+
+	/**
+	 * The {@link MeterRegistry} to register the metrics to.
+	 */
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * Current simulated time.
+	 */
+	private double time;
+
+	/**
+	 * Number of active (embedded) virtual networks.
+	 */
+	private int active;
+
+	/**
+	 * Number of accepted virtual networks since the start of the simulation.
+	 */
+	private int accepted;
+
+	/**
+	 * Updates the state of the simulation.
+	 *
+	 * @param time     Current simulated time.
+	 * @param active   Number of active (embedded) virtual networks.
+	 * @param accepted Number of accepted virtual networks since the start of the
+	 *                 simulation.
+	 */
+	public void update(final double time, final int active, final int accepted) {
+		this.time = time;
+		this.active = active;
+		this.accepted = accepted;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Collection<MetricTransformer> getProvidedMeters() {
+		class SimulationMeter implements MetricTransformer, NotionReporter.NotionMeter {
+			@Override
+			public Map<String, Object> toEntry(Meter meter, Map<String, Object> unmodifiableEntry) {
+				DistributionSummary summary = (DistributionSummary) meter;
+
+				Map<String, Object> entry = new HashMap<>();
+				entry.put(meter.getId().getName(), summary.max());
+				return entry;
+			}
+
+			@Override
+			public boolean supportsMeter(Meter meter) {
+				return meter instanceof DistributionSummary && meter.getId().getName().startsWith("sim.");
+			}
+
+			@Override
+			public boolean shouldResetMeter(Meter meter) {
+				return true;
+			}
+
+			@Override
+			public PropertyFormat getNotionPropertyFormat(Meter meter, String key, Object value) {
+				return NotionReporter.PROPERTY_TYPE.NUMBER;
+			}
+		}
+		return List.of(new SimulationMeter());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onStop(Context.VnetRootContext context) {
+		meterRegistry.summary("sim.time", createTags(context)).record(time);
+		meterRegistry.summary("sim.active", createTags(context)).record(active);
+		meterRegistry.summary("sim.throughput", createTags(context)).record(time > 0 ? accepted / time : 0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof Context.VnetRootContext;
+	}
+
+	/**
+	 * Transform the context key-values into a set of Tags to register with the
+	 * meters.
+	 *
+	 * @param context The context to transform.
+	 * @return The tags to register with the meters.
+	 */
+	private List<Tag> createTags(Context context) {
+		return context.getLowCardinalityKeyValues().stream().map(kv -> Tag.of(kv.getKey(), kv.getValue())).toList();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+}
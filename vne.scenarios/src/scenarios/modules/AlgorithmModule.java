@@ -13,9 +13,9 @@ import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
 import algorithms.AbstractAlgorithm;
-import algorithms.AlgorithmConfig;
 import algorithms.AlgorithmConfig.Embedding;
 import algorithms.AlgorithmConfig.Objective;
+import algorithms.RunConfig;
 import facade.ModelFacade;
 import facade.config.ModelFacadeConfig;
 import metrics.manager.MetricsManager;
@@ -208,31 +208,34 @@ public class AlgorithmModule extends AbstractModule {
 	@Override
 	public void configure(final Experiment experiment, final CommandLine cmd) throws ParseException {
 		final String algoConfig = cmd.getOptionValue(this.algo);
+		final RunConfig.Builder config = experiment.getRunConfigBuilder();
 		MetricsManager.getInstance().addTags("algorithm", algoConfig);
 
 		MetricsManager.getInstance().addTags("objective", cmd.getOptionValue("objective"));
 		switch (cmd.getOptionValue(this.obj)) {
 		case "total-path":
-			AlgorithmConfig.obj = Objective.TOTAL_PATH_COST;
+			config.objective(Objective.TOTAL_PATH_COST);
 			break;
 		case "total-comm-a":
-			AlgorithmConfig.obj = Objective.TOTAL_COMMUNICATION_COST_A;
+			config.objective(Objective.TOTAL_COMMUNICATION_COST_A);
 			break;
 		case "total-comm-b":
-			AlgorithmConfig.obj = Objective.TOTAL_COMMUNICATION_COST_B;
+			config.objective(Objective.TOTAL_COMMUNICATION_COST_B);
 			break;
 		case "total-obj-c":
-			AlgorithmConfig.obj = Objective.TOTAL_COMMUNICATION_OBJECTIVE_C;
+			config.objective(Objective.TOTAL_COMMUNICATION_OBJECTIVE_C);
 			break;
 		case "total-obj-d":
-			AlgorithmConfig.obj = Objective.TOTAL_COMMUNICATION_OBJECTIVE_D;
+			config.objective(Objective.TOTAL_COMMUNICATION_OBJECTIVE_D);
 			break;
 		case "total-taf-comm":
-			AlgorithmConfig.obj = Objective.TOTAL_TAF_COMMUNICATION_COST;
+			config.objective(Objective.TOTAL_TAF_COMMUNICATION_COST);
 			break;
 		}
 
+		// The model facade reads the path settings from its static configuration
 		ModelFacadeConfig.MIN_PATH_LENGTH = 1;
+		config.minPathLength(1);
 		String pathLengthParam = cmd.getOptionValue(this.pathLength);
 		if (pathLengthParam != null) {
 			MetricsManager.getInstance().addTags("path-length", pathLengthParam);
@@ -240,6 +243,7 @@ public class AlgorithmModule extends AbstractModule {
 				ModelFacadeConfig.MAX_PATH_LENGTH_AUTO = true;
 			} else {
 				ModelFacadeConfig.MAX_PATH_LENGTH = Integer.valueOf(pathLengthParam);
+				config.maxPathLength(ModelFacadeConfig.MAX_PATH_LENGTH);
 			}
 		}
 
@@ -256,13 +260,13 @@ public class AlgorithmModule extends AbstractModule {
 			MetricsManager.getInstance().addTags("embedding", cmd.getOptionValue("embedding"));
 			switch (cmd.getOptionValue(this.emb)) {
 			case "emoflon":
-				AlgorithmConfig.emb = Embedding.EMOFLON;
+				config.embedding(Embedding.EMOFLON);
 				break;
 			case "emoflon_wo_update":
-				AlgorithmConfig.emb = Embedding.EMOFLON_WO_UPDATE;
+				config.embedding(Embedding.EMOFLON_WO_UPDATE);
 				break;
 			case "manual":
-				AlgorithmConfig.emb = Embedding.MANUAL;
+				config.embedding(Embedding.MANUAL);
 				break;
 			}
 		}
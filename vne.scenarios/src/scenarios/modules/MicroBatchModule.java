@@ -0,0 +1,96 @@
+package scenarios.modules;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import metrics.manager.MetricsManager;
+import scenarios.load.DissScenarioLoadMicroBatch;
+import scenarios.load.Experiment;
+
+/**
+ * Configure the size cap and the time window of the batches as well as the
+ * arrival process of a {@link DissScenarioLoadMicroBatch} experiment.
+ *
+ * Options: --batchsize <arg>, --batchwindow <arg>, --batcharrivalrate <arg>,
+ * --batchseed <arg>
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class MicroBatchModule extends AbstractModule {
+	protected final Option batchSize = Option.builder()//
+			.longOpt("batchsize")//
+			.desc("maximum number of virtual networks per batch")//
+			.hasArg()//
+			.build();
+
+	protected final Option batchWindow = Option.builder()//
+			.longOpt("batchwindow")//
+			.desc("time window of a batch in simulated time units (the virtual networks arrive as a Poisson process)")//
+			.hasArg()//
+			.build();
+
+	protected final Option arrivalRate = Option.builder()//
+			.longOpt("batcharrivalrate")//
+			.desc("mean number of arriving virtual networks per simulated time unit")//
+			.hasArg()//
+			.build();
+
+	protected final Option seed = Option.builder()//
+			.longOpt("batchseed")//
+			.desc("seed of the random number generator of the arrival process")//
+			.hasArg()//
+			.build();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void register(final Experiment experiment, final Options options) {
+		options.addOption(batchSize);
+		options.addOption(batchWindow);
+		options.addOption(arrivalRate);
+		options.addOption(seed);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void configure(final Experiment experiment, final CommandLine cmd) throws ParseException {
+		if (!(experiment instanceof DissScenarioLoadMicroBatch microBatch)) {
+			return;
+		}
+
+		if (cmd.getOptionValue(this.batchSize) != null) {
+			final int size = Integer.valueOf(cmd.getOptionValue(this.batchSize));
+			if (size < 1) {
+				throw new ParseException("The batch size must be at least 1.");
+			}
+			microBatch.setMaxBatchSize(size);
+		}
+		MetricsManager.getInstance().addTags("batch size", String.valueOf(microBatch.getMaxBatchSize()));
+
+		if (cmd.getOptionValue(this.batchWindow) != null) {
+			microBatch.setBatchWindow(Double.valueOf(cmd.getOptionValue(this.batchWindow)));
+			MetricsManager.getInstance().addTags("batch window", cmd.getOptionValue(this.batchWindow));
+		}
+
+		if (cmd.getOptionValue(this.arrivalRate) != null) {
+			final double rate = Double.valueOf(cmd.getOptionValue(this.arrivalRate));
+			if (rate <= 0) {
+				throw new ParseException("The arrival rate must be positive.");
+			}
+			microBatch.setArrivalRate(rate);
+		}
+
+		if (cmd.getOptionValue(this.seed) != null) {
+			microBatch.setSeed(Long.valueOf(cmd.getOptionValue(this.seed)));
+		}
+
+		MetricsManager.getInstance().addTags("arrival rate", String.valueOf(microBatch.getArrivalRate()),
+				"batch seed", String.valueOf(microBatch.getSeed()));
+	}
+
+}
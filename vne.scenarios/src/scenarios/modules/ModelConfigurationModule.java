@@ -18,8 +18,10 @@ import scenarios.load.Experiment;
  * optionally enable model persistence after each step and remove unembedded
  * vNets.
  * 
- * Options: -s / --snetfile <path>, -v / --vnetfile <path>, --persist-model
- * [<path>], --remove-unembedded-vnets
+ * Options: -s / --snetfile <path>, -v / --vnetfile <path> (optional if the
+ * experiment does not read its virtual networks from a file, see
+ * {@link Experiment#requiresVirtualNetworkFile()}), --persist-model [<path>],
+ * --remove-unembedded-vnets
  */
 public class ModelConfigurationModule extends AbstractModule {
 	protected final Option subNetFile = Option.builder()//
@@ -58,6 +60,7 @@ public class ModelConfigurationModule extends AbstractModule {
 	@Override
 	public void register(final Experiment experiment, final Options options) {
 		options.addOption(subNetFile);
+		virtNetFile.setRequired(experiment.requiresVirtualNetworkFile());
 		options.addOption(virtNetFile);
 		options.addOption(modelPersist);
 		options.addOption(removeUnembeddedVnetsOption);
@@ -74,7 +77,9 @@ public class ModelConfigurationModule extends AbstractModule {
 
 		final String virtNetsPath = cmd.getOptionValue("vnetfile");
 		experiment.setVirtNetsPath(virtNetsPath);
-		MetricsManager.getInstance().addTags("virtual network", getNetworkConfigurationName(virtNetsPath));
+		if (virtNetsPath != null) {
+			MetricsManager.getInstance().addTags("virtual network", getNetworkConfigurationName(virtNetsPath));
+		}
 
 		if (cmd.hasOption(modelPersist)) {
 			final String filePath = cmd.getParsedOptionValue(modelPersist, "");
@@ -0,0 +1,53 @@
+package scenarios.modules;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import metrics.manager.MetricsManager;
+import scenarios.load.DissScenarioLoadSharded;
+import scenarios.load.Experiment;
+
+/**
+ * Configure the routing of a {@link DissScenarioLoadSharded} experiment.
+ *
+ * Options: --shardtries <arg>
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class ShardModule extends AbstractModule {
+	protected final Option shardTries = Option.builder()//
+			.longOpt("shardtries")//
+			.desc("maximum number of shards to try per virtual network")//
+			.hasArg()//
+			.build();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void register(final Experiment experiment, final Options options) {
+		options.addOption(shardTries);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void configure(final Experiment experiment, final CommandLine cmd) throws ParseException {
+		if (!(experiment instanceof DissScenarioLoadSharded sharded)) {
+			return;
+		}
+
+		if (cmd.getOptionValue(this.shardTries) != null) {
+			final int tries = Integer.valueOf(cmd.getOptionValue(this.shardTries));
+			if (tries < 1) {
+				throw new ParseException("The number of shard tries must be at least 1.");
+			}
+			sharded.setMaxShardTries(tries);
+		}
+		MetricsManager.getInstance().addTags("shard tries", String.valueOf(sharded.getMaxShardTries()));
+	}
+
+}
@@ -0,0 +1,94 @@
+package scenarios.modules;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import metrics.manager.MetricsManager;
+import scenarios.load.DissScenarioLoadSimulation;
+import scenarios.load.Experiment;
+
+/**
+ * Configure the arrival process, the lifetimes and the random seed of a
+ * {@link DissScenarioLoadSimulation} experiment.
+ *
+ * Options: --arrivalrate <arg>, --meanlifetime <arg>, --simduration <arg>,
+ * --simseed <arg>
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class SimulationModule extends AbstractModule {
+	protected final Option arrivalRate = Option.builder()//
+			.longOpt("arrivalrate")//
+			.desc("mean number of arriving virtual networks per simulated time unit")//
+			.hasArg()//
+			.build();
+
+	protected final Option meanLifetime = Option.builder()//
+			.longOpt("meanlifetime")//
+			.desc("mean lifetime of an accepted virtual network in simulated time units")//
+			.hasArg()//
+			.build();
+
+	protected final Option duration = Option.builder()//
+			.longOpt("simduration")//
+			.desc("simulated time after which no more virtual networks arrive")//
+			.hasArg()//
+			.build();
+
+	protected final Option seed = Option.builder()//
+			.longOpt("simseed")//
+			.desc("seed of the random number generator of the simulation")//
+			.hasArg()//
+			.build();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void register(final Experiment experiment, final Options options) {
+		options.addOption(arrivalRate);
+		options.addOption(meanLifetime);
+		options.addOption(duration);
+		options.addOption(seed);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void configure(final Experiment experiment, final CommandLine cmd) throws ParseException {
+		if (!(experiment instanceof DissScenarioLoadSimulation sim)) {
+			return;
+		}
+
+		if (cmd.getOptionValue(this.arrivalRate) != null) {
+			final double rate = Double.valueOf(cmd.getOptionValue(this.arrivalRate));
+			if (rate <= 0) {
+				throw new ParseException("The arrival rate must be positive.");
+			}
+			sim.setArrivalRate(rate);
+		}
+
+		if (cmd.getOptionValue(this.meanLifetime) != null) {
+			final double lifetime = Double.valueOf(cmd.getOptionValue(this.meanLifetime));
+			if (lifetime <= 0) {
+				throw new ParseException("The mean lifetime must be positive.");
+			}
+			sim.setMeanLifetime(lifetime);
+		}
+
+		if (cmd.getOptionValue(this.duration) != null) {
+			sim.setDuration(Double.valueOf(cmd.getOptionValue(this.duration)));
+		}
+
+		if (cmd.getOptionValue(this.seed) != null) {
+			sim.setSeed(Long.valueOf(cmd.getOptionValue(this.seed)));
+		}
+
+		MetricsManager.getInstance().addTags("arrival rate", String.valueOf(sim.getArrivalRate()), "mean lifetime",
+				String.valueOf(sim.getMeanLifetime()), "sim seed", String.valueOf(sim.getSeed()));
+	}
+
+}
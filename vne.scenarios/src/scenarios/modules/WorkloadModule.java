@@ -0,0 +1,220 @@
+package scenarios.modules;
+
+import java.util.Locale;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import generators.config.OneTierConfig;
+import generators.config.TwoTierConfig;
+import generators.config.WorkloadConfig;
+import generators.config.WorkloadConfig.ArrivalProcess;
+import metrics.manager.MetricsManager;
+import scenarios.load.DissScenarioLoadWorkload;
+import scenarios.load.Experiment;
+
+/**
+ * Configure the synthetic workload of a {@link DissScenarioLoadWorkload}
+ * experiment.
+ *
+ * Templates are given as 'onetier:&lt;servers&gt;:&lt;cpu&gt;:&lt;memory&gt;:
+ * &lt;storage&gt;:&lt;bandwidth&gt;[:&lt;weight&gt;]' or
+ * 'twotier:&lt;racks&gt;:&lt;servers per rack&gt;:&lt;cpu&gt;:&lt;memory&gt;:
+ * &lt;storage&gt;:&lt;bandwidth&gt;:&lt;core bandwidth&gt;[:&lt;weight&gt;]'.
+ * Without templates, the defaults of
+ * {@link DissScenarioLoadWorkload#addDefaultTemplates(WorkloadConfig)} are
+ * used.
+ *
+ * Options: --workload &lt;poisson|bursty|diurnal&gt;, --workloadrate &lt;arg&gt;,
+ * --workloadcount &lt;arg&gt;, --workloadseed &lt;arg&gt;, --workloadtemplate
+ * &lt;arg&gt;..., --workloadminscale &lt;arg&gt;, --burstfactor &lt;arg&gt;,
+ * --diurnalperiod &lt;arg&gt;, --diurnalamplitude &lt;arg&gt;, --workloadpace
+ * &lt;arg&gt;, --workloadtrace &lt;path&gt;
+ *
+ * @author Maximilian Kratz {@literal <maximilian.kratz@es.tu-darmstadt.de>}
+ */
+public class WorkloadModule extends AbstractModule {
+	protected final Option process = Option.builder()//
+			.longOpt("workload")//
+			.desc("arrival process of the virtual networks (poisson, bursty or diurnal)")//
+			.hasArg()//
+			.build();
+
+	protected final Option rate = Option.builder()//
+			.longOpt("workloadrate")//
+			.desc("mean number of arriving virtual networks per time unit")//
+			.hasArg()//
+			.build();
+
+	protected final Option count = Option.builder()//
+			.longOpt("workloadcount")//
+			.desc("number of virtual networks to generate (negative = unbounded)")//
+			.hasArg()//
+			.build();
+
+	protected final Option seed = Option.builder()//
+			.longOpt("workloadseed")//
+			.desc("seed of the random number generator of the workload")//
+			.hasArg()//
+			.build();
+
+	protected final Option template = Option.builder()//
+			.longOpt("workloadtemplate")//
+			.desc("templates of the virtual networks, e.g., onetier:4:2:2:2:1:0.8 or twotier:2:2:2:2:2:1:2:0.2")//
+			.hasArgs()//
+			.build();
+
+	protected final Option minScale = Option.builder()//
+			.longOpt("workloadminscale")//
+			.desc("minimum size of a virtual network relative to its template in (0, 1]")//
+			.hasArg()//
+			.build();
+
+	protected final Option burstFactor = Option.builder()//
+			.longOpt("burstfactor")//
+			.desc("factor of the arrival rate during a burst of the bursty arrival process")//
+			.hasArg()//
+			.build();
+
+	protected final Option diurnalPeriod = Option.builder()//
+			.longOpt("diurnalperiod")//
+			.desc("period of the diurnal arrival process in time units")//
+			.hasArg()//
+			.build();
+
+	protected final Option diurnalAmplitude = Option.builder()//
+			.longOpt("diurnalamplitude")//
+			.desc("relative amplitude of the diurnal arrival process in [0, 1]")//
+			.hasArg()//
+			.build();
+
+	protected final Option pace = Option.builder()//
+			.longOpt("workloadpace")//
+			.desc("wall-clock milliseconds per time unit (0 = as fast as possible)")//
+			.hasArg()//
+			.build();
+
+	protected final Option trace = Option.builder()//
+			.longOpt("workloadtrace")//
+			.desc("JSON lines file to record the generated virtual networks to")//
+			.hasArg()//
+			.build();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void register(final Experiment experiment, final Options options) {
+		options.addOption(process);
+		options.addOption(rate);
+		options.addOption(count);
+		options.addOption(seed);
+		options.addOption(template);
+		options.addOption(minScale);
+		options.addOption(burstFactor);
+		options.addOption(diurnalPeriod);
+		options.addOption(diurnalAmplitude);
+		options.addOption(pace);
+		options.addOption(trace);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void configure(final Experiment experiment, final CommandLine cmd) throws ParseException {
+		if (!(experiment instanceof DissScenarioLoadWorkload load)) {
+			return;
+		}
+
+		final WorkloadConfig config = load.getWorkloadConfig();
+		try {
+			if (cmd.getOptionValue(this.process) != null) {
+				config.setArrivalProcess(
+						ArrivalProcess.valueOf(cmd.getOptionValue(this.process).toUpperCase(Locale.ROOT)));
+			}
+
+			if (cmd.getOptionValue(this.rate) != null) {
+				config.setArrivalRate(Double.valueOf(cmd.getOptionValue(this.rate)));
+			}
+
+			if (cmd.getOptionValue(this.count) != null) {
+				config.setMaxRequests(Long.valueOf(cmd.getOptionValue(this.count)));
+			}
+
+			if (cmd.getOptionValue(this.seed) != null) {
+				config.setSeed(Long.valueOf(cmd.getOptionValue(this.seed)));
+			}
+
+			if (cmd.getOptionValues(this.template) != null) {
+				for (final String t : cmd.getOptionValues(this.template)) {
+					addTemplate(config, t);
+				}
+			}
+
+			if (cmd.getOptionValue(this.minScale) != null) {
+				config.setMinScale(Double.valueOf(cmd.getOptionValue(this.minScale)));
+			}
+
+			if (cmd.getOptionValue(this.burstFactor) != null) {
+				config.setBurstFactor(Double.valueOf(cmd.getOptionValue(this.burstFactor)));
+			}
+
+			if (cmd.getOptionValue(this.diurnalPeriod) != null) {
+				config.setDiurnalPeriod(Double.valueOf(cmd.getOptionValue(this.diurnalPeriod)));
+			}
+
+			if (cmd.getOptionValue(this.diurnalAmplitude) != null) {
+				config.setDiurnalAmplitude(Double.valueOf(cmd.getOptionValue(this.diurnalAmplitude)));
+			}
+		} catch (final IllegalArgumentException e) {
+			throw new ParseException(e.getMessage());
+		}
+
+		if (cmd.getOptionValue(this.pace) != null) {
+			load.setPace(Double.valueOf(cmd.getOptionValue(this.pace)));
+		}
+
+		load.setTracePath(cmd.getOptionValue(this.trace));
+
+		MetricsManager.getInstance().addTags("workload", config.getArrivalProcess().name().toLowerCase(Locale.ROOT),
+				"workload rate", String.valueOf(config.getArrivalRate()), "workload seed",
+				String.valueOf(config.getSeed()));
+	}
+
+	/**
+	 * Parses the given template and adds it to the given workload configuration.
+	 *
+	 * @param config   Workload configuration.
+	 * @param template Template to parse (see class description).
+	 * @throws ParseException If the template could not be parsed.
+	 */
+	private static void addTemplate(final WorkloadConfig config, final String template) throws ParseException {
+		final String[] parts = template.split(":");
+		switch (parts[0]) {
+		case "onetier":
+			if (parts.length < 6 || parts.length > 7) {
+				throw new ParseException("Invalid one tier template: " + template);
+			}
+			config.addTemplate(new OneTierConfig(Integer.valueOf(parts[1]), 1, false, Integer.valueOf(parts[2]),
+					Integer.valueOf(parts[3]), Integer.valueOf(parts[4]), Integer.valueOf(parts[5])),
+					parts.length == 7 ? Double.valueOf(parts[6]) : 1);
+			break;
+		case "twotier":
+			if (parts.length < 8 || parts.length > 9) {
+				throw new ParseException("Invalid two tier template: " + template);
+			}
+			final OneTierConfig rack = new OneTierConfig(Integer.valueOf(parts[2]), 1, false,
+					Integer.valueOf(parts[3]), Integer.valueOf(parts[4]), Integer.valueOf(parts[5]),
+					Integer.valueOf(parts[6]));
+			config.addTemplate(new TwoTierConfig(rack, 1, Integer.valueOf(parts[1]), false, Integer.valueOf(parts[7])),
+					parts.length == 9 ? Double.valueOf(parts[8]) : 1);
+			break;
+		default:
+			throw new ParseException("Unknown template type: " + template);
+		}
+	}
+
+}
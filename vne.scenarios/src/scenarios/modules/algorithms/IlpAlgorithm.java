@@ -5,9 +5,9 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import algorithms.RunConfig;
 import algorithms.ilp.VneFakeIlpAlgorithm;
 import algorithms.ilp.VneFakeIlpBatchAlgorithm;
-import ilp.wrapper.config.IlpSolverConfig;
 import metrics.manager.MetricsManager;
 import scenarios.load.Experiment;
 import scenarios.modules.AbstractModule;
@@ -18,8 +18,8 @@ import scenarios.modules.AlgorithmModule;
  * {@link VneFakeIlpAlgorithm}.
  * 
  * Options: -i / --ilptimeout <arg>, -r / --ilprandomseed <arg>, -m /
- * --ilpopttol <arg>, -y / --ilpobjscaling <arg>, -x / --ilpobjlog, -a /
- * --algorithm <ilp/ilp-batch>
+ * --ilpopttol <arg>, -y / --ilpobjscaling <arg>, -x / --ilpobjlog,
+ * --batchhorizon <arg>, -a / --algorithm <ilp/ilp-batch>
  * 
  * @see {@link VneFakeIlpAlgorithm}
  * @see {@link VneFakeIlpBatchAlgorithm}
@@ -59,6 +59,12 @@ public class IlpAlgorithm extends AbstractModule implements AlgorithmModule.Algo
 			.desc("ILP solver objective logarithm")//
 			.build();
 
+	protected final Option batchHorizon = Option.builder()//
+			.longOpt("batchhorizon")//
+			.desc("number of embedded virtual networks the ILP batch algorithm re-optimizes")//
+			.hasArg()//
+			.build();
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -78,6 +84,7 @@ public class IlpAlgorithm extends AbstractModule implements AlgorithmModule.Algo
 		options.addOption(ilpOptTol);
 		options.addOption(ilpObjScaling);
 		options.addOption(ilpObjLog);
+		options.addOption(batchHorizon);
 	}
 
 	/**
@@ -85,30 +92,36 @@ public class IlpAlgorithm extends AbstractModule implements AlgorithmModule.Algo
 	 */
 	@Override
 	public void configure(final Experiment experiment, final CommandLine cmd) throws ParseException {
+		final RunConfig.Builder config = experiment.getRunConfigBuilder();
 		if (cmd.getOptionValue(this.ilpTimeout) != null) {
-			IlpSolverConfig.TIME_OUT = Integer.valueOf(cmd.getOptionValue(this.ilpTimeout));
+			config.timeOut(Integer.valueOf(cmd.getOptionValue(this.ilpTimeout)));
 			MetricsManager.getInstance().addTags("ilptimeout", cmd.getOptionValue(this.ilpTimeout));
 		}
 
 		if (cmd.getOptionValue(this.ilpRandomSeed) != null) {
-			IlpSolverConfig.RANDOM_SEED = Integer.valueOf(cmd.getOptionValue(this.ilpRandomSeed));
+			config.randomSeed(Integer.valueOf(cmd.getOptionValue(this.ilpRandomSeed)));
 			MetricsManager.getInstance().addTags("ilprandomseed", cmd.getOptionValue(this.ilpRandomSeed));
 		}
 
 		if (cmd.getOptionValue(this.ilpOptTol) != null) {
-			IlpSolverConfig.OPT_TOL = Double.valueOf(cmd.getOptionValue(this.ilpOptTol));
+			config.optTol(Double.valueOf(cmd.getOptionValue(this.ilpOptTol)));
 			MetricsManager.getInstance().addTags("ilpopttol", cmd.getOptionValue(this.ilpOptTol));
 		}
 
 		if (cmd.getOptionValue(this.ilpObjScaling) != null) {
-			IlpSolverConfig.OBJ_SCALE = Double.valueOf(cmd.getOptionValue(this.ilpObjScaling));
+			config.objScale(Double.valueOf(cmd.getOptionValue(this.ilpObjScaling)));
 			MetricsManager.getInstance().addTags("ilpobjscaling", cmd.getOptionValue(this.ilpObjScaling));
 		}
 
-		IlpSolverConfig.OBJ_LOG = cmd.hasOption(this.ilpObjLog);
+		config.objLog(cmd.hasOption(this.ilpObjLog));
 		if (cmd.hasOption(this.ilpObjLog)) {
 			MetricsManager.getInstance().addTags("ilpobjlog", String.valueOf(cmd.hasOption(this.ilpObjLog)));
 		}
+
+		if (cmd.getOptionValue(this.batchHorizon) != null) {
+			config.batchHorizon(Integer.valueOf(cmd.getOptionValue(this.batchHorizon)));
+			MetricsManager.getInstance().addTags("batchhorizon", cmd.getOptionValue(this.batchHorizon));
+		}
 	}
 
 }
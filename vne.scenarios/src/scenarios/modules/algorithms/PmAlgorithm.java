@@ -5,11 +5,12 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
-import algorithms.AlgorithmConfig;
+import algorithms.RunConfig;
 import algorithms.pm.VnePmMdvneAlgorithm;
 import algorithms.pm.VnePmMdvneAlgorithmMigration;
 import algorithms.pm.VnePmMdvneAlgorithmPipelineThreeStagesA;
 import algorithms.pm.VnePmMdvneAlgorithmPipelineThreeStagesB;
+import algorithms.pm.VnePmMdvneAlgorithmPipelineTwoStagesGreedy;
 import algorithms.pm.VnePmMdvneAlgorithmPipelineTwoStagesRackA;
 import algorithms.pm.VnePmMdvneAlgorithmPipelineTwoStagesRackB;
 import algorithms.pm.VnePmMdvneAlgorithmPipelineTwoStagesVnet;
@@ -22,14 +23,17 @@ import scenarios.modules.AlgorithmModule;
  * Add an option to configure the experiment to use the
  * {@link VnePmMdvneAlgorithm} with different characteristics.
  * 
- * Options: -t / --tries <arg>, -a / --algorithm
- * <pm/pm-migration/pm-pipeline2-vnet/pm-pipeline2-racka/pm-pipeline2-rackb/pm-pipeline3a/pm-pipeline3b>
+ * Options: -t / --tries <arg>, --speculative, --rackdecomposition, --vnetpacking
+ * <exactlimit>, --vnetnofallback, -a / --algorithm
+ * <pm/pm-migration/pm-pipeline2-vnet/pm-pipeline2-racka/pm-pipeline2-rackb/pm-pipeline2-greedy/pm-pipeline3a/
+ * pm-pipeline3b>
  * 
  * @see {@link VnePmMdvneAlgorithm}
  * @see {@link VnePmMdvneAlgorithmMigration}
  * @see {@link VnePmMdvneAlgorithmPipelineTwoStagesVnet}
  * @see {@link VnePmMdvneAlgorithmPipelineTwoStagesRackA}
  * @see {@link VnePmMdvneAlgorithmPipelineTwoStagesRackB}
+ * @see {@link VnePmMdvneAlgorithmPipelineTwoStagesGreedy}
  * @see {@link VnePmMdvneAlgorithmPipelineThreeStagesA}
  * @see {@link VnePmMdvneAlgorithmPipelineThreeStagesB}
  */
@@ -41,6 +45,31 @@ public class PmAlgorithm extends AbstractModule implements AlgorithmModule.Algor
 			.hasArg()//
 			.build();
 
+	protected final Option speculative = Option.builder()//
+			.longOpt("speculative")//
+			.desc("solve all stages of the PM pipeline in parallel and commit the first successful one")//
+			.hasArg(false)//
+			.build();
+
+	protected final Option rackDecomposition = Option.builder()//
+			.longOpt("rackdecomposition")//
+			.desc("solve the rack stages of the PM pipeline as independent ILP problems per rack in parallel")//
+			.hasArg(false)//
+			.build();
+
+	protected final Option vnetPacking = Option.builder()//
+			.longOpt("vnetpacking")//
+			.desc("place whole virtual networks with a bin packer instead of an ILP problem in the PM pipeline; "
+					+ "the argument limits the number of virtual networks solved exactly")//
+			.hasArg()//
+			.build();
+
+	protected final Option vnetNoFallback = Option.builder()//
+			.longOpt("vnetnofallback")//
+			.desc("reject virtual networks the bin packer could not place instead of using the ILP problem")//
+			.hasArg(false)//
+			.build();
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -51,6 +80,7 @@ public class PmAlgorithm extends AbstractModule implements AlgorithmModule.Algor
 		algorithmModule.addAlgorithm("pm-pipeline2-vnet", VnePmMdvneAlgorithmPipelineTwoStagesVnet::new);
 		algorithmModule.addAlgorithm("pm-pipeline2-racka", VnePmMdvneAlgorithmPipelineTwoStagesRackA::new);
 		algorithmModule.addAlgorithm("pm-pipeline2-rackb", VnePmMdvneAlgorithmPipelineTwoStagesRackB::new);
+		algorithmModule.addAlgorithm("pm-pipeline2-greedy", VnePmMdvneAlgorithmPipelineTwoStagesGreedy::new);
 		algorithmModule.addAlgorithm("pm-pipeline3a", VnePmMdvneAlgorithmPipelineThreeStagesA::new);
 		algorithmModule.addAlgorithm("pm-pipeline3b", VnePmMdvneAlgorithmPipelineThreeStagesB::new);
 	}
@@ -61,6 +91,10 @@ public class PmAlgorithm extends AbstractModule implements AlgorithmModule.Algor
 	@Override
 	public void register(final Experiment experiment, final Options options) {
 		options.addOption(tries);
+		options.addOption(speculative);
+		options.addOption(rackDecomposition);
+		options.addOption(vnetPacking);
+		options.addOption(vnetNoFallback);
 	}
 
 	/**
@@ -68,10 +102,32 @@ public class PmAlgorithm extends AbstractModule implements AlgorithmModule.Algor
 	 */
 	@Override
 	public void configure(final Experiment experiment, final CommandLine cmd) throws ParseException {
+		final RunConfig.Builder config = experiment.getRunConfigBuilder();
 		if (cmd.getOptionValue(this.tries) != null) {
-			AlgorithmConfig.pmNoMigrations = Integer.valueOf(cmd.getOptionValue(this.tries));
+			config.pmNoMigrations(Integer.valueOf(cmd.getOptionValue(this.tries)));
 			MetricsManager.getInstance().addTags("tries", cmd.getOptionValue(this.tries));
 		}
+
+		if (cmd.hasOption(this.speculative)) {
+			config.pipelineSpeculative(true);
+			MetricsManager.getInstance().addTags("speculative", "true");
+		}
+
+		if (cmd.hasOption(this.rackDecomposition)) {
+			config.pmRackDecomposition(true);
+			MetricsManager.getInstance().addTags("rackdecomposition", "true");
+		}
+
+		if (cmd.getOptionValue(this.vnetPacking) != null) {
+			config.pmVnetBinPacking(true);
+			config.pmVnetExactLimit(Integer.valueOf(cmd.getOptionValue(this.vnetPacking)));
+			MetricsManager.getInstance().addTags("vnetpacking", cmd.getOptionValue(this.vnetPacking));
+		}
+
+		if (cmd.hasOption(this.vnetNoFallback)) {
+			config.pmVnetIlpFallback(false);
+			MetricsManager.getInstance().addTags("vnetfallback", "false");
+		}
 	}
 
 }
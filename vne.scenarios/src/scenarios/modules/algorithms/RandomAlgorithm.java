@@ -37,7 +37,9 @@ public class RandomAlgorithm extends AbstractModule implements AlgorithmModule.A
 	public Function<ModelFacade, AbstractAlgorithm> configure(final Experiment experiment, final String algoConfig,
 			final CommandLine cmd, final Function<ModelFacade, AbstractAlgorithm> previousAlgoFactory) {
 		if (algoConfig.equals("random")) {
+			// The model facade reads this setting from its static configuration
 			ModelFacadeConfig.IGNORE_BW = true;
+			experiment.getRunConfigBuilder().ignoreBw(true);
 		}
 
 		return previousAlgoFactory;
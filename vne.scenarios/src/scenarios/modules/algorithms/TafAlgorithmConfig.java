@@ -36,7 +36,9 @@ public class TafAlgorithmConfig extends AbstractModule implements AlgorithmModul
 	public Function<ModelFacade, AbstractAlgorithm> configure(final Experiment experiment, final String algoConfig,
 			final CommandLine cmd, final Function<ModelFacade, AbstractAlgorithm> previousAlgoFactory) {
 		if (algoConfig.equals("taf")) {
+			// The model facade reads this setting from its static configuration
 			ModelFacadeConfig.IGNORE_BW = true;
+			experiment.getRunConfigBuilder().ignoreBw(true);
 		}
 
 		return previousAlgoFactory;